@@ -113,6 +113,21 @@ public interface ConfigurationKeys {
      */
     String SERVER_STORE_LOCK_MODE = SEATA_PREFIX + STORE_PREFIX + "lock." + MODE;
 
+    /**
+     * The constant STORE_LOCK_CACHE_ENABLED.
+     */
+    String STORE_LOCK_CACHE_ENABLED = STORE_PREFIX + "lock.cacheEnabled";
+
+    /**
+     * The constant STORE_LOCK_CACHE_MAX_SIZE.
+     */
+    String STORE_LOCK_CACHE_MAX_SIZE = STORE_PREFIX + "lock.cacheMaxSize";
+
+    /**
+     * The constant STORE_LOCK_CACHE_EXPIRE_MILLIS.
+     */
+    String STORE_LOCK_CACHE_EXPIRE_MILLIS = STORE_PREFIX + "lock.cacheExpireMillis";
+
     /**
      * The constant STORE_SESSION_MODE.
      */
@@ -197,6 +212,10 @@ public interface ConfigurationKeys {
      * The constant CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT.
      */
     String CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT = CLIENT_RM_LOCK_PREFIX + "retryPolicyBranchRollbackOnConflict";
+    /**
+     * The constant CLIENT_LOCK_BINARY_LOCK_KEY_ENABLE.
+     */
+    String CLIENT_LOCK_BINARY_LOCK_KEY_ENABLE = CLIENT_RM_LOCK_PREFIX + "binaryLockKeyEnable";
 
     /**
      * The constant SERVICE_SESSION_RELOAD_READ_SIZE
@@ -243,6 +262,11 @@ public interface ConfigurationKeys {
      */
     String CLIENT_TABLE_META_CHECKER_INTERVAL = CLIENT_RM_PREFIX + "tableMetaCheckerInterval";
 
+    /**
+     * The constant CLIENT_SQL_RECOGNIZER_CACHE_SIZE.
+     */
+    String CLIENT_SQL_RECOGNIZER_CACHE_SIZE = CLIENT_RM_PREFIX + "sqlRecognizerCacheSize";
+
     /**
      * The constant TCC_ACTION_INTERCEPTOR_ORDER.
      */
@@ -359,6 +383,21 @@ public interface ConfigurationKeys {
      */
     String LOCK_DB_TABLE = STORE_DB_PREFIX + "lockTable";
 
+    /**
+     * The constant LOCK_DB_BATCH_ENABLED.
+     */
+    String LOCK_DB_BATCH_ENABLED = STORE_DB_PREFIX + "lockBatchEnabled";
+
+    /**
+     * The constant LOCK_DB_BATCH_MAX_SIZE.
+     */
+    String LOCK_DB_BATCH_MAX_SIZE = STORE_DB_PREFIX + "lockBatchMaxSize";
+
+    /**
+     * The constant LOCK_DB_BATCH_CONCURRENCY.
+     */
+    String LOCK_DB_BATCH_CONCURRENCY = STORE_DB_PREFIX + "lockBatchConcurrency";
+
     /**
      * The constant SERVER_RPC_PORT.
      */
@@ -404,6 +443,26 @@ public interface ConfigurationKeys {
      */
     String TIMEOUT_RETRY_PERIOD = RECOVERY_PREFIX + "timeoutRetryPeriod";
 
+    /**
+     * The constant RECOVERY_WORKER_COUNT.
+     */
+    String RECOVERY_WORKER_COUNT = RECOVERY_PREFIX + "workerCount";
+
+    /**
+     * The constant RECOVERY_WORKER_QUEUE_SIZE.
+     */
+    String RECOVERY_WORKER_QUEUE_SIZE = RECOVERY_PREFIX + "workerQueueSize";
+
+    /**
+     * The constant RECOVERY_MAX_CONCURRENCY_PER_RESOURCE.
+     */
+    String RECOVERY_MAX_CONCURRENCY_PER_RESOURCE = RECOVERY_PREFIX + "maxConcurrencyPerResource";
+
+    /**
+     * The constant RECOVERY_PAGE_SIZE.
+     */
+    String RECOVERY_PAGE_SIZE = RECOVERY_PREFIX + "pageSize";
+
     /**
      * The constant CLIENT_UNDO_PREFIX.
      */
@@ -444,6 +503,11 @@ public interface ConfigurationKeys {
      */
     String CLIENT_UNDO_COMPRESS_THRESHOLD = CLIENT_UNDO_COMPRESS_PREFIX + "threshold";
 
+    /**
+     * the constant CLIENT_UNDO_PARALLEL_ENCODE
+     */
+    String CLIENT_UNDO_PARALLEL_ENCODE = CLIENT_UNDO_PREFIX + "parallelEncode";
+
     /**
      * The constant METRICS_PREFIX.
      */
@@ -468,6 +532,11 @@ public interface ConfigurationKeys {
      */
     String METRICS_EXPORTER_PROMETHEUS_PORT = "exporterPrometheusPort";
 
+    /**
+     * The constant METRICS_HISTOGRAM_BUCKETS
+     */
+    String METRICS_HISTOGRAM_BUCKETS = "histogramBuckets";
+
     /**
      * The constant SERVER_UNDO_PREFIX.
      */
@@ -658,6 +727,26 @@ public interface ConfigurationKeys {
      */
     String ENABLE_TC_SERVER_BATCH_SEND_RESPONSE = TRANSPORT_PREFIX + "enableTcServerBatchSendResponse";
 
+    /**
+     * The constant CLIENT_BATCH_MAX_SIZE
+     */
+    String CLIENT_BATCH_MAX_SIZE = TRANSPORT_PREFIX + "clientBatchMaxSize";
+
+    /**
+     * The constant CLIENT_BATCH_MAX_WAIT_MICROS
+     */
+    String CLIENT_BATCH_MAX_WAIT_MICROS = TRANSPORT_PREFIX + "clientBatchMaxWaitMicros";
+
+    /**
+     * The constant TC_SERVER_BATCH_MAX_SIZE
+     */
+    String TC_SERVER_BATCH_MAX_SIZE = TRANSPORT_PREFIX + "tcServerBatchMaxSize";
+
+    /**
+     * The constant TC_SERVER_BATCH_MAX_WAIT_MICROS
+     */
+    String TC_SERVER_BATCH_MAX_WAIT_MICROS = TRANSPORT_PREFIX + "tcServerBatchMaxWaitMicros";
+
     /**
      * The constant DISABLE_GLOBAL_TRANSACTION.
      */
@@ -881,6 +970,16 @@ public interface ConfigurationKeys {
      */
     String ENABLE_BRANCH_ASYNC_REMOVE = SERVER_PREFIX + SESSION_PREFIX + "enableBranchAsyncRemove";
 
+    /**
+     * The constant ENABLE_SESSION_TIMEOUT_WHEEL
+     */
+    String ENABLE_SESSION_TIMEOUT_WHEEL = SERVER_PREFIX + SESSION_PREFIX + "enableTimeoutWheel";
+
+    /**
+     * The constant SESSION_TIMEOUT_FULL_SCAN_PERIOD
+     */
+    String SESSION_TIMEOUT_FULL_SCAN_PERIOD = SERVER_PREFIX + SESSION_PREFIX + "timeoutFullScanPeriod";
+
     /**
      * The constant SERVER_RAFT.
      */
@@ -896,11 +995,26 @@ public interface ConfigurationKeys {
      */
     String SERVER_RAFT_GROUP = SERVER_RAFT + "group";
 
+    /**
+     * The constant SERVER_RAFT_GROUPS.
+     */
+    String SERVER_RAFT_GROUPS = SERVER_RAFT + "groups";
+
+    /**
+     * The constant SERVER_RAFT_GROUP_MAPPING_PREFIX.
+     */
+    String SERVER_RAFT_GROUP_MAPPING_PREFIX = SERVER_RAFT + "groupMapping.";
+
     /**
      * The constant SERVER_RAFT_SNAPSHOT_INTERVAL.
      */
     String SERVER_RAFT_SNAPSHOT_INTERVAL = SERVER_RAFT + "snapshotInterval";
 
+    /**
+     * The constant SERVER_RAFT_SNAPSHOT_STREAM.
+     */
+    String SERVER_RAFT_SNAPSHOT_STREAM = SERVER_RAFT + "snapshotStream";
+
     /**
      * The constant SERVER_RAFT_DISRUPTOR_BUFFER_SIZE.
      */
@@ -926,6 +1040,21 @@ public interface ConfigurationKeys {
      */
     String SERVER_RAFT_APPLY_BATCH = SERVER_RAFT + "applyBatch";
 
+    /**
+     * The constant SERVER_RAFT_PROPOSAL_BATCH_SIZE.
+     */
+    String SERVER_RAFT_PROPOSAL_BATCH_SIZE = SERVER_RAFT + "proposalBatchSize";
+
+    /**
+     * The constant SERVER_RAFT_FOLLOWER_READ.
+     */
+    String SERVER_RAFT_FOLLOWER_READ = SERVER_RAFT + "followerRead";
+
+    /**
+     * The constant SERVER_RAFT_FOLLOWER_READ_MAX_STALENESS_MS.
+     */
+    String SERVER_RAFT_FOLLOWER_READ_MAX_STALENESS_MS = SERVER_RAFT + "followerReadMaxStalenessMs";
+
     /**
      * The constant SERVER_RAFT_APPLY_BATCH.
      */
@@ -992,6 +1121,16 @@ public interface ConfigurationKeys {
      */
     String ENABLE_PARALLEL_HANDLE_BRANCH_KEY = SERVER_PREFIX + "enableParallelHandleBranch";
 
+    /**
+     * The constant PARALLEL_HANDLE_BRANCH_THREADS
+     */
+    String PARALLEL_HANDLE_BRANCH_THREADS = SERVER_PREFIX + "parallelHandleBranchThreads";
+
+    /**
+     * The constant PARALLEL_HANDLE_BRANCH_QUEUE_SIZE
+     */
+    String PARALLEL_HANDLE_BRANCH_QUEUE_SIZE = SERVER_PREFIX + "parallelHandleBranchQueueSize";
+
     /**
      * The constant RM_APPLICATION_DATA_SIZE_ERROR
      */
@@ -25,6 +25,7 @@ public interface DefaultValues {
     int DEFAULT_TM_DEGRADE_CHECK_ALLOW_TIMES = 10;
     int DEFAULT_CLIENT_LOCK_RETRY_TIMES = 30;
     boolean DEFAULT_CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT = true;
+    boolean DEFAULT_CLIENT_LOCK_BINARY_LOCK_KEY_ENABLE = false;
     int DEFAULT_LOG_EXCEPTION_RATE = 100;
     int DEFAULT_CLIENT_ASYNC_COMMIT_BUFFER_LIMIT = 10000;
     int DEFAULT_TM_DEGRADE_CHECK_PERIOD = 2000;
@@ -32,6 +33,7 @@ public interface DefaultValues {
     boolean DEFAULT_CLIENT_REPORT_SUCCESS_ENABLE = false;
     boolean DEFAULT_CLIENT_TABLE_META_CHECK_ENABLE = true;
     long DEFAULT_TABLE_META_CHECKER_INTERVAL = 60000L;
+    int DEFAULT_CLIENT_SQL_RECOGNIZER_CACHE_SIZE = 1024;
     boolean DEFAULT_TM_DEGRADE_CHECK = false;
     boolean DEFAULT_CLIENT_SAGA_BRANCH_REGISTER_ENABLE = false;
 
@@ -59,6 +61,10 @@ public interface DefaultValues {
     boolean DEFAULT_ENABLE_TM_CLIENT_BATCH_SEND_REQUEST = false;
     boolean DEFAULT_ENABLE_RM_CLIENT_BATCH_SEND_REQUEST = true;
     boolean DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_RESPONSE = false;
+    int DEFAULT_CLIENT_BATCH_MAX_SIZE = 128;
+    long DEFAULT_CLIENT_BATCH_MAX_WAIT_MICROS = 0L;
+    int DEFAULT_TC_SERVER_BATCH_MAX_SIZE = 128;
+    long DEFAULT_TC_SERVER_BATCH_MAX_WAIT_MICROS = 100L;
 
     boolean DEFAULT_CLIENT_CHANNEL_CHECK_FAIL_FAST = true;
 
@@ -89,6 +95,36 @@ public interface DefaultValues {
      */
     String DEFAULT_LOCK_DB_TABLE = "lock_table";
 
+    /**
+     * The constant DEFAULT_LOCK_DB_BATCH_ENABLED.
+     */
+    boolean DEFAULT_LOCK_DB_BATCH_ENABLED = false;
+
+    /**
+     * The constant DEFAULT_LOCK_DB_BATCH_MAX_SIZE.
+     */
+    int DEFAULT_LOCK_DB_BATCH_MAX_SIZE = 64;
+
+    /**
+     * The constant DEFAULT_LOCK_DB_BATCH_CONCURRENCY.
+     */
+    int DEFAULT_LOCK_DB_BATCH_CONCURRENCY = 4;
+
+    /**
+     * The constant DEFAULT_LOCK_CACHE_ENABLED.
+     */
+    boolean DEFAULT_LOCK_CACHE_ENABLED = false;
+
+    /**
+     * The constant DEFAULT_LOCK_CACHE_MAX_SIZE.
+     */
+    int DEFAULT_LOCK_CACHE_MAX_SIZE = 100000;
+
+    /**
+     * The constant DEFAULT_LOCK_CACHE_EXPIRE_MILLIS.
+     */
+    long DEFAULT_LOCK_CACHE_EXPIRE_MILLIS = 3000L;
+
     /**
      * the constant DEFAULT_DISTRIBUTED_LOCK_DB_TABLE
      */
@@ -145,6 +181,11 @@ public interface DefaultValues {
      */
     String DEFAULT_CLIENT_UNDO_COMPRESS_THRESHOLD = "64k";
 
+    /**
+     * the constant DEFAULT_CLIENT_UNDO_PARALLEL_ENCODE
+     */
+    boolean DEFAULT_CLIENT_UNDO_PARALLEL_ENCODE = false;
+
 
     /**
      * the constant DEFAULT_RETRY_DEAD_THRESHOLD
@@ -223,6 +264,26 @@ public interface DefaultValues {
      * the constant DEFAULT_SERVER_RAFT_ELECTION_TIMEOUT_MS
      */
     int DEFAULT_SERVER_RAFT_ELECTION_TIMEOUT_MS = 1000;
+
+    /**
+     * the constant DEFAULT_SERVER_RAFT_PROPOSAL_BATCH_SIZE, 1 means each msg is proposed on its own
+     */
+    int DEFAULT_SERVER_RAFT_PROPOSAL_BATCH_SIZE = 1;
+
+    /**
+     * the constant DEFAULT_SERVER_RAFT_SNAPSHOT_STREAM, false keeps the snapshot format older versions load
+     */
+    boolean DEFAULT_SERVER_RAFT_SNAPSHOT_STREAM = false;
+
+    /**
+     * the constant DEFAULT_SERVER_RAFT_FOLLOWER_READ
+     */
+    boolean DEFAULT_SERVER_RAFT_FOLLOWER_READ = false;
+
+    /**
+     * the constant DEFAULT_SERVER_RAFT_FOLLOWER_READ_MAX_STALENESS_MS, 0 means each read waits for a read index
+     */
+    long DEFAULT_SERVER_RAFT_FOLLOWER_READ_MAX_STALENESS_MS = 0L;
     /**
      * the constant DEFAULT_COMMITING_RETRY_PERIOD
      */
@@ -243,6 +304,36 @@ public interface DefaultValues {
      */
     int DEFAULT_TIMEOUT_RETRY_PERIOD = 1000;
 
+    /**
+     * the constant DEFAULT_RECOVERY_WORKER_COUNT, 0 means the sessions are handled by the retry thread
+     */
+    int DEFAULT_RECOVERY_WORKER_COUNT = 0;
+
+    /**
+     * the constant DEFAULT_RECOVERY_WORKER_QUEUE_SIZE
+     */
+    int DEFAULT_RECOVERY_WORKER_QUEUE_SIZE = 1000;
+
+    /**
+     * the constant DEFAULT_RECOVERY_MAX_CONCURRENCY_PER_RESOURCE, 0 means no limit
+     */
+    int DEFAULT_RECOVERY_MAX_CONCURRENCY_PER_RESOURCE = 0;
+
+    /**
+     * the constant DEFAULT_RECOVERY_PAGE_SIZE, 0 means the sessions are read at once, up to the store query limit
+     */
+    int DEFAULT_RECOVERY_PAGE_SIZE = 0;
+
+    /**
+     * the constant DEFAULT_PARALLEL_HANDLE_BRANCH_THREADS
+     */
+    int DEFAULT_PARALLEL_HANDLE_BRANCH_THREADS = 32;
+
+    /**
+     * the constant DEFAULT_PARALLEL_HANDLE_BRANCH_QUEUE_SIZE
+     */
+    int DEFAULT_PARALLEL_HANDLE_BRANCH_QUEUE_SIZE = 1024;
+
     /**
      * the constant DEFAULT_UNDO_LOG_DELETE_PERIOD
      */
@@ -273,6 +364,11 @@ public interface DefaultValues {
      */
     String DEFAULT_METRICS_EXPORTER_LIST = "prometheus";
 
+    /**
+     * the const DEFAULT_METRICS_HISTOGRAM_BUCKETS, the upper bounds of the timer buckets in milliseconds
+     */
+    String DEFAULT_METRICS_HISTOGRAM_BUCKETS = "1,5,10,25,50,100,250,500,1000,2500,5000,10000";
+
     /**
      * the const DEFAULT_MAX_COMMIT_RETRY_TIMEOUT
      */
@@ -298,6 +394,16 @@ public interface DefaultValues {
      */
     boolean DEFAULT_ENABLE_BRANCH_ASYNC_REMOVE = false;
 
+    /**
+     * DEFAULT_ENABLE_SESSION_TIMEOUT_WHEEL
+     */
+    boolean DEFAULT_ENABLE_SESSION_TIMEOUT_WHEEL = false;
+
+    /**
+     * DEFAULT_SESSION_TIMEOUT_FULL_SCAN_PERIOD
+     */
+    long DEFAULT_SESSION_TIMEOUT_FULL_SCAN_PERIOD = 60000L;
+
     int DEFAULT_DB_MAX_CONN = 100;
 
     int DEFAULT_DB_MIN_CONN = 10;
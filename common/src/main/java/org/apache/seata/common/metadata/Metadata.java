@@ -46,6 +46,10 @@ public class Metadata {
         return nodes.size() > 0 ? nodes.get(ThreadLocalRandom.current().nextInt(nodes.size())) : null;
     }
 
+    public Node getLeader(String clusterName, String group) {
+        return leaders.computeIfAbsent(clusterName, k -> new ConcurrentHashMap<>()).get(group);
+    }
+
     public void setLeaderNode(String clusterName, Node node) {
         String group = node.getGroup();
         Map<String/*raft-group*/, Node> map = leaders.computeIfAbsent(clusterName, k -> new ConcurrentHashMap<>());
@@ -45,6 +45,19 @@ public class MetadataTest {
         Assertions.assertNotNull(metadata.getLeader("leader"));
     }
 
+    @Test
+    public void testGetLeaderOfGroup() {
+        Node group1 = new Node();
+        group1.setGroup("group1");
+        Node group2 = new Node();
+        group2.setGroup("group2");
+        metadata.setLeaderNode("multi", group1);
+        metadata.setLeaderNode("multi", group2);
+        Assertions.assertSame(group1, metadata.getLeader("multi", "group1"));
+        Assertions.assertSame(group2, metadata.getLeader("multi", "group2"));
+        Assertions.assertNull(metadata.getLeader("multi", "group3"));
+    }
+
     @Test
     public void testGetNodes() {
         Assertions.assertEquals(new ArrayList<>(), metadata.getNodes("cluster"));
@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.lock;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The binary format of the lock keys of a branch, an alternative to the text format "table:pk1_pk2,pk3;table2:pk4".
+ * <p>
+ * The table names are written once in a dictionary and the groups of rows refer to them by index. The parts of a pk,
+ * split by "_" as in the text, are written as a varint when they are a long written as such, else as utf-8. The TC
+ * reads the rows of the lock keys without splitting the text, and the text is still built from the binary when it
+ * is needed, e.g. to store the branch. The first byte is 0, which never starts a text lock key.
+ * <p>
+ * Layout: magic, version, table count, tables, group count, then per group the table index, the row count, and per
+ * row the part count and the parts, each a type byte and the value. Counts and lengths are unsigned varints.
+ */
+public final class LockKeyCodec {
+
+    /**
+     * The first byte of a binary lock key.
+     */
+    public static final byte MAGIC = 0;
+
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_STRING = 0;
+
+    private static final byte TYPE_LONG = 1;
+
+    private static final char TABLE_SEPARATOR = ';';
+
+    private static final char PK_SEPARATOR = ',';
+
+    private static final char TABLE_PK_SEPARATOR = ':';
+
+    private static final char PK_PART_SEPARATOR = '_';
+
+    private LockKeyCodec() {
+    }
+
+    /**
+     * Whether the bytes are a binary lock key.
+     *
+     * @param bytes the bytes
+     * @return true if binary
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length > 0 && bytes[0] == MAGIC;
+    }
+
+    /**
+     * Encode the lock keys of the text format. The rows are read as the TC reads the text, so the groups after a
+     * group with no table or no pk are left out, and so are the blank pks.
+     *
+     * @param lockKeys the lock keys of the text format
+     * @return the binary lock key
+     */
+    public static byte[] encode(String lockKeys) {
+        Map<String, Integer> tableIds = new HashMap<>();
+        List<String> tables = new ArrayList<>();
+        // the pks are mostly shorter as varints than as text
+        ByteWriter groups = new ByteWriter(lockKeys.length());
+        int groupCount = 0;
+        int length = lockKeys.length();
+        for (int groupStart = 0; groupStart < length; ) {
+            int groupEnd = lockKeys.indexOf(TABLE_SEPARATOR, groupStart);
+            if (groupEnd < 0) {
+                groupEnd = length;
+            }
+            int idx = lockKeys.indexOf(TABLE_PK_SEPARATOR, groupStart);
+            if (idx < 0 || idx > groupEnd || isBlank(lockKeys, idx + 1, groupEnd)) {
+                break;
+            }
+            String tableName = lockKeys.substring(groupStart, idx);
+            Integer tableId = tableIds.get(tableName);
+            if (tableId == null) {
+                tableId = tables.size();
+                tableIds.put(tableName, tableId);
+                tables.add(tableName);
+            }
+            groups.writeVarLong(tableId);
+            // the row count is only known after the rows, it is moved in front of them
+            int rowsStart = groups.size();
+            int rowCount = 0;
+            for (int pkStart = idx + 1; pkStart <= groupEnd; ) {
+                int pkEnd = pkStart;
+                int partCount = 1;
+                for (char c; pkEnd < groupEnd && (c = lockKeys.charAt(pkEnd)) != PK_SEPARATOR; pkEnd++) {
+                    if (c == PK_PART_SEPARATOR) {
+                        partCount++;
+                    }
+                }
+                if (!isBlank(lockKeys, pkStart, pkEnd)) {
+                    writePk(groups, lockKeys, pkStart, pkEnd, partCount);
+                    rowCount++;
+                }
+                pkStart = pkEnd + 1;
+            }
+            groups.insertVarLong(rowsStart, rowCount);
+            groupCount++;
+            groupStart = groupEnd + 1;
+        }
+        ByteWriter out = new ByteWriter(groups.size() + 16 * tables.size() + 8);
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.writeVarLong(tables.size());
+        for (String table : tables) {
+            writeString(out, table);
+        }
+        out.writeVarLong(groupCount);
+        out.write(groups.buf, 0, groups.size());
+        return out.toByteArray();
+    }
+
+    /**
+     * Visit the rows of a binary lock key.
+     *
+     * @param bytes   the binary lock key
+     * @param visitor visits the table and the pk of each row, the pk as in the text format
+     */
+    public static void decode(byte[] bytes, RowKeyVisitor visitor) {
+        if (!isBinary(bytes)) {
+            throw new IllegalArgumentException("not a binary lock key");
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        in.get();
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unknown binary lock key version: " + version);
+        }
+        String[] tables = new String[readCount(in)];
+        for (int i = 0; i < tables.length; i++) {
+            tables[i] = readString(in);
+        }
+        StringBuilder pk = new StringBuilder();
+        int groupCount = readCount(in);
+        for (int i = 0; i < groupCount; i++) {
+            String tableName = tables[readCount(in)];
+            int rowCount = readCount(in);
+            for (int j = 0; j < rowCount; j++) {
+                int partCount = readCount(in);
+                if (partCount == 1 && in.get(in.position()) == TYPE_LONG) {
+                    in.get();
+                    visitor.visit(tableName, Long.toString(readVarLong(in)));
+                    continue;
+                }
+                pk.setLength(0);
+                for (int k = 0; k < partCount; k++) {
+                    if (k > 0) {
+                        pk.append(PK_PART_SEPARATOR);
+                    }
+                    byte type = in.get();
+                    if (type == TYPE_LONG) {
+                        pk.append(readVarLong(in));
+                    } else {
+                        pk.append(readString(in));
+                    }
+                }
+                visitor.visit(tableName, pk.toString());
+            }
+        }
+    }
+
+    /**
+     * Build the text format of a binary lock key. The groups of a table next to each other are merged into one,
+     * which locks the same rows.
+     *
+     * @param bytes the binary lock key
+     * @return the lock keys of the text format
+     */
+    public static String toText(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        String[] lastTable = new String[1];
+        decode(bytes, (tableName, pk) -> {
+            if (!tableName.equals(lastTable[0])) {
+                if (lastTable[0] != null) {
+                    sb.append(TABLE_SEPARATOR);
+                }
+                sb.append(tableName).append(TABLE_PK_SEPARATOR);
+                lastTable[0] = tableName;
+            } else {
+                sb.append(PK_SEPARATOR);
+            }
+            sb.append(pk);
+        });
+        return sb.toString();
+    }
+
+    private static void writePk(ByteWriter out, String lockKeys, int start, int end, int partCount) {
+        out.writeVarLong(partCount);
+        int partStart = start;
+        for (int i = 0; i < partCount; i++) {
+            int partEnd = partStart;
+            while (partEnd < end && lockKeys.charAt(partEnd) != PK_PART_SEPARATOR) {
+                partEnd++;
+            }
+            if (!writeLong(out, lockKeys, partStart, partEnd)) {
+                out.write(TYPE_STRING);
+                writeString(out, lockKeys.substring(partStart, partEnd));
+            }
+            partStart = partEnd + 1;
+        }
+    }
+
+    /**
+     * Write the part as a long if it is what the long is written as, so the part is read back as it was.
+     *
+     * @return false if the part is not a long, nothing is written then
+     */
+    private static boolean writeLong(ByteWriter out, String text, int start, int end) {
+        boolean negative = start < end && text.charAt(start) == '-';
+        int digitsStart = negative ? start + 1 : start;
+        int digits = end - digitsStart;
+        // no leading zero and no "-0"
+        if (digits == 0 || digits > 19 || text.charAt(digitsStart) == '0' && (digits > 1 || negative)) {
+            return false;
+        }
+        // accumulated negative, which holds Long.MIN_VALUE
+        long value = 0;
+        for (int i = digitsStart; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            // a 19 digits value may overflow
+            if (value < Long.MIN_VALUE / 10) {
+                return false;
+            }
+            value *= 10;
+            if (value < Long.MIN_VALUE + digit) {
+                return false;
+            }
+            value -= digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                return false;
+            }
+            value = -value;
+        }
+        out.write(TYPE_LONG);
+        // zigzag, so a small negative value is small too
+        out.writeVarLong((value << 1) ^ (value >> 63));
+        return true;
+    }
+
+    private static boolean isBlank(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeString(ByteWriter out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeVarLong(bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readCount(in);
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static int readCount(ByteBuffer in) {
+        long count = readRawVarLong(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("corrupted binary lock key, count: " + count);
+        }
+        return (int)count;
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long raw = readRawVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private static long readRawVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long)(b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("corrupted binary lock key, varint too long");
+    }
+
+    /**
+     * A growable byte array, unlike ByteArrayOutputStream not synchronized on every byte.
+     */
+    private static final class ByteWriter {
+
+        private byte[] buf;
+
+        private int size;
+
+        ByteWriter(int capacity) {
+            buf = new byte[Math.max(capacity, 16)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void write(int b) {
+            ensureCapacity(1);
+            buf[size++] = (byte)b;
+        }
+
+        void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buf, size, length);
+            size += length;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[size++] = (byte)((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[size++] = (byte)value;
+        }
+
+        /**
+         * Insert a varint at a position, the bytes after it are moved.
+         */
+        void insertVarLong(int position, long value) {
+            int end = size;
+            writeVarLong(value);
+            int length = size - end;
+            byte[] varint = new byte[length];
+            System.arraycopy(buf, end, varint, 0, length);
+            System.arraycopy(buf, position, buf, position + length, end - position);
+            System.arraycopy(varint, 0, buf, position, length);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        private void ensureCapacity(int length) {
+            if (size + length > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, size + length));
+            }
+        }
+    }
+
+    /**
+     * Visits the rows of a binary lock key.
+     */
+    @FunctionalInterface
+    public interface RowKeyVisitor {
+
+        /**
+         * Visit a row.
+         *
+         * @param tableName the table name
+         * @param pk        the pk, its parts joined by "_"
+         */
+        void visit(String tableName, String pk);
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.seata.core.model;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.seata.core.exception.TransactionException;
 
 /**
@@ -80,4 +82,73 @@ public interface TransactionManager {
      * out.
      */
     GlobalStatus globalReport(String xid, GlobalStatus globalStatus) throws TransactionException;
+
+    /**
+     * Begin a new global transaction without blocking. The default implementation calls {@link #begin}.
+     *
+     * @param applicationId           ID of the application who begins this transaction.
+     * @param transactionServiceGroup ID of the transaction service group.
+     * @param name                    Give a name to the global transaction.
+     * @param timeout                 Timeout of the global transaction.
+     * @return the future of the XID, completed exceptionally like {@link #begin} throws.
+     */
+    default CompletableFuture<String> beginAsync(String applicationId, String transactionServiceGroup, String name,
+                                                 int timeout) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        try {
+            future.complete(begin(applicationId, transactionServiceGroup, name, timeout));
+        } catch (TransactionException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Global commit without blocking. The default implementation calls {@link #commit}.
+     *
+     * @param xid XID of the global transaction.
+     * @return the future of the status after committing, completed exceptionally like {@link #commit} throws.
+     */
+    default CompletableFuture<GlobalStatus> commitAsync(String xid) {
+        CompletableFuture<GlobalStatus> future = new CompletableFuture<>();
+        try {
+            future.complete(commit(xid));
+        } catch (TransactionException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Global rollback without blocking. The default implementation calls {@link #rollback}.
+     *
+     * @param xid XID of the global transaction.
+     * @return the future of the status after rollbacking, completed exceptionally like {@link #rollback} throws.
+     */
+    default CompletableFuture<GlobalStatus> rollbackAsync(String xid) {
+        CompletableFuture<GlobalStatus> future = new CompletableFuture<>();
+        try {
+            future.complete(rollback(xid));
+        } catch (TransactionException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Get current status of the give transaction without blocking. The default implementation calls
+     * {@link #getStatus}.
+     *
+     * @param xid XID of the global transaction.
+     * @return the future of the current status, completed exceptionally like {@link #getStatus} throws.
+     */
+    default CompletableFuture<GlobalStatus> getStatusAsync(String xid) {
+        CompletableFuture<GlobalStatus> future = new CompletableFuture<>();
+        try {
+            future.complete(getStatus(xid));
+        } catch (TransactionException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
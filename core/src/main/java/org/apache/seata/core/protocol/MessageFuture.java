@@ -74,6 +74,25 @@ public class MessageFuture {
         return result;
     }
 
+    /**
+     * Get the result without blocking, the future completes exceptionally when the result is an exception.
+     *
+     * @return the future of the result
+     */
+    public CompletableFuture<Object> asCompletableFuture() {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        origin.whenComplete((result, ex) -> {
+            if (ex != null) {
+                future.completeExceptionally(ex);
+            } else if (result instanceof Throwable) {
+                future.completeExceptionally((Throwable)result);
+            } else {
+                future.complete(result);
+            }
+        });
+        return future;
+    }
+
     /**
      * Sets result message.
      *
@@ -39,6 +39,7 @@ public class Version {
     private static final String CURRENT = VersionInfo.VERSION;
     private static final String VERSION_0_7_1 = "0.7.1";
     private static final String VERSION_1_5_0 = "1.5.0";
+    private static final String VERSION_2_1_0 = "2.1.0";
     private static final int MAX_VERSION_DOT = 3;
 
     /**
@@ -112,6 +113,25 @@ public class Version {
         return isAboveOrEqualVersion150;
     }
 
+    /**
+     * Determine whether the server version is greater than or equal to version 2.1.0, which reads the binary lock key
+     *
+     * @param version server version
+     * @return true: server version is above or equal version 2.1.0, false: on the contrary
+     * @see org.apache.seata.core.lock.LockKeyCodec
+     */
+    public static boolean isAboveOrEqualVersion210(String version) {
+        boolean isAboveOrEqualVersion210 = false;
+        try {
+            long serverVersion = convertVersion(version);
+            long divideVersion = convertVersion(VERSION_2_1_0);
+            isAboveOrEqualVersion210 = serverVersion >= divideVersion;
+        } catch (Exception e) {
+            LOGGER.error("convert version error, serverVersion:{}", version, e);
+        }
+        return isAboveOrEqualVersion210;
+    }
+
     public static long convertVersion(String version) throws IncompatibleVersionException {
         if (StringUtils.isBlank(version)) {
             throw new IllegalArgumentException("The version must not be blank.");
@@ -34,6 +34,8 @@ public class BranchRegisterRequest extends AbstractTransactionRequestToTC  {
 
     private String lockKey;
 
+    private byte[] binaryLockKey;
+
     private String applicationData;
 
     /**
@@ -90,6 +92,25 @@ public class BranchRegisterRequest extends AbstractTransactionRequestToTC  {
         this.lockKey = lockKey;
     }
 
+    /**
+     * Gets the lock key of the binary format, sent instead of the lock key when set.
+     *
+     * @return the binary lock key
+     * @see org.apache.seata.core.lock.LockKeyCodec
+     */
+    public byte[] getBinaryLockKey() {
+        return binaryLockKey;
+    }
+
+    /**
+     * Sets the lock key of the binary format.
+     *
+     * @param binaryLockKey the binary lock key
+     */
+    public void setBinaryLockKey(byte[] binaryLockKey) {
+        this.binaryLockKey = binaryLockKey;
+    }
+
     /**
      * Gets resource id.
      *
@@ -144,6 +165,9 @@ public class BranchRegisterRequest extends AbstractTransactionRequestToTC  {
         sb.append(", branchType=").append(branchType);
         sb.append(", resourceId='").append(resourceId).append('\'');
         sb.append(", lockKey='").append(lockKey).append('\'');
+        if (binaryLockKey != null) {
+            sb.append(", binaryLockKey=").append(binaryLockKey.length).append(" bytes");
+        }
         sb.append(", applicationData='").append(applicationData).append('\'');
         sb.append('}');
         return sb.toString();
@@ -16,6 +16,7 @@
  */
 package org.apache.seata.core.rpc;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 import io.netty.channel.Channel;
@@ -46,6 +47,16 @@ public interface RemotingClient {
      */
     Object sendSyncRequest(Object msg) throws TimeoutException;
 
+    /**
+     * client send request and get the response without blocking.
+     * Like {@link #sendSyncRequest(Object)}, the message will be sent in batches if enabled.
+     *
+     * @param msg transaction message {@code org.apache.seata.core.protocol}
+     * @return the future of the server result message, completed exceptionally with a
+     * {@link TimeoutException} on timeout
+     */
+    CompletableFuture<Object> sendAsyncRequestWithResponse(Object msg);
+
     /**
      * client send sync request.
      *
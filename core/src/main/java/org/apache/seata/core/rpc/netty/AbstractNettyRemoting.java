@@ -22,10 +22,12 @@ import java.net.SocketAddress;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -62,8 +64,7 @@ public abstract class AbstractNettyRemoting implements Disposable {
     /**
      * The Timer executor.
      */
-    protected final ScheduledExecutorService timerExecutor = new ScheduledThreadPoolExecutor(1,
-        new NamedThreadFactory("timeoutChecker", 1, true));
+    protected final ScheduledExecutorService timerExecutor = newTimerExecutor();
     /**
      * The Message executor.
      */
@@ -89,10 +90,6 @@ public abstract class AbstractNettyRemoting implements Disposable {
     protected volatile long nowMills = 0;
     private static final int TIMEOUT_CHECK_INTERVAL = 3000;
     protected final Object lock = new Object();
-    /**
-     * The Is sending.
-     */
-    protected volatile boolean isSending = false;
     private String group = "DEFAULT";
 
     /**
@@ -209,6 +206,91 @@ public abstract class AbstractNettyRemoting implements Disposable {
         }
     }
 
+    /**
+     * rpc async request with response.
+     * The response completes the returned future, the calling thread never waits: a channel which is not writable
+     * fails the request at once, and the request times out on the timer.
+     *
+     * @param channel       netty channel
+     * @param rpcMessage    rpc message
+     * @param timeoutMillis rpc communication timeout
+     * @return the future of the response message
+     */
+    protected CompletableFuture<Object> sendAsyncWithResponse(Channel channel, RpcMessage rpcMessage,
+                                                              long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new FrameworkException("timeout should more than 0ms");
+        }
+        CompletableFuture<Object> result = putAsyncFuture(rpcMessage, timeoutMillis);
+        if (!channel.isWritable()) {
+            MessageFuture messageFuture = futures.remove(rpcMessage.getId());
+            if (messageFuture != null) {
+                messageFuture.setResultMessage(new FrameworkException("msg:" + rpcMessage.getBody(),
+                    FrameworkErrorCode.ChannelIsNotWritable));
+            }
+            return result;
+        }
+
+        String remoteAddr = ChannelUtil.getAddressFromChannel(channel);
+        doBeforeRpcHooks(remoteAddr, rpcMessage);
+
+        channel.writeAndFlush(rpcMessage).addListener((ChannelFutureListener) future -> {
+            if (!future.isSuccess()) {
+                MessageFuture messageFuture = futures.remove(rpcMessage.getId());
+                if (messageFuture != null) {
+                    messageFuture.setResultMessage(future.cause());
+                }
+                destroyChannel(future.channel());
+            }
+        });
+
+        CompletableFuture<Object> response = new CompletableFuture<>();
+        result.whenComplete((message, ex) -> {
+            if (ex != null) {
+                LOGGER.error("wait response error:{},ip:{},request:{}", ex.getMessage(), channel.remoteAddress(),
+                    rpcMessage.getBody());
+                response.completeExceptionally(ex);
+            } else {
+                doAfterRpcHooks(remoteAddr, rpcMessage, message);
+                response.complete(message);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Put the future of a request to be completed by its response, or by a timeout exception after the timeout.
+     *
+     * @param rpcMessage    rpc message
+     * @param timeoutMillis rpc communication timeout
+     * @return the future of the response message
+     */
+    protected CompletableFuture<Object> putAsyncFuture(RpcMessage rpcMessage, long timeoutMillis) {
+        MessageFuture messageFuture = new MessageFuture();
+        messageFuture.setRequestMessage(rpcMessage);
+        messageFuture.setTimeout(timeoutMillis);
+        CompletableFuture<Object> result = messageFuture.asCompletableFuture();
+        futures.put(rpcMessage.getId(), messageFuture);
+        ScheduledFuture<?> timeoutTask = timerExecutor.schedule(() -> {
+            MessageFuture timeoutFuture = futures.remove(rpcMessage.getId());
+            if (timeoutFuture != null) {
+                timeoutFuture.setResultMessage(new TimeoutException(String.format(
+                    "msgId: %s ,msgType: %s ,msg: %s ,request timeout", rpcMessage.getId(),
+                    rpcMessage.getMessageType(), rpcMessage.getBody())));
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        // the task of a request answered in time leaves the timer queue at once
+        result.whenComplete((message, ex) -> timeoutTask.cancel(false));
+        return result;
+    }
+
+    private static ScheduledExecutorService newTimerExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+            new NamedThreadFactory("timeoutChecker", 1, true));
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
     /**
      * rpc async request.
      *
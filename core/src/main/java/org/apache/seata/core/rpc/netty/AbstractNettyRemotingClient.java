@@ -18,12 +18,12 @@ package org.apache.seata.core.rpc.netty;
 
 import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -39,7 +39,6 @@ import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.seata.common.exception.FrameworkErrorCode;
 import org.apache.seata.common.exception.FrameworkException;
-import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.NetUtil;
 import org.apache.seata.common.util.StringUtils;
@@ -54,6 +53,8 @@ import org.apache.seata.core.protocol.transaction.AbstractGlobalEndRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.apache.seata.core.protocol.transaction.BranchReportRequest;
 import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
+import org.apache.seata.core.protocol.transaction.GlobalStatusRequest;
 import org.apache.seata.core.rpc.RemotingClient;
 import org.apache.seata.core.rpc.TransactionMessageHandler;
 import org.apache.seata.core.rpc.processor.Pair;
@@ -75,14 +76,9 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
     private static final String MSG_ID_PREFIX = "msgId:";
     private static final String FUTURES_PREFIX = "futures:";
     private static final String SINGLE_LOG_POSTFIX = ";";
-    private static final int MAX_MERGE_SEND_MILLS = 1;
-    private static final String THREAD_PREFIX_SPLIT_CHAR = "_";
-    private static final int MAX_MERGE_SEND_THREAD = 1;
-    private static final long KEEP_ALIVE_TIME = Integer.MAX_VALUE;
     private static final long SCHEDULE_DELAY_MILLS = 60 * 1000L;
     private static final long SCHEDULE_INTERVAL_MILLS = 10 * 1000L;
-    private static final String MERGE_THREAD_PREFIX = "rpcMergeMessageSend";
-    protected final Object mergeLock = new Object();
+    private static final long BATCH_SEND_STATUS_LOG_INTERVAL_MILLS = 60 * 1000L;
 
     /**
      * When sending message type is {@link MergeMessage}, will be stored to mergeMsgMap.
@@ -90,15 +86,14 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
     protected final Map<Integer, MergeMessage> mergeMsgMap = new ConcurrentHashMap<>();
 
     /**
-     * When batch sending is enabled, the message will be stored to basketMap
-     * Send via asynchronous thread {@link AbstractNettyRemotingClient.MergedSendRunnable}
+     * When batch sending is enabled, the message will be queued to the batch sender of its channel
+     * and sent merged on the event loop of the channel, see {@link ClientBatchSender}
      * {@link AbstractNettyRemotingClient#isEnableClientBatchSendRequest()}
      */
-    protected final ConcurrentHashMap<String/*serverAddress*/, BlockingQueue<RpcMessage>> basketMap = new ConcurrentHashMap<>();
+    protected final ConcurrentHashMap<Channel, ClientBatchSender> batchSenderMap = new ConcurrentHashMap<>();
     private final NettyClientBootstrap clientBootstrap;
     private final NettyClientChannelManager clientChannelManager;
     private final NettyPoolKey.TransactionRole transactionRole;
-    private ExecutorService mergeSendExecutorService;
     private TransactionMessageHandler transactionMessageHandler;
     protected volatile boolean enableClientBatchSendRequest;
 
@@ -111,14 +106,8 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
                 LOGGER.warn("reconnect server failed. {}", ex.getMessage());
             }
         }, SCHEDULE_DELAY_MILLS, SCHEDULE_INTERVAL_MILLS, TimeUnit.MILLISECONDS);
-        if (this.isEnableClientBatchSendRequest()) {
-            mergeSendExecutorService = new ThreadPoolExecutor(MAX_MERGE_SEND_THREAD,
-                MAX_MERGE_SEND_THREAD,
-                KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<>(),
-                new NamedThreadFactory(getThreadPrefix(), MAX_MERGE_SEND_THREAD));
-            mergeSendExecutorService.submit(new MergedSendRunnable());
-        }
+        timerExecutor.scheduleAtFixedRate(this::logBatchSendStatus, BATCH_SEND_STATUS_LOG_INTERVAL_MILLS,
+            BATCH_SEND_STATUS_LOG_INTERVAL_MILLS, TimeUnit.MILLISECONDS);
         super.init();
         clientBootstrap.start();
     }
@@ -137,11 +126,14 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
     public Object sendSyncRequest(Object msg) throws TimeoutException {
         String serverAddress = loadBalance(getTransactionServiceGroup(), msg);
         long timeoutMillis = this.getRpcRequestTimeout();
+        Channel channel = clientChannelManager.acquireChannel(serverAddress);
+        prepareRequest(channel, msg);
         RpcMessage rpcMessage = buildRequestMessage(msg, ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
 
         // send batch message
-        // put message into basketMap, @see MergedSendRunnable
+        // queue message to the batch sender of the channel, @see ClientBatchSender
         if (this.isEnableClientBatchSendRequest()) {
+            ClientBatchSender batchSender = getBatchSender(serverAddress, channel);
 
             // send batch message is sync request, needs to create messageFuture and put it in futures.
             MessageFuture messageFuture = new MessageFuture();
@@ -149,22 +141,15 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
             messageFuture.setTimeout(timeoutMillis);
             futures.put(rpcMessage.getId(), messageFuture);
 
-            // put message into basketMap
-            BlockingQueue<RpcMessage> basket = CollectionUtils.computeIfAbsent(basketMap, serverAddress,
-                key -> new LinkedBlockingQueue<>());
-            if (!basket.offer(rpcMessage)) {
-                LOGGER.error("put message into basketMap offer failed, serverAddress:{},rpcMessage:{}",
-                    serverAddress, rpcMessage);
-                return null;
+            try {
+                batchSender.offer(rpcMessage);
+            } catch (RuntimeException e) {
+                futures.remove(rpcMessage.getId());
+                throw e;
             }
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("offer message: {}", rpcMessage.getBody());
             }
-            if (!isSending) {
-                synchronized (mergeLock) {
-                    mergeLock.notifyAll();
-                }
-            }
 
             try {
                 Object response = messageFuture.get(timeoutMillis, TimeUnit.MILLISECONDS);
@@ -178,12 +163,33 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
                 }
             }
         } else {
-            Channel channel = clientChannelManager.acquireChannel(serverAddress);
             return super.sendSync(channel, rpcMessage, timeoutMillis);
         }
 
     }
 
+    @Override
+    public CompletableFuture<Object> sendAsyncRequestWithResponse(Object msg) {
+        String serverAddress = loadBalance(getTransactionServiceGroup(), msg);
+        long timeoutMillis = this.getRpcRequestTimeout();
+        Channel channel = clientChannelManager.acquireChannel(serverAddress);
+        prepareRequest(channel, msg);
+        RpcMessage rpcMessage = buildRequestMessage(msg, ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
+        if (this.isEnableClientBatchSendRequest()) {
+            ClientBatchSender batchSender = getBatchSender(serverAddress, channel);
+            // the response is completed in ClientOnResponseProcessor, like the sync request of a batch
+            CompletableFuture<Object> future = putAsyncFuture(rpcMessage, timeoutMillis);
+            try {
+                batchSender.offer(rpcMessage);
+            } catch (RuntimeException e) {
+                futures.remove(rpcMessage.getId());
+                throw e;
+            }
+            return future;
+        }
+        return super.sendAsyncWithResponse(channel, rpcMessage, timeoutMillis);
+    }
+
     @Override
     public Object sendSyncRequest(Channel channel, Object msg) throws TimeoutException {
         if (channel == null) {
@@ -224,15 +230,13 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
 
     @Override
     public void destroyChannel(String serverAddress, Channel channel) {
+        batchSenderMap.remove(channel);
         clientChannelManager.destroyChannel(serverAddress, channel);
     }
 
     @Override
     public void destroy() {
         clientBootstrap.shutdown();
-        if (mergeSendExecutorService != null) {
-            mergeSendExecutorService.shutdown();
-        }
         super.destroy();
     }
 
@@ -251,9 +255,11 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
     protected String loadBalance(String transactionServiceGroup, Object msg) {
         InetSocketAddress address = null;
         try {
+            // the queries may be served by the replicas of the registry too
             @SuppressWarnings("unchecked")
-            List<InetSocketAddress> inetSocketAddressList =
-                RegistryFactory.getInstance().aliveLookup(transactionServiceGroup);
+            List<InetSocketAddress> inetSocketAddressList = isReadOnly(msg)
+                ? RegistryFactory.getInstance().aliveReadLookup(transactionServiceGroup)
+                : RegistryFactory.getInstance().aliveLookup(transactionServiceGroup);
             address = this.doSelect(inetSocketAddressList, msg);
         } catch (Exception ex) {
             LOGGER.error("Select the address failed: {}", ex.getMessage());
@@ -275,6 +281,10 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
         return null;
     }
 
+    private boolean isReadOnly(Object msg) {
+        return msg instanceof GlobalStatusRequest || msg instanceof GlobalLockQueryRequest;
+    }
+
     protected String getXid(Object msg) {
         String xid = "";
         if (msg instanceof AbstractGlobalEndRequest) {
@@ -295,10 +305,6 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
         return StringUtils.isBlank(xid) ? String.valueOf(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE)) : xid;
     }
 
-    private String getThreadPrefix() {
-        return AbstractNettyRemotingClient.MERGE_THREAD_PREFIX + THREAD_PREFIX_SPLIT_CHAR + transactionRole.name();
-    }
-
     /**
      * Get pool key function.
      *
@@ -328,76 +334,113 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
     protected abstract long getRpcRequestTimeout();
 
     /**
-     * The type Merged send runnable.
+     * Adapt a request to the server of the channel it is sent to, e.g. to what the version of the server reads.
+     *
+     * @param channel the channel of the server
+     * @param msg     the request
      */
-    private class MergedSendRunnable implements Runnable {
+    protected void prepareRequest(Channel channel, Object msg) {
+    }
 
-        @Override
-        public void run() {
-            while (true) {
-                synchronized (mergeLock) {
-                    try {
-                        mergeLock.wait(MAX_MERGE_SEND_MILLS);
-                    } catch (InterruptedException e) {
-                    }
-                }
-                isSending = true;
-                basketMap.forEach((address, basket) -> {
-                    if (basket.isEmpty()) {
-                        return;
-                    }
+    /**
+     * Gets the batch senders of the channels, for monitoring the batch sizes and queue delays.
+     *
+     * @return the batch senders by channel
+     */
+    public Map<Channel, ClientBatchSender> getBatchSenders() {
+        return Collections.unmodifiableMap(batchSenderMap);
+    }
 
-                    MergedWarpMessage mergeMessage = new MergedWarpMessage();
-                    while (!basket.isEmpty()) {
-                        RpcMessage msg = basket.poll();
-                        mergeMessage.msgs.add((AbstractMessage) msg.getBody());
-                        mergeMessage.msgIds.add(msg.getId());
-                    }
-                    if (mergeMessage.msgIds.size() > 1) {
-                        printMergeMessageLog(mergeMessage);
-                    }
-                    Channel sendChannel = null;
-                    try {
-                        // send batch message is sync request, but there is no need to get the return value.
-                        // Since the messageFuture has been created before the message is placed in basketMap,
-                        // the return value will be obtained in ClientOnResponseProcessor.
-                        sendChannel = clientChannelManager.acquireChannel(address);
-                        AbstractNettyRemotingClient.this.sendAsyncRequest(sendChannel, mergeMessage);
-                    } catch (FrameworkException e) {
-                        if (e.getErrcode() == FrameworkErrorCode.ChannelIsNotWritable && sendChannel != null) {
-                            destroyChannel(address, sendChannel);
-                        }
-                        // fast fail
-                        for (Integer msgId : mergeMessage.msgIds) {
-                            MessageFuture messageFuture = futures.remove(msgId);
-                            if (messageFuture != null) {
-                                messageFuture.setResultMessage(
-                                    new RuntimeException(String.format("%s is unreachable", address), e));
-                            }
-                        }
-                        LOGGER.error("client merge call failed: {}", e.getMessage(), e);
-                    }
-                });
-                isSending = false;
+    private ClientBatchSender getBatchSender(String serverAddress, Channel channel) {
+        ClientBatchSender batchSender = batchSenderMap.get(channel);
+        if (batchSender != null) {
+            return batchSender;
+        }
+        ClientBatchSender[] created = new ClientBatchSender[1];
+        batchSender = CollectionUtils.computeIfAbsent(batchSenderMap, channel,
+            key -> created[0] = new ClientBatchSender(channel, NettyClientConfig.getClientBatchMaxSize(),
+                NettyClientConfig.getClientBatchMaxWaitMicros(),
+                mergeMessage -> sendMergedRequest(serverAddress, channel, mergeMessage),
+                rpcMessage -> failRequest(serverAddress, rpcMessage.getId(), null)));
+        if (batchSender == created[0]) {
+            // the requests still queued when the channel closes fail at once instead of waiting for their timeout.
+            // registered outside of computeIfAbsent since it runs at once on a closed channel
+            ClientBatchSender newBatchSender = batchSender;
+            channel.closeFuture().addListener(future -> {
+                batchSenderMap.remove(channel, newBatchSender);
+                newBatchSender.flush();
+            });
+        }
+        return batchSender;
+    }
+
+    private void logBatchSendStatus() {
+        if (!LOGGER.isDebugEnabled()) {
+            return;
+        }
+        for (ClientBatchSender batchSender : batchSenderMap.values()) {
+            long batchCount = batchSender.getBatchCount();
+            long requestCount = batchSender.getRequestCount();
+            LOGGER.debug("batch send status, channel:{}, pending:{}, batches:{}, requests:{}, avg batch size:{}, "
+                    + "max batch size:{}, avg queue delay:{}us, max queue delay:{}us", batchSender.getChannel(),
+                batchSender.getPendingCount(), batchCount, requestCount,
+                batchCount == 0 ? 0 : requestCount / batchCount, batchSender.getMaxSentBatchSize(),
+                requestCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(batchSender.getQueueDelayNanos() / requestCount),
+                TimeUnit.NANOSECONDS.toMicros(batchSender.getMaxQueueDelayNanos()));
+        }
+    }
+
+    /**
+     * Send a batch of requests, called by the batch sender on the event loop of the channel.
+     *
+     * @param serverAddress the server address
+     * @param channel       the channel
+     * @param mergeMessage  the merged requests
+     */
+    private void sendMergedRequest(String serverAddress, Channel channel, MergedWarpMessage mergeMessage) {
+        if (mergeMessage.msgIds.size() > 1) {
+            printMergeMessageLog(mergeMessage);
+        }
+        try {
+            // send batch message is sync request, but there is no need to get the return value.
+            // Since the messageFuture has been created before the message is queued,
+            // the return value will be obtained in ClientOnResponseProcessor.
+            sendAsyncRequest(channel, mergeMessage);
+        } catch (FrameworkException e) {
+            if (e.getErrcode() == FrameworkErrorCode.ChannelIsNotWritable) {
+                destroyChannel(serverAddress, channel);
             }
+            // fast fail
+            for (Integer msgId : mergeMessage.msgIds) {
+                failRequest(serverAddress, msgId, e);
+            }
+            LOGGER.error("client merge call failed: {}", e.getMessage(), e);
         }
+    }
 
-        private void printMergeMessageLog(MergedWarpMessage mergeMessage) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("merge msg size:{}", mergeMessage.msgIds.size());
-                for (AbstractMessage cm : mergeMessage.msgs) {
-                    LOGGER.debug(cm.toString());
-                }
-                StringBuilder sb = new StringBuilder();
-                for (long l : mergeMessage.msgIds) {
-                    sb.append(MSG_ID_PREFIX).append(l).append(SINGLE_LOG_POSTFIX);
-                }
-                sb.append("\n");
-                for (long l : futures.keySet()) {
-                    sb.append(FUTURES_PREFIX).append(l).append(SINGLE_LOG_POSTFIX);
-                }
-                LOGGER.debug(sb.toString());
+    private void failRequest(String serverAddress, Integer msgId, Throwable cause) {
+        MessageFuture messageFuture = futures.remove(msgId);
+        if (messageFuture != null) {
+            messageFuture.setResultMessage(
+                new RuntimeException(String.format("%s is unreachable", serverAddress), cause));
+        }
+    }
+
+    private void printMergeMessageLog(MergedWarpMessage mergeMessage) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("merge msg size:{}", mergeMessage.msgIds.size());
+            for (AbstractMessage cm : mergeMessage.msgs) {
+                LOGGER.debug(cm.toString());
+            }
+            StringBuilder sb = new StringBuilder();
+            for (long l : mergeMessage.msgIds) {
+                sb.append(MSG_ID_PREFIX).append(l).append(SINGLE_LOG_POSTFIX);
             }
+            sb.append("\n");
+            for (long l : futures.keySet()) {
+                sb.append(FUTURES_PREFIX).append(l).append(SINGLE_LOG_POSTFIX);
+            }
+            LOGGER.debug(sb.toString());
         }
     }
 
@@ -422,6 +465,10 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
                     lock.notifyAll();
                 }
             }
+            ClientBatchSender batchSender = batchSenderMap.get(ctx.channel());
+            if (batchSender != null && ctx.channel().isWritable()) {
+                batchSender.flush();
+            }
             ctx.fireChannelWritabilityChanged();
         }
 
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.rpc.netty;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.netty.channel.Channel;
+import io.netty.util.internal.PlatformDependent;
+import org.apache.seata.core.protocol.AbstractMessage;
+import org.apache.seata.core.protocol.MergedWarpMessage;
+import org.apache.seata.core.protocol.RpcMessage;
+
+/**
+ * Merges the requests sent to one channel into {@link MergedWarpMessage}s.
+ * <p>
+ * Senders only append to a lock-free multi-producer single-consumer queue; the queue is drained on the
+ * event loop of the channel, so the requests queued while the event loop is busy go out together.
+ * A flush is triggered by the first request after the previous flush, delayed by at most {@code maxWaitMicros},
+ * or right away when {@code maxBatchSize} requests are queued.
+ * Nothing is sent while the channel is not writable, the queued requests are sent once it is writable again
+ * and {@link #flush()} is called from {@code channelWritabilityChanged}.
+ * Once the channel is closed a flush hands the queued requests to the discarder instead, so that they fail
+ * at once rather than wait for their timeout.
+ * The batch sizes and the time the requests spent in the queue are counted for monitoring,
+ * see {@link AbstractNettyRemotingClient#getBatchSenders()}.
+ *
+ */
+public class ClientBatchSender {
+
+    private final Channel channel;
+
+    private final int maxBatchSize;
+
+    private final long maxWaitMicros;
+
+    private final Consumer<MergedWarpMessage> sender;
+
+    private final Consumer<RpcMessage> discarder;
+
+    private final Queue<PendingRequest> queue = PlatformDependent.newMpscQueue();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final AtomicLong batchCount = new AtomicLong();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong queueDelayNanos = new AtomicLong();
+
+    private volatile int maxSentBatchSize;
+
+    private volatile long maxQueueDelayNanos;
+
+    /**
+     * Instantiates a new client batch sender.
+     *
+     * @param channel       the channel the batches are sent to
+     * @param maxBatchSize  the max requests in one batch
+     * @param maxWaitMicros the max micros a request waits for others, 0 flushes on the next event loop run
+     * @param sender        sends a batch, called on the event loop of the channel
+     * @param discarder     fails a request queued for the closed channel, called on the event loop of the channel
+     */
+    public ClientBatchSender(Channel channel, int maxBatchSize, long maxWaitMicros,
+                             Consumer<MergedWarpMessage> sender, Consumer<RpcMessage> discarder) {
+        this.channel = channel;
+        this.maxBatchSize = Math.max(1, Math.min(maxBatchSize, Short.MAX_VALUE));
+        this.maxWaitMicros = maxWaitMicros;
+        this.sender = sender;
+        this.discarder = discarder;
+    }
+
+    /**
+     * Queue a request to be merged into the next batch.
+     *
+     * @param rpcMessage the rpc message
+     * @throws java.util.concurrent.RejectedExecutionException if the event loop is shut down
+     */
+    public void offer(RpcMessage rpcMessage) {
+        queue.offer(new PendingRequest(rpcMessage, System.nanoTime()));
+        int pending = pendingCount.incrementAndGet();
+        if (pending == maxBatchSize) {
+            // a full batch does not wait for the delay
+            channel.eventLoop().execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            if (maxWaitMicros > 0) {
+                channel.eventLoop().schedule(this::flush, maxWaitMicros, TimeUnit.MICROSECONDS);
+            } else {
+                channel.eventLoop().execute(this::flush);
+            }
+        }
+    }
+
+    /**
+     * Send all queued requests while the channel is writable, only ever called on the event loop.
+     * The requests queued for a closed channel are discarded.
+     */
+    public void flush() {
+        // reset before draining, a request queued after the drain schedules the next flush
+        flushScheduled.set(false);
+        if (!channel.isOpen()) {
+            discardAll();
+            return;
+        }
+        while (!queue.isEmpty() && channel.isWritable()) {
+            MergedWarpMessage mergeMessage = new MergedWarpMessage();
+            long now = System.nanoTime();
+            PendingRequest request;
+            while (mergeMessage.msgIds.size() < maxBatchSize && (request = queue.poll()) != null) {
+                pendingCount.decrementAndGet();
+                mergeMessage.msgs.add((AbstractMessage)request.rpcMessage.getBody());
+                mergeMessage.msgIds.add(request.rpcMessage.getId());
+                long delay = now - request.queuedNanos;
+                queueDelayNanos.addAndGet(delay);
+                if (delay > maxQueueDelayNanos) {
+                    maxQueueDelayNanos = delay;
+                }
+            }
+            int size = mergeMessage.msgIds.size();
+            if (size == 0) {
+                return;
+            }
+            batchCount.incrementAndGet();
+            requestCount.addAndGet(size);
+            if (size > maxSentBatchSize) {
+                maxSentBatchSize = size;
+            }
+            sender.accept(mergeMessage);
+        }
+    }
+
+    private void discardAll() {
+        PendingRequest request;
+        while ((request = queue.poll()) != null) {
+            pendingCount.decrementAndGet();
+            discarder.accept(request.rpcMessage);
+        }
+    }
+
+    /**
+     * Gets the channel.
+     *
+     * @return the channel
+     */
+    public Channel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the number of requests queued but not sent yet.
+     *
+     * @return the pending count
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Gets the number of batches sent.
+     *
+     * @return the batch count
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Gets the number of requests sent.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Gets the largest batch sent.
+     *
+     * @return the max batch size
+     */
+    public int getMaxSentBatchSize() {
+        return maxSentBatchSize;
+    }
+
+    /**
+     * Gets the total nanos the sent requests spent in the queue.
+     *
+     * @return the queue delay nanos
+     */
+    public long getQueueDelayNanos() {
+        return queueDelayNanos.get();
+    }
+
+    /**
+     * Gets the longest nanos a sent request spent in the queue.
+     *
+     * @return the max queue delay nanos
+     */
+    public long getMaxQueueDelayNanos() {
+        return maxQueueDelayNanos;
+    }
+
+    private static class PendingRequest {
+
+        private final RpcMessage rpcMessage;
+
+        private final long queuedNanos;
+
+        PendingRequest(RpcMessage rpcMessage, long queuedNanos) {
+            this.rpcMessage = rpcMessage;
+            this.queuedNanos = queuedNanos;
+        }
+    }
+}
@@ -20,6 +20,8 @@ import io.netty.channel.Channel;
 import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.rpc.TransportServerType;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_BATCH_MAX_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_BATCH_MAX_WAIT_MICROS;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_CLIENT_BATCH_SEND_REQUEST;
 import static org.apache.seata.common.DefaultValues.DEFAULT_RPC_RM_REQUEST_TIMEOUT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_RPC_TM_REQUEST_TIMEOUT;
@@ -59,6 +61,8 @@ public class NettyClientConfig extends NettyBaseConfig {
     private static final boolean DEFAULT_POOL_TEST_RETURN = true;
     private static final boolean DEFAULT_POOL_LIFO = true;
     private static final boolean ENABLE_CLIENT_BATCH_SEND_REQUEST = CONFIG.getBoolean(ConfigurationKeys.ENABLE_CLIENT_BATCH_SEND_REQUEST, DEFAULT_ENABLE_CLIENT_BATCH_SEND_REQUEST);
+    private static final int CLIENT_BATCH_MAX_SIZE = CONFIG.getInt(ConfigurationKeys.CLIENT_BATCH_MAX_SIZE, DEFAULT_CLIENT_BATCH_MAX_SIZE);
+    private static final long CLIENT_BATCH_MAX_WAIT_MICROS = CONFIG.getLong(ConfigurationKeys.CLIENT_BATCH_MAX_WAIT_MICROS, DEFAULT_CLIENT_BATCH_MAX_WAIT_MICROS);
 
     /**
      * Gets connect timeout millis.
@@ -456,4 +460,22 @@ public class NettyClientConfig extends NettyBaseConfig {
         return ENABLE_CLIENT_BATCH_SEND_REQUEST;
     }
 
+    /**
+     * Gets the max requests merged into one batch.
+     *
+     * @return the client batch max size
+     */
+    public static int getClientBatchMaxSize() {
+        return CLIENT_BATCH_MAX_SIZE;
+    }
+
+    /**
+     * Gets the max micros a request waits for others to batch with, 0 sends on the next event loop run.
+     *
+     * @return the client batch max wait micros
+     */
+    public static long getClientBatchMaxWaitMicros() {
+        return CLIENT_BATCH_MAX_WAIT_MICROS;
+    }
+
 }
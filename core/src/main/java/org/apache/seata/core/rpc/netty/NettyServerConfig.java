@@ -68,6 +68,10 @@ public class NettyServerConfig extends NettyBaseConfig {
             ConfigurationKeys.MAX_BRANCH_RESULT_POOL_SIZE, String.valueOf(WorkThreadMode.Pin.getValue())));
     private static boolean ENABLE_TC_SERVER_BATCH_SEND_RESPONSE = CONFIG.getBoolean(ConfigurationKeys.ENABLE_TC_SERVER_BATCH_SEND_RESPONSE,
         DefaultValues.DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_RESPONSE);
+    private static final int TC_SERVER_BATCH_MAX_SIZE = CONFIG.getInt(ConfigurationKeys.TC_SERVER_BATCH_MAX_SIZE,
+        DefaultValues.DEFAULT_TC_SERVER_BATCH_MAX_SIZE);
+    private static final long TC_SERVER_BATCH_MAX_WAIT_MICROS = CONFIG.getLong(ConfigurationKeys.TC_SERVER_BATCH_MAX_WAIT_MICROS,
+        DefaultValues.DEFAULT_TC_SERVER_BATCH_MAX_WAIT_MICROS);
 
     /**
      * The Server channel clazz.
@@ -336,4 +340,22 @@ public class NettyServerConfig extends NettyBaseConfig {
     public static boolean isEnableTcServerBatchSendResponse() {
         return ENABLE_TC_SERVER_BATCH_SEND_RESPONSE;
     }
+
+    /**
+     * Get the max responses sent to a channel in one batch
+     *
+     * @return the int
+     */
+    public static int getTcServerBatchMaxSize() {
+        return TC_SERVER_BATCH_MAX_SIZE;
+    }
+
+    /**
+     * Get the max micros a response waits for the other requests in flight on its channel
+     *
+     * @return the long
+     */
+    public static long getTcServerBatchMaxWaitMicros() {
+        return TC_SERVER_BATCH_MAX_WAIT_MICROS;
+    }
 }
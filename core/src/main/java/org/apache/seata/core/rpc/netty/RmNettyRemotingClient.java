@@ -34,6 +34,8 @@ import org.apache.seata.core.protocol.AbstractMessage;
 import org.apache.seata.core.protocol.MessageType;
 import org.apache.seata.core.protocol.RegisterRMRequest;
 import org.apache.seata.core.protocol.RegisterRMResponse;
+import org.apache.seata.core.protocol.Version;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.apache.seata.core.rpc.netty.NettyPoolKey.TransactionRole;
 import org.apache.seata.core.rpc.processor.client.ClientHeartbeatProcessor;
 import org.apache.seata.core.rpc.processor.client.ClientOnResponseProcessor;
@@ -177,6 +179,8 @@ public final class RmNettyRemotingClient extends AbstractNettyRemotingClient {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("register RM success. client version:{}, server version:{},channel:{}", registerRMRequest.getVersion(), registerRMResponse.getVersion(), channel);
         }
+        // the requests sent on the channel are adapted to the version of the server
+        Version.putChannelVersion(channel, registerRMResponse.getVersion());
         getClientChannelManager().registerChannel(serverAddress, channel);
         String dbKey = getMergedResourceKeys();
         if (registerRMRequest.getResourceIds() != null) {
@@ -282,6 +286,19 @@ public final class RmNettyRemotingClient extends AbstractNettyRemotingClient {
         instance = null;
     }
 
+    @Override
+    protected void prepareRequest(Channel channel, Object msg) {
+        if (msg instanceof BranchRegisterRequest) {
+            BranchRegisterRequest request = (BranchRegisterRequest)msg;
+            String serverVersion = Version.getChannelVersion(channel);
+            // an older server reads the lock key as text, it gets the text one
+            if (request.getBinaryLockKey() != null
+                && (serverVersion == null || !Version.isAboveOrEqualVersion210(serverVersion))) {
+                request.setBinaryLockKey(null);
+            }
+        }
+    }
+
     @Override
     protected Function<String, NettyPoolKey> getPoolKeyFunction() {
         return serverAddress -> {
@@ -25,6 +25,7 @@ import org.apache.seata.config.Configuration;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.compressor.Compressor;
 import org.apache.seata.core.compressor.CompressorFactory;
+import org.apache.seata.core.compressor.CompressorType;
 import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.exception.DecodeException;
 import org.apache.seata.core.protocol.HeartbeatMessage;
@@ -145,14 +146,19 @@ public class ProtocolV1Decoder extends LengthFieldBasedFrameDecoder {
         } else {
             int bodyLength = fullLength - headLength;
             if (bodyLength > 0) {
-                byte[] bs = new byte[bodyLength];
-                frame.readBytes(bs);
-                Compressor compressor = CompressorFactory.getCompressor(compressorType);
-                bs = compressor.decompress(bs);
                 SerializerType protocolType = SerializerType.getByCode(rpcMessage.getCodec());
                 if (this.serializerType.equals(protocolType)) {
                     Serializer serializer = SerializerServiceLoader.load(protocolType);
-                    rpcMessage.setBody(serializer.deserialize(bs));
+                    if (compressorType == CompressorType.NONE.getCode()) {
+                        // read the body in place, the frame is released only after decoding
+                        rpcMessage.setBody(serializer.deserialize(frame.readSlice(bodyLength)));
+                    } else {
+                        byte[] bs = new byte[bodyLength];
+                        frame.readBytes(bs);
+                        Compressor compressor = CompressorFactory.getCompressor(compressorType);
+                        bs = compressor.decompress(bs);
+                        rpcMessage.setBody(serializer.deserialize(bs));
+                    }
                 } else {
                     throw new IllegalArgumentException("SerializerType not match");
                 }
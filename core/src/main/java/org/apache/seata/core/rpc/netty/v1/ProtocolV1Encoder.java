@@ -22,6 +22,7 @@ import io.netty.handler.codec.MessageToByteEncoder;
 import org.apache.seata.core.serializer.Serializer;
 import org.apache.seata.core.compressor.Compressor;
 import org.apache.seata.core.compressor.CompressorFactory;
+import org.apache.seata.core.compressor.CompressorType;
 import org.apache.seata.core.protocol.ProtocolConstants;
 import org.apache.seata.core.protocol.RpcMessage;
 import org.apache.seata.core.serializer.SerializerServiceLoader;
@@ -89,19 +90,22 @@ public class ProtocolV1Encoder extends MessageToByteEncoder {
                     fullLength += headMapBytesLength;
                 }
 
-                byte[] bodyBytes = null;
                 if (messageType != ProtocolConstants.MSGTYPE_HEARTBEAT_REQUEST
                         && messageType != ProtocolConstants.MSGTYPE_HEARTBEAT_RESPONSE) {
                     // heartbeat has no body
                     Serializer serializer = SerializerServiceLoader.load(SerializerType.getByCode(rpcMessage.getCodec()));
-                    bodyBytes = serializer.serialize(rpcMessage.getBody());
-                    Compressor compressor = CompressorFactory.getCompressor(rpcMessage.getCompressor());
-                    bodyBytes = compressor.compress(bodyBytes);
-                    fullLength += bodyBytes.length;
-                }
-
-                if (bodyBytes != null) {
-                    out.writeBytes(bodyBytes);
+                    if (rpcMessage.getCompressor() == CompressorType.NONE.getCode()) {
+                        // nothing to compress, serialize straight into the out buffer
+                        int bodyIndex = out.writerIndex();
+                        serializer.serialize(rpcMessage.getBody(), out);
+                        fullLength += out.writerIndex() - bodyIndex;
+                    } else {
+                        byte[] bodyBytes = serializer.serialize(rpcMessage.getBody());
+                        Compressor compressor = CompressorFactory.getCompressor(rpcMessage.getCompressor());
+                        bodyBytes = compressor.compress(bodyBytes);
+                        fullLength += bodyBytes.length;
+                        out.writeBytes(bodyBytes);
+                    }
                 }
 
                 // fix fullLength and headLength
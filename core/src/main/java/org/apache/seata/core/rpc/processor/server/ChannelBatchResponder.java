@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.rpc.processor.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.netty.channel.Channel;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Coalesces the responses of the merged requests received on one channel.
+ * <p>
+ * The responses are appended to a lock-free multi-producer single-consumer queue and sent by the event loop of
+ * the channel, so no thread or monitor is shared between channels. The batch adapts to the load of the channel:
+ * the requests received but not answered yet are counted, and the queue is flushed right away once all of them
+ * are answered or {@code maxBatchSize} responses are queued. While more answers are expected, the flush waits
+ * at most {@code maxWaitMicros}. A single request is thus answered on the next event loop run, while the
+ * responses to a busy client go out together.
+ *
+ * @param <T> the queued response
+ */
+public class ChannelBatchResponder<T> {
+
+    /**
+     * Retry delay of a flush while the channel is not writable, the event loop must not block on it.
+     */
+    private static final long NOT_WRITABLE_RETRY_MICROS = 1000L;
+
+    private final Channel channel;
+
+    private final int maxBatchSize;
+
+    private final long maxWaitMicros;
+
+    private final Consumer<List<T>> sender;
+
+    private final Queue<T> queue = PlatformDependent.newMpscQueue();
+
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final AtomicBoolean delayedFlushScheduled = new AtomicBoolean();
+
+    /**
+     * Instantiates a new channel batch responder.
+     *
+     * @param channel       the channel the responses are sent to
+     * @param maxBatchSize  the max responses sent in one flush
+     * @param maxWaitMicros the max micros a response waits for the other in flight requests
+     * @param sender        sends the drained responses, called on the event loop of the channel
+     */
+    public ChannelBatchResponder(Channel channel, int maxBatchSize, long maxWaitMicros, Consumer<List<T>> sender) {
+        this.channel = channel;
+        this.maxBatchSize = Math.max(1, Math.min(maxBatchSize, Short.MAX_VALUE));
+        this.maxWaitMicros = maxWaitMicros;
+        this.sender = sender;
+    }
+
+    /**
+     * Count the requests received, their responses are expected to be offered.
+     *
+     * @param count the request count
+     */
+    public void requestsReceived(int count) {
+        inFlightCount.addAndGet(count);
+    }
+
+    /**
+     * Queue the response of a received request.
+     *
+     * @param response the response
+     */
+    public void offer(T response) {
+        queue.offer(response);
+        int pending = pendingCount.incrementAndGet();
+        int inFlight = inFlightCount.decrementAndGet();
+        if (inFlight <= 0 || pending >= maxBatchSize || maxWaitMicros <= 0) {
+            scheduleFlush();
+        } else if (delayedFlushScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().schedule(this::flush, maxWaitMicros, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    /**
+     * Stop waiting for the response of a received request, as handling it failed.
+     */
+    public void requestAbandoned() {
+        if (inFlightCount.decrementAndGet() <= 0 && pendingCount.get() > 0) {
+            scheduleFlush();
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(this::flush);
+        }
+    }
+
+    /**
+     * Send the queued responses, in batches of at most {@code maxBatchSize}.
+     */
+    void flush() {
+        flushScheduled.set(false);
+        delayedFlushScheduled.set(false);
+        if (!channel.isActive()) {
+            return;
+        }
+        if (!channel.isWritable()) {
+            if (delayedFlushScheduled.compareAndSet(false, true)) {
+                channel.eventLoop().schedule(this::flush, NOT_WRITABLE_RETRY_MICROS, TimeUnit.MICROSECONDS);
+            }
+            return;
+        }
+        while (!queue.isEmpty()) {
+            List<T> batch = new ArrayList<>(Math.min(pendingCount.get(), maxBatchSize));
+            T response;
+            while (batch.size() < maxBatchSize && (response = queue.poll()) != null) {
+                pendingCount.decrementAndGet();
+                batch.add(response);
+            }
+            sender.accept(batch);
+        }
+    }
+
+    /**
+     * Gets the number of requests received but not answered yet.
+     *
+     * @return the in flight count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    /**
+     * Gets the number of responses queued but not sent yet.
+     *
+     * @return the pending count
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+}
@@ -17,24 +17,18 @@
 package org.apache.seata.core.rpc.processor.server;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.seata.common.ConfigurationKeys;
-import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.NetUtil;
 import org.apache.seata.common.util.StringUtils;
@@ -91,29 +85,16 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
 
     private final TransactionMessageHandler transactionMessageHandler;
 
-    private ExecutorService batchResponseExecutorService;
-
-    private final ConcurrentMap<Channel, BlockingQueue<QueueItem>> basketMap = new ConcurrentHashMap<>();
-    protected final Object batchResponseLock = new Object();
-    private volatile boolean isResponding = false;
-    private static final int MAX_BATCH_RESPONSE_MILLS = 1;
-    private static final int MAX_BATCH_RESPONSE_THREAD = 1;
-    private static final long KEEP_ALIVE_TIME = Integer.MAX_VALUE;
-    private static final String BATCH_RESPONSE_THREAD_PREFIX = "rpcBatchResponse";
+    /**
+     * The batch responses of each channel, sent on the event loop of the channel.
+     */
+    private final ConcurrentMap<Channel, ChannelBatchResponder<QueueItem>> responderMap = new ConcurrentHashMap<>();
     private static final boolean PARALLEL_REQUEST_HANDLE =
         ConfigurationFactory.getInstance().getBoolean(ConfigurationKeys.ENABLE_PARALLEL_REQUEST_HANDLE_KEY, true);
 
     public ServerOnRequestProcessor(RemotingServer remotingServer, TransactionMessageHandler transactionMessageHandler) {
         this.remotingServer = remotingServer;
         this.transactionMessageHandler = transactionMessageHandler;
-        if (NettyServerConfig.isEnableTcServerBatchSendResponse()) {
-            batchResponseExecutorService = new ThreadPoolExecutor(MAX_BATCH_RESPONSE_THREAD,
-                MAX_BATCH_RESPONSE_THREAD,
-                KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<>(),
-                new NamedThreadFactory(BATCH_RESPONSE_THREAD_PREFIX, MAX_BATCH_RESPONSE_THREAD));
-            batchResponseExecutorService.submit(new BatchResponseRunnable());
-        }
     }
 
     @Override
@@ -138,9 +119,7 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
 
     @Override
     public void destroy() {
-        if (batchResponseExecutorService != null) {
-            batchResponseExecutorService.shutdown();
-        }
+        responderMap.clear();
     }
 
     private void onRequestMessage(ChannelHandlerContext ctx, RpcMessage rpcMessage) {
@@ -156,6 +135,7 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
                 && Version.isAboveOrEqualVersion150(rpcContext.getVersion())) {
                 List<AbstractMessage> msgs = ((MergedWarpMessage)message).msgs;
                 List<Integer> msgIds = ((MergedWarpMessage)message).msgIds;
+                computeIfAbsentResponder(ctx.channel()).requestsReceived(msgs.size());
                 for (int i = 0; i < msgs.size(); i++) {
                     AbstractMessage msg = msgs.get(i);
                     int msgId = msgIds.get(i);
@@ -213,66 +193,44 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
         }
     }
 
-    private void notifyBatchRespondingThread() {
-        if (!isResponding) {
-            synchronized (batchResponseLock) {
-                batchResponseLock.notifyAll();
-            }
-        }
-    }
-
-    private BlockingQueue<QueueItem> computeIfAbsentMsgQueue(Channel channel) {
-        return CollectionUtils.computeIfAbsent(basketMap, channel, key -> new LinkedBlockingQueue<>());
-    }
-
-    private void offerMsg(BlockingQueue<QueueItem> msgQueue, RpcMessage rpcMessage,
-                          AbstractResultMessage resultMessage, int msgId, Channel channel) {
-        if (!msgQueue.offer(new QueueItem(resultMessage, msgId, rpcMessage))) {
-            LOGGER.error("put message into basketMap offer failed, channel:{},rpcMessage:{},resultMessage:{}",
-                channel, rpcMessage, resultMessage);
+    private ChannelBatchResponder<QueueItem> computeIfAbsentResponder(Channel channel) {
+        ChannelBatchResponder<QueueItem> responder = responderMap.get(channel);
+        if (responder != null) {
+            return responder;
         }
+        return CollectionUtils.computeIfAbsent(responderMap, channel, key -> {
+            channel.closeFuture().addListener(future -> responderMap.remove(channel));
+            return new ChannelBatchResponder<>(channel, NettyServerConfig.getTcServerBatchMaxSize(),
+                NettyServerConfig.getTcServerBatchMaxWaitMicros(), items -> sendBatchResponse(channel, items));
+        });
     }
 
     /**
-     * batch response runnable
+     * Send the responses drained from the channel responder, called on the event loop of the channel.
      *
+     * @param channel the channel
+     * @param items   the responses
      * @since 1.5.0
      */
-    private class BatchResponseRunnable implements Runnable {
-        @Override
-        public void run() {
-            while (true) {
-                synchronized (batchResponseLock) {
-                    try {
-                        batchResponseLock.wait(MAX_BATCH_RESPONSE_MILLS);
-                    } catch (InterruptedException e) {
-                        LOGGER.error("BatchResponseRunnable Interrupted error", e);
-                    }
-                }
-                isResponding = true;
-                basketMap.forEach((channel, msgQueue) -> {
-                    if (msgQueue.isEmpty()) {
-                        return;
-                    }
-                    // Because the [serialization,compressor,rpcMessageId,headMap] of the response
-                    // needs to be the same as the [serialization,compressor,rpcMessageId,headMap] of the request.
-                    // Assemble by grouping according to the [serialization,compressor,rpcMessageId,headMap] dimensions.
-                    Map<ClientRequestRpcInfo, BatchResultMessage> batchResultMessageMap = new HashMap<>();
-                    while (!msgQueue.isEmpty()) {
-                        QueueItem item = msgQueue.poll();
-                        BatchResultMessage batchResultMessage = CollectionUtils.computeIfAbsent(batchResultMessageMap,
-                            new ClientRequestRpcInfo(item.getRpcMessage()),
-                            key -> new BatchResultMessage());
-                        batchResultMessage.getResultMessages().add(item.getResultMessage());
-                        batchResultMessage.getMsgIds().add(item.getMsgId());
-                    }
-                    batchResultMessageMap.forEach((clientRequestRpcInfo, batchResultMessage) ->
-                        remotingServer.sendAsyncResponse(buildRpcMessage(clientRequestRpcInfo),
-                            channel, batchResultMessage));
-                });
-                isResponding = false;
-            }
+    private void sendBatchResponse(Channel channel, List<QueueItem> items) {
+        // Because the [serialization,compressor,rpcMessageId,headMap] of the response
+        // needs to be the same as the [serialization,compressor,rpcMessageId,headMap] of the request.
+        // Assemble by grouping according to the [serialization,compressor,rpcMessageId,headMap] dimensions.
+        Map<ClientRequestRpcInfo, BatchResultMessage> batchResultMessageMap = new LinkedHashMap<>();
+        for (QueueItem item : items) {
+            BatchResultMessage batchResultMessage = CollectionUtils.computeIfAbsent(batchResultMessageMap,
+                new ClientRequestRpcInfo(item.getRpcMessage()),
+                key -> new BatchResultMessage());
+            batchResultMessage.getResultMessages().add(item.getResultMessage());
+            batchResultMessage.getMsgIds().add(item.getMsgId());
         }
+        batchResultMessageMap.forEach((clientRequestRpcInfo, batchResultMessage) -> {
+            try {
+                remotingServer.sendAsyncResponse(buildRpcMessage(clientRequestRpcInfo), channel, batchResultMessage);
+            } catch (RuntimeException e) {
+                LOGGER.error("send batch response failed, channel:{}, error:{}", channel, e.getMessage(), e);
+            }
+        });
     }
 
     /**
@@ -309,10 +267,16 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
                 NetUtil.toIpAddress(ctx.channel().remoteAddress()), rpcContext.getTransactionServiceGroup());
             BatchLogHandler.INSTANCE.writeLog(receiveMsgLog);
         }
-        AbstractResultMessage resultMessage = transactionMessageHandler.onRequest(msg, rpcContext);
-        BlockingQueue<QueueItem> msgQueue = computeIfAbsentMsgQueue(ctx.channel());
-        offerMsg(msgQueue, rpcMessage, resultMessage, msgId, ctx.channel());
-        notifyBatchRespondingThread();
+        ChannelBatchResponder<QueueItem> responder = computeIfAbsentResponder(ctx.channel());
+        AbstractResultMessage resultMessage;
+        try {
+            resultMessage = transactionMessageHandler.onRequest(msg, rpcContext);
+        } catch (RuntimeException e) {
+            // no response is coming, do not hold back the others
+            responder.requestAbandoned();
+            throw e;
+        }
+        responder.offer(new QueueItem(resultMessage, msgId, rpcMessage));
         if (LOGGER.isInfoEnabled()) {
             String resultMsgLog = String.format("result msg[merged]: %s, clientIp: %s, vgroup: %s", resultMessage,
                 NetUtil.toIpAddress(ctx.channel().remoteAddress()), rpcContext.getTransactionServiceGroup());
@@ -425,7 +389,7 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
     /**
      * the queue item
      *
-     * @see ServerOnRequestProcessor#basketMap
+     * @see ServerOnRequestProcessor#responderMap
      */
     private static class QueueItem {
 
@@ -16,6 +16,8 @@
  */
 package org.apache.seata.core.serializer;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * The interface Codec.
  *
@@ -39,4 +41,32 @@ public interface Serializer {
      * @return the t
      */
     <T> T deserialize(byte[] bytes);
+
+    /**
+     * Encode object into the buffer, starting at its writer index.
+     * The default copies the result of {@link #serialize(Object)}, serializers able to write into the buffer
+     * directly should override it.
+     *
+     * @param <T> the type parameter
+     * @param t   the t
+     * @param out the out
+     */
+    default <T> void serialize(T t, ByteBuf out) {
+        out.writeBytes(serialize(t));
+    }
+
+    /**
+     * Decode t from the readable bytes of the buffer, which are all consumed.
+     * The default copies them to a byte[] for {@link #deserialize(byte[])}, serializers able to read the buffer
+     * directly should override it.
+     *
+     * @param <T> the type parameter
+     * @param in  the in
+     * @return the t
+     */
+    default <T> T deserialize(ByteBuf in) {
+        byte[] bytes = new byte[in.readableBytes()];
+        in.readBytes(bytes);
+        return deserialize(bytes);
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.seata.core.store;
 
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -50,6 +51,19 @@ public interface LogStore {
      */
     List<GlobalTransactionDO> queryGlobalTransactionDO(int[] status, int limit);
 
+    /**
+     * Query global transaction do list by status, ordered by gmt modified then xid, after a row of that order.
+     *
+     * @param status          the status
+     * @param fromGmtModified the gmt modified of the row to read after
+     * @param fromXid         the xid of the row to read after
+     * @param maxGmtModified  the max gmt modified, inclusive
+     * @param limit           the limit
+     * @return the list
+     */
+    List<GlobalTransactionDO> queryGlobalTransactionDO(int[] status, Date fromGmtModified, String fromXid,
+        Date maxGmtModified, int limit);
+
     /**
      * Insert global transaction do boolean.
      *
@@ -74,6 +74,12 @@ public class AbstractLockStoreSql implements LockStoreSql {
             + ServerTableColumnsName.LOCK_TABLE_ROW_KEY + ", " + ServerTableColumnsName.LOCK_TABLE_GMT_CREATE + ", "
             + ServerTableColumnsName.LOCK_TABLE_GMT_MODIFIED + "," + ServerTableColumnsName.LOCK_TABLE_STATUS;
 
+    /**
+     * The constant BATCH_INSERT_LOCK_SQL, followed by the values of each row.
+     */
+    private static final String BATCH_INSERT_LOCK_SQL = "insert into " + LOCK_TABLE_PLACE_HOLD + "(" + ALL_COLUMNS + ")"
+        + " values ";
+
     /**
      * The constant DELETE_LOCK_SQL.
      */
@@ -175,6 +181,25 @@ public class AbstractLockStoreSql implements LockStoreSql {
         return BATCH_UPDATE_STATUS_LOCK_BY_GLOBAL_SQL.replace(LOCK_TABLE_PLACE_HOLD, lockTable);
     }
 
+    /**
+     * Build the sql string inserting several locks in one statement.
+     *
+     * @param lockTable the lock table
+     * @param rowSize   the size of the inserted locks
+     * @param rowValues the values of one row, like "(?, ?, ?, ?, ?, ?, ?, now(), now(), ?)"
+     * @return the string
+     */
+    protected String buildBatchInsertLockSql(String lockTable, int rowSize, String rowValues) {
+        StringBuilder sql = new StringBuilder(BATCH_INSERT_LOCK_SQL.replace(LOCK_TABLE_PLACE_HOLD, lockTable));
+        for (int i = 0; i < rowSize; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowValues);
+        }
+        return sql.toString();
+    }
+
     /**
      * each pk is a condition.the result will like :" (id,userCode) in ((?,?),(?,?)) or (id,userCode) in ((?,?),(?,?)
      * ) or (id,userCode) in ((?,?))"
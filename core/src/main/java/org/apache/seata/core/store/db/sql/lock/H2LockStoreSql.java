@@ -26,15 +26,25 @@ import org.apache.seata.common.loader.LoadLevel;
 @LoadLevel(name = "h2")
 public class H2LockStoreSql extends AbstractLockStoreSql {
 
+    /**
+     * The constant LOCK_ROW_VALUES_H2.
+     */
+    private static final String LOCK_ROW_VALUES_H2 = "(?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+
     /**
      * The constant INSERT_LOCK_SQL_H2.
      */
     private static final String INSERT_LOCK_SQL_H2 = "insert into " + LOCK_TABLE_PLACE_HOLD + "(" + ALL_COLUMNS + ")"
-        + " values (?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+        + " values " + LOCK_ROW_VALUES_H2;
 
     @Override
     public String getInsertLockSQL(String lockTable) {
         return INSERT_LOCK_SQL_H2.replace(LOCK_TABLE_PLACE_HOLD, lockTable);
     }
 
+    @Override
+    public String getBatchInsertLockSql(String lockTable, int rowSize) {
+        return buildBatchInsertLockSql(lockTable, rowSize, LOCK_ROW_VALUES_H2);
+    }
+
 }
@@ -40,6 +40,17 @@ public interface LockStoreSql {
      */
     String getInsertLockSQL(String lockTable);
 
+    /**
+     * Get the sql string inserting several locks in one statement.
+     *
+     * @param lockTable the lock table
+     * @param rowSize   the size of the inserted locks
+     * @return the string, null if the database does not support a multi-row insert
+     */
+    default String getBatchInsertLockSql(String lockTable, int rowSize) {
+        return null;
+    }
+
     /**
      * Get delete lock sql string.
      *
@@ -26,15 +26,25 @@ import org.apache.seata.common.loader.LoadLevel;
 @LoadLevel(name = "mysql")
 public class MysqlLockStoreSql extends AbstractLockStoreSql {
 
+    /**
+     * The constant LOCK_ROW_VALUES_MYSQL.
+     */
+    private static final String LOCK_ROW_VALUES_MYSQL = "(?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+
     /**
      * The constant INSERT_LOCK_SQL_MYSQL.
      */
     private static final String INSERT_LOCK_SQL_MYSQL = "insert into " + LOCK_TABLE_PLACE_HOLD + "(" + ALL_COLUMNS + ")"
-        + " values (?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+        + " values " + LOCK_ROW_VALUES_MYSQL;
 
     @Override
     public String getInsertLockSQL(String lockTable) {
         return INSERT_LOCK_SQL_MYSQL.replace(LOCK_TABLE_PLACE_HOLD, lockTable);
     }
 
+    @Override
+    public String getBatchInsertLockSql(String lockTable, int rowSize) {
+        return buildBatchInsertLockSql(lockTable, rowSize, LOCK_ROW_VALUES_MYSQL);
+    }
+
 }
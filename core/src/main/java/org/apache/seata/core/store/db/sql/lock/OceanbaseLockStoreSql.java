@@ -26,14 +26,24 @@ import org.apache.seata.common.loader.LoadLevel;
 @LoadLevel(name = "oceanbase")
 public class OceanbaseLockStoreSql extends AbstractLockStoreSql {
 
+    /**
+     * The constant LOCK_ROW_VALUES_OCEANBASE.
+     */
+    private static final String LOCK_ROW_VALUES_OCEANBASE = "(?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+
     /**
      * The constant INSERT_LOCK_SQL_OCEANBASE.
      */
     private static final String INSERT_LOCK_SQL_OCEANBASE = "insert into " + LOCK_TABLE_PLACE_HOLD + "(" + ALL_COLUMNS + ")"
-        + " values (?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+        + " values " + LOCK_ROW_VALUES_OCEANBASE;
 
     @Override
     public String getInsertLockSQL(String lockTable) {
         return INSERT_LOCK_SQL_OCEANBASE.replace(LOCK_TABLE_PLACE_HOLD, lockTable);
     }
+
+    @Override
+    public String getBatchInsertLockSql(String lockTable, int rowSize) {
+        return buildBatchInsertLockSql(lockTable, rowSize, LOCK_ROW_VALUES_OCEANBASE);
+    }
 }
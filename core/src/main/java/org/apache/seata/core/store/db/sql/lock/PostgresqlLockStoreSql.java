@@ -26,15 +26,25 @@ import org.apache.seata.common.loader.LoadLevel;
 @LoadLevel(name = "postgresql")
 public class PostgresqlLockStoreSql extends AbstractLockStoreSql {
 
+    /**
+     * The constant LOCK_ROW_VALUES_POSTGRESQL.
+     */
+    private static final String LOCK_ROW_VALUES_POSTGRESQL = "(?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+
     /**
      * The constant INSERT_LOCK_SQL_POSTGRESQL.
      */
     private static final String INSERT_LOCK_SQL_POSTGRESQL = "insert into " + LOCK_TABLE_PLACE_HOLD + "(" + ALL_COLUMNS + ")"
-        + " values (?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+        + " values " + LOCK_ROW_VALUES_POSTGRESQL;
 
     @Override
     public String getInsertLockSQL(String lockTable) {
         return INSERT_LOCK_SQL_POSTGRESQL.replace(LOCK_TABLE_PLACE_HOLD, lockTable);
     }
 
+    @Override
+    public String getBatchInsertLockSql(String lockTable, int rowSize) {
+        return buildBatchInsertLockSql(lockTable, rowSize, LOCK_ROW_VALUES_POSTGRESQL);
+    }
+
 }
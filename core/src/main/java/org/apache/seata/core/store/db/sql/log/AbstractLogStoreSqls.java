@@ -179,6 +179,10 @@ public abstract class AbstractLogStoreSqls implements LogStoreSqls {
     @Override
     public abstract String getQueryGlobalTransactionSQLByStatus(String globalTable, String paramsPlaceHolder);
 
+    @Override
+    public abstract String getQueryGlobalTransactionSQLByStatusAndGmtModified(String globalTable,
+        String paramsPlaceHolder);
+
     @Override
     public abstract String getQueryGlobalTransactionForRecoverySQL(String globalTable);
 
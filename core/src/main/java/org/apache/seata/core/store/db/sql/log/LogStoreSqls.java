@@ -96,6 +96,17 @@ public interface LogStoreSqls {
      */
     String getQueryGlobalTransactionSQLByStatus(String globalTable, String paramsPlaceHolder);
 
+    /**
+     * Get query global transaction sql by status and gmt modified range string, ordered by gmt modified then xid.
+     * The parameters are the statuses, the gmt modified, the gmt modified and the xid of the row to read after,
+     * the max gmt modified, inclusive, and the limit.
+     *
+     * @param globalTable       the global table
+     * @param paramsPlaceHolder the params place holder
+     * @return the string
+     */
+    String getQueryGlobalTransactionSQLByStatusAndGmtModified(String globalTable, String paramsPlaceHolder);
+
     /**
      * Get query global transaction for recovery sql string.
      *
@@ -57,6 +57,22 @@ public class OracleLogStoreSqls extends AbstractLogStoreSqls {
             + " ) A"
             + " where ROWNUM <= ?";
 
+    /**
+     * The constant QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_ORACLE.
+     */
+    public static final String QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_ORACLE = "select A.* from ("
+            + " select " + ALL_GLOBAL_COLUMNS
+            + "   from " + GLOBAL_TABLE_PLACEHOLD
+            + "  where " + ServerTableColumnsName.GLOBAL_TABLE_STATUS + " in (" + PRAMETER_PLACEHOLD + ")"
+            + "    and (" + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " > ?"
+            + "         or (" + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " = ?"
+            + "             and " + ServerTableColumnsName.GLOBAL_TABLE_XID + " > ?))"
+            + "    and " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " <= ?"
+            + "  order by " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED
+            + ", " + ServerTableColumnsName.GLOBAL_TABLE_XID
+            + " ) A"
+            + " where ROWNUM <= ?";
+
     /**
      * The constant QUERY_GLOBAL_TRANSACTION_FOR_RECOVERY_ORACLE.
      */
@@ -114,6 +130,12 @@ public class OracleLogStoreSqls extends AbstractLogStoreSqls {
             .replace(PRAMETER_PLACEHOLD, paramsPlaceHolder);
     }
 
+    @Override
+    public String getQueryGlobalTransactionSQLByStatusAndGmtModified(String globalTable, String paramsPlaceHolder) {
+        return QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_ORACLE.replace(GLOBAL_TABLE_PLACEHOLD, globalTable)
+            .replace(PRAMETER_PLACEHOLD, paramsPlaceHolder);
+    }
+
     @Override
     public String getQueryGlobalTransactionForRecoverySQL(String globalTable) {
         return QUERY_GLOBAL_TRANSACTION_FOR_RECOVERY_ORACLE.replace(GLOBAL_TABLE_PLACEHOLD, globalTable);
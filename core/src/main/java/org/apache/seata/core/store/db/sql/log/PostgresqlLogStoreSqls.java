@@ -56,6 +56,21 @@ public class PostgresqlLogStoreSqls extends AbstractLogStoreSqls {
         + " order by " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED
         + " limit ?";
 
+    /**
+     * The constant QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_POSTGRESQL.
+     */
+    public static final String QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_POSTGRESQL = "select "
+        + ALL_GLOBAL_COLUMNS
+        + "  from " + GLOBAL_TABLE_PLACEHOLD
+        + " where " + ServerTableColumnsName.GLOBAL_TABLE_STATUS + " in (" + PRAMETER_PLACEHOLD + ")"
+        + "   and (" + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " > ?"
+        + "        or (" + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " = ?"
+        + "            and " + ServerTableColumnsName.GLOBAL_TABLE_XID + " > ?))"
+        + "   and " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " <= ?"
+        + " order by " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED
+        + ", " + ServerTableColumnsName.GLOBAL_TABLE_XID
+        + " limit ?";
+
     /**
      * The constant QUERY_GLOBAL_TRANSACTION_FOR_RECOVERY_POSTGRESQL.
      */
@@ -112,6 +127,12 @@ public class PostgresqlLogStoreSqls extends AbstractLogStoreSqls {
             .replace(PRAMETER_PLACEHOLD, paramsPlaceHolder);
     }
 
+    @Override
+    public String getQueryGlobalTransactionSQLByStatusAndGmtModified(String globalTable, String paramsPlaceHolder) {
+        return QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_POSTGRESQL.replace(GLOBAL_TABLE_PLACEHOLD, globalTable)
+            .replace(PRAMETER_PLACEHOLD, paramsPlaceHolder);
+    }
+
     @Override
     public String getQueryGlobalTransactionForRecoverySQL(String globalTable) {
         return QUERY_GLOBAL_TRANSACTION_FOR_RECOVERY_POSTGRESQL.replace(GLOBAL_TABLE_PLACEHOLD, globalTable);
@@ -54,6 +54,20 @@ public class SqlServerLogStoreSqls extends AbstractLogStoreSqls {
             + " where " + ServerTableColumnsName.GLOBAL_TABLE_STATUS + " in (" + PRAMETER_PLACEHOLD + ")"
             + " order by " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED;
 
+    /**
+     * The constant QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_SQLSERVER, the limit is the first parameter.
+     */
+    public static final String QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_SQLSERVER = "select top (?) "
+            + ALL_GLOBAL_COLUMNS
+            + "  from " + GLOBAL_TABLE_PLACEHOLD
+            + " where " + ServerTableColumnsName.GLOBAL_TABLE_STATUS + " in (" + PRAMETER_PLACEHOLD + ")"
+            + "   and (" + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " > ?"
+            + "        or (" + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " = ?"
+            + "            and " + ServerTableColumnsName.GLOBAL_TABLE_XID + " > ?))"
+            + "   and " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " <= ?"
+            + " order by " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED
+            + ", " + ServerTableColumnsName.GLOBAL_TABLE_XID;
+
     /**
      * The constant QUERY_GLOBAL_TRANSACTION_FOR_RECOVERY_SQLSERVER.
      */
@@ -106,6 +120,12 @@ public class SqlServerLogStoreSqls extends AbstractLogStoreSqls {
                 .replace(PRAMETER_PLACEHOLD, paramsPlaceHolder);
     }
 
+    @Override
+    public String getQueryGlobalTransactionSQLByStatusAndGmtModified(String globalTable, String paramsPlaceHolder) {
+        return QUERY_GLOBAL_TRANSACTION_BY_STATUS_AND_GMT_MODIFIED_SQLSERVER.replace(GLOBAL_TABLE_PLACEHOLD,
+            globalTable).replace(PRAMETER_PLACEHOLD, paramsPlaceHolder);
+    }
+
     @Override
     public String getQueryGlobalTransactionForRecoverySQL(String globalTable) {
         return QUERY_GLOBAL_TRANSACTION_FOR_RECOVERY_SQLSERVER.replace(GLOBAL_TABLE_PLACEHOLD, globalTable);
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.lock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The LockKeyCodec Test
+ */
+public class LockKeyCodecTest {
+
+    @Test
+    public void testRoundTrip() {
+        String lockKeys = "t_order:1,-2,9223372036854775807,9223372036854775808;t_user:a_1,007_-0,__,1_中文;t_order:3";
+        byte[] bytes = LockKeyCodec.encode(lockKeys);
+        Assertions.assertTrue(LockKeyCodec.isBinary(bytes));
+        Assertions.assertFalse(LockKeyCodec.isBinary(lockKeys.getBytes(StandardCharsets.UTF_8)));
+
+        List<String> rows = new ArrayList<>();
+        LockKeyCodec.decode(bytes, (tableName, pk) -> rows.add(tableName + ":" + pk));
+        Assertions.assertEquals(9, rows.size());
+        Assertions.assertEquals("t_order:-2", rows.get(1));
+        Assertions.assertEquals("t_order:9223372036854775808", rows.get(3));
+        Assertions.assertEquals("t_user:007_-0", rows.get(5));
+        Assertions.assertEquals("t_user:__", rows.get(6));
+        Assertions.assertEquals("t_user:1_中文", rows.get(7));
+        Assertions.assertEquals(lockKeys, LockKeyCodec.toText(bytes));
+    }
+
+    @Test
+    public void testSmallerThanText() {
+        StringBuilder lockKeys = new StringBuilder("t_order:");
+        for (long i = 0; i < 1000; i++) {
+            if (i > 0) {
+                lockKeys.append(",");
+            }
+            lockKeys.append(1_000_000_000_000L + i);
+        }
+        byte[] bytes = LockKeyCodec.encode(lockKeys.toString());
+        Assertions.assertTrue(bytes.length < lockKeys.length() * 2 / 3);
+        Assertions.assertEquals(lockKeys.toString(), LockKeyCodec.toText(bytes));
+    }
+
+    @Test
+    public void testReadAsTheServerReadsText() {
+        // blank pks are skipped, and nothing is read after a group without pk
+        Assertions.assertEquals("t_order:1,2", LockKeyCodec.toText(LockKeyCodec.encode("t_order:1, ,2;t_user:;t_stock:1")));
+        Assertions.assertEquals("", LockKeyCodec.toText(LockKeyCodec.encode("no_table")));
+        Assertions.assertEquals("t_order:1,2", LockKeyCodec.toText(LockKeyCodec.encode("t_order:1,,2,;")));
+        Assertions.assertEquals("t_order:1", LockKeyCodec.toText(LockKeyCodec.encode("t_order:1;;t_user:2")));
+    }
+
+    @Test
+    public void testCorrupted() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LockKeyCodec.decode("t:1".getBytes(StandardCharsets.UTF_8), (tableName, pk) -> { }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LockKeyCodec.decode(new byte[] {LockKeyCodec.MAGIC, 9}, (tableName, pk) -> { }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LockKeyCodec.decode(new byte[] {LockKeyCodec.MAGIC, 1, 100}, (tableName, pk) -> { }));
+    }
+}
@@ -21,7 +21,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -167,6 +169,21 @@ public class MessageFutureTest {
         });
     }
 
+    @Test
+    public void testAsCompletableFuture() throws Exception {
+        MessageFuture messageFuture = new MessageFuture();
+        CompletableFuture<Object> future = messageFuture.asCompletableFuture();
+        Assertions.assertFalse(future.isDone());
+        messageFuture.setResultMessage(BODY_FIELD);
+        Assertions.assertEquals(BODY_FIELD, future.get());
+
+        MessageFuture timeoutFuture = new MessageFuture();
+        CompletableFuture<Object> failed = timeoutFuture.asCompletableFuture();
+        timeoutFuture.setResultMessage(new TimeoutException("test_timeout"));
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, failed::get);
+        assertThat(e.getCause()).isInstanceOf(TimeoutException.class);
+    }
+
     /**
      * Test get has result with throwable with message.
      *
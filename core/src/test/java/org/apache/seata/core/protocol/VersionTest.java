@@ -34,6 +34,14 @@ public class VersionTest {
         Assertions.assertFalse(Version.isAboveOrEqualVersion150("abd"));
     }
 
+    @Test
+    public void isAboveOrEqualVersion210() {
+        Assertions.assertTrue(Version.isAboveOrEqualVersion210("2.1.0"));
+        Assertions.assertTrue(Version.isAboveOrEqualVersion210("2.1.0-SNAPSHOT"));
+        Assertions.assertFalse(Version.isAboveOrEqualVersion210("2.0.0"));
+        Assertions.assertFalse(Version.isAboveOrEqualVersion210(""));
+    }
+
     @Test
     public void testConvertVersion() {
         // case: success
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.rpc.netty;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.seata.common.exception.FrameworkErrorCode;
+import org.apache.seata.common.exception.FrameworkException;
+import org.apache.seata.core.protocol.ProtocolConstants;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.GlobalStatusRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * The requests of these tests are sent without a response future scan, so only the timer times them out.
+ */
+public class AbstractNettyRemotingTest {
+
+    private TestRemoting remoting;
+
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    public void setUp() {
+        remoting = new TestRemoting();
+        channel = new EmbeddedChannel();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+        remoting.destroy();
+    }
+
+    @Test
+    public void testAsyncResponse() throws Exception {
+        RpcMessage rpcMessage = newRequest();
+        CompletableFuture<Object> future = remoting.sendAsyncWithResponse(channel, rpcMessage, 30000);
+        Assertions.assertSame(rpcMessage, channel.readOutbound());
+        Assertions.assertEquals(1, timerQueueSize());
+
+        remoting.getFutures().remove(rpcMessage.getId()).setResultMessage("response");
+        Assertions.assertEquals("response", future.get(1, TimeUnit.SECONDS));
+        // the timeout task of the request is cancelled and removed from the timer
+        Assertions.assertEquals(0, timerQueueSize());
+    }
+
+    @Test
+    public void testAsyncTimeout() {
+        RpcMessage rpcMessage = newRequest();
+        CompletableFuture<Object> future = remoting.sendAsyncWithResponse(channel, rpcMessage, 50);
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof TimeoutException);
+        Assertions.assertTrue(remoting.getFutures().isEmpty());
+        Assertions.assertEquals(0, timerQueueSize());
+    }
+
+    @Test
+    public void testAsyncNotWritable() {
+        Channel notWritable = Mockito.mock(Channel.class);
+        Mockito.when(notWritable.isWritable()).thenReturn(false);
+        RpcMessage rpcMessage = newRequest();
+        CompletableFuture<Object> future = remoting.sendAsyncWithResponse(notWritable, rpcMessage, 30000);
+        // failed at once, nothing is written and nothing is left to time out
+        Assertions.assertTrue(future.isCompletedExceptionally());
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertTrue(exception.getCause() instanceof FrameworkException);
+        Assertions.assertEquals(FrameworkErrorCode.ChannelIsNotWritable,
+            ((FrameworkException)exception.getCause()).getErrcode());
+        Mockito.verify(notWritable, Mockito.never()).writeAndFlush(Mockito.any());
+        Assertions.assertTrue(remoting.getFutures().isEmpty());
+        Assertions.assertEquals(0, timerQueueSize());
+    }
+
+    private int timerQueueSize() {
+        return ((ScheduledThreadPoolExecutor)remoting.timerExecutor).getQueue().size();
+    }
+
+    private RpcMessage newRequest() {
+        GlobalStatusRequest request = new GlobalStatusRequest();
+        request.setXid("127.0.0.1:8091:1");
+        return remoting.buildRequestMessage(request, ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
+    }
+
+    private static class TestRemoting extends AbstractNettyRemoting {
+
+        TestRemoting() {
+            super(new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()));
+        }
+
+        @Override
+        public void destroyChannel(String serverAddress, Channel channel) {
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.rpc.netty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.seata.core.protocol.MergedWarpMessage;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Client batch sender test.
+ */
+public class ClientBatchSenderTest {
+
+    private EmbeddedChannel channel;
+
+    private List<MergedWarpMessage> sent;
+
+    private List<RpcMessage> discarded;
+
+    @BeforeEach
+    public void setUp() {
+        channel = new EmbeddedChannel();
+        sent = new ArrayList<>();
+        discarded = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testMergeOnEventLoop() {
+        ClientBatchSender batchSender = new ClientBatchSender(channel, 128, 0, sent::add, discarded::add);
+        for (int i = 1; i <= 3; i++) {
+            batchSender.offer(newRequest(i));
+        }
+        // nothing is sent before the event loop runs
+        Assertions.assertTrue(sent.isEmpty());
+        Assertions.assertEquals(3, batchSender.getPendingCount());
+
+        channel.runPendingTasks();
+        Assertions.assertEquals(1, sent.size());
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), sent.get(0).msgIds);
+        Assertions.assertEquals(3, sent.get(0).msgs.size());
+        Assertions.assertEquals(0, batchSender.getPendingCount());
+        Assertions.assertEquals(1, batchSender.getBatchCount());
+        Assertions.assertEquals(3, batchSender.getRequestCount());
+        Assertions.assertEquals(3, batchSender.getMaxSentBatchSize());
+        Assertions.assertTrue(batchSender.getQueueDelayNanos() >= batchSender.getMaxQueueDelayNanos());
+
+        // a request after the flush schedules the next one
+        batchSender.offer(newRequest(4));
+        channel.runPendingTasks();
+        Assertions.assertEquals(2, sent.size());
+        Assertions.assertEquals(Arrays.asList(4), sent.get(1).msgIds);
+    }
+
+    @Test
+    public void testMaxBatchSize() {
+        ClientBatchSender batchSender = new ClientBatchSender(channel, 2, 0, sent::add, discarded::add);
+        for (int i = 1; i <= 5; i++) {
+            batchSender.offer(newRequest(i));
+        }
+        channel.runPendingTasks();
+        Assertions.assertEquals(3, sent.size());
+        Assertions.assertEquals(Arrays.asList(1, 2), sent.get(0).msgIds);
+        Assertions.assertEquals(Arrays.asList(3, 4), sent.get(1).msgIds);
+        Assertions.assertEquals(Arrays.asList(5), sent.get(2).msgIds);
+        Assertions.assertEquals(3, batchSender.getBatchCount());
+        Assertions.assertEquals(5, batchSender.getRequestCount());
+        Assertions.assertEquals(2, batchSender.getMaxSentBatchSize());
+    }
+
+    @Test
+    public void testMaxWait() throws InterruptedException {
+        ClientBatchSender batchSender = new ClientBatchSender(channel, 128, 50_000, sent::add, discarded::add);
+        batchSender.offer(newRequest(1));
+        batchSender.offer(newRequest(2));
+        channel.runPendingTasks();
+        Assertions.assertTrue(sent.isEmpty());
+
+        Thread.sleep(100);
+        channel.runPendingTasks();
+        Assertions.assertEquals(1, sent.size());
+        Assertions.assertEquals(Arrays.asList(1, 2), sent.get(0).msgIds);
+    }
+
+    @Test
+    public void testDiscardOnClose() {
+        ClientBatchSender batchSender = new ClientBatchSender(channel, 128, 50_000, sent::add, discarded::add);
+        batchSender.offer(newRequest(1));
+        batchSender.offer(newRequest(2));
+        channel.close();
+        // as the close listener of the client does
+        batchSender.flush();
+        Assertions.assertTrue(sent.isEmpty());
+        Assertions.assertEquals(2, discarded.size());
+        Assertions.assertEquals(1, discarded.get(0).getId());
+        Assertions.assertEquals(2, discarded.get(1).getId());
+        Assertions.assertEquals(0, batchSender.getPendingCount());
+    }
+
+    private static RpcMessage newRequest(int id) {
+        BranchRegisterRequest request = new BranchRegisterRequest();
+        request.setXid("127.0.0.1:8091:" + id);
+        RpcMessage rpcMessage = new RpcMessage();
+        rpcMessage.setId(id);
+        rpcMessage.setBody(request);
+        return rpcMessage;
+    }
+}
@@ -16,11 +16,15 @@
  */
 package org.apache.seata.core.rpc.netty;
 
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.exception.FrameworkException;
 import org.apache.seata.config.ConfigurationCache;
 import org.apache.seata.core.model.Resource;
 import org.apache.seata.core.model.ResourceManager;
+import org.apache.seata.core.protocol.Version;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -30,6 +34,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -93,6 +99,64 @@ class RmNettyClientTest {
         Assertions.assertThrows(FrameworkException.class, newClient::init);
     }
     
+    @Test
+    public void testBinaryLockKeyByServerVersion() {
+        RmNettyRemotingClient client = RmNettyRemotingClient.getInstance("binary_lock_key", "default_tx_group");
+        Channel oldServer = mockChannel(18091, "2.0.0");
+        Channel newServer = mockChannel(18092, "2.1.0");
+        Channel unknownServer = mockChannel(18093, null);
+
+        BranchRegisterRequest request = newBranchRegisterRequest();
+        client.prepareRequest(newServer, request);
+        Assertions.assertNotNull(request.getBinaryLockKey());
+
+        // the older or unknown servers would read the binary lock key as text and lose the row locks
+        request = newBranchRegisterRequest();
+        client.prepareRequest(oldServer, request);
+        Assertions.assertNull(request.getBinaryLockKey());
+        Assertions.assertEquals("t:1", request.getLockKey());
+        request = newBranchRegisterRequest();
+        client.prepareRequest(unknownServer, request);
+        Assertions.assertNull(request.getBinaryLockKey());
+    }
+
+    @Test
+    public void testBatchSenderOfClosedChannel() throws Exception {
+        RmNettyRemotingClient client = RmNettyRemotingClient.getInstance("batch_sender", "default_tx_group");
+        Method getBatchSender = AbstractNettyRemotingClient.class.getDeclaredMethod("getBatchSender",
+            String.class, Channel.class);
+        getBatchSender.setAccessible(true);
+
+        // the close listener of a closed channel runs at once, it must not update the map inside computeIfAbsent
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.close();
+        Assertions.assertNotNull(getBatchSender.invoke(client, "127.0.0.1:8091", channel));
+        Assertions.assertFalse(client.getBatchSenders().containsKey(channel));
+
+        EmbeddedChannel openChannel = new EmbeddedChannel();
+        Object batchSender = getBatchSender.invoke(client, "127.0.0.1:8091", openChannel);
+        Assertions.assertSame(batchSender, getBatchSender.invoke(client, "127.0.0.1:8091", openChannel));
+        Assertions.assertSame(batchSender, client.getBatchSenders().get(openChannel));
+        openChannel.close();
+        Assertions.assertFalse(client.getBatchSenders().containsKey(openChannel));
+    }
+
+    private static Channel mockChannel(int port, String version) {
+        Channel channel = Mockito.mock(Channel.class);
+        Mockito.when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", port));
+        if (version != null) {
+            Version.putChannelVersion(channel, version);
+        }
+        return channel;
+    }
+
+    private static BranchRegisterRequest newBranchRegisterRequest() {
+        BranchRegisterRequest request = new BranchRegisterRequest();
+        request.setLockKey("t:1");
+        request.setBinaryLockKey(new byte[] {0, 1});
+        return request;
+    }
+
     private AtomicBoolean getInitializeStatus(final RmNettyRemotingClient rmNettyRemotingClient) {
         try {
             Field field = rmNettyRemotingClient.getClass().getDeclaredField("initialized");
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.rpc.processor.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Channel batch responder test.
+ */
+public class ChannelBatchResponderTest {
+
+    private static final long MAX_WAIT_MICROS = 10_000_000L;
+
+    private EmbeddedChannel channel;
+
+    private List<List<Integer>> sent;
+
+    @BeforeEach
+    public void setUp() {
+        channel = new EmbeddedChannel();
+        sent = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFlushWhenAllAnswered() {
+        ChannelBatchResponder<Integer> responder = new ChannelBatchResponder<>(channel, 128, MAX_WAIT_MICROS, sent::add);
+        responder.requestsReceived(3);
+        responder.offer(1);
+        responder.offer(2);
+        channel.runPendingTasks();
+        // one request is still in flight, the responses wait for it
+        Assertions.assertTrue(sent.isEmpty());
+        Assertions.assertEquals(1, responder.getInFlightCount());
+
+        responder.offer(3);
+        channel.runPendingTasks();
+        Assertions.assertEquals(1, sent.size());
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), sent.get(0));
+        Assertions.assertEquals(0, responder.getPendingCount());
+        Assertions.assertEquals(0, responder.getInFlightCount());
+    }
+
+    @Test
+    public void testMaxBatchSize() {
+        ChannelBatchResponder<Integer> responder = new ChannelBatchResponder<>(channel, 2, MAX_WAIT_MICROS, sent::add);
+        responder.requestsReceived(10);
+        for (int i = 1; i <= 5; i++) {
+            responder.offer(i);
+        }
+        channel.runPendingTasks();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), sent);
+        Assertions.assertEquals(5, responder.getInFlightCount());
+    }
+
+    @Test
+    public void testRequestAbandoned() {
+        ChannelBatchResponder<Integer> responder = new ChannelBatchResponder<>(channel, 128, MAX_WAIT_MICROS, sent::add);
+        responder.requestsReceived(2);
+        responder.offer(1);
+        channel.runPendingTasks();
+        Assertions.assertTrue(sent.isEmpty());
+
+        responder.requestAbandoned();
+        channel.runPendingTasks();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1)), sent);
+    }
+
+    @Test
+    public void testMaxWait() throws InterruptedException {
+        ChannelBatchResponder<Integer> responder = new ChannelBatchResponder<>(channel, 128, 50_000, sent::add);
+        responder.requestsReceived(2);
+        responder.offer(1);
+        channel.runPendingTasks();
+        Assertions.assertTrue(sent.isEmpty());
+
+        Thread.sleep(100);
+        channel.runPendingTasks();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1)), sent);
+    }
+}
@@ -56,6 +56,8 @@ public class LockStoreSqlFactoryTest {
 
     private static String EXPECT_BATCH_BRANCH_DELETE_LOCK_BY_BRANCHS_SQL = "delete from " + BRANCH_TABLE + " where xid = ? ";
 
+    private static String EXPECT_BATCH_INSERT_LOCK_SQL = "insert into " + GLOBAL_TABLE + "(xid, transaction_id, branch_id, resource_id, table_name, pk, row_key, gmt_create, gmt_modified,status) values (?, ?, ?, ?, ?, ?, ?, now(), now(), ?), (?, ?, ?, ?, ?, ?, ?, now(), now(), ?)";
+
     @Test
     public void mysqlLockTest() {
         String sql;
@@ -379,4 +381,15 @@ public class LockStoreSqlFactoryTest {
         sql = DM_LOCK_STORE.getCheckLockableSql(BRANCH_TABLE, 3);
         Assertions.assertEquals(EXPECT_CHECK_BRANCH_LOCKABLE_SQL,sql);
     }
+
+    @Test
+    public void batchInsertLockTest() {
+        Assertions.assertEquals(EXPECT_BATCH_INSERT_LOCK_SQL, MYSQL_LOCK_STORE.getBatchInsertLockSql(GLOBAL_TABLE, 2));
+        Assertions.assertEquals(EXPECT_BATCH_INSERT_LOCK_SQL, MARIADB_LOCK_STORE.getBatchInsertLockSql(GLOBAL_TABLE, 2));
+        Assertions.assertEquals(EXPECT_BATCH_INSERT_LOCK_SQL, POSTGRESQL_LOCK_STORE.getBatchInsertLockSql(GLOBAL_TABLE, 2));
+        Assertions.assertEquals(EXPECT_BATCH_INSERT_LOCK_SQL, H2_LOCK_STORE.getBatchInsertLockSql(GLOBAL_TABLE, 2));
+        Assertions.assertEquals(EXPECT_BATCH_INSERT_LOCK_SQL, OCEANBASE_LOCK_STORE.getBatchInsertLockSql(GLOBAL_TABLE, 2));
+        // the locks are inserted by a jdbc batch
+        Assertions.assertNull(ORACLE_LOCK_STORE.getBatchInsertLockSql(GLOBAL_TABLE, 2));
+    }
 }
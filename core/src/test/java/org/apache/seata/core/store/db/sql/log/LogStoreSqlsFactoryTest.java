@@ -56,6 +56,8 @@ public class LogStoreSqlsFactoryTest {
         Assertions.assertNotNull(sql);
         sql = mysqlLog.getQueryGlobalTransactionForRecoverySQL(globalTable);
         Assertions.assertNotNull(sql);
+        sql = mysqlLog.getQueryGlobalTransactionSQLByStatusAndGmtModified(globalTable, "1");
+        Assertions.assertNotNull(sql);
         sql = mysqlLog.getInsertBranchTransactionSQL(branchTable);
         Assertions.assertNotNull(sql);
         sql = mysqlLog.getUpdateBranchTransactionStatusSQL(branchTable);
@@ -91,6 +93,8 @@ public class LogStoreSqlsFactoryTest {
         Assertions.assertNotNull(sql);
         sql = oracleLog.getQueryGlobalTransactionForRecoverySQL(globalTable);
         Assertions.assertNotNull(sql);
+        sql = oracleLog.getQueryGlobalTransactionSQLByStatusAndGmtModified(globalTable, "1");
+        Assertions.assertNotNull(sql);
         sql = oracleLog.getInsertBranchTransactionSQL(branchTable);
         Assertions.assertNotNull(sql);
         sql = oracleLog.getUpdateBranchTransactionStatusSQL(branchTable);
@@ -126,6 +130,8 @@ public class LogStoreSqlsFactoryTest {
         Assertions.assertNotNull(sql);
         sql = pgLog.getQueryGlobalTransactionForRecoverySQL(globalTable);
         Assertions.assertNotNull(sql);
+        sql = pgLog.getQueryGlobalTransactionSQLByStatusAndGmtModified(globalTable, "1");
+        Assertions.assertNotNull(sql);
         sql = pgLog.getInsertBranchTransactionSQL(branchTable);
         Assertions.assertNotNull(sql);
         sql = pgLog.getUpdateBranchTransactionStatusSQL(branchTable);
@@ -161,6 +167,8 @@ public class LogStoreSqlsFactoryTest {
         Assertions.assertNotNull(sql);
         sql = h2Log.getQueryGlobalTransactionForRecoverySQL(globalTable);
         Assertions.assertNotNull(sql);
+        sql = h2Log.getQueryGlobalTransactionSQLByStatusAndGmtModified(globalTable, "1");
+        Assertions.assertNotNull(sql);
         sql = h2Log.getInsertBranchTransactionSQL(branchTable);
         Assertions.assertNotNull(sql);
         sql = h2Log.getUpdateBranchTransactionStatusSQL(branchTable);
@@ -196,6 +204,8 @@ public class LogStoreSqlsFactoryTest {
         Assertions.assertNotNull(sql);
         sql = oceanbase.getQueryGlobalTransactionForRecoverySQL(globalTable);
         Assertions.assertNotNull(sql);
+        sql = oceanbase.getQueryGlobalTransactionSQLByStatusAndGmtModified(globalTable, "1");
+        Assertions.assertNotNull(sql);
         sql = oceanbase.getInsertBranchTransactionSQL(branchTable);
         Assertions.assertNotNull(sql);
         sql = oceanbase.getUpdateBranchTransactionStatusSQL(branchTable);
@@ -230,6 +240,8 @@ public class LogStoreSqlsFactoryTest {
         Assertions.assertNotNull(sql);
         sql = dmLog.getQueryGlobalTransactionForRecoverySQL(globalTable);
         Assertions.assertNotNull(sql);
+        sql = dmLog.getQueryGlobalTransactionSQLByStatusAndGmtModified(globalTable, "1");
+        Assertions.assertNotNull(sql);
         sql = dmLog.getInsertBranchTransactionSQL(branchTable);
         Assertions.assertNotNull(sql);
         sql = dmLog.getUpdateBranchTransactionStatusSQL(branchTable);
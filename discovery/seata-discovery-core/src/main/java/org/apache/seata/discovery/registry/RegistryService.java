@@ -123,6 +123,17 @@ public interface RegistryService<T> {
         return CURRENT_ADDRESS_MAP.computeIfAbsent(getServiceGroup(transactionServiceGroup), k -> new ArrayList<>());
     }
 
+    /**
+     * The alive addresses that may serve the read only requests of a transaction service group, the global status
+     * and lock queries. They are the addresses of aliveLookup, unless the registry knows of replicas serving reads.
+     *
+     * @param transactionServiceGroup the transaction service group
+     * @return the addresses
+     */
+    default List<InetSocketAddress> aliveReadLookup(String transactionServiceGroup) {
+        return aliveLookup(transactionServiceGroup);
+    }
+
     default List<InetSocketAddress> refreshAliveLookup(String transactionServiceGroup,
         List<InetSocketAddress> aliveAddress) {
         return CURRENT_ADDRESS_MAP.put(getServiceGroup(transactionServiceGroup), aliveAddress);
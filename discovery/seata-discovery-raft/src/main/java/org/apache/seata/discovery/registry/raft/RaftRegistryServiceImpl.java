@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
@@ -39,6 +40,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.exception.AuthenticationFailedException;
 import org.apache.seata.common.exception.RetryableException;
+import org.apache.seata.common.metadata.ClusterRole;
 import org.apache.seata.common.metadata.Metadata;
 import org.apache.seata.common.metadata.MetadataResponse;
 import org.apache.seata.common.metadata.Node;
@@ -79,12 +81,19 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
 
     private static final String TOKEN_VALID_TIME_MS_KEY = "tokenValidityInMilliseconds";
 
+    private static final String FOLLOWER_READ_KEY = "followerRead";
+
     private static final long TOKEN_EXPIRE_TIME_IN_MILLISECONDS;
 
     private static final String USERNAME;
 
     private static final String PASSWORD;
 
+    /**
+     * send the global status and lock queries to the followers too, the servers must enable server.raft.followerRead
+     */
+    private static final boolean FOLLOWER_READ;
+
     public static String jwtToken;
 
     private static long tokenTimeStamp = -1;
@@ -114,10 +123,16 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
      */
     private static final Map<String, List<InetSocketAddress>> ALIVE_NODES = new ConcurrentHashMap<>();
 
+    /**
+     * the raft group serving each transaction service group, as told by the cluster
+     */
+    private static final Map<String/*vgroup*/, String/*raft-group*/> VGROUP_GROUPS = new ConcurrentHashMap<>();
+
     static {
         TOKEN_EXPIRE_TIME_IN_MILLISECONDS = CONFIG.getLong(getTokenExpireTimeInMillisecondsKey(), 29 * 60 * 1000L);
         USERNAME = CONFIG.getConfig(getRaftUserNameKey());
         PASSWORD = CONFIG.getConfig(getRaftPassWordKey());
+        FOLLOWER_READ = CONFIG.getBoolean(getFollowerReadKey(), false);
     }
 
     private RaftRegistryServiceImpl() {
@@ -268,6 +283,11 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
             REGISTRY_TYPE, TOKEN_VALID_TIME_MS_KEY);
     }
 
+    private static String getFollowerReadKey() {
+        return String.join(ConfigurationKeys.FILE_CONFIG_SPLIT_CHAR, ConfigurationKeys.FILE_ROOT_REGISTRY,
+            REGISTRY_TYPE, FOLLOWER_READ_KEY);
+    }
+
     private static boolean isTokenExpired() {
         if (tokenTimeStamp == -1) {
             return true;
@@ -289,8 +309,7 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
     @Override
     public List<InetSocketAddress> aliveLookup(String transactionServiceGroup) {
         if (METADATA.isRaftMode()) {
-            String clusterName = getServiceGroup(transactionServiceGroup);
-            Node leader = METADATA.getLeader(clusterName);
+            Node leader = getLeader(transactionServiceGroup);
             if (leader != null) {
                 return Collections.singletonList(convertInetSocketAddress(leader));
             }
@@ -335,11 +354,44 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
         return false;
     }
 
+    @Override
+    public List<InetSocketAddress> aliveReadLookup(String transactionServiceGroup) {
+        List<InetSocketAddress> leaderAddresses = aliveLookup(transactionServiceGroup);
+        if (!FOLLOWER_READ || !METADATA.isRaftMode()) {
+            return leaderAddresses;
+        }
+        List<InetSocketAddress> aliveFollowers = ALIVE_NODES.get(transactionServiceGroup);
+        if (CollectionUtils.isEmpty(aliveFollowers)) {
+            return leaderAddresses;
+        }
+        // the learners are left out, only the voting followers serve the reads
+        String clusterName = getServiceGroup(transactionServiceGroup);
+        String group = VGROUP_GROUPS.get(transactionServiceGroup);
+        List<Node> nodes = group != null ? METADATA.getNodes(clusterName, group) : METADATA.getNodes(clusterName);
+        if (CollectionUtils.isEmpty(nodes)) {
+            return leaderAddresses;
+        }
+        Set<String> followers = nodes.stream()
+            .filter(node -> node.getRole() == ClusterRole.FOLLOWER)
+            .map(node -> toAddressKey(convertInetSocketAddress(node))).collect(Collectors.toSet());
+        List<InetSocketAddress> addresses = new ArrayList<>(leaderAddresses);
+        for (InetSocketAddress address : aliveFollowers) {
+            if (followers.contains(toAddressKey(address))) {
+                addresses.add(address);
+            }
+        }
+        return addresses;
+    }
+
+    private static String toAddressKey(InetSocketAddress address) {
+        return address.getAddress().getHostAddress() + IP_PORT_SPLIT_CHAR + address.getPort();
+    }
+
     @Override
     public List<InetSocketAddress> refreshAliveLookup(String transactionServiceGroup,
                                                       List<InetSocketAddress> aliveAddress) {
         if (METADATA.isRaftMode()) {
-            Node leader = METADATA.getLeader(getServiceGroup(transactionServiceGroup));
+            Node leader = getLeader(transactionServiceGroup);
             InetSocketAddress leaderAddress = convertInetSocketAddress(leader);
             return ALIVE_NODES.put(transactionServiceGroup,
                 aliveAddress.isEmpty() ? aliveAddress : aliveAddress.parallelStream().filter(inetSocketAddress -> {
@@ -352,15 +404,35 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
         }
     }
 
-    private static void acquireClusterMetaDataByClusterName(String clusterName) {
+    /**
+     * Get the leader of the raft group serving the transaction service group, or of any group of its cluster
+     * before the group is known.
+     */
+    private Node getLeader(String transactionServiceGroup) {
+        String clusterName = getServiceGroup(transactionServiceGroup);
+        String group = VGROUP_GROUPS.get(transactionServiceGroup);
+        Node leader = group != null ? METADATA.getLeader(clusterName, group) : null;
+        return leader != null ? leader : METADATA.getLeader(clusterName);
+    }
+
+    private static void acquireClusterMetaDataByClusterName(String clusterName, String transactionServiceGroup) {
         try {
-            acquireClusterMetaData(clusterName, "");
+            acquireClusterMetaData(clusterName, "", transactionServiceGroup);
         } catch (RetryableException e) {
             LOGGER.warn(e.getMessage(), e);
         }
     }
 
     private static void acquireClusterMetaData(String clusterName, String group) throws RetryableException {
+        acquireClusterMetaData(clusterName, group, null);
+    }
+
+    /**
+     * Acquire the metadata of a raft group. Without a group, the cluster answers with the group serving the
+     * transaction service group.
+     */
+    private static void acquireClusterMetaData(String clusterName, String group, String transactionServiceGroup)
+        throws RetryableException {
         String tcAddress = queryHttpAddress(clusterName, group);
         Map<String, String> header = new HashMap<>();
         header.put(HTTP.CONTENT_TYPE, ContentType.APPLICATION_FORM_URLENCODED.getMimeType());
@@ -373,6 +445,9 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
         if (StringUtils.isNotBlank(tcAddress)) {
             Map<String, String> param = new HashMap<>();
             param.put("group", group);
+            if (StringUtils.isNotBlank(transactionServiceGroup)) {
+                param.put("vgroup", transactionServiceGroup);
+            }
             String response = null;
             try (CloseableHttpResponse httpResponse =
                      HttpClientUtil.doGet("http://" + tcAddress + "/metadata/v1/cluster", param, header, 1000)) {
@@ -392,6 +467,10 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
                     try {
                         metadataResponse = OBJECT_MAPPER.readValue(response, MetadataResponse.class);
                         METADATA.refreshMetadata(clusterName, metadataResponse);
+                        if (StringUtils.isNotBlank(transactionServiceGroup)
+                            && CollectionUtils.isNotEmpty(metadataResponse.getNodes())) {
+                            VGROUP_GROUPS.put(transactionServiceGroup, metadataResponse.getNodes().get(0).getGroup());
+                        }
                     } catch (JsonProcessingException e) {
                         LOGGER.error(e.getMessage(), e);
                     }
@@ -468,7 +547,7 @@ public class RaftRegistryServiceImpl implements RegistryService<ConfigChangeList
                     throw new RuntimeException("Init fetch token failed!", e);
                 }
                 // Refresh the metadata by initializing the address
-                acquireClusterMetaDataByClusterName(clusterName);
+                acquireClusterMetaDataByClusterName(clusterName, key);
                 startQueryMetadata();
             }
         }
@@ -17,6 +17,10 @@
 package org.apache.seata.discovery.registry.raft;
 
 
+import org.apache.seata.common.metadata.ClusterRole;
+import org.apache.seata.common.metadata.Metadata;
+import org.apache.seata.common.metadata.Node;
+import org.apache.seata.common.store.StoreMode;
 import org.apache.seata.common.util.HttpClientUtil;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.http.HttpStatus;
@@ -33,6 +37,9 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 
@@ -53,12 +60,14 @@ class RaftRegistryServiceImplTest {
         System.setProperty("registry.raft.password", "seata");
         System.setProperty("registry.raft.serverAddr", "127.0.0.1:8092");
         System.setProperty("registry.raft.tokenValidityInMilliseconds", "10000");
+        System.setProperty("registry.raft.followerRead", "true");
         ConfigurationFactory.getInstance();
     }
 
     @AfterAll
     public static void adAfterClass() throws Exception {
         System.clearProperty("service.vgroupMapping.tx");
+        System.clearProperty("registry.raft.followerRead");
     }
 
     /**
@@ -145,4 +154,45 @@ class RaftRegistryServiceImplTest {
         assertEquals(true, rst);
     }
 
+    /**
+     * test whether the reads go to the leader and the followers, but not the learners
+     */
+    @Test
+    public void testAliveReadLookup() throws NoSuchFieldException, IllegalAccessException {
+        Node leader = createNode("127.0.0.1", 8091, ClusterRole.LEADER);
+        Node follower = createNode("127.0.0.1", 8092, ClusterRole.FOLLOWER);
+        Node learner = createNode("127.0.0.1", 8093, ClusterRole.LEARNER);
+        Field metadataField = RaftRegistryServiceImpl.class.getDeclaredField("METADATA");
+        metadataField.setAccessible(true);
+        Metadata metadata = (Metadata) metadataField.get(null);
+        Field aliveNodesField = RaftRegistryServiceImpl.class.getDeclaredField("ALIVE_NODES");
+        aliveNodesField.setAccessible(true);
+        Map<String, List<InetSocketAddress>> aliveNodes = (Map<String, List<InetSocketAddress>>) aliveNodesField.get(null);
+        try {
+            metadata.setStoreMode(StoreMode.RAFT);
+            metadata.setNodes("default", "default", Arrays.asList(leader, follower, learner));
+            metadata.setLeaderNode("default", leader);
+            aliveNodes.put("tx", Arrays.asList(new InetSocketAddress("127.0.0.1", 8092),
+                new InetSocketAddress("127.0.0.1", 8093)));
+
+            RaftRegistryServiceImpl registryService = RaftRegistryServiceImpl.getInstance();
+            assertEquals(1, registryService.aliveLookup("tx").size());
+            List<InetSocketAddress> addresses = registryService.aliveReadLookup("tx");
+            assertEquals(Arrays.asList(new InetSocketAddress("127.0.0.1", 8091),
+                new InetSocketAddress("127.0.0.1", 8092)), addresses);
+        } finally {
+            aliveNodes.remove("tx");
+            metadata.setStoreMode(StoreMode.FILE);
+        }
+    }
+
+    private static Node createNode(String host, int port, ClusterRole role) {
+        Node node = new Node();
+        node.setGroup("default");
+        node.setRole(role);
+        node.setTransaction(new Node.Endpoint(host, port));
+        node.setControl(new Node.Endpoint(host, port - 1000));
+        return node;
+    }
+
 }
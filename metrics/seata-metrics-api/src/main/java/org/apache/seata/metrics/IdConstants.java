@@ -25,6 +25,10 @@ public interface IdConstants {
 
     String SEATA_EXCEPTION = "seata.exception";
 
+    String SEATA_RECOVERY = "seata.recovery";
+
+    String SEATA_LOCK = "seata.lock";
+
     String APP_ID_KEY = "applicationId";
     
     String GROUP_KEY = "group";
@@ -39,6 +43,8 @@ public interface IdConstants {
 
     String STATUS_KEY = "status";
 
+    String LE_KEY = "le";
+
     String ROLE_VALUE_TC = "tc";
 
     String ROLE_VALUE_TM = "tm";
@@ -63,6 +69,16 @@ public interface IdConstants {
 
     String STATISTIC_VALUE_AVERAGE = "average";
 
+    String STATISTIC_VALUE_P50 = "p50";
+
+    String STATISTIC_VALUE_P99 = "p99";
+
+    String STATISTIC_VALUE_P999 = "p999";
+
+    String STATISTIC_VALUE_BUCKET = "bucket";
+
+    String STATISTIC_VALUE_SUM = "sum";
+
     String STATUS_VALUE_ACTIVE = "active";
 
     String STATUS_VALUE_COMMITTED = "committed";
@@ -73,10 +89,24 @@ public interface IdConstants {
 
     String STATUS_VALUE_TWO_PHASE_TIMEOUT = "2phaseTimeout";
 
+    String STATUS_VALUE_PENDING = "pending";
+
+    String STATUS_VALUE_DRAINED = "drained";
+
+    String STATUS_VALUE_DEFERRED = "deferred";
+
     String RETRY_KEY = "retry";
 
     String STATUS_VALUE_AFTER_COMMITTED_KEY = "AfterCommitted";
 
     String STATUS_VALUE_AFTER_ROLLBACKED_KEY = "AfterRollbacked";
 
+    String STATUS_VALUE_BRANCH_COMMIT = "branchCommit";
+
+    String STATUS_VALUE_BRANCH_ROLLBACK = "branchRollback";
+
+    String STATUS_VALUE_CACHE_HIT = "cacheHit";
+
+    String STATUS_VALUE_CACHE_MISS = "cacheMiss";
+
 }
@@ -18,7 +18,9 @@ package org.apache.seata.metrics.exporter.prometheus;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import io.prometheus.client.Collector;
@@ -27,6 +29,7 @@ import io.prometheus.client.exporter.HTTPServer;
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
+import org.apache.seata.metrics.IdConstants;
 import org.apache.seata.metrics.Measurement;
 import org.apache.seata.metrics.exporter.Exporter;
 import org.apache.seata.metrics.registry.Registry;
@@ -41,6 +44,8 @@ import static org.apache.seata.core.constants.ConfigurationKeys.METRICS_EXPORTER
 @LoadLevel(name = "prometheus", order = 1)
 public class PrometheusExporter extends Collector implements Collector.Describable, Exporter {
 
+    private static final String HISTOGRAM_SUFFIX = "_duration_milliseconds";
+
     private final HTTPServer server;
 
     private Registry registry;
@@ -63,16 +68,69 @@ public class PrometheusExporter extends Collector implements Collector.Describab
         if (registry != null) {
             Iterable<Measurement> measurements = registry.measure();
             List<Sample> samples = new ArrayList<>();
-            measurements.forEach(measurement -> samples.add(convertMeasurementToSample(measurement)));
+            Map<String, List<Sample>> histogramSamples = new LinkedHashMap<>();
+            measurements.forEach(measurement -> {
+                if (!addHistogramSample(histogramSamples, measurement)) {
+                    samples.add(convertMeasurementToSample(measurement));
+                }
+            });
 
             if (!samples.isEmpty()) {
                 Type unknownType = getUnknownType();
                 familySamples.add(new MetricFamilySamples("seata", unknownType, "seata", samples));
             }
+            histogramSamples.forEach((name, histogram) -> familySamples.add(
+                new MetricFamilySamples(name, Type.HISTOGRAM, "seata duration in milliseconds", histogram)));
         }
         return familySamples;
     }
 
+    /**
+     * The buckets and the sum of a timer are the samples of a histogram, named after the timer,
+     * and the count of the histogram is its +Inf bucket.
+     *
+     * @param histogramSamples the samples of the histograms by name
+     * @param measurement      the measurement
+     * @return whether the measurement is a histogram sample
+     */
+    static boolean addHistogramSample(Map<String, List<Sample>> histogramSamples, Measurement measurement) {
+        String statistic = null;
+        String le = null;
+        List<String> labelNames = new ArrayList<>();
+        List<String> labelValues = new ArrayList<>();
+        for (Entry<String, String> tag : measurement.getId().getTags()) {
+            if (IdConstants.STATISTIC_KEY.equals(tag.getKey())) {
+                statistic = tag.getValue();
+            } else if (IdConstants.LE_KEY.equals(tag.getKey())) {
+                le = tag.getValue();
+            } else {
+                labelNames.add(tag.getKey());
+                labelValues.add(tag.getValue());
+            }
+        }
+        String name = measurement.getId().getName().replace(".", "_") + HISTOGRAM_SUFFIX;
+        long timestamp = (long)measurement.getTimestamp();
+        if (IdConstants.STATISTIC_VALUE_SUM.equals(statistic)) {
+            histogramSamples.computeIfAbsent(name, key -> new ArrayList<>()).add(
+                new Sample(name + "_sum", labelNames, labelValues, measurement.getValue(), timestamp));
+            return true;
+        }
+        if (!IdConstants.STATISTIC_VALUE_BUCKET.equals(statistic) || le == null) {
+            return false;
+        }
+        List<Sample> samples = histogramSamples.computeIfAbsent(name, key -> new ArrayList<>());
+        if ("+Inf".equals(le)) {
+            samples.add(new Sample(name + "_count", labelNames, labelValues, measurement.getValue(), timestamp));
+        }
+        List<String> bucketLabelNames = new ArrayList<>(labelNames);
+        List<String> bucketLabelValues = new ArrayList<>(labelValues);
+        bucketLabelNames.add(IdConstants.LE_KEY);
+        bucketLabelValues.add(le);
+        samples.add(new Sample(name + "_bucket", bucketLabelNames, bucketLabelValues, measurement.getValue(),
+            timestamp));
+        return true;
+    }
+
     private Sample convertMeasurementToSample(Measurement measurement) {
         String prometheusName = measurement.getId().getName().replace(".", "_");
         List<String> labelNames = new ArrayList<>();
@@ -16,6 +16,14 @@
  */
 package org.apache.seata.metrics.exporter.prometheus;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.IdConstants;
+import org.apache.seata.metrics.Measurement;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -31,4 +39,26 @@ public class PrometheusExporterTest {
             PrometheusExporter.getUnknownType();
         });
     }
+
+    @Test
+    public void testAddHistogramSample() {
+        Map<String, List<Sample>> histogramSamples = new LinkedHashMap<>();
+        Id bucket = new Id(IdConstants.SEATA_TRANSACTION).withTag(IdConstants.STATUS_KEY, IdConstants.STATUS_VALUE_COMMITTED)
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_BUCKET).withTag(IdConstants.LE_KEY, "+Inf");
+        Id sum = new Id(IdConstants.SEATA_TRANSACTION).withTag(IdConstants.STATUS_KEY, IdConstants.STATUS_VALUE_COMMITTED)
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_SUM);
+        Id max = new Id(IdConstants.SEATA_TRANSACTION).withTag(IdConstants.STATUS_KEY, IdConstants.STATUS_VALUE_COMMITTED)
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_MAX);
+        Assertions.assertTrue(PrometheusExporter.addHistogramSample(histogramSamples, new Measurement(bucket, 1, 3)));
+        Assertions.assertTrue(PrometheusExporter.addHistogramSample(histogramSamples, new Measurement(sum, 1, 7.5)));
+        Assertions.assertFalse(PrometheusExporter.addHistogramSample(histogramSamples, new Measurement(max, 1, 5)));
+
+        List<Sample> samples = histogramSamples.get("seata_transaction_duration_milliseconds");
+        Assertions.assertEquals(3, samples.size());
+        Assertions.assertEquals("seata_transaction_duration_milliseconds_count", samples.get(0).name);
+        Assertions.assertEquals("seata_transaction_duration_milliseconds_bucket", samples.get(1).name);
+        Assertions.assertEquals("+Inf", samples.get(1).labelValues.get(samples.get(1).labelNames.indexOf("le")));
+        Assertions.assertFalse(samples.get(1).labelNames.contains(IdConstants.STATISTIC_KEY));
+        Assertions.assertEquals(7.5, samples.get(2).value);
+    }
 }
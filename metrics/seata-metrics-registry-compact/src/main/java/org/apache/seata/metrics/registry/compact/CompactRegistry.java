@@ -22,8 +22,10 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.metrics.Counter;
 import org.apache.seata.metrics.Gauge;
 import org.apache.seata.metrics.Id;
@@ -31,8 +33,11 @@ import org.apache.seata.metrics.Measurement;
 import org.apache.seata.metrics.Meter;
 import org.apache.seata.metrics.registry.Registry;
 import org.apache.seata.metrics.Summary;
+import org.apache.seata.metrics.SystemClock;
 import org.apache.seata.metrics.Timer;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_METRICS_HISTOGRAM_BUCKETS;
+
 /**
  * Compact Registry implement, this registry only compute all Measurements when call measure method and do not cache
  *
@@ -41,6 +46,10 @@ import org.apache.seata.metrics.Timer;
 public class CompactRegistry implements Registry {
     private static final Map<String, Meter> METERS = new ConcurrentHashMap<>();
 
+    private static final long[] HISTOGRAM_BOUNDS = HistogramValue.parseBounds(ConfigurationFactory.getInstance()
+        .getConfig(ConfigurationKeys.METRICS_PREFIX + ConfigurationKeys.METRICS_HISTOGRAM_BUCKETS,
+            DEFAULT_METRICS_HISTOGRAM_BUCKETS));
+
     @Override
     public <T extends Number> Gauge<T> getGauge(Id id, Supplier<T> supplier) {
         return (Gauge<T>)CollectionUtils.computeIfAbsent(METERS, id.getMeterKey(), key -> new CompactGauge<>(
@@ -62,7 +71,7 @@ public class CompactRegistry implements Registry {
     @Override
     public Timer getTimer(Id id) {
         return (Timer)CollectionUtils.computeIfAbsent(METERS, id.getMeterKey(), key -> new CompactTimer(
-                new Id(id.getName()).withTag(id.getTags())));
+                new Id(id.getName()).withTag(id.getTags()), SystemClock.INSTANCE, HISTOGRAM_BOUNDS));
     }
 
     @Override
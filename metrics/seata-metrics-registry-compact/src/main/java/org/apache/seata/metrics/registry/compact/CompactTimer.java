@@ -16,9 +16,11 @@
  */
 package org.apache.seata.metrics.registry.compact;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.seata.common.DefaultValues;
 import org.apache.seata.metrics.Clock;
 import org.apache.seata.metrics.Id;
 import org.apache.seata.metrics.Measurement;
@@ -41,8 +43,22 @@ public class CompactTimer implements Timer {
 
     private final Id averageId;
 
+    private final Id p50Id;
+
+    private final Id p99Id;
+
+    private final Id p999Id;
+
+    private final Id sumId;
+
+    private final Id[] bucketIds;
+
     private volatile TimerValue value;
 
+    private final HistogramValue histogram;
+
+    private long[] lastSnapshot;
+
     private final Clock clock;
 
     public CompactTimer(Id id) {
@@ -50,6 +66,17 @@ public class CompactTimer implements Timer {
     }
 
     public CompactTimer(Id id, Clock clock) {
+        this(id, clock, HistogramValue.parseBounds(DefaultValues.DEFAULT_METRICS_HISTOGRAM_BUCKETS));
+    }
+
+    /**
+     * Instantiates a new compact timer.
+     *
+     * @param id     the id
+     * @param clock  the clock
+     * @param bounds the sorted upper bounds of the exported buckets in microseconds
+     */
+    public CompactTimer(Id id, Clock clock, long[] bounds) {
         this.id = id;
         this.countId = new Id(id.getName()).withTag(id.getTags())
             .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_COUNT);
@@ -59,7 +86,24 @@ public class CompactTimer implements Timer {
             .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_MAX);
         this.averageId = new Id(id.getName()).withTag(id.getTags())
             .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_AVERAGE);
+        this.p50Id = new Id(id.getName()).withTag(id.getTags())
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_P50);
+        this.p99Id = new Id(id.getName()).withTag(id.getTags())
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_P99);
+        this.p999Id = new Id(id.getName()).withTag(id.getTags())
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_P999);
+        this.sumId = new Id(id.getName()).withTag(id.getTags())
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_SUM);
+        this.bucketIds = new Id[bounds.length + 1];
+        for (int i = 0; i < bucketIds.length; i++) {
+            // the le of prometheus, in milliseconds like the other statistics
+            String le = i < bounds.length ? Double.toString(bounds[i] * 0.001) : "+Inf";
+            this.bucketIds[i] = new Id(id.getName()).withTag(id.getTags())
+                .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_BUCKET)
+                .withTag(IdConstants.LE_KEY, le);
+        }
         this.value = new TimerValue();
+        this.histogram = new HistogramValue(bounds);
         this.clock = clock;
     }
 
@@ -71,6 +115,7 @@ public class CompactTimer implements Timer {
     @Override
     public void record(long value, TimeUnit unit) {
         this.value.record(value, unit);
+        this.histogram.record(value, unit);
     }
 
     @Override
@@ -94,14 +139,32 @@ public class CompactTimer implements Timer {
     }
 
     @Override
-    public Iterable<Measurement> measure() {
+    public synchronized Iterable<Measurement> measure() {
         //reset value when measure
         double time = clock.getCurrentMilliseconds();
         TimerValue value = this.value;
         this.value = new TimerValue();
-        return Arrays.asList(new Measurement(countId, time, value.getCount()),
-            new Measurement(totalId, time, value.getTotal() * 0.001),
-            new Measurement(maxId, time, value.getMax() * 0.001),
-            new Measurement(averageId, time, value.getAverage() * 0.001));
+        //the percentiles are of the values since the last measure, the buckets and the sum of all values
+        long[] snapshot = histogram.snapshot();
+        long[] previous = lastSnapshot;
+        lastSnapshot = snapshot;
+        long max = value.getMax();
+        List<Measurement> measurements = new ArrayList<>(8 + bucketIds.length);
+        measurements.add(new Measurement(countId, time, value.getCount()));
+        measurements.add(new Measurement(totalId, time, value.getTotal() * 0.001));
+        measurements.add(new Measurement(maxId, time, max * 0.001));
+        measurements.add(new Measurement(averageId, time, value.getAverage() * 0.001));
+        measurements.add(new Measurement(p50Id, time,
+            Math.min(HistogramValue.valueAt(snapshot, previous, 0.5), max) * 0.001));
+        measurements.add(new Measurement(p99Id, time,
+            Math.min(HistogramValue.valueAt(snapshot, previous, 0.99), max) * 0.001));
+        measurements.add(new Measurement(p999Id, time,
+            Math.min(HistogramValue.valueAt(snapshot, previous, 0.999), max) * 0.001));
+        long[] boundCounts = histogram.getBoundCounts();
+        for (int i = 0; i < bucketIds.length; i++) {
+            measurements.add(new Measurement(bucketIds[i], time, boundCounts[i]));
+        }
+        measurements.add(new Measurement(sumId, time, histogram.getSum() * 0.001));
+        return measurements;
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.metrics.registry.compact;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram container for CompactTimer, the values are recorded in microseconds without locks or allocations.
+ * <p>
+ * Every value is counted twice: in a log bucket, there are 8 of them per power of two so a percentile is read
+ * within 12.5% of the value, and in the bucket of the first configured bound not below it, which is exported as
+ * is. The counts only grow, the percentiles of a window are read from the difference of two snapshots.
+ */
+public class HistogramValue {
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * the log buckets of the values from 0 to Long.MAX_VALUE
+     */
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+
+    private final long[] bounds;
+
+    private final AtomicLongArray boundCounts;
+
+    private final LongAdder sum;
+
+    /**
+     * Instantiates a new histogram value.
+     *
+     * @param bounds the sorted upper bounds of the exported buckets in microseconds
+     */
+    public HistogramValue(long[] bounds) {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.bounds = bounds.clone();
+        this.boundCounts = new AtomicLongArray(bounds.length + 1);
+        this.sum = new LongAdder();
+    }
+
+    public void record(long value, TimeUnit unit) {
+        if (value < 0) {
+            return;
+        }
+        long changeValue = unit == TimeUnit.MICROSECONDS ? value : TimeUnit.MICROSECONDS.convert(value, unit);
+        this.counts.incrementAndGet(bucketIndex(changeValue));
+        this.boundCounts.incrementAndGet(boundIndex(changeValue));
+        this.sum.add(changeValue);
+    }
+
+    /**
+     * Copy the counts of the log buckets.
+     *
+     * @return the counts, to be passed to {@link #valueAt(long[], long[], double)}
+     */
+    public long[] snapshot() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get the cumulative counts of the configured bounds, the last one is the count of all values.
+     *
+     * @return the counts
+     */
+    public long[] getBoundCounts() {
+        long[] cumulative = new long[boundCounts.length()];
+        long count = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            count += boundCounts.get(i);
+            cumulative[i] = count;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Get the sum of the values in microseconds.
+     *
+     * @return the sum
+     */
+    public long getSum() {
+        return sum.longValue();
+    }
+
+    /**
+     * Get the value at a quantile of the values recorded between two snapshots.
+     *
+     * @param snapshot the later snapshot
+     * @param previous the earlier snapshot, null for all values
+     * @param quantile the quantile, from 0 to 1
+     * @return the highest value of the log bucket of the quantile, 0 if there are no values
+     */
+    public static long valueAt(long[] snapshot, long[] previous, double quantile) {
+        long total = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            total += snapshot[i] - (previous == null ? 0 : previous[i]);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long)Math.ceil(quantile * total));
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            count += snapshot[i] - (previous == null ? 0 : previous[i]);
+            if (count >= rank) {
+                return highestValue(i);
+            }
+        }
+        return highestValue(snapshot.length - 1);
+    }
+
+    /**
+     * Parse the upper bounds of the exported buckets.
+     *
+     * @param millis the comma separated bounds in milliseconds
+     * @return the sorted distinct bounds in microseconds
+     */
+    public static long[] parseBounds(String millis) {
+        return Arrays.stream(millis.split(",")).map(String::trim).filter(bound -> !bound.isEmpty())
+            .mapToDouble(Double::parseDouble).peek(bound -> {
+                if (!(bound > 0) || Double.isInfinite(bound)) {
+                    throw new IllegalArgumentException("histogram bucket must be a positive number: " + bound);
+                }
+            }).mapToLong(bound -> Math.round(bound * 1000)).sorted().distinct().toArray();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int)value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + ((exponent - SUB_BUCKET_BITS) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    static long highestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex - SUB_BUCKET_COUNT) >>> SUB_BUCKET_BITS;
+        int subBucket = (bucketIndex - SUB_BUCKET_COUNT) & (SUB_BUCKET_COUNT - 1);
+        long lowest = (long)(SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    private int boundIndex(long value) {
+        int index = Arrays.binarySearch(bounds, value);
+        return index >= 0 ? index : -index - 1;
+    }
+}
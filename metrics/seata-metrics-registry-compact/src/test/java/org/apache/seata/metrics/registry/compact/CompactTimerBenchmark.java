@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.metrics.registry.compact;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.SystemClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The cost of recording into one timer shared by {@code -t} threads, 4 by default: the window values the timer
+ * kept before the histogram, the histogram alone, and the timer keeping both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class CompactTimerBenchmark {
+
+    private final TimerValue timerValue = new TimerValue();
+
+    private final HistogramValue histogramValue = new HistogramValue(HistogramValue.parseBounds(
+        "1,5,10,25,50,100,250,500,1000,2500,5000,10000"));
+
+    private final CompactTimer timer = new CompactTimer(new Id("benchmark"), SystemClock.INSTANCE,
+        HistogramValue.parseBounds("1,5,10,25,50,100,250,500,1000,2500,5000,10000"));
+
+    private static long nextValue() {
+        // from 100us to 100ms, like the durations of global transactions
+        return ThreadLocalRandom.current().nextLong(100, 100_000);
+    }
+
+    @Benchmark
+    public void recordTimerValue() {
+        timerValue.record(nextValue(), TimeUnit.MICROSECONDS);
+    }
+
+    @Benchmark
+    public void recordHistogramValue() {
+        histogramValue.record(nextValue(), TimeUnit.MICROSECONDS);
+    }
+
+    @Benchmark
+    public void recordTimer() {
+        timer.record(nextValue(), TimeUnit.MICROSECONDS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(CompactTimerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
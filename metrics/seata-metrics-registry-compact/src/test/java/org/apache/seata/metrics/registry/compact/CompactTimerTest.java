@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.metrics.registry.compact;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.IdConstants;
+import org.apache.seata.metrics.Measurement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * test {@link HistogramValue} and the histogram of {@link CompactTimer}
+ *
+ */
+public class CompactTimerTest {
+
+    @Test
+    public void testBucketIndex() {
+        for (long value : new long[] {0, 1, 7, 8, 15, 16, 17, 1000, 123456789L, Long.MAX_VALUE}) {
+            int index = HistogramValue.bucketIndex(value);
+            Assertions.assertTrue(index < HistogramValue.BUCKET_COUNT);
+            long highest = HistogramValue.highestValue(index);
+            Assertions.assertTrue(highest >= value);
+            // the log buckets are within 12.5% of their values
+            Assertions.assertTrue(highest - value <= value / 8, "value " + value + " highest " + highest);
+            Assertions.assertEquals(index, HistogramValue.bucketIndex(highest));
+        }
+        Assertions.assertEquals(Long.MAX_VALUE, HistogramValue.highestValue(HistogramValue.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void testValueAt() {
+        HistogramValue histogram = new HistogramValue(new long[0]);
+        Assertions.assertEquals(0, HistogramValue.valueAt(histogram.snapshot(), null, 0.5));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+        long[] first = histogram.snapshot();
+        assertNear(500_000, HistogramValue.valueAt(first, null, 0.5));
+        assertNear(990_000, HistogramValue.valueAt(first, null, 0.99));
+        assertNear(999_000, HistogramValue.valueAt(first, null, 0.999));
+
+        histogram.record(5, TimeUnit.SECONDS);
+        long[] second = histogram.snapshot();
+        // only the value recorded since the first snapshot
+        assertNear(5_000_000, HistogramValue.valueAt(second, first, 0.5));
+        Assertions.assertEquals(0, HistogramValue.valueAt(second, second, 0.5));
+    }
+
+    @Test
+    public void testParseBounds() {
+        Assertions.assertArrayEquals(new long[] {500, 1000, 10000}, HistogramValue.parseBounds("10, 1,0.5,1,"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HistogramValue.parseBounds("1,-5"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HistogramValue.parseBounds("1,abc"));
+    }
+
+    @Test
+    public void testMeasure() {
+        CompactTimer timer = new CompactTimer(new Id("test").withTag(IdConstants.STATUS_KEY, "committed"),
+            () -> 1, HistogramValue.parseBounds("1,10"));
+        timer.record(500, TimeUnit.MICROSECONDS);
+        timer.record(5, TimeUnit.MILLISECONDS);
+        timer.record(50, TimeUnit.MILLISECONDS);
+        Map<String, Double> values = measure(timer);
+        Assertions.assertEquals(3, values.get(IdConstants.STATISTIC_VALUE_COUNT));
+        Assertions.assertEquals(1, values.get(IdConstants.STATISTIC_VALUE_BUCKET + "1.0"));
+        Assertions.assertEquals(2, values.get(IdConstants.STATISTIC_VALUE_BUCKET + "10.0"));
+        Assertions.assertEquals(3, values.get(IdConstants.STATISTIC_VALUE_BUCKET + "+Inf"));
+        Assertions.assertEquals(55.5, values.get(IdConstants.STATISTIC_VALUE_SUM), 0.001);
+        Assertions.assertEquals(50, values.get(IdConstants.STATISTIC_VALUE_P999), 0.001);
+        Assertions.assertTrue(values.get(IdConstants.STATISTIC_VALUE_P50) >= 5);
+
+        // the buckets keep counting, the percentiles are of the new window
+        timer.record(2, TimeUnit.MILLISECONDS);
+        values = measure(timer);
+        Assertions.assertEquals(1, values.get(IdConstants.STATISTIC_VALUE_COUNT));
+        Assertions.assertEquals(4, values.get(IdConstants.STATISTIC_VALUE_BUCKET + "+Inf"));
+        Assertions.assertEquals(2, values.get(IdConstants.STATISTIC_VALUE_P999), 0.001);
+    }
+
+    private static Map<String, Double> measure(CompactTimer timer) {
+        Map<String, Double> values = new HashMap<>();
+        for (Measurement measurement : timer.measure()) {
+            String key = "";
+            for (Entry<String, String> tag : measurement.getId().getTags()) {
+                if (IdConstants.STATISTIC_KEY.equals(tag.getKey())) {
+                    key = tag.getValue() + key;
+                } else if (IdConstants.LE_KEY.equals(tag.getKey())) {
+                    key = key + tag.getValue();
+                }
+            }
+            values.put(key, measurement.getValue());
+        }
+        return values;
+    }
+
+    private static void assertNear(long expected, long actual) {
+        Assertions.assertTrue(actual >= expected && actual <= expected + expected / 8,
+            "expected about " + expected + " but was " + actual);
+    }
+}
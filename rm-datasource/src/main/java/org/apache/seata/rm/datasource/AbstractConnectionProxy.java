@@ -18,7 +18,6 @@ package org.apache.seata.rm.datasource;
 
 import org.apache.seata.core.context.RootContext;
 import org.apache.seata.core.model.BranchType;
-import org.apache.seata.rm.datasource.sql.SQLVisitorFactory;
 import org.apache.seata.sqlparser.struct.TableMeta;
 import org.apache.seata.rm.datasource.sql.struct.TableMetaCacheFactory;
 import org.apache.seata.sqlparser.SQLRecognizer;
@@ -108,7 +107,7 @@ public abstract class AbstractConnectionProxy implements Connection {
         // support oracle 10.2+
         PreparedStatement targetPreparedStatement = null;
         if (BranchType.AT == RootContext.getBranchType()) {
-            List<SQLRecognizer> sqlRecognizers = SQLVisitorFactory.get(sql, dbType);
+            List<SQLRecognizer> sqlRecognizers = getDataSourceProxy().getSqlRecognizerCache().get(sql, dbType);
             if (sqlRecognizers != null && sqlRecognizers.size() == 1) {
                 SQLRecognizer sqlRecognizer = sqlRecognizers.get(0);
                 if (sqlRecognizer != null && sqlRecognizer.getSQLType() == SQLType.INSERT) {
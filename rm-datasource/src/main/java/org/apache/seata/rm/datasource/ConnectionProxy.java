@@ -20,6 +20,13 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.StringUtils;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
@@ -30,7 +37,10 @@ import org.apache.seata.core.model.BranchType;
 import org.apache.seata.rm.DefaultResourceManager;
 import org.apache.seata.rm.datasource.exec.LockConflictException;
 import org.apache.seata.rm.datasource.exec.LockRetryController;
+import org.apache.seata.rm.datasource.undo.BranchUndoLog;
+import org.apache.seata.rm.datasource.undo.EncodedUndoLog;
 import org.apache.seata.rm.datasource.undo.SQLUndoLog;
+import org.apache.seata.rm.datasource.undo.UndoLogManager;
 import org.apache.seata.rm.datasource.undo.UndoLogManagerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +48,7 @@ import org.slf4j.LoggerFactory;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_REPORT_RETRY_COUNT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_REPORT_SUCCESS_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_UNDO_PARALLEL_ENCODE;
 
 /**
  * The type Connection proxy.
@@ -57,6 +68,9 @@ public class ConnectionProxy extends AbstractConnectionProxy {
     public static final boolean IS_REPORT_SUCCESS_ENABLE = ConfigurationFactory.getInstance().getBoolean(
         ConfigurationKeys.CLIENT_REPORT_SUCCESS_ENABLE, DEFAULT_CLIENT_REPORT_SUCCESS_ENABLE);
 
+    private static final boolean IS_UNDO_PARALLEL_ENCODE = ConfigurationFactory.getInstance().getBoolean(
+        ConfigurationKeys.CLIENT_UNDO_PARALLEL_ENCODE, DEFAULT_CLIENT_UNDO_PARALLEL_ENCODE);
+
     /**
      * Instantiates a new Connection proxy.
      *
@@ -246,13 +260,23 @@ public class ConnectionProxy extends AbstractConnectionProxy {
     }
 
     private void processGlobalTransactionCommit() throws SQLException {
+        UndoLogManager undoLogManager = UndoLogManagerFactory.getUndoLogManager(this.getDbType());
+        // the undo log only needs the branch id to be inserted, so it may be encoded while the branch registers
+        CompletableFuture<EncodedUndoLog> encodedUndoLog = null;
+        if (IS_UNDO_PARALLEL_ENCODE && context.hasUndoLog() && context.hasLockKey()) {
+            encodedUndoLog = encodeUndoLogsAsync(undoLogManager);
+        }
         try {
             register();
         } catch (TransactionException e) {
             recognizeLockKeyConflictException(e, context.buildLockKeys());
         }
         try {
-            UndoLogManagerFactory.getUndoLogManager(this.getDbType()).flushUndoLogs(this);
+            if (encodedUndoLog != null) {
+                undoLogManager.flushUndoLogs(this, encodedUndoLog.join());
+            } else {
+                undoLogManager.flushUndoLogs(this);
+            }
             targetConnection.commit();
         } catch (Throwable ex) {
             LOGGER.error("process connectionProxy commit error: {}", ex.getMessage(), ex);
@@ -276,6 +300,15 @@ public class ConnectionProxy extends AbstractConnectionProxy {
         context.setBranchId(branchId);
     }
 
+    private CompletableFuture<EncodedUndoLog> encodeUndoLogsAsync(UndoLogManager undoLogManager) {
+        // the undo items are copied here, the branch id is left to the undo_log row
+        BranchUndoLog branchUndoLog = new BranchUndoLog();
+        branchUndoLog.setXid(context.getXid());
+        branchUndoLog.setSqlUndoLogs(context.getUndoItems());
+        return CompletableFuture.supplyAsync(() -> undoLogManager.encodeUndoLogs(branchUndoLog),
+            UndoLogEncodeExecutorHolder.INSTANCE);
+    }
+
     @Override
     public void rollback() throws SQLException {
         targetConnection.rollback();
@@ -378,4 +411,19 @@ public class ConnectionProxy extends AbstractConnectionProxy {
         protected void onException(Exception e) throws Exception {
         }
     }
+
+    private static class UndoLogEncodeExecutorHolder {
+
+        private static final Executor INSTANCE;
+
+        static {
+            int size = Runtime.getRuntime().availableProcessors();
+            // a full pool encodes on the committing thread, before the branch registers, as without the option
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new NamedThreadFactory("undoLogEncode", size, true),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            INSTANCE = executor;
+        }
+    }
 }
@@ -31,6 +31,7 @@ import org.apache.seata.core.context.RootContext;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.model.Resource;
 import org.apache.seata.rm.DefaultResourceManager;
+import org.apache.seata.rm.datasource.sql.SQLRecognizerCache;
 import org.apache.seata.rm.datasource.sql.struct.TableMetaCacheFactory;
 import org.apache.seata.rm.datasource.undo.UndoLogManager;
 import org.apache.seata.rm.datasource.undo.UndoLogManagerFactory;
@@ -40,6 +41,7 @@ import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_SQL_RECOGNIZER_CACHE_SIZE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_LOG_TABLE;
 
 /**
@@ -66,6 +68,8 @@ public class DataSourceProxy extends AbstractDataSourceProxy implements Resource
 
     private String productVersion;
 
+    private SQLRecognizerCache sqlRecognizerCache;
+
     /**
      * POLARDB-X 1.X -> TDDL
      * POLARDB-X 2.X & MySQL 5.6 -> PXC
@@ -117,6 +121,8 @@ public class DataSourceProxy extends AbstractDataSourceProxy implements Resource
             LOGGER.info("SQLServer support in AT mode is currently an experimental function, " +
                     "if you have any problems in use, please feedback to us");
         }
+        sqlRecognizerCache = new SQLRecognizerCache(ConfigurationFactory.getInstance()
+            .getInt(ConfigurationKeys.CLIENT_SQL_RECOGNIZER_CACHE_SIZE, DEFAULT_CLIENT_SQL_RECOGNIZER_CACHE_SIZE));
         initResourceId();
         DefaultResourceManager.get().registerResource(this);
         TableMetaCacheFactory.registerTableMeta(this);
@@ -203,6 +209,15 @@ public class DataSourceProxy extends AbstractDataSourceProxy implements Resource
         return dbType;
     }
 
+    /**
+     * Gets the sql recognizer cache.
+     *
+     * @return the sql recognizer cache
+     */
+    public SQLRecognizerCache getSqlRecognizerCache() {
+        return sqlRecognizerCache;
+    }
+
     @Override
     public ConnectionProxy getConnection() throws SQLException {
         Connection targetConnection = targetDataSource.getConnection();
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.seata.rm.datasource.sql.struct.Field;
+import org.apache.seata.rm.datasource.sql.struct.TableRecords;
 import org.apache.seata.sqlparser.util.ColumnUtils;
 
 /**
@@ -100,7 +101,9 @@ public class SqlGenerateUtils {
      * @param pkColumnNameList pkColumnNameList
      * @param pst preparedStatement
      * @throws SQLException SQLException
+     * @deprecated the pk fields are read in place, use {@link #setParamForPk(TableRecords, List, PreparedStatement)}
      */
+    @Deprecated
     public static void setParamForPk(List<Map<String, Field>> pkRowsList, List<String> pkColumnNameList,
                                      PreparedStatement pst) throws SQLException {
         int paramIndex = 1;
@@ -114,6 +117,24 @@ public class SqlGenerateUtils {
         }
     }
 
+    /**
+     * set parameter for PreparedStatement from the pk fields of the records, this is only used in pk sql.
+     *
+     * @param records the records
+     * @param pkColumnNameList pkColumnNameList
+     * @param pst preparedStatement
+     * @throws SQLException SQLException
+     */
+    public static void setParamForPk(TableRecords records, List<String> pkColumnNameList,
+                                     PreparedStatement pst) throws SQLException {
+        int pkCount = pkColumnNameList.size();
+        records.forEachPkRow(pkColumnNameList, (rowIndex, pkFields) -> {
+            for (int i = 0; i < pkCount; i++) {
+                pst.setObject(rowIndex * pkCount + i + 1, pkFields[i].getValue(), pkFields[i].getType());
+            }
+        });
+    }
+
     /**
      * each pk is a condition.the result will like :" id =? and userCode =?"
      *
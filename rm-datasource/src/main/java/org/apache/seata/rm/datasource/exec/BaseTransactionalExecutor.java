@@ -41,7 +41,6 @@ import org.apache.seata.sqlparser.util.ColumnUtils;
 import org.apache.seata.rm.datasource.ConnectionProxy;
 import org.apache.seata.rm.datasource.SqlGenerateUtils;
 import org.apache.seata.rm.datasource.StatementProxy;
-import org.apache.seata.rm.datasource.sql.struct.Field;
 import org.apache.seata.sqlparser.struct.TableMeta;
 import org.apache.seata.rm.datasource.sql.struct.TableMetaCacheFactory;
 import org.apache.seata.rm.datasource.sql.struct.TableRecords;
@@ -428,32 +427,29 @@ public abstract class BaseTransactionalExecutor<T, S extends Statement> implemen
      * @param rowsIncludingPK the records
      * @return the string as local key. the local key example(multi pk): "t_user:1_a,2_b"
      */
-    protected String buildLockKey(TableRecords rowsIncludingPK) {
-        if (rowsIncludingPK.size() == 0) {
+    protected String buildLockKey(TableRecords rowsIncludingPK) throws SQLException {
+        int rowSize = rowsIncludingPK.size();
+        if (rowSize == 0) {
             return null;
         }
         StringBuilder sb = new StringBuilder();
         sb.append(rowsIncludingPK.getTableMeta().getTableName());
         sb.append(":");
-        int rowSequence = 0;
-        List<Map<String, Field>> pksRows = rowsIncludingPK.pkRows();
         List<String> primaryKeysOnlyName = rowsIncludingPK.getTableMeta().getPrimaryKeyOnlyName();
-        for (Map<String, Field> rowMap : pksRows) {
-            int pkSplitIndex = 0;
-            for (String pkName : primaryKeysOnlyName) {
-                if (pkSplitIndex > 0) {
+        // only the pk values of a row are read, no map of the pk fields is built per row
+        rowsIncludingPK.forEachPkRow(primaryKeysOnlyName, (rowIndex, pkFields) -> {
+            for (int i = 0; i < pkFields.length; i++) {
+                if (i > 0) {
                     sb.append("_");
                 }
-                Object pkVal = rowMap.get(pkName).getValue();
-                validPk(String.valueOf(pkVal));
+                String pkVal = String.valueOf(pkFields[i].getValue());
+                validPk(pkVal);
                 sb.append(pkVal);
-                pkSplitIndex++;
             }
-            rowSequence++;
-            if (rowSequence < pksRows.size()) {
+            if (rowIndex < rowSize - 1) {
                 sb.append(",");
             }
-        }
+        });
         return sb.toString();
     }
 
@@ -35,7 +35,6 @@ import org.apache.seata.rm.datasource.exec.polardbx.PolarDBXUpdateJoinExecutor;
 import org.apache.seata.rm.datasource.exec.sqlserver.SqlServerDeleteExecutor;
 import org.apache.seata.rm.datasource.exec.sqlserver.SqlServerSelectForUpdateExecutor;
 import org.apache.seata.rm.datasource.exec.sqlserver.SqlServerUpdateExecutor;
-import org.apache.seata.rm.datasource.sql.SQLVisitorFactory;
 import org.apache.seata.sqlparser.SQLRecognizer;
 import org.apache.seata.sqlparser.SQLType;
 import org.apache.seata.sqlparser.util.JdbcConstants;
@@ -86,9 +85,8 @@ public class ExecuteTemplate {
 
         String dbType = statementProxy.getConnectionProxy().getDbType();
         if (CollectionUtils.isEmpty(sqlRecognizers)) {
-            sqlRecognizers = SQLVisitorFactory.get(
-                    statementProxy.getTargetSQL(),
-                    dbType);
+            sqlRecognizers = statementProxy.getConnectionProxy().getDataSourceProxy().getSqlRecognizerCache()
+                    .get(statementProxy.getTargetSQL(), dbType);
         }
         Executor<T> executor;
         if (CollectionUtils.isEmpty(sqlRecognizers)) {
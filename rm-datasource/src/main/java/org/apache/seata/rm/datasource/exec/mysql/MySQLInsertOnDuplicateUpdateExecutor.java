@@ -130,7 +130,7 @@ public class MySQLInsertOnDuplicateUpdateExecutor extends MySQLInsertExecutor im
      * @param beforeImage the before image
      * @param afterImage  the after image
      */
-    protected void prepareUndoLogAll(TableRecords beforeImage, TableRecords afterImage) {
+    protected void prepareUndoLogAll(TableRecords beforeImage, TableRecords afterImage) throws SQLException {
         if (beforeImage.getRows().isEmpty() && afterImage.getRows().isEmpty()) {
             return;
         }
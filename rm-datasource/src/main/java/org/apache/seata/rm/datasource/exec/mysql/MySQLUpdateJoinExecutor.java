@@ -198,7 +198,7 @@ public class MySQLUpdateJoinExecutor<T, S extends Statement> extends UpdateExecu
         TableMeta itemTableMeta = getTableMeta(itemTable);
         StringBuilder prefix = new StringBuilder("SELECT ");
         List<String> pkColumns = getColumnNamesWithTablePrefixList(itemTable, recognizer.getTableAlias(itemTable), itemTableMeta.getPrimaryKeyOnlyName());
-        String whereSql = SqlGenerateUtils.buildWhereConditionByPKs(pkColumns, beforeImage.pkRows().size(), getDbType());
+        String whereSql = SqlGenerateUtils.buildWhereConditionByPKs(pkColumns, beforeImage.size(), getDbType());
         String suffix = " FROM " + joinTable + " WHERE " + whereSql;
         //maybe duplicate row for select join sql.remove duplicate row by 'group by' condition
         suffix += GROUP_BY;
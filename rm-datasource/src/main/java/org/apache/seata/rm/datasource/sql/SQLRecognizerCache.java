@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.sql;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.sqlparser.SQLRecognizer;
+import org.apache.seata.sqlparser.struct.TableMeta;
+
+/**
+ * The sql recognizers of a data source, by the sql text, so the same sql is parsed once.
+ * <p>
+ * A data source has a single db type, so the sql text is the whole key and the db type is only read to parse.
+ * The recognizers are only read after they are built, and the lists cached are unmodifiable. The columns selected
+ * for the images of a statement are cached by its recognizer too, along with the table meta they are built from,
+ * so they are built again once the table meta is refreshed. A size of 0 or less parses every sql, as before.
+ */
+public class SQLRecognizerCache {
+
+    private final Cache<String, List<SQLRecognizer>> recognizerCache;
+
+    private final Cache<SQLRecognizer, ImageColumns> imageColumnsCache;
+
+    /**
+     * Instantiates a new sql recognizer cache.
+     *
+     * @param maxSize the max sql cached, 0 or less to disable the cache
+     */
+    public SQLRecognizerCache(int maxSize) {
+        if (maxSize > 0) {
+            this.recognizerCache = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+            // the recognizers are compared by identity, and dropped along with the sql they were parsed from
+            this.imageColumnsCache = Caffeine.newBuilder().maximumSize(maxSize).weakKeys().build();
+        } else {
+            this.recognizerCache = null;
+            this.imageColumnsCache = null;
+        }
+    }
+
+    /**
+     * Get the sql recognizers of a sql.
+     *
+     * @param sql    the sql
+     * @param dbType the db type of the data source
+     * @return the sql recognizers, empty or null when the sql needs no image
+     */
+    public List<SQLRecognizer> get(String sql, String dbType) {
+        if (recognizerCache == null) {
+            return SQLVisitorFactory.get(sql, dbType);
+        }
+        // an unsupported sql throws every time, the exception is not cached
+        return recognizerCache.get(sql, key -> {
+            List<SQLRecognizer> sqlRecognizers = SQLVisitorFactory.get(key, dbType);
+            return CollectionUtils.isEmpty(sqlRecognizers) ? Collections.emptyList()
+                : Collections.unmodifiableList(sqlRecognizers);
+        });
+    }
+
+    /**
+     * Get the columns selected for the images of a statement.
+     *
+     * @param sqlRecognizer the sql recognizer of the statement
+     * @param tableMeta     the table meta
+     * @param builder       builds the columns from the table meta
+     * @return the columns, unmodifiable when cached
+     */
+    public List<String> getImageColumns(SQLRecognizer sqlRecognizer, TableMeta tableMeta,
+                                        Function<TableMeta, List<String>> builder) {
+        if (imageColumnsCache == null) {
+            return builder.apply(tableMeta);
+        }
+        ImageColumns imageColumns = imageColumnsCache.getIfPresent(sqlRecognizer);
+        if (imageColumns == null || imageColumns.tableMeta != tableMeta) {
+            imageColumns = new ImageColumns(tableMeta, Collections.unmodifiableList(builder.apply(tableMeta)));
+            imageColumnsCache.put(sqlRecognizer, imageColumns);
+        }
+        return imageColumns.columns;
+    }
+
+    /**
+     * Whether the sql recognizers are cached.
+     *
+     * @return true if cached
+     */
+    public boolean isEnabled() {
+        return recognizerCache != null;
+    }
+
+    /**
+     * Get the count of the sql found in the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return recognizerCache == null ? 0 : recognizerCache.stats().hitCount();
+    }
+
+    /**
+     * Get the count of the sql parsed.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return recognizerCache == null ? 0 : recognizerCache.stats().missCount();
+    }
+
+    /**
+     * Get the ratio of the sql found in the cache, 1.0 before any sql.
+     *
+     * @return the hit rate
+     */
+    public double getHitRate() {
+        return recognizerCache == null ? 0 : recognizerCache.stats().hitRate();
+    }
+
+    /**
+     * Get the count of the sql evicted to keep the cache in its size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return recognizerCache == null ? 0 : recognizerCache.stats().evictionCount();
+    }
+
+    private static class ImageColumns {
+
+        private final TableMeta tableMeta;
+
+        private final List<String> columns;
+
+        ImageColumns(TableMeta tableMeta, List<String> columns) {
+            this.tableMeta = tableMeta;
+            this.columns = columns;
+        }
+    }
+}
@@ -164,6 +164,43 @@ public class TableRecords implements java.io.Serializable {
         return pkRows;
     }
 
+    /**
+     * Visit the primary key fields of each row, without building a map per row like {@link #pkRows()}.
+     * A field is looked up at the position it had in the previous row, which is where it is in every row read
+     * from one result set, so the rows are not scanned by name but once.
+     *
+     * @param pkNames the primary key column names, the order of the fields visited
+     * @param visitor visits the rows, the array of fields is reused from a row to the next
+     * @throws SQLException the sql exception thrown by the visitor
+     */
+    public void forEachPkRow(List<String> pkNames, PkRowVisitor visitor) throws SQLException {
+        int pkCount = pkNames.size();
+        int[] positions = new int[pkCount];
+        Field[] pkFields = new Field[pkCount];
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            List<Field> fields = rows.get(rowIndex).getFields();
+            for (int i = 0; i < pkCount; i++) {
+                String pkName = pkNames.get(i);
+                int position = positions[i];
+                if (position >= fields.size() || !pkName.equals(fields.get(position).getName())) {
+                    position = indexOf(fields, pkName);
+                    positions[i] = position;
+                }
+                pkFields[i] = fields.get(position);
+            }
+            visitor.visit(rowIndex, pkFields);
+        }
+    }
+
+    private int indexOf(List<Field> fields, String name) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (name.equals(fields.get(i).getName())) {
+                return i;
+            }
+        }
+        throw new ShouldNeverHappenException("the primary key " + name + " is not in the image of " + tableName);
+    }
+
     /**
      * Gets table meta.
      *
@@ -194,18 +231,29 @@ public class TableRecords implements java.io.Serializable {
     public static TableRecords buildRecords(TableMeta tmeta, ResultSet resultSet) throws SQLException {
         TableRecords records = new TableRecords(tmeta);
         ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-        Set<String> ignoreCasePKs = tmeta.getCaseInsensitivePKs();
         int columnCount = resultSetMetaData.getColumnCount();
+        // the columns are resolved once, at the first row, instead of for every cell
+        ColumnMeta[] columnMetas = null;
+        boolean[] primaryKeys = null;
 
         while (resultSet.next()) {
+            if (columnMetas == null) {
+                Set<String> ignoreCasePKs = tmeta.getCaseInsensitivePKs();
+                columnMetas = new ColumnMeta[columnCount];
+                primaryKeys = new boolean[columnCount];
+                for (int i = 1; i <= columnCount; i++) {
+                    String colName = resultSetMetaData.getColumnName(i);
+                    columnMetas[i - 1] = getColumnMeta(tmeta, colName);
+                    primaryKeys[i - 1] = ignoreCasePKs.contains(colName);
+                }
+            }
             List<Field> fields = new ArrayList<>(columnCount);
             for (int i = 1; i <= columnCount; i++) {
-                String colName = resultSetMetaData.getColumnName(i);
-                ColumnMeta col = getColumnMeta(tmeta,colName);
+                ColumnMeta col = columnMetas[i - 1];
                 int dataType = col.getDataType();
                 Field field = new Field();
                 field.setName(col.getColumnName());
-                if (ignoreCasePKs.contains(colName)) {
+                if (primaryKeys[i - 1]) {
                     field.setKeyType(KeyType.PRIMARY_KEY);
                 }
                 field.setType(dataType);
@@ -308,6 +356,22 @@ public class TableRecords implements java.io.Serializable {
         return data;
     }
 
+    /**
+     * Visits the primary key fields of a row.
+     */
+    @FunctionalInterface
+    public interface PkRowVisitor {
+
+        /**
+         * Visit a row.
+         *
+         * @param rowIndex the index of the row
+         * @param pkFields the primary key fields of the row, in the order of the pk names
+         * @throws SQLException the sql exception
+         */
+        void visit(int rowIndex, Field[] pkFields) throws SQLException;
+    }
+
     public static class EmptyTableRecords extends TableRecords {
 
         public EmptyTableRecords() {}
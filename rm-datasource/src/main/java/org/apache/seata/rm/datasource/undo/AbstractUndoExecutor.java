@@ -71,6 +71,11 @@ public abstract class AbstractUndoExecutor {
      */
     private static final String CHECK_SQL_TEMPLATE = "SELECT * FROM %s WHERE %s FOR UPDATE";
 
+    /**
+     * max rows of an undo batch
+     */
+    private static final int UNDO_BATCH_SIZE = 1000;
+
     /**
      * Switch of undo data validation
      */
@@ -120,9 +125,15 @@ public abstract class AbstractUndoExecutor {
         }
         PreparedStatement undoPST = null;
         try {
+            TableRecords undoRows = getUndoRows();
+            // the rows are undone in a statement or a batch for each UNDO_BATCH_SIZE rows, a single row needs neither
+            boolean batch = undoRows.size() > 1;
+            if (batch && executeMultiRowUndo(conn, undoRows, connectionProxy.getDbType())) {
+                return;
+            }
             String undoSQL = buildUndoSQL();
             undoPST = conn.prepareStatement(undoSQL);
-            TableRecords undoRows = getUndoRows();
+            int batchRows = 0;
             for (Row undoRow : undoRows.getRows()) {
                 ArrayList<Field> undoValues = new ArrayList<>();
                 List<Field> pkValueList = getOrderedPkList(undoRows, undoRow, connectionProxy.getDbType());
@@ -134,7 +145,18 @@ public abstract class AbstractUndoExecutor {
 
                 undoPrepare(undoPST, undoValues, pkValueList);
 
-                undoPST.executeUpdate();
+                if (!batch) {
+                    undoPST.executeUpdate();
+                    continue;
+                }
+                undoPST.addBatch();
+                if (++batchRows == UNDO_BATCH_SIZE) {
+                    undoPST.executeBatch();
+                    batchRows = 0;
+                }
+            }
+            if (batchRows > 0) {
+                undoPST.executeBatch();
             }
 
         } catch (Exception ex) {
@@ -151,6 +173,52 @@ public abstract class AbstractUndoExecutor {
 
     }
 
+    /**
+     * Build the undo sql of several rows in a single statement, where the pk values of the rows are the only
+     * parameters, e.g. the delete of the inserted rows.
+     *
+     * @param pkNameList the pk names, ordered as the parameters of each row
+     * @param rowSize    the row size
+     * @return the undo sql, or null to execute the undo sql of each row in a batch
+     * @throws SQLException the sql exception
+     */
+    protected String buildMultiRowUndoSQL(List<String> pkNameList, int rowSize) throws SQLException {
+        return null;
+    }
+
+    private boolean executeMultiRowUndo(Connection conn, TableRecords undoRows, String dbType) throws SQLException {
+        List<Row> rows = undoRows.getRows();
+        List<String> pkNameList = getOrderedPkList(undoRows, rows.get(0), dbType).stream()
+            .map(Field::getName).collect(Collectors.toList());
+        PreparedStatement undoPST = null;
+        int preparedSize = 0;
+        try {
+            for (int from = 0; from < rows.size(); from += UNDO_BATCH_SIZE) {
+                int to = Math.min(rows.size(), from + UNDO_BATCH_SIZE);
+                // the statement is prepared again for the last rows only
+                if (to - from != preparedSize) {
+                    String undoSQL = buildMultiRowUndoSQL(pkNameList, to - from);
+                    if (undoSQL == null) {
+                        return false;
+                    }
+                    IOUtil.close(undoPST);
+                    undoPST = conn.prepareStatement(undoSQL);
+                    preparedSize = to - from;
+                }
+                int paramIndex = 0;
+                for (int i = from; i < to; i++) {
+                    for (Field pkField : getOrderedPkList(undoRows, rows.get(i), dbType)) {
+                        undoPST.setObject(++paramIndex, pkField.getValue(), pkField.getType());
+                    }
+                }
+                undoPST.executeUpdate();
+            }
+            return true;
+        } finally {
+            IOUtil.close(undoPST);
+        }
+    }
+
     /**
      * Undo prepare.
      *
@@ -221,14 +221,16 @@ public abstract class AbstractUndoLogManager implements UndoLogManager {
             return;
         }
 
-        String xid = connectionContext.getXid();
-        long branchId = connectionContext.getBranchId();
-
         BranchUndoLog branchUndoLog = new BranchUndoLog();
-        branchUndoLog.setXid(xid);
-        branchUndoLog.setBranchId(branchId);
+        branchUndoLog.setXid(connectionContext.getXid());
+        branchUndoLog.setBranchId(connectionContext.getBranchId());
         branchUndoLog.setSqlUndoLogs(connectionContext.getUndoItems());
 
+        flushUndoLogs(cp, encodeUndoLogs(branchUndoLog));
+    }
+
+    @Override
+    public EncodedUndoLog encodeUndoLogs(BranchUndoLog branchUndoLog) {
         UndoLogParser parser = UndoLogParserFactory.getInstance();
         byte[] undoLogContent = parser.encode(branchUndoLog);
 
@@ -241,8 +243,14 @@ public abstract class AbstractUndoLogManager implements UndoLogManager {
             compressorType = ROLLBACK_INFO_COMPRESS_TYPE;
             undoLogContent = CompressorFactory.getCompressor(compressorType.getCode()).compress(undoLogContent);
         }
+        return new EncodedUndoLog(buildContext(parser.getName(), compressorType), undoLogContent);
+    }
 
-        insertUndoLogWithNormal(xid, branchId, buildContext(parser.getName(), compressorType), undoLogContent, cp.getTargetConnection());
+    @Override
+    public void flushUndoLogs(ConnectionProxy cp, EncodedUndoLog encodedUndoLog) throws SQLException {
+        ConnectionContext connectionContext = cp.getContext();
+        insertUndoLogWithNormal(connectionContext.getXid(), connectionContext.getBranchId(),
+            encodedUndoLog.getRollbackCtx(), encodedUndoLog.getContent(), cp.getTargetConnection());
     }
 
     /**
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.undo;
+
+/**
+ * The undo log of a branch encoded, and compressed if needed, ready to be inserted.
+ */
+public class EncodedUndoLog {
+
+    private final String rollbackCtx;
+
+    private final byte[] content;
+
+    /**
+     * Instantiates a new encoded undo log.
+     *
+     * @param rollbackCtx the rollback context, i.e. the serializer and the compressor
+     * @param content     the undo log content
+     */
+    public EncodedUndoLog(String rollbackCtx, byte[] content) {
+        this.rollbackCtx = rollbackCtx;
+        this.content = content;
+    }
+
+    /**
+     * Gets rollback context.
+     *
+     * @return the rollback context
+     */
+    public String getRollbackCtx() {
+        return rollbackCtx;
+    }
+
+    /**
+     * Gets content.
+     *
+     * @return the content
+     */
+    public byte[] getContent() {
+        return content;
+    }
+}
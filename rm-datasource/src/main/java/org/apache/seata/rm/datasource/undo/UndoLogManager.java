@@ -38,6 +38,30 @@ public interface UndoLogManager {
      */
     void flushUndoLogs(ConnectionProxy cp) throws SQLException;
 
+    /**
+     * Encode the undo logs of a branch, and compress them if needed, without touching the connection.
+     * The branch may not be registered yet, so the branch id of the undo log may be 0.
+     * By default nothing is encoded ahead, the undo logs are encoded by {@link #flushUndoLogs(ConnectionProxy)}.
+     *
+     * @param branchUndoLog the branch undo log
+     * @return the encoded undo log, null if the undo logs are encoded when flushed
+     */
+    default EncodedUndoLog encodeUndoLogs(BranchUndoLog branchUndoLog) {
+        return null;
+    }
+
+    /**
+     * Flush the undo logs encoded by {@link #encodeUndoLogs(BranchUndoLog)}, once the branch is registered.
+     * By default the encoded undo log is ignored and the undo logs are flushed by {@link #flushUndoLogs(ConnectionProxy)}.
+     *
+     * @param cp             the cp
+     * @param encodedUndoLog the encoded undo log, may be null
+     * @throws SQLException the sql exception
+     */
+    default void flushUndoLogs(ConnectionProxy cp, EncodedUndoLog encodedUndoLog) throws SQLException {
+        flushUndoLogs(cp);
+    }
+
     /**
      * Undo.
      *
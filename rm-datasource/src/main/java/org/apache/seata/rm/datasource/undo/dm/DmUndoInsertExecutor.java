@@ -70,6 +70,12 @@ public class DmUndoInsertExecutor extends AbstractUndoExecutor {
         return String.format(DELETE_SQL_TEMPLATE, sqlUndoLog.getTableName(), whereSql);
     }
 
+    @Override
+    protected String buildMultiRowUndoSQL(List<String> pkNameList, int rowSize) throws SQLException {
+        String whereSql = SqlGenerateUtils.buildWhereConditionByPKs(pkNameList, rowSize, JdbcConstants.DM);
+        return String.format(DELETE_SQL_TEMPLATE, sqlUndoLog.getTableName(), whereSql);
+    }
+
     /**
      * Instantiates a new My sql undo insert executor.
      *
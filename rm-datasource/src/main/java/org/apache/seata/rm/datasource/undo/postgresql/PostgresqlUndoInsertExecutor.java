@@ -69,6 +69,12 @@ public class PostgresqlUndoInsertExecutor extends AbstractUndoExecutor {
         return String.format(DELETE_SQL_TEMPLATE, sqlUndoLog.getTableName(), whereSql);
     }
 
+    @Override
+    protected String buildMultiRowUndoSQL(List<String> pkNameList, int rowSize) throws SQLException {
+        String whereSql = SqlGenerateUtils.buildWhereConditionByPKs(pkNameList, rowSize, JdbcConstants.POSTGRESQL);
+        return String.format(DELETE_SQL_TEMPLATE, sqlUndoLog.getTableName(), whereSql);
+    }
+
     /**
      * Instantiates a new postgresql undo insert executor.
      *
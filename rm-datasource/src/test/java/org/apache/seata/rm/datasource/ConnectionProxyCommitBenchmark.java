@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource;
+
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.seata.common.util.IOUtil;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.model.ResourceManager;
+import org.apache.seata.rm.DefaultResourceManager;
+import org.apache.seata.rm.datasource.sql.struct.Field;
+import org.apache.seata.rm.datasource.sql.struct.KeyType;
+import org.apache.seata.rm.datasource.sql.struct.Row;
+import org.apache.seata.rm.datasource.sql.struct.TableRecords;
+import org.apache.seata.rm.datasource.undo.SQLUndoLog;
+import org.apache.seata.sqlparser.SQLType;
+import org.apache.seata.sqlparser.struct.TableMeta;
+import org.h2.tools.Server;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * The commit of an AT branch whose undo log holds an update of {@code rows} rows, on an h2 started in the benchmark
+ * in the mode of {@code dbType} and reached over tcp, with the undo log manager of that db type. The branch register
+ * is a sleep of {@code registerMicros}, standing in for the round trip to the TC. The parallel encode forks a jvm
+ * with {@code client.undo.parallelEncode} on, so the undo log is encoded and compressed while the branch registers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionProxyCommitBenchmark {
+
+    @Param({"mysql", "postgresql"})
+    private String dbType;
+
+    @Param({"10", "1000"})
+    private int rows;
+
+    @Param({"1000"})
+    private long registerMicros;
+
+    private Server server;
+
+    private BasicDataSource dataSource;
+
+    private ConnectionProxy connectionProxy;
+
+    private SQLUndoLog sqlUndoLog;
+
+    private final AtomicLong branchId = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port)).start();
+        dataSource = new BasicDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl("jdbc:h2:tcp://localhost:" + port + "/mem:commit_benchmark;DB_CLOSE_DELAY=-1;MODE="
+            + ("mysql".equals(dbType) ? "MySQL" : "PostgreSQL"));
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        Connection connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SEQUENCE undo_log_id_seq");
+            statement.execute("CREATE TABLE undo_log (id bigint auto_increment, branch_id bigint, xid varchar(128), "
+                + "context varchar(128), rollback_info blob, log_status int, log_created timestamp, "
+                + "log_modified timestamp, PRIMARY KEY (id))");
+        }
+        connection.setAutoCommit(false);
+
+        DataSourceProxy dataSourceProxy = Mockito.mock(DataSourceProxy.class);
+        Mockito.when(dataSourceProxy.getResourceId()).thenReturn("jdbc:h2:commit_benchmark");
+        Mockito.when(dataSourceProxy.getDbType()).thenReturn(dbType);
+        connectionProxy = new ConnectionProxy(dataSourceProxy, connection);
+
+        ResourceManager resourceManager = Mockito.mock(ResourceManager.class);
+        Mockito.when(resourceManager.branchRegister(any(), anyString(), any(), anyString(), any(), any()))
+            .thenAnswer(invocation -> {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(registerMicros));
+                return branchId.incrementAndGet();
+            });
+        // the resource managers loaded at the first get would replace the mock
+        DefaultResourceManager.get();
+        DefaultResourceManager.mockResourceManager(BranchType.AT, resourceManager);
+
+        TableMeta tableMeta = new TableMeta();
+        tableMeta.setTableName("commit_benchmark");
+        TableRecords beforeImage = new TableRecords(tableMeta);
+        TableRecords afterImage = new TableRecords(tableMeta);
+        for (int i = 0; i < rows; i++) {
+            beforeImage.add(row(i, "aaa"));
+            afterImage.add(row(i, "xxx"));
+        }
+        sqlUndoLog = new SQLUndoLog();
+        sqlUndoLog.setSqlType(SQLType.UPDATE);
+        sqlUndoLog.setTableName("commit_benchmark");
+        sqlUndoLog.setBeforeImage(beforeImage);
+        sqlUndoLog.setAfterImage(afterImage);
+    }
+
+    private static Row row(int id, String name) {
+        Row row = new Row();
+        Field pk = new Field("id", Types.INTEGER, id);
+        pk.setKeyType(KeyType.PRIMARY_KEY);
+        row.add(pk);
+        row.add(new Field("name", Types.VARCHAR, name));
+        return row;
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() throws SQLException {
+        try (Statement statement = connectionProxy.getTargetConnection().createStatement()) {
+            statement.execute("DELETE FROM undo_log");
+        }
+        connectionProxy.getTargetConnection().commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        IOUtil.close(connectionProxy.getTargetConnection());
+        try {
+            dataSource.close();
+        } catch (SQLException ignored) {
+        }
+        server.stop();
+    }
+
+    @Benchmark
+    public void commit() throws SQLException {
+        doCommit();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dclient.undo.parallelEncode=true")
+    public void commitParallelEncode() throws SQLException {
+        doCommit();
+    }
+
+    private void doCommit() throws SQLException {
+        connectionProxy.bind("127.0.0.1:8091:" + branchId.get());
+        connectionProxy.appendLockKey("commit_benchmark:1");
+        connectionProxy.appendUndoLog(sqlUndoLog);
+        connectionProxy.commit();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ConnectionProxyCommitBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -23,13 +23,16 @@ import org.apache.seata.rm.GlobalLockTemplate;
 import org.apache.seata.rm.datasource.ConnectionProxy;
 import org.apache.seata.rm.datasource.StatementProxy;
 import org.apache.seata.rm.datasource.sql.struct.Field;
+import org.apache.seata.rm.datasource.sql.struct.Row;
 import org.apache.seata.sqlparser.struct.TableMeta;
 import org.apache.seata.rm.datasource.sql.struct.TableRecords;
 import org.apache.seata.sqlparser.SQLRecognizer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -81,7 +84,7 @@ public class BaseTransactionalExecutorTest {
     }
 
     @Test
-    public void testBuildLockKey() {
+    public void testBuildLockKey() throws SQLException {
         //build expect data
         String tableName = "test_name";
         String fieldOne = "1";
@@ -91,24 +94,14 @@ public class BaseTransactionalExecutorTest {
         String pkColumnName="id";
         //test_name:1,2
         String buildLockKeyExpect = tableName + split1 + fieldOne + split2 + fieldTwo;
-        // mock field
-        Field field1 = mock(Field.class);
-        when(field1.getValue()).thenReturn(fieldOne);
-        Field field2 = mock(Field.class);
-        when(field2.getValue()).thenReturn(fieldTwo);
-        List<Map<String,Field>> pkRows =new ArrayList<>();
-        pkRows.add(Collections.singletonMap(pkColumnName, field1));
-        pkRows.add(Collections.singletonMap(pkColumnName, field2));
-
         // mock tableMeta
         TableMeta tableMeta = mock(TableMeta.class);
         when(tableMeta.getTableName()).thenReturn(tableName);
         when(tableMeta.getPrimaryKeyOnlyName()).thenReturn(Arrays.asList(new String[]{pkColumnName}));
-        // mock tableRecords
-        TableRecords tableRecords = mock(TableRecords.class);
-        when(tableRecords.getTableMeta()).thenReturn(tableMeta);
-        when(tableRecords.size()).thenReturn(pkRows.size());
-        when(tableRecords.pkRows()).thenReturn(pkRows);
+        // build tableRecords
+        TableRecords tableRecords = new TableRecords(tableMeta);
+        tableRecords.add(buildRow(new Field("name", Types.VARCHAR, "a"), new Field(pkColumnName, Types.VARCHAR, fieldOne)));
+        tableRecords.add(buildRow(new Field("name", Types.VARCHAR, "b"), new Field(pkColumnName, Types.VARCHAR, fieldTwo)));
         // mock executor
         BaseTransactionalExecutor executor = mock(BaseTransactionalExecutor.class);
         when(executor.buildLockKey(tableRecords)).thenCallRealMethod();
@@ -117,7 +110,7 @@ public class BaseTransactionalExecutorTest {
     }
 
     @Test
-    public void testBuildLockKeyWithMultiPk() {
+    public void testBuildLockKeyWithMultiPk() throws SQLException {
         //build expect data
         String tableName = "test_name";
         String pkOneValue1 = "1";
@@ -131,36 +124,14 @@ public class BaseTransactionalExecutorTest {
         String pkTwoColumnName="userId";
         //test_name:1_one,2_two
         String buildLockKeyExpect = tableName + split1 + pkOneValue1+ split3 + pkTwoValue1  + split2 + pkOneValue2 + split3 + pkTwoValue2;
-        // mock field
-        Field pkOneField1 = mock(Field.class);
-        when(pkOneField1.getValue()).thenReturn(pkOneValue1);
-        Field pkOneField2 = mock(Field.class);
-        when(pkOneField2.getValue()).thenReturn(pkOneValue2);
-        Field pkTwoField1 = mock(Field.class);
-        when(pkTwoField1.getValue()).thenReturn(pkTwoValue1);
-        Field pkTwoField2 = mock(Field.class);
-        when(pkTwoField2.getValue()).thenReturn(pkTwoValue2);
-        List<Map<String,Field>> pkRows =new ArrayList<>();
-        Map<String, Field> row1 = new HashMap<String, Field>() {{
-            put(pkOneColumnName, pkOneField1);
-            put(pkTwoColumnName, pkTwoField1);
-        }};
-        pkRows.add(row1);
-        Map<String, Field> row2 = new HashMap<String, Field>() {{
-            put(pkOneColumnName, pkOneField2);
-            put(pkTwoColumnName, pkTwoField2);
-        }};
-        pkRows.add(row2);
-
         // mock tableMeta
         TableMeta tableMeta = mock(TableMeta.class);
         when(tableMeta.getTableName()).thenReturn(tableName);
         when(tableMeta.getPrimaryKeyOnlyName()).thenReturn(Arrays.asList(new String[]{pkOneColumnName,pkTwoColumnName}));
-        // mock tableRecords
-        TableRecords tableRecords = mock(TableRecords.class);
-        when(tableRecords.getTableMeta()).thenReturn(tableMeta);
-        when(tableRecords.size()).thenReturn(pkRows.size());
-        when(tableRecords.pkRows()).thenReturn(pkRows);
+        // build tableRecords, the pk columns are not in the same order in every row
+        TableRecords tableRecords = new TableRecords(tableMeta);
+        tableRecords.add(buildRow(new Field(pkOneColumnName, Types.VARCHAR, pkOneValue1), new Field(pkTwoColumnName, Types.VARCHAR, pkTwoValue1)));
+        tableRecords.add(buildRow(new Field(pkTwoColumnName, Types.VARCHAR, pkTwoValue2), new Field(pkOneColumnName, Types.VARCHAR, pkOneValue2)));
         // mock executor
         BaseTransactionalExecutor executor = mock(BaseTransactionalExecutor.class);
         when(executor.buildLockKey(tableRecords)).thenCallRealMethod();
@@ -168,4 +139,10 @@ public class BaseTransactionalExecutorTest {
         assertThat(executor.buildLockKey(tableRecords)).isEqualTo(buildLockKeyExpect);
     }
 
+    private Row buildRow(Field... fields) {
+        Row row = new Row();
+        row.setFields(new ArrayList<>(Arrays.asList(fields)));
+        return row;
+    }
+
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.exec;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.alibaba.druid.mock.MockStatement;
+import com.alibaba.druid.pool.DruidDataSource;
+import com.google.common.collect.Lists;
+import org.apache.seata.rm.datasource.ConnectionProxy;
+import org.apache.seata.rm.datasource.DataSourceProxy;
+import org.apache.seata.rm.datasource.DataSourceProxyTest;
+import org.apache.seata.rm.datasource.StatementProxy;
+import org.apache.seata.rm.datasource.mock.MockDriver;
+import org.apache.seata.rm.datasource.sql.SQLRecognizerCache;
+import org.apache.seata.rm.datasource.sql.struct.TableRecords;
+import org.apache.seata.sqlparser.SQLRecognizer;
+import org.apache.seata.sqlparser.util.JdbcConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * An update of the AT mode on a mock driver, from the sql to its after image, with the sql recognizer cache of
+ * {@code cacheSize} sql, 0 parses the sql and builds the image columns on every execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateExecutorBenchmark {
+
+    private static final String SQL = "update table_update_executor_test set name = 'WILL', updated = updated + 1 "
+        + "where id in (1, 2) and name is not null";
+
+    @Param({"0", "1024"})
+    private int cacheSize;
+
+    private DruidDataSource dataSource;
+
+    private DataSourceProxy dataSourceProxy;
+
+    private StatementProxy<Statement> statementProxy;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        List<String> returnValueColumnLabels = Lists.newArrayList("id", "name", "all", "updated");
+        Object[][] returnValue = new Object[][] {
+            new Object[] {1, "Tom", "keyword", 0},
+            new Object[] {2, "Jack", "keyword", 0},
+        };
+        Object[][] columnMetas = new Object[][] {
+            new Object[] {"", "", "table_update_executor_test", "id", Types.INTEGER, "INTEGER", 64, 0, 10, 1, "", "", 0, 0, 64, 1, "NO", "YES"},
+            new Object[] {"", "", "table_update_executor_test", "name", Types.VARCHAR, "VARCHAR", 64, 0, 10, 0, "", "", 0, 0, 64, 2, "YES", "NO"},
+            new Object[] {"", "", "table_update_executor_test", "ALL", Types.VARCHAR, "VARCHAR", 64, 0, 10, 0, "", "", 0, 0, 64, 2, "YES", "NO"},
+            new Object[] {"", "", "table_update_executor_test", "updated", Types.INTEGER, "INTEGER", 64, 0, 10, 0, "", "", 0, 0, 64, 2, "YES", "NO"},
+        };
+        Object[][] indexMetas = new Object[][] {
+            new Object[] {"PRIMARY", "id", false, "", 3, 1, "A", 34},
+        };
+        Object[][] onUpdateColumnsReturnValue = new Object[][] {
+            new Object[] {0, "updated", Types.INTEGER, "INTEGER", 64, 10, 0, 0}
+        };
+        MockDriver mockDriver = new MockDriver(returnValueColumnLabels, returnValue, columnMetas, indexMetas, null,
+            onUpdateColumnsReturnValue);
+        dataSource = new DruidDataSource();
+        dataSource.setUrl("jdbc:mock:xxx");
+        dataSource.setDriver(mockDriver);
+
+        dataSourceProxy = DataSourceProxyTest.getDataSourceProxy(dataSource);
+        setField("dbType", JdbcConstants.MYSQL);
+        setField("sqlRecognizerCache", new SQLRecognizerCache(cacheSize));
+        ConnectionProxy connectionProxy = new ConnectionProxy(dataSourceProxy, dataSource.getConnection().getConnection());
+        statementProxy = new StatementProxy<>(connectionProxy, new MockStatement(dataSource.getConnection().getConnection()));
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = DataSourceProxy.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(dataSourceProxy, value);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public TableRecords update() throws SQLException {
+        List<SQLRecognizer> sqlRecognizers = dataSourceProxy.getSqlRecognizerCache().get(SQL, JdbcConstants.MYSQL);
+        UpdateExecutor<Object, Statement> executor = new UpdateExecutor<>(statementProxy, (statement, args) -> null,
+            sqlRecognizers.get(0));
+        return executor.afterImage(executor.beforeImage());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(UpdateExecutorBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.seata.sqlparser.SQLRecognizer;
+import org.apache.seata.sqlparser.SQLType;
+import org.apache.seata.sqlparser.struct.TableMeta;
+import org.apache.seata.sqlparser.util.JdbcConstants;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SQLRecognizerCacheTest {
+
+    private static final String UPDATE_SQL = "update t set name = ? where id = ?";
+
+    @Test
+    public void testGet() {
+        SQLRecognizerCache cache = new SQLRecognizerCache(16);
+        List<SQLRecognizer> recognizers = cache.get(UPDATE_SQL, JdbcConstants.MYSQL);
+        Assertions.assertEquals(1, recognizers.size());
+        Assertions.assertEquals(SQLType.UPDATE, recognizers.get(0).getSQLType());
+        Assertions.assertSame(recognizers, cache.get(UPDATE_SQL, JdbcConstants.MYSQL));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> recognizers.add(recognizers.get(0)));
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(0.5, cache.getHitRate());
+
+        // a plain select needs no image, it is cached as empty
+        Assertions.assertTrue(cache.get("select * from t", JdbcConstants.MYSQL).isEmpty());
+        Assertions.assertTrue(cache.get("select * from t", JdbcConstants.MYSQL).isEmpty());
+        Assertions.assertEquals(2, cache.getHitCount());
+
+        // an unsupported sql is not cached
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> cache.get("", JdbcConstants.MYSQL));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> cache.get("", JdbcConstants.MYSQL));
+    }
+
+    @Test
+    public void testDisabled() {
+        SQLRecognizerCache cache = new SQLRecognizerCache(0);
+        Assertions.assertFalse(cache.isEnabled());
+        List<SQLRecognizer> recognizers = cache.get(UPDATE_SQL, JdbcConstants.MYSQL);
+        Assertions.assertNotSame(recognizers, cache.get(UPDATE_SQL, JdbcConstants.MYSQL));
+        Assertions.assertEquals(0, cache.getHitCount());
+
+        AtomicInteger built = new AtomicInteger();
+        TableMeta tableMeta = new TableMeta();
+        cache.getImageColumns(recognizers.get(0), tableMeta, meta -> buildColumns(built));
+        cache.getImageColumns(recognizers.get(0), tableMeta, meta -> buildColumns(built));
+        Assertions.assertEquals(2, built.get());
+    }
+
+    @Test
+    public void testImageColumns() {
+        SQLRecognizerCache cache = new SQLRecognizerCache(16);
+        SQLRecognizer recognizer = cache.get(UPDATE_SQL, JdbcConstants.MYSQL).get(0);
+        AtomicInteger built = new AtomicInteger();
+        TableMeta tableMeta = new TableMeta();
+        List<String> columns = cache.getImageColumns(recognizer, tableMeta, meta -> buildColumns(built));
+        Assertions.assertEquals(Collections.singletonList("name"), columns);
+        Assertions.assertSame(columns, cache.getImageColumns(recognizer, tableMeta, meta -> buildColumns(built)));
+        Assertions.assertEquals(1, built.get());
+
+        // a refreshed table meta builds the columns again
+        cache.getImageColumns(recognizer, new TableMeta(), meta -> buildColumns(built));
+        Assertions.assertEquals(2, built.get());
+
+        // another statement of the same table has its own columns
+        SQLRecognizer other = cache.get("update t set age = ? where id = ?", JdbcConstants.MYSQL).get(0);
+        cache.getImageColumns(other, tableMeta, meta -> buildColumns(built));
+        Assertions.assertEquals(3, built.get());
+    }
+
+    private static List<String> buildColumns(AtomicInteger built) {
+        built.incrementAndGet();
+        List<String> columns = new ArrayList<>();
+        columns.add("name");
+        return columns;
+    }
+}
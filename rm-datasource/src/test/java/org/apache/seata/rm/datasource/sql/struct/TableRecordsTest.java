@@ -37,6 +37,7 @@ import org.junit.jupiter.api.Test;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -118,6 +119,41 @@ public class TableRecordsTest {
         Assertions.assertEquals(returnValue.length, tableRecords.pkRows().size());
     }
 
+    @Test
+    public void testForEachPkRow() throws SQLException {
+        MockDriver mockDriver = new MockDriver(returnValueColumnLabels, returnValue, columnMetas, indexMetas);
+        DruidDataSource dataSource = new DruidDataSource();
+        dataSource.setUrl("jdbc:mock:xxx");
+        dataSource.setDriver(mockDriver);
+
+        MockStatementBase mockStatement = new MockStatement(dataSource.getConnection().getConnection());
+        DataSourceProxy proxy = DataSourceProxyTest.getDataSourceProxy(dataSource);
+
+        TableMeta tableMeta = TableMetaCacheFactory.getTableMetaCache(JdbcConstants.MYSQL).getTableMeta(proxy.getPlainConnection(),
+            "table_records_test", proxy.getResourceId());
+
+        ResultSet resultSet = mockDriver.executeQuery(mockStatement, "select * from table_records_test");
+
+        TableRecords tableRecords = TableRecords.buildRecords(tableMeta, resultSet);
+        // a row added by hand, with the pk at another position
+        Row row = new Row();
+        row.add(new Field("name", Types.VARCHAR, "Lucy"));
+        row.add(new Field("id", Types.INTEGER, 3));
+        tableRecords.add(row);
+
+        List<Object> pkValues = new ArrayList<>();
+        tableRecords.forEachPkRow(tableMeta.getPrimaryKeyOnlyName(), (rowIndex, pkFields) -> {
+            Assertions.assertEquals(pkValues.size(), rowIndex);
+            Assertions.assertEquals(1, pkFields.length);
+            Assertions.assertEquals("id", pkFields[0].getName());
+            pkValues.add(pkFields[0].getValue());
+        });
+        Assertions.assertEquals(Lists.newArrayList(1, 2, 3), pkValues);
+
+        Assertions.assertThrows(ShouldNeverHappenException.class,
+            () -> tableRecords.forEachPkRow(Lists.newArrayList("no_such_column"), (rowIndex, pkFields) -> { }));
+    }
+
     @Test
     public void testBuildRecords() throws SQLException {
         MockDriver mockDriver = new MockDriver(returnValueColumnLabels, returnValue, columnMetas, indexMetas);
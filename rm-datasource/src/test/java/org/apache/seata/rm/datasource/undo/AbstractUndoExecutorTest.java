@@ -20,6 +20,7 @@ import org.apache.seata.rm.datasource.SqlGenerateUtils;
 import org.apache.seata.rm.datasource.undo.SQLUndoLog;
 import org.apache.seata.sqlparser.SQLType;
 import org.apache.seata.rm.datasource.sql.struct.Field;
+import org.apache.seata.rm.datasource.sql.struct.KeyType;
 import org.apache.seata.rm.datasource.sql.struct.Row;
 import org.apache.seata.sqlparser.struct.TableMeta;
 import org.apache.seata.rm.datasource.sql.struct.TableRecords;
@@ -159,6 +160,67 @@ public class AbstractUndoExecutorTest extends BaseH2Test {
         Assertions.assertFalse(spy.dataValidationAndGoOn(connection));
     }
 
+    @Test
+    public void executeOnBatches() throws SQLException {
+        // more rows than a batch
+        int rows = 2500;
+        for (int i = 0; i < rows; i++) {
+            execSQL("INSERT INTO table_name(id, name) VALUES (" + i + ",'aaa');");
+        }
+        TableRecords beforeImage = execQuery(tableMeta, "SELECT * FROM table_name");
+        execSQL("update table_name set name = 'xxx'");
+        TableRecords afterImage = execQuery(tableMeta, "SELECT * FROM table_name");
+        // the mocked table meta has no case insensitive pk
+        for (Row row : beforeImage.getRows()) {
+            row.getFields().stream().filter(field -> "ID".equals(field.getName()))
+                .forEach(field -> field.setKeyType(KeyType.PRIMARY_KEY));
+        }
+
+        SQLUndoLog sqlUndoLog = new SQLUndoLog();
+        sqlUndoLog.setSqlType(SQLType.UPDATE);
+        sqlUndoLog.setTableMeta(tableMeta);
+        sqlUndoLog.setTableName("table_name");
+        sqlUndoLog.setBeforeImage(beforeImage);
+        sqlUndoLog.setAfterImage(afterImage);
+
+        new TestUndoExecutor(sqlUndoLog, true, "UPDATE table_name SET name = ? WHERE id = ?").executeOn(connection);
+        Assertions.assertEquals(0, execQuery(tableMeta, "SELECT * FROM table_name WHERE name = 'xxx'").size());
+        Assertions.assertEquals(rows, execQuery(tableMeta, "SELECT * FROM table_name WHERE name = 'aaa'").size());
+    }
+
+    @Test
+    public void executeOnMultiRowUndo() throws SQLException {
+        int rows = 2500;
+        TableRecords beforeImage = execQuery(tableMeta, "SELECT * FROM table_name");
+        for (int i = 0; i < rows; i++) {
+            execSQL("INSERT INTO table_name(id, name) VALUES (" + i + ",'aaa');");
+        }
+        TableRecords afterImage = execQuery(tableMeta, "SELECT * FROM table_name");
+        for (Row row : afterImage.getRows()) {
+            row.getFields().stream().filter(field -> "ID".equals(field.getName()))
+                .forEach(field -> field.setKeyType(KeyType.PRIMARY_KEY));
+        }
+
+        SQLUndoLog sqlUndoLog = new SQLUndoLog();
+        sqlUndoLog.setSqlType(SQLType.INSERT);
+        sqlUndoLog.setTableMeta(tableMeta);
+        sqlUndoLog.setTableName("table_name");
+        sqlUndoLog.setBeforeImage(beforeImage);
+        sqlUndoLog.setAfterImage(afterImage);
+
+        List<Integer> rowSizes = new ArrayList<>();
+        // no undo sql of a single row, the rows are only deleted by the multi row statements
+        new TestUndoExecutor(sqlUndoLog, false) {
+            @Override
+            protected String buildMultiRowUndoSQL(List<String> pkNameList, int rowSize) throws SQLException {
+                rowSizes.add(rowSize);
+                return "DELETE FROM table_name WHERE " + SqlGenerateUtils.buildWhereConditionByPKs(pkNameList, rowSize, "h2");
+            }
+        }.executeOn(connection);
+        Assertions.assertEquals(Arrays.asList(1000, 500), rowSizes);
+        Assertions.assertEquals(0, execQuery(tableMeta, "SELECT * FROM table_name").size());
+    }
+
     @Test
     public void testParsePK() {
         TableMeta tableMeta = Mockito.mock(TableMeta.class);
@@ -239,14 +301,20 @@ public class AbstractUndoExecutorTest extends BaseH2Test {
 
 class TestUndoExecutor extends AbstractUndoExecutor {
     private final boolean isDelete;
+    private final String undoSQL;
     public TestUndoExecutor(SQLUndoLog sqlUndoLog, boolean isDelete) {
+        this(sqlUndoLog, isDelete, null);
+    }
+
+    public TestUndoExecutor(SQLUndoLog sqlUndoLog, boolean isDelete, String undoSQL) {
         super(sqlUndoLog);
         this.isDelete = isDelete;
+        this.undoSQL = undoSQL;
     }
 
     @Override
     protected String buildUndoSQL() {
-        return null;
+        return undoSQL;
     }
 
     @Override
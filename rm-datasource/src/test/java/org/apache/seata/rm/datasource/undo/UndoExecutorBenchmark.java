@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.undo;
+
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.seata.common.util.IOUtil;
+import org.apache.seata.rm.datasource.ConnectionProxy;
+import org.apache.seata.rm.datasource.DataSourceProxy;
+import org.apache.seata.rm.datasource.DataSourceProxyTest;
+import org.apache.seata.rm.datasource.SqlGenerateUtils;
+import org.apache.seata.rm.datasource.sql.struct.Field;
+import org.apache.seata.rm.datasource.sql.struct.KeyType;
+import org.apache.seata.rm.datasource.sql.struct.Row;
+import org.apache.seata.rm.datasource.sql.struct.TableRecords;
+import org.apache.seata.sqlparser.SQLType;
+import org.apache.seata.sqlparser.struct.ColumnMeta;
+import org.apache.seata.sqlparser.struct.IndexMeta;
+import org.apache.seata.sqlparser.struct.IndexType;
+import org.apache.seata.sqlparser.struct.TableMeta;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The rollback of an update or an insert of {@code rows} rows, with the data validation, on an h2 started in the
+ * benchmark and reached over tcp. The row by row method is what the undo executor did before: one execute per
+ * row. The rows inserted are deleted by a statement for each 1000 rows, the rows updated are restored in batches,
+ * which the h2 client still sends row by row, unlike the drivers that rewrite or pipeline a batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UndoExecutorBenchmark {
+
+    private static final String UPDATE_UNDO_SQL = "UPDATE undo_benchmark SET name = ? WHERE id = ?";
+
+    private static final String INSERT_UNDO_SQL = "DELETE FROM undo_benchmark WHERE id = ?";
+
+    @Param({"100", "5000"})
+    private int rows;
+
+    @Param({"UPDATE", "INSERT"})
+    private SQLType sqlType;
+
+    private Server server;
+
+    private BasicDataSource dataSource;
+
+    private ConnectionProxy connection;
+
+    private AbstractUndoExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port)).start();
+        dataSource = new BasicDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl("jdbc:h2:tcp://localhost:" + port + "/mem:undo_benchmark;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        DataSourceProxy dataSourceProxy = DataSourceProxyTest.getDataSourceProxy(dataSource);
+        connection = dataSourceProxy.getConnection();
+        execute("CREATE TABLE undo_benchmark (id int, name varchar(64), PRIMARY KEY (id))");
+        TableMeta tableMeta = tableMeta();
+        SQLUndoLog sqlUndoLog = new SQLUndoLog();
+        sqlUndoLog.setSqlType(sqlType);
+        sqlUndoLog.setTableMeta(tableMeta);
+        sqlUndoLog.setTableName("undo_benchmark");
+        if (sqlType == SQLType.UPDATE) {
+            insert();
+            sqlUndoLog.setBeforeImage(query(tableMeta));
+            execute("UPDATE undo_benchmark SET name = 'xxx'");
+            sqlUndoLog.setAfterImage(query(tableMeta));
+            executor = new AbstractUndoExecutor(sqlUndoLog) {
+                @Override
+                protected String buildUndoSQL() {
+                    return UPDATE_UNDO_SQL;
+                }
+
+                @Override
+                protected TableRecords getUndoRows() {
+                    return sqlUndoLog.getBeforeImage();
+                }
+            };
+        } else {
+            sqlUndoLog.setBeforeImage(TableRecords.empty(tableMeta));
+            insert();
+            sqlUndoLog.setAfterImage(query(tableMeta));
+            executor = new AbstractUndoExecutor(sqlUndoLog) {
+                @Override
+                protected String buildUndoSQL() {
+                    return INSERT_UNDO_SQL;
+                }
+
+                @Override
+                protected String buildMultiRowUndoSQL(List<String> pkNameList, int rowSize) throws SQLException {
+                    return "DELETE FROM undo_benchmark WHERE "
+                        + SqlGenerateUtils.buildWhereConditionByPKs(pkNameList, rowSize, "h2");
+                }
+
+                @Override
+                protected void undoPrepare(PreparedStatement undoPST, ArrayList<Field> undoValues,
+                                           List<Field> pkValueList) throws SQLException {
+                    undoPST.setObject(1, pkValueList.get(0).getValue(), pkValueList.get(0).getType());
+                }
+
+                @Override
+                protected TableRecords getUndoRows() {
+                    return sqlUndoLog.getAfterImage();
+                }
+            };
+        }
+    }
+
+    private void insert() throws SQLException {
+        try (PreparedStatement insert = connection.getTargetConnection()
+            .prepareStatement("INSERT INTO undo_benchmark (id, name) VALUES (?, 'aaa')")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setInt(1, i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void redo() throws SQLException {
+        if (sqlType == SQLType.UPDATE) {
+            execute("UPDATE undo_benchmark SET name = 'xxx'");
+        } else {
+            execute("DELETE FROM undo_benchmark");
+            insert();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        execute("DROP TABLE undo_benchmark");
+        IOUtil.close(connection);
+        dataSource.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public void undo() throws SQLException {
+        executor.executeOn(connection);
+    }
+
+    @Benchmark
+    public void rowByRow() throws SQLException {
+        if (!executor.dataValidationAndGoOn(connection)) {
+            return;
+        }
+        TableRecords undoRows = executor.getUndoRows();
+        try (PreparedStatement undoPST = connection.getTargetConnection().prepareStatement(executor.buildUndoSQL())) {
+            for (Row undoRow : undoRows.getRows()) {
+                ArrayList<Field> undoValues = new ArrayList<>();
+                for (Field field : undoRow.getFields()) {
+                    if (field.getKeyType() != KeyType.PRIMARY_KEY) {
+                        undoValues.add(field);
+                    }
+                }
+                executor.undoPrepare(undoPST, undoValues, executor.getOrderedPkList(undoRows, undoRow, "h2"));
+                undoPST.executeUpdate();
+            }
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.getTargetConnection().createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private TableRecords query(TableMeta tableMeta) throws SQLException {
+        Connection conn = connection.getTargetConnection();
+        try (Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM undo_benchmark")) {
+            return TableRecords.buildRecords(tableMeta, rs);
+        }
+    }
+
+    private static TableMeta tableMeta() {
+        TableMeta tableMeta = new TableMeta();
+        tableMeta.setTableName("undo_benchmark");
+        ColumnMeta id = new ColumnMeta();
+        id.setColumnName("ID");
+        id.setDataType(Types.INTEGER);
+        ColumnMeta name = new ColumnMeta();
+        name.setColumnName("NAME");
+        name.setDataType(Types.VARCHAR);
+        tableMeta.getAllColumns().put("ID", id);
+        tableMeta.getAllColumns().put("NAME", name);
+        IndexMeta primary = new IndexMeta();
+        primary.setIndextype(IndexType.PRIMARY);
+        primary.setValues(Collections.singletonList(id));
+        tableMeta.getAllIndexes().put("PRIMARY", primary);
+        return tableMeta;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(UndoExecutorBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
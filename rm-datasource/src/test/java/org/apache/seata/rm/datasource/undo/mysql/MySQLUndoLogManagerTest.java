@@ -31,6 +31,7 @@ import com.alibaba.druid.pool.DruidDataSource;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
+import org.apache.seata.core.compressor.CompressorType;
 import org.apache.seata.rm.datasource.ConnectionContext;
 import org.apache.seata.rm.datasource.ConnectionProxy;
 import org.apache.seata.rm.datasource.DataSourceProxy;
@@ -54,6 +55,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 /**
  */
@@ -161,6 +163,38 @@ public class MySQLUndoLogManagerTest {
         Assertions.assertDoesNotThrow(() -> undoLogManager.flushUndoLogs(connectionProxy));
     }
 
+    @Test
+    public void testEncodeUndoLogs() throws NoSuchFieldException, IllegalAccessException {
+        UndoLogParser parser = UndoLogParserFactory.getInstance();
+        BranchUndoLog smallBranchUndoLog = new BranchUndoLog();
+        smallBranchUndoLog.setXid("test_xid");
+        smallBranchUndoLog.setSqlUndoLogs(Collections.singletonList(getUndoLogItem(1)));
+        EncodedUndoLog small = undoLogManager.encodeUndoLogs(smallBranchUndoLog);
+        Assertions.assertTrue(small.getRollbackCtx().contains(parser.getName()));
+        Assertions.assertTrue(small.getRollbackCtx().contains(CompressorType.NONE.name()));
+        Assertions.assertEquals("test_xid", parser.decode(small.getContent()).getXid());
+
+        BranchUndoLog hugeBranchUndoLog = new BranchUndoLog();
+        hugeBranchUndoLog.setXid("test_xid1");
+        hugeBranchUndoLog.setSqlUndoLogs(Collections.singletonList(getUndoLogItem(10000)));
+        EncodedUndoLog huge = undoLogManager.encodeUndoLogs(hugeBranchUndoLog);
+        Assertions.assertFalse(huge.getRollbackCtx().contains(CompressorType.NONE.name()));
+        Assertions.assertTrue(huge.getContent().length < parser.encode(hugeBranchUndoLog).length);
+    }
+
+    @Test
+    public void testDefaultEncodeFlushesAsBefore() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        // a manager implementing only the flush of the connection encodes nothing ahead and flushes through it
+        UndoLogManager manager = Mockito.mock(UndoLogManager.class, Mockito.CALLS_REAL_METHODS);
+        BranchUndoLog branchUndoLog = new BranchUndoLog();
+        branchUndoLog.setXid("test_xid");
+        branchUndoLog.setSqlUndoLogs(Collections.singletonList(getUndoLogItem(1)));
+        EncodedUndoLog encodedUndoLog = manager.encodeUndoLogs(branchUndoLog);
+        Assertions.assertNull(encodedUndoLog);
+        manager.flushUndoLogs(connectionProxy, encodedUndoLog);
+        Mockito.verify(manager).flushUndoLogs(connectionProxy);
+    }
+
     @Test
     public void testNeedCompress() throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
         SQLUndoLog smallUndoItem = getUndoLogItem(1);
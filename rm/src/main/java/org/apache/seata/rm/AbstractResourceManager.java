@@ -26,6 +26,7 @@ import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.RmTransactionException;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.model.Resource;
@@ -53,6 +54,10 @@ public abstract class AbstractResourceManager implements ResourceManager {
             DefaultValues.DEFAULT_APPLICATION_DATA_SIZE_LIMIT);
 
     private static boolean throwDataSizeExp = CONFIG.getBoolean(ConfigurationKeys.RM_APPLICATION_DATA_SIZE_CHECK, false);
+
+    private static boolean binaryLockKeyEnable = CONFIG.getBoolean(ConfigurationKeys.CLIENT_LOCK_BINARY_LOCK_KEY_ENABLE,
+            DefaultValues.DEFAULT_CLIENT_LOCK_BINARY_LOCK_KEY_ENABLE);
+
     /**
      * registry branch record
      *
@@ -72,6 +77,10 @@ public abstract class AbstractResourceManager implements ResourceManager {
             BranchRegisterRequest request = new BranchRegisterRequest();
             request.setXid(xid);
             request.setLockKey(lockKeys);
+            if (binaryLockKeyEnable && StringUtils.isNotBlank(lockKeys)) {
+                // sent instead of the text to the servers reading it, see RmNettyRemotingClient#prepareRequest
+                request.setBinaryLockKey(LockKeyCodec.encode(lockKeys));
+            }
             request.setResourceId(resourceId);
             request.setBranchType(branchType);
             request.setApplicationData(applicationData);
@@ -19,6 +19,7 @@ package org.apache.seata.spring.boot.autoconfigure.properties.client;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_BINARY_LOCK_KEY_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_RETRY_INTERVAL;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_RETRY_TIMES;
@@ -32,6 +33,7 @@ public class LockProperties {
     private int retryInterval = DEFAULT_CLIENT_LOCK_RETRY_INTERVAL;
     private int retryTimes = DEFAULT_CLIENT_LOCK_RETRY_TIMES;
     private boolean retryPolicyBranchRollbackOnConflict = DEFAULT_CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT;
+    private boolean binaryLockKeyEnable = DEFAULT_CLIENT_LOCK_BINARY_LOCK_KEY_ENABLE;
 
     public int getRetryInterval() {
         return retryInterval;
@@ -59,4 +61,13 @@ public class LockProperties {
         this.retryPolicyBranchRollbackOnConflict = retryPolicyBranchRollbackOnConflict;
         return this;
     }
+
+    public boolean isBinaryLockKeyEnable() {
+        return binaryLockKeyEnable;
+    }
+
+    public LockProperties setBinaryLockKeyEnable(boolean binaryLockKeyEnable) {
+        this.binaryLockKeyEnable = binaryLockKeyEnable;
+        return this;
+    }
 }
@@ -19,6 +19,8 @@ package org.apache.seata.spring.boot.autoconfigure.properties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_BATCH_MAX_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_BATCH_MAX_WAIT_MICROS;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_CLIENT_BATCH_SEND_REQUEST;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_RM_CLIENT_BATCH_SEND_REQUEST;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_RESPONSE;
@@ -26,6 +28,8 @@ import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_TM_CLIENT_BAT
 import static org.apache.seata.common.DefaultValues.DEFAULT_RPC_RM_REQUEST_TIMEOUT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_RPC_TC_REQUEST_TIMEOUT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_RPC_TM_REQUEST_TIMEOUT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_TC_SERVER_BATCH_MAX_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_TC_SERVER_BATCH_MAX_WAIT_MICROS;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSPORT_HEARTBEAT;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.TRANSPORT_PREFIX;
 
@@ -75,6 +79,26 @@ public class TransportProperties {
      */
     private boolean enableTcServerBatchSendResponse = DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_RESPONSE;
 
+    /**
+     * the max requests merged into one batch
+     */
+    private int clientBatchMaxSize = DEFAULT_CLIENT_BATCH_MAX_SIZE;
+
+    /**
+     * the max micros a request waits for others to batch with
+     */
+    private long clientBatchMaxWaitMicros = DEFAULT_CLIENT_BATCH_MAX_WAIT_MICROS;
+
+    /**
+     * the max responses sent to a channel in one batch
+     */
+    private int tcServerBatchMaxSize = DEFAULT_TC_SERVER_BATCH_MAX_SIZE;
+
+    /**
+     * the max micros a response waits for the other requests in flight on its channel
+     */
+    private long tcServerBatchMaxWaitMicros = DEFAULT_TC_SERVER_BATCH_MAX_WAIT_MICROS;
+
     /**
      * rpcRmRequestTimeout
      */
@@ -171,6 +195,42 @@ public class TransportProperties {
         this.enableTcServerBatchSendResponse = enableTcServerBatchSendResponse;
     }
 
+    public int getClientBatchMaxSize() {
+        return clientBatchMaxSize;
+    }
+
+    public TransportProperties setClientBatchMaxSize(int clientBatchMaxSize) {
+        this.clientBatchMaxSize = clientBatchMaxSize;
+        return this;
+    }
+
+    public long getClientBatchMaxWaitMicros() {
+        return clientBatchMaxWaitMicros;
+    }
+
+    public TransportProperties setClientBatchMaxWaitMicros(long clientBatchMaxWaitMicros) {
+        this.clientBatchMaxWaitMicros = clientBatchMaxWaitMicros;
+        return this;
+    }
+
+    public int getTcServerBatchMaxSize() {
+        return tcServerBatchMaxSize;
+    }
+
+    public TransportProperties setTcServerBatchMaxSize(int tcServerBatchMaxSize) {
+        this.tcServerBatchMaxSize = tcServerBatchMaxSize;
+        return this;
+    }
+
+    public long getTcServerBatchMaxWaitMicros() {
+        return tcServerBatchMaxWaitMicros;
+    }
+
+    public TransportProperties setTcServerBatchMaxWaitMicros(long tcServerBatchMaxWaitMicros) {
+        this.tcServerBatchMaxWaitMicros = tcServerBatchMaxWaitMicros;
+        return this;
+    }
+
     public long getRpcRmRequestTimeout() {
         return rpcRmRequestTimeout;
     }
@@ -37,6 +37,8 @@ public class RegistryRaftProperties {
 
     private Long tokenValidityInMilliseconds = 29 * 60 * 1000L;
 
+    private Boolean followerRead = false;
+
     public Long getMetadataMaxAgeMs() {
         return metadataMaxAgeMs;
     }
@@ -69,6 +71,14 @@ public class RegistryRaftProperties {
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
     }
 
+    public Boolean getFollowerRead() {
+        return followerRead;
+    }
+
+    public void setFollowerRead(Boolean followerRead) {
+        this.followerRead = followerRead;
+    }
+
     public String getServerAddr() {
         return serverAddr;
     }
@@ -21,6 +21,7 @@ import org.springframework.stereotype.Component;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_METRICS_ENABLED;
 import static org.apache.seata.common.DefaultValues.DEFAULT_METRICS_EXPORTER_LIST;
+import static org.apache.seata.common.DefaultValues.DEFAULT_METRICS_HISTOGRAM_BUCKETS;
 import static org.apache.seata.common.DefaultValues.DEFAULT_METRICS_REGISTRY_TYPE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_PROMETHEUS_PORT;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.METRICS_PREFIX;
@@ -34,6 +35,7 @@ public class MetricsProperties {
     private String registryType = DEFAULT_METRICS_REGISTRY_TYPE;
     private String exporterList = DEFAULT_METRICS_EXPORTER_LIST;
     private int exporterPrometheusPort = DEFAULT_PROMETHEUS_PORT;
+    private String histogramBuckets = DEFAULT_METRICS_HISTOGRAM_BUCKETS;
 
 
     public Boolean getEnabled() {
@@ -71,4 +73,13 @@ public class MetricsProperties {
         this.exporterPrometheusPort = exporterPrometheusPort;
         return this;
     }
+
+    public String getHistogramBuckets() {
+        return histogramBuckets;
+    }
+
+    public MetricsProperties setHistogramBuckets(String histogramBuckets) {
+        this.histogramBuckets = histogramBuckets;
+        return this;
+    }
 }
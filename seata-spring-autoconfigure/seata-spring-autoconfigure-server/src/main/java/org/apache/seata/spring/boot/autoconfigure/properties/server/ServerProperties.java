@@ -32,6 +32,8 @@ public class ServerProperties {
     private Boolean enableCheckAuth = true;
     private Boolean enableParallelRequestHandle = true;
     private Boolean enableParallelHandleBranch = false;
+    private Integer parallelHandleBranchThreads = 32;
+    private Integer parallelHandleBranchQueueSize = 1024;
     private Integer retryDeadThreshold = 130000;
     private Integer servicePort;
     private Integer xaerNotaRetryTimeout = 60000;
@@ -117,6 +119,22 @@ public class ServerProperties {
         this.enableParallelHandleBranch = enableParallelHandleBranch;
     }
 
+    public Integer getParallelHandleBranchThreads() {
+        return parallelHandleBranchThreads;
+    }
+
+    public void setParallelHandleBranchThreads(Integer parallelHandleBranchThreads) {
+        this.parallelHandleBranchThreads = parallelHandleBranchThreads;
+    }
+
+    public Integer getParallelHandleBranchQueueSize() {
+        return parallelHandleBranchQueueSize;
+    }
+
+    public void setParallelHandleBranchQueueSize(Integer parallelHandleBranchQueueSize) {
+        this.parallelHandleBranchQueueSize = parallelHandleBranchQueueSize;
+    }
+
     public Boolean getApplicationDataLimitCheck() {
         return applicationDataLimitCheck;
     }
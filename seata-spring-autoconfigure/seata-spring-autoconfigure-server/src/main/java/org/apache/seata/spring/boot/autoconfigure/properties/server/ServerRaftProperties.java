@@ -16,6 +16,9 @@
  */
 package org.apache.seata.spring.boot.autoconfigure.properties.server;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -32,12 +35,27 @@ public class ServerRaftProperties {
 
     private String group;
 
+    private String groups;
+
+    /**
+     * the raft group serving each transaction service group, the others are served by the default group
+     */
+    private Map<String, String> groupMapping = new HashMap<>();
+
     private Boolean autoJoin = false;
 
     private Integer snapshotInterval = 600;
 
+    private boolean snapshotStream = false;
+
     private Integer applyBatch = 32;
 
+    private Integer proposalBatchSize = 1;
+
+    private boolean followerRead = false;
+
+    private Long followerReadMaxStalenessMs = 0L;
+
     private Integer maxAppendBufferSize = 256 * 1024;
 
     private Integer maxReplicatorInflightMsgs = 256;
@@ -74,6 +92,15 @@ public class ServerRaftProperties {
         return this;
     }
 
+    public boolean isSnapshotStream() {
+        return snapshotStream;
+    }
+
+    public ServerRaftProperties setSnapshotStream(boolean snapshotStream) {
+        this.snapshotStream = snapshotStream;
+        return this;
+    }
+
     public Integer getApplyBatch() {
         return applyBatch;
     }
@@ -83,6 +110,33 @@ public class ServerRaftProperties {
         return this;
     }
 
+    public Integer getProposalBatchSize() {
+        return proposalBatchSize;
+    }
+
+    public ServerRaftProperties setProposalBatchSize(Integer proposalBatchSize) {
+        this.proposalBatchSize = proposalBatchSize;
+        return this;
+    }
+
+    public boolean isFollowerRead() {
+        return followerRead;
+    }
+
+    public ServerRaftProperties setFollowerRead(boolean followerRead) {
+        this.followerRead = followerRead;
+        return this;
+    }
+
+    public Long getFollowerReadMaxStalenessMs() {
+        return followerReadMaxStalenessMs;
+    }
+
+    public ServerRaftProperties setFollowerReadMaxStalenessMs(Long followerReadMaxStalenessMs) {
+        this.followerReadMaxStalenessMs = followerReadMaxStalenessMs;
+        return this;
+    }
+
     public Integer getMaxAppendBufferSize() {
         return maxAppendBufferSize;
     }
@@ -170,6 +224,24 @@ public class ServerRaftProperties {
         this.group = group;
     }
 
+    public String getGroups() {
+        return groups;
+    }
+
+    public ServerRaftProperties setGroups(String groups) {
+        this.groups = groups;
+        return this;
+    }
+
+    public Map<String, String> getGroupMapping() {
+        return groupMapping;
+    }
+
+    public ServerRaftProperties setGroupMapping(Map<String, String> groupMapping) {
+        this.groupMapping = groupMapping;
+        return this;
+    }
+
     public boolean isSync() {
         return sync;
     }
@@ -21,6 +21,10 @@ import org.springframework.stereotype.Component;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_ASYNC_COMMITTING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_COMMITING_RETRY_PERIOD;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_MAX_CONCURRENCY_PER_RESOURCE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_PAGE_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_WORKER_COUNT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_WORKER_QUEUE_SIZE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACKING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TIMEOUT_RETRY_PERIOD;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.SERVER_RECOVERY_PREFIX;
@@ -35,6 +39,10 @@ public class ServerRecoveryProperties {
     private long asyncCommittingRetryPeriod = DEFAULT_ASYNC_COMMITTING_RETRY_PERIOD;
     private long rollbackingRetryPeriod = DEFAULT_ROLLBACKING_RETRY_PERIOD;
     private long timeoutRetryPeriod = DEFAULT_TIMEOUT_RETRY_PERIOD;
+    private int workerCount = DEFAULT_RECOVERY_WORKER_COUNT;
+    private int workerQueueSize = DEFAULT_RECOVERY_WORKER_QUEUE_SIZE;
+    private int maxConcurrencyPerResource = DEFAULT_RECOVERY_MAX_CONCURRENCY_PER_RESOURCE;
+    private int pageSize = DEFAULT_RECOVERY_PAGE_SIZE;
 
     public long getCommittingRetryPeriod() {
         return committingRetryPeriod;
@@ -71,4 +79,40 @@ public class ServerRecoveryProperties {
         this.timeoutRetryPeriod = timeoutRetryPeriod;
         return this;
     }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    public ServerRecoveryProperties setWorkerCount(int workerCount) {
+        this.workerCount = workerCount;
+        return this;
+    }
+
+    public int getWorkerQueueSize() {
+        return workerQueueSize;
+    }
+
+    public ServerRecoveryProperties setWorkerQueueSize(int workerQueueSize) {
+        this.workerQueueSize = workerQueueSize;
+        return this;
+    }
+
+    public int getMaxConcurrencyPerResource() {
+        return maxConcurrencyPerResource;
+    }
+
+    public ServerRecoveryProperties setMaxConcurrencyPerResource(int maxConcurrencyPerResource) {
+        this.maxConcurrencyPerResource = maxConcurrencyPerResource;
+        return this;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public ServerRecoveryProperties setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
 }
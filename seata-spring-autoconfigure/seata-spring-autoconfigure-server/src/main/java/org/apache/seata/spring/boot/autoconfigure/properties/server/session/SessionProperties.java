@@ -40,6 +40,16 @@ public class SessionProperties {
      */
     private Boolean enableBranchAsyncRemove = false;
 
+    /**
+     * enable to detect timeout global sessions by a timing wheel instead of a full scan
+     */
+    private Boolean enableTimeoutWheel = false;
+
+    /**
+     * the period of the full scan still done when the timing wheel is enabled
+     */
+    private Long timeoutFullScanPeriod = 60000L;
+
     public Integer getBranchAsyncQueueSize() {
         return branchAsyncQueueSize;
     }
@@ -57,4 +67,22 @@ public class SessionProperties {
         this.enableBranchAsyncRemove = enableBranchAsyncRemove;
         return this;
     }
+
+    public Boolean getEnableTimeoutWheel() {
+        return enableTimeoutWheel;
+    }
+
+    public SessionProperties setEnableTimeoutWheel(Boolean enableTimeoutWheel) {
+        this.enableTimeoutWheel = enableTimeoutWheel;
+        return this;
+    }
+
+    public Long getTimeoutFullScanPeriod() {
+        return timeoutFullScanPeriod;
+    }
+
+    public SessionProperties setTimeoutFullScanPeriod(Long timeoutFullScanPeriod) {
+        this.timeoutFullScanPeriod = timeoutFullScanPeriod;
+        return this;
+    }
 }
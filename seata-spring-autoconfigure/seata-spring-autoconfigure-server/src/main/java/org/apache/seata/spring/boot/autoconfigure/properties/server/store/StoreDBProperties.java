@@ -21,6 +21,9 @@ import org.springframework.stereotype.Component;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_DB_MAX_CONN;
 import static org.apache.seata.common.DefaultValues.DEFAULT_DB_MIN_CONN;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_DB_BATCH_CONCURRENCY;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_DB_BATCH_ENABLED;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_DB_BATCH_MAX_SIZE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_QUERY_LIMIT;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_DB_PREFIX;
 
@@ -43,6 +46,9 @@ public class StoreDBProperties {
     private String distributedLockTable = "distributed_lock";
     private Integer queryLimit = DEFAULT_QUERY_LIMIT;
     private Long maxWait = 5000L;
+    private Boolean lockBatchEnabled = DEFAULT_LOCK_DB_BATCH_ENABLED;
+    private Integer lockBatchMaxSize = DEFAULT_LOCK_DB_BATCH_MAX_SIZE;
+    private Integer lockBatchConcurrency = DEFAULT_LOCK_DB_BATCH_CONCURRENCY;
 
     public String getDatasource() {
         return datasource;
@@ -168,4 +174,31 @@ public class StoreDBProperties {
         this.maxWait = maxWait;
         return this;
     }
+
+    public Boolean getLockBatchEnabled() {
+        return lockBatchEnabled;
+    }
+
+    public StoreDBProperties setLockBatchEnabled(Boolean lockBatchEnabled) {
+        this.lockBatchEnabled = lockBatchEnabled;
+        return this;
+    }
+
+    public Integer getLockBatchMaxSize() {
+        return lockBatchMaxSize;
+    }
+
+    public StoreDBProperties setLockBatchMaxSize(Integer lockBatchMaxSize) {
+        this.lockBatchMaxSize = lockBatchMaxSize;
+        return this;
+    }
+
+    public Integer getLockBatchConcurrency() {
+        return lockBatchConcurrency;
+    }
+
+    public StoreDBProperties setLockBatchConcurrency(Integer lockBatchConcurrency) {
+        this.lockBatchConcurrency = lockBatchConcurrency;
+        return this;
+    }
 }
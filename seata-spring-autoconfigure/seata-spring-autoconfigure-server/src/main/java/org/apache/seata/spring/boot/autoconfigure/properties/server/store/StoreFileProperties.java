@@ -33,6 +33,11 @@ public class StoreFileProperties {
     private Integer fileWriteBufferCacheSize = 16384;
     private Integer sessionReloadReadSize = DEFAULT_SERVICE_SESSION_RELOAD_READ_SIZE;
     private String flushDiskMode = "async";
+    private String lockTable = "map";
+    private Boolean groupCommit = false;
+    private Boolean segmentedLog = false;
+    private Integer segmentSize = 67108864;
+    private Integer checkpointSegments = 4;
 
     public String getDir() {
         return dir;
@@ -87,4 +92,49 @@ public class StoreFileProperties {
         this.flushDiskMode = flushDiskMode;
         return this;
     }
+
+    public String getLockTable() {
+        return lockTable;
+    }
+
+    public StoreFileProperties setLockTable(String lockTable) {
+        this.lockTable = lockTable;
+        return this;
+    }
+
+    public Boolean getGroupCommit() {
+        return groupCommit;
+    }
+
+    public StoreFileProperties setGroupCommit(Boolean groupCommit) {
+        this.groupCommit = groupCommit;
+        return this;
+    }
+
+    public Boolean getSegmentedLog() {
+        return segmentedLog;
+    }
+
+    public StoreFileProperties setSegmentedLog(Boolean segmentedLog) {
+        this.segmentedLog = segmentedLog;
+        return this;
+    }
+
+    public Integer getSegmentSize() {
+        return segmentSize;
+    }
+
+    public StoreFileProperties setSegmentSize(Integer segmentSize) {
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+    public Integer getCheckpointSegments() {
+        return checkpointSegments;
+    }
+
+    public StoreFileProperties setCheckpointSegments(Integer checkpointSegments) {
+        this.checkpointSegments = checkpointSegments;
+        return this;
+    }
 }
@@ -19,6 +19,9 @@ package org.apache.seata.spring.boot.autoconfigure.properties.server.store;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_CACHE_ENABLED;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_CACHE_EXPIRE_MILLIS;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_CACHE_MAX_SIZE;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_PREFIX;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_SESSION_PREFIX;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_LOCK_PREFIX;
@@ -74,6 +77,9 @@ public class StoreProperties {
     @ConfigurationProperties(prefix = STORE_LOCK_PREFIX)
     public static class Lock {
         private String mode;
+        private Boolean cacheEnabled = DEFAULT_LOCK_CACHE_ENABLED;
+        private Integer cacheMaxSize = DEFAULT_LOCK_CACHE_MAX_SIZE;
+        private Long cacheExpireMillis = DEFAULT_LOCK_CACHE_EXPIRE_MILLIS;
 
         public String getMode() {
             return mode;
@@ -83,5 +89,32 @@ public class StoreProperties {
             this.mode = mode;
             return this;
         }
+
+        public Boolean getCacheEnabled() {
+            return cacheEnabled;
+        }
+
+        public StoreProperties.Lock setCacheEnabled(Boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+            return this;
+        }
+
+        public Integer getCacheMaxSize() {
+            return cacheMaxSize;
+        }
+
+        public StoreProperties.Lock setCacheMaxSize(Integer cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+            return this;
+        }
+
+        public Long getCacheExpireMillis() {
+            return cacheExpireMillis;
+        }
+
+        public StoreProperties.Lock setCacheExpireMillis(Long cacheExpireMillis) {
+            this.cacheExpireMillis = cacheExpireMillis;
+            return this;
+        }
     }
 }
@@ -21,6 +21,7 @@ import org.apache.seata.serializer.protobuf.generated.AbstractTransactionRequest
 import org.apache.seata.serializer.protobuf.generated.BranchRegisterRequestProto;
 import org.apache.seata.serializer.protobuf.generated.BranchTypeProto;
 import org.apache.seata.serializer.protobuf.generated.MessageTypeProto;
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 
@@ -39,7 +40,10 @@ public class BranchRegisterRequestConvertor implements PbConvertor<BranchRegiste
 
         final String applicationData = branchRegisterRequest.getApplicationData();
         final String resourceId = branchRegisterRequest.getResourceId();
-        final String lockKey = branchRegisterRequest.getLockKey();
+        // the proto has no binary lock key, it is sent as text
+        final byte[] binaryLockKey = branchRegisterRequest.getBinaryLockKey();
+        final String lockKey = branchRegisterRequest.getLockKey() == null && binaryLockKey != null
+            ? LockKeyCodec.toText(binaryLockKey) : branchRegisterRequest.getLockKey();
         BranchRegisterRequestProto result = BranchRegisterRequestProto.newBuilder().setAbstractTransactionRequest(
             abstractTransactionRequestProto).setApplicationData(applicationData == null ? "" : applicationData)
             .setBranchType(BranchTypeProto.valueOf(branchRegisterRequest.getBranchType().name())).setLockKey(
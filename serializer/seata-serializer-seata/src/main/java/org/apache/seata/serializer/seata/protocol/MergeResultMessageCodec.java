@@ -19,6 +19,7 @@ package org.apache.seata.serializer.seata.protocol;
 import java.nio.ByteBuffer;
 
 import io.netty.buffer.ByteBuf;
+import org.apache.seata.common.util.BufferUtils;
 import org.apache.seata.serializer.seata.MessageCodecFactory;
 import org.apache.seata.serializer.seata.MessageSeataCodec;
 import org.apache.seata.core.protocol.AbstractMessage;
@@ -52,7 +53,7 @@ public class MergeResultMessageCodec extends AbstractMessageCodec {
             messageCodec.encode(msg, out);
         }
 
-        int length = out.readableBytes() - 4;
+        int length = out.writerIndex() - writeIndex - 4;
         out.setInt(writeIndex,length);
         if (msgs.length > 20) {
             if (LOGGER.isDebugEnabled()) {
@@ -72,9 +73,9 @@ public class MergeResultMessageCodec extends AbstractMessageCodec {
         if (in.remaining() < length) {
             return;
         }
-        byte[] buffer = new byte[length];
-        in.get(buffer);
-        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+        ByteBuffer byteBuffer = in.slice();
+        BufferUtils.limit(byteBuffer, length);
+        BufferUtils.position(in, in.position() + length);
         decode(mergeResultMessage, byteBuffer);
     }
 
@@ -19,6 +19,7 @@ package org.apache.seata.serializer.seata.protocol.transaction;
 import java.nio.ByteBuffer;
 
 import io.netty.buffer.ByteBuf;
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 
@@ -67,8 +68,12 @@ public class BranchRegisterRequestCodec extends AbstractTransactionRequestToTCCo
             out.writeShort((short)0);
         }
 
-        // 4. Lock Key
-        if (lockKey != null) {
+        // 4. Lock Key, the binary one starts with a byte no text lock key starts with
+        byte[] binaryLockKey = branchRegisterRequest.getBinaryLockKey();
+        if (binaryLockKey != null) {
+            out.writeInt(binaryLockKey.length);
+            out.writeBytes(binaryLockKey);
+        } else if (lockKey != null) {
             byte[] lockKeyBytes = lockKey.getBytes(UTF8);
             out.writeInt(lockKeyBytes.length);
             if (lockKeyBytes.length > 0) {
@@ -112,7 +117,11 @@ public class BranchRegisterRequestCodec extends AbstractTransactionRequestToTCCo
         if (iLen > 0) {
             byte[] bs = new byte[iLen];
             in.get(bs);
-            branchRegisterRequest.setLockKey(new String(bs, UTF8));
+            if (LockKeyCodec.isBinary(bs)) {
+                branchRegisterRequest.setBinaryLockKey(bs);
+            } else {
+                branchRegisterRequest.setLockKey(new String(bs, UTF8));
+            }
         }
 
         int applicationDataLen = in.getInt();
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.serializer.seata;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.seata.core.compressor.CompressorType;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.protocol.MergedWarpMessage;
+import org.apache.seata.core.protocol.ProtocolConstants;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
+import org.apache.seata.core.rpc.netty.v1.ProtocolV1Decoder;
+import org.apache.seata.core.rpc.netty.v1.ProtocolV1Encoder;
+import org.apache.seata.core.serializer.SerializerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Encode and decode of a branch register request frame, alone or merged with others as the client batches them.
+ * Run it with {@code -prof gc} to compare the bytes allocated per frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtocolV1CodecBenchmark {
+
+    /**
+     * the number of requests in the frame, 1 is sent without merging
+     */
+    @Param({"1", "20"})
+    private int batchSize;
+
+    private final ProtocolV1Encoder encoder = new ProtocolV1Encoder();
+
+    private ProtocolV1Decoder decoder;
+
+    private RpcMessage rpcMessage;
+
+    private ByteBuf out;
+
+    private ByteBuf frame;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        decoder = new ProtocolV1Decoder();
+        rpcMessage = new RpcMessage();
+        rpcMessage.setId(1);
+        rpcMessage.setMessageType(ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
+        rpcMessage.setCodec(SerializerType.SEATA.getCode());
+        rpcMessage.setCompressor(CompressorType.NONE.getCode());
+        if (batchSize == 1) {
+            rpcMessage.setBody(newBranchRegisterRequest(0));
+        } else {
+            MergedWarpMessage mergedWarpMessage = new MergedWarpMessage();
+            mergedWarpMessage.msgs = new ArrayList<>(batchSize);
+            mergedWarpMessage.msgIds = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                mergedWarpMessage.msgs.add(newBranchRegisterRequest(i));
+                mergedWarpMessage.msgIds.add(i);
+            }
+            rpcMessage.setBody(mergedWarpMessage);
+        }
+        out = PooledByteBufAllocator.DEFAULT.buffer(64 * 1024);
+        frame = PooledByteBufAllocator.DEFAULT.buffer(64 * 1024);
+        encoder.encode(null, rpcMessage, frame);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        out.release();
+        frame.release();
+    }
+
+    @Benchmark
+    public int encode() {
+        out.clear();
+        encoder.encode(null, rpcMessage, out);
+        return out.writerIndex();
+    }
+
+    @Benchmark
+    public Object decode() {
+        return decoder.decodeFrame(frame.duplicate());
+    }
+
+    private static BranchRegisterRequest newBranchRegisterRequest(int i) {
+        BranchRegisterRequest request = new BranchRegisterRequest();
+        request.setXid("192.168.0.1:8091:" + (2000042948L + i));
+        request.setBranchType(BranchType.AT);
+        request.setResourceId("jdbc:mysql://127.0.0.1:3306/seata_order");
+        request.setLockKey("t_order:" + (1000 + i) + ";t_order_item:" + (2000 + i));
+        request.setApplicationData("{\"autoCommit\":false}");
+        return request;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ProtocolV1CodecBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -16,6 +16,10 @@
  */
 package org.apache.seata.serializer.seata.protocol;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+
 import org.apache.seata.serializer.seata.SeataSerializer;
 import org.apache.seata.core.exception.TransactionExceptionCode;
 import org.apache.seata.core.protocol.AbstractResultMessage;
@@ -72,6 +76,31 @@ public class MergeResultMessageSerializerTest {
 
     }
 
+    /**
+     * Test codec through a buffer already holding a frame head.
+     */
+    @Test
+    public void test_codec_with_buf() {
+        MergeResultMessage mergeResultMessage = new MergeResultMessage();
+        mergeResultMessage.setMsgs(new AbstractResultMessage[] {buildGlobalBeginResponse("a1"),
+            buildGlobalBeginResponse("a2")});
+
+        ByteBuf out = PooledByteBufAllocator.DEFAULT.buffer();
+        try {
+            out.writeZero(16);
+            seataSerializer.serialize(mergeResultMessage, out);
+            out.skipBytes(16);
+            assertThat(ByteBufUtil.getBytes(out)).isEqualTo(seataSerializer.serialize(mergeResultMessage));
+
+            MergeResultMessage mergeResultMessage2 = seataSerializer.deserialize(out);
+            assertThat(out.isReadable()).isFalse();
+            assertThat(mergeResultMessage2.msgs.length).isEqualTo(2);
+            assertThat(((GlobalBeginResponse)mergeResultMessage2.msgs[1]).getXid()).isEqualTo("a2");
+        } finally {
+            out.release();
+        }
+    }
+
     private GlobalBeginResponse buildGlobalBeginResponse(String xid) {
         final GlobalBeginResponse globalBeginResponse = new GlobalBeginResponse();
         globalBeginResponse.setXid(xid);
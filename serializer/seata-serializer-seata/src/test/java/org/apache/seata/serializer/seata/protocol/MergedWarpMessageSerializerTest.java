@@ -19,6 +19,10 @@ package org.apache.seata.serializer.seata.protocol;
 import java.util.ArrayList;
 import java.util.List;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+
 import org.apache.seata.core.protocol.AbstractMessage;
 import org.apache.seata.core.protocol.MergedWarpMessage;
 import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
@@ -77,6 +81,35 @@ public class MergedWarpMessageSerializerTest {
 
     }
 
+    /**
+     * Test codec through a buffer already holding a frame head.
+     */
+    @Test
+    public void test_codec_with_buf() {
+        MergedWarpMessage mergedWarpMessage = new MergedWarpMessage();
+        mergedWarpMessage.msgs = new ArrayList<>();
+        mergedWarpMessage.msgIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            mergedWarpMessage.msgs.add(buildGlobalBeginRequest("x" + i));
+            mergedWarpMessage.msgIds.add(i);
+        }
+
+        ByteBuf out = PooledByteBufAllocator.DEFAULT.buffer();
+        try {
+            out.writeZero(16);
+            seataSerializer.serialize(mergedWarpMessage, out);
+            out.skipBytes(16);
+            assertThat(ByteBufUtil.getBytes(out)).isEqualTo(seataSerializer.serialize(mergedWarpMessage));
+
+            MergedWarpMessage mergedWarpMessage2 = seataSerializer.deserialize(out);
+            assertThat(out.isReadable()).isFalse();
+            assertThat(mergedWarpMessage2.msgIds).isEqualTo(mergedWarpMessage.msgIds);
+            assertThat(((GlobalBeginRequest)mergedWarpMessage2.msgs.get(2)).getTransactionName()).isEqualTo("x2");
+        } finally {
+            out.release();
+        }
+    }
+
     private GlobalBeginRequest buildGlobalBeginRequest(String name) {
         final GlobalBeginRequest globalBeginRequest = new GlobalBeginRequest();
         globalBeginRequest.setTransactionName(name);
@@ -17,6 +17,7 @@
 package org.apache.seata.serializer.seata.protocol.transaction;
 
 import org.apache.seata.serializer.seata.SeataSerializer;
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.junit.jupiter.api.Test;
@@ -58,4 +59,25 @@ public class BranchRegisterRequestSerializerTest {
 
     }
 
+    /**
+     * Test codec of the binary lock key.
+     */
+    @Test
+    public void test_codec_binary_lock_key() {
+        BranchRegisterRequest branchRegisterRequest = new BranchRegisterRequest();
+        branchRegisterRequest.setBranchType(BranchType.AT);
+        branchRegisterRequest.setBinaryLockKey(LockKeyCodec.encode("t_order:1,2;t_user:a_1"));
+        branchRegisterRequest.setResourceId("124");
+        branchRegisterRequest.setXid("abc134");
+
+        byte[] bytes = seataSerializer.serialize(branchRegisterRequest);
+
+        BranchRegisterRequest branchRegisterRequest2 = seataSerializer.deserialize(bytes);
+
+        assertThat(branchRegisterRequest2.getLockKey()).isNull();
+        assertThat(branchRegisterRequest2.getBinaryLockKey()).isEqualTo(branchRegisterRequest.getBinaryLockKey());
+        assertThat(branchRegisterRequest2.getApplicationData()).isNull();
+        assertThat(branchRegisterRequest2.getResourceId()).isEqualTo(branchRegisterRequest.getResourceId());
+    }
+
 }
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.cluster.raft;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import com.alipay.sofa.jraft.Closure;
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.entity.Task;
+import com.alipay.sofa.jraft.error.RaftError;
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.core.rpc.Disposable;
+import org.apache.seata.server.cluster.raft.sync.RaftSyncMessageSerializer;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftBaseMsg;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftBatchSyncMsg;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Packs the msgs proposed concurrently to a raft group into one task, so that they take one log entry
+ * and one replication round instead of one each.
+ * <p>
+ * A single thread takes the proposals in their order. While a task is being applied, the proposals arriving
+ * meanwhile queue up and go together in the next task, up to the max batch size, so a lone proposal is
+ * never held back waiting for others. The closures of a batch run in their order once it is committed,
+ * on the leader they complete the futures the callers wait for, the followers unpack the batch in
+ * {@link RaftStateMachine#onApply}.
+ */
+public class RaftProposalBatcher implements Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RaftProposalBatcher.class);
+
+    private final String group;
+
+    private final Node node;
+
+    private final int maxBatchSize;
+
+    private final BlockingQueue<Proposal> proposals = new LinkedBlockingQueue<>();
+
+    private final ExecutorService executor;
+
+    private volatile boolean running = true;
+
+    /**
+     * Instantiates a new raft proposal batcher.
+     *
+     * @param group        the raft group
+     * @param node         the raft node of the group
+     * @param maxBatchSize the max msgs of a task
+     */
+    public RaftProposalBatcher(String group, Node node, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.group = group;
+        this.node = node;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            new NamedThreadFactory("raftProposalBatcher_" + group, 1));
+        this.executor.execute(this::run);
+    }
+
+    /**
+     * Propose a msg, the closure runs once it is committed, or failed.
+     *
+     * @param msg  the msg
+     * @param done the closure
+     */
+    public void propose(RaftBaseMsg msg, Closure done) {
+        Proposal proposal = new Proposal(msg, done);
+        proposals.add(proposal);
+        // the batcher stopped meanwhile and may not take it any more
+        if (!running && proposals.remove(proposal)) {
+            done.run(new Status(RaftError.ESHUTDOWN, "raft group %s is shutting down", group));
+        }
+    }
+
+    private void run() {
+        List<Proposal> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(proposals.take());
+                proposals.drainTo(batch, maxBatchSize - 1);
+                apply(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Throwable e) {
+                LOGGER.error("groupId: {}, failed to propose {} msgs: {}", group, batch.size(), e.getMessage(), e);
+                runClosures(batch, new Status(RaftError.EINTERNAL, "failed to propose: %s", e.getMessage()));
+            } finally {
+                batch.clear();
+            }
+        }
+        List<Proposal> left = new ArrayList<>();
+        proposals.drainTo(left);
+        runClosures(left, new Status(RaftError.ESHUTDOWN, "raft group %s is shutting down", group));
+    }
+
+    private void apply(List<Proposal> batch) throws Exception {
+        RaftSyncMessage raftSyncMessage = new RaftSyncMessage();
+        Task task = new Task();
+        if (batch.size() == 1) {
+            // a lone msg is proposed as is
+            Proposal proposal = batch.get(0);
+            raftSyncMessage.setBody(proposal.msg);
+            task.setDone(proposal.done);
+        } else {
+            List<RaftBaseMsg> msgs = new ArrayList<>(batch.size());
+            List<Proposal> proposed = new ArrayList<>(batch);
+            for (Proposal proposal : proposed) {
+                msgs.add(proposal.msg);
+            }
+            raftSyncMessage.setBody(new RaftBatchSyncMsg(msgs));
+            task.setDone(status -> runClosures(proposed, status));
+        }
+        task.setData(ByteBuffer.wrap(RaftSyncMessageSerializer.encode(raftSyncMessage)));
+        node.apply(task);
+    }
+
+    private void runClosures(List<Proposal> batch, Status status) {
+        for (Proposal proposal : batch) {
+            try {
+                proposal.done.run(status);
+            } catch (Throwable e) {
+                // one failing closure must not keep the others from completing
+                LOGGER.error("groupId: {}, failed to run the closure of {}: {}", group, proposal.msg.getMsgType(),
+                    e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Proposal {
+
+        private final RaftBaseMsg msg;
+
+        private final Closure done;
+
+        Proposal(RaftBaseMsg msg, Closure done) {
+            this.msg = msg;
+            this.done = done;
+        }
+    }
+
+}
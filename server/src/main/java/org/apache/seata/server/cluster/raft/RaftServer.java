@@ -34,8 +34,10 @@ import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_PROPOSAL_BATCH_SIZE;
 import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_REPORTER_ENABLED;
 import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_REPORTER_INITIAL_DELAY;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SERVER_RAFT_PROPOSAL_BATCH_SIZE;
 
 /**
  */
@@ -50,6 +52,7 @@ public class RaftServer implements Disposable, Closeable {
     private final RpcServer rpcServer;
     private RaftGroupService raftGroupService;
     private Node node;
+    private RaftProposalBatcher proposalBatcher;
 
     public RaftServer(final String dataPath, final String groupId, final PeerId serverId, final NodeOptions nodeOptions, final RpcServer rpcServer)
         throws IOException {
@@ -80,6 +83,11 @@ public class RaftServer implements Disposable, Closeable {
         this.raftGroupService = new RaftGroupService(groupId, serverId, nodeOptions, rpcServer, true);
         this.node = this.raftGroupService.start(false);
         RouteTable.getInstance().updateConfiguration(groupId, node.getOptions().getInitialConf());
+        int proposalBatchSize = ConfigurationFactory.getInstance().getInt(SERVER_RAFT_PROPOSAL_BATCH_SIZE,
+            DEFAULT_SERVER_RAFT_PROPOSAL_BATCH_SIZE);
+        if (proposalBatchSize > 1) {
+            this.proposalBatcher = new RaftProposalBatcher(groupId, node, proposalBatchSize);
+        }
         if (reporterEnabled) {
             final Slf4jReporter reporter = Slf4jReporter.forRegistry(node.getNodeMetrics().getMetricRegistry())
                 .outputTo(logger).convertRatesTo(TimeUnit.SECONDS)
@@ -94,6 +102,15 @@ public class RaftServer implements Disposable, Closeable {
     }
 
 
+    /**
+     * Gets the proposal batcher.
+     *
+     * @return the proposal batcher, null when the msgs are proposed one by one
+     */
+    public RaftProposalBatcher getProposalBatcher() {
+        return proposalBatcher;
+    }
+
     public RaftStateMachine getRaftStateMachine() {
         return raftStateMachine;
     }
@@ -105,6 +122,7 @@ public class RaftServer implements Disposable, Closeable {
 
     @Override
     public void destroy() {
+        Optional.ofNullable(proposalBatcher).ifPresent(RaftProposalBatcher::destroy);
         Optional.ofNullable(raftGroupService).ifPresent(r -> {
             r.shutdown();
             try {
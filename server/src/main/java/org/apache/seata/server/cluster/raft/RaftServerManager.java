@@ -17,8 +17,10 @@
 package org.apache.seata.server.cluster.raft;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +29,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import com.alipay.sofa.jraft.CliService;
 import com.alipay.sofa.jraft.RaftServiceFactory;
 import com.alipay.sofa.jraft.conf.Configuration;
+import com.alipay.sofa.jraft.core.ElectionPriority;
 import com.alipay.sofa.jraft.entity.PeerId;
 import com.alipay.sofa.jraft.option.CliOptions;
 import com.alipay.sofa.jraft.option.NodeOptions;
@@ -46,6 +49,9 @@ import org.apache.seata.server.store.StoreConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_GROUP;
+import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_GROUPS;
+import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_GROUP_MAPPING_PREFIX;
 import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_PORT_CAMEL;
 import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_SYNC;
 import static org.apache.seata.common.DefaultValues.DEFAULT_SERVER_RAFT_ELECTION_TIMEOUT_MS;
@@ -66,6 +72,11 @@ public class RaftServerManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(RaftServerManager.class);
 
     private static final Map<String/*group*/, RaftServer/*raft-group-cluster*/> RAFT_SERVER_MAP = new HashMap<>();
+
+    /**
+     * the election priority of the peer preferred as the leader of a group, the others get the min value
+     */
+    private static final int PREFERRED_LEADER_PRIORITY = ElectionPriority.MinValue + 1;
     private static final AtomicBoolean INIT = new AtomicBoolean(false);
 
     private static final org.apache.seata.config.Configuration CONFIG = ConfigurationFactory.getInstance();
@@ -124,14 +135,19 @@ public class RaftServerManager {
             }
             final String dataPath = CONFIG.getConfig(ConfigurationKeys.STORE_FILE_DIR, DEFAULT_SESSION_STORE_FILE_DIR)
                 + separator + "raft" + separator + serverId.getPort();
-            String group = CONFIG.getConfig(ConfigurationKeys.SERVER_RAFT_GROUP, DEFAULT_SEATA_GROUP);
+            List<String> groups = parseGroups();
             try {
                 // Here you have raft RPC and business RPC using the same RPC server, and you can usually do this
                 // separately
                 rpcServer = RaftRpcServerFactory.createRaftRpcServer(serverId.getEndpoint());
-                RaftServer raftServer = new RaftServer(dataPath, group, serverId, initNodeOptions(initConf), rpcServer);
-                // as the foundation for multi raft group in the future
-                RAFT_SERVER_MAP.put(group, raftServer);
+                for (int i = 0; i < groups.size(); i++) {
+                    String group = groups.get(i);
+                    // every group is a raft cluster of the same peers, with its own log, snapshot and sessions
+                    Configuration groupConf = groups.size() > 1 ? spreadLeader(initConf, i) : initConf;
+                    RaftServer raftServer = new RaftServer(dataPath, group, withPriority(serverId, groupConf),
+                        initNodeOptions(groupConf), rpcServer);
+                    RAFT_SERVER_MAP.put(group, raftServer);
+                }
             } catch (IOException e) {
                 throw new IllegalArgumentException("fail init raft cluster:" + e.getMessage(), e);
             }
@@ -165,6 +181,77 @@ public class RaftServerManager {
         INIT.set(false);
     }
 
+    /**
+     * Get the raft groups of this cluster, the default group first.
+     */
+    private static List<String> parseGroups() {
+        List<String> groups = new ArrayList<>();
+        groups.add(CONFIG.getConfig(SERVER_RAFT_GROUP, DEFAULT_SEATA_GROUP));
+        String groupsConfig = CONFIG.getConfig(SERVER_RAFT_GROUPS);
+        if (StringUtils.isNotBlank(groupsConfig)) {
+            for (String group : groupsConfig.split(",")) {
+                group = group.trim();
+                if (StringUtils.isNotBlank(group) && !groups.contains(group)) {
+                    groups.add(group);
+                }
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Copy the configuration with the peer at the index of the group preferred in the elections, so the groups
+     * elect their leaders on different nodes while all of them are up. The priorities configured in the server
+     * addresses are kept as they are.
+     *
+     * @param initConf   the configuration of the server addresses
+     * @param groupIndex the index of the group
+     * @return the configuration of the group
+     */
+    public static Configuration spreadLeader(Configuration initConf, int groupIndex) {
+        List<PeerId> peers = initConf.listPeers();
+        if (peers.isEmpty() || peers.stream().anyMatch(peer -> !peer.isPriorityDisabled())) {
+            return initConf;
+        }
+        Configuration conf = new Configuration();
+        for (int i = 0; i < peers.size(); i++) {
+            PeerId peer = peers.get(i);
+            int priority = i == groupIndex % peers.size() ? PREFERRED_LEADER_PRIORITY : ElectionPriority.MinValue;
+            conf.addPeer(new PeerId(peer.getEndpoint(), peer.getIdx(), priority));
+        }
+        conf.addLearners(initConf.listLearners());
+        return conf;
+    }
+
+    /**
+     * The election priority is read from the id of the node, so it must be the one of its peer.
+     */
+    private static PeerId withPriority(PeerId serverId, Configuration conf) {
+        for (PeerId peer : conf.listPeers()) {
+            if (peer.getEndpoint().equals(serverId.getEndpoint()) && peer.getIdx() == serverId.getIdx()) {
+                return peer;
+            }
+        }
+        return serverId;
+    }
+
+    /**
+     * Get the raft group serving a transaction service group. The sessions and locks of a transaction service
+     * group live in its group, so the transaction service groups sharing a global transaction or the rows it
+     * locks must be mapped to the same group.
+     *
+     * @param transactionServiceGroup the transaction service group
+     * @return the group mapped to it when this cluster has it, or the default group
+     */
+    public static String getGroup(String transactionServiceGroup) {
+        String defaultGroup = CONFIG.getConfig(SERVER_RAFT_GROUP, DEFAULT_SEATA_GROUP);
+        if (StringUtils.isBlank(transactionServiceGroup)) {
+            return defaultGroup;
+        }
+        String group = CONFIG.getConfig(SERVER_RAFT_GROUP_MAPPING_PREFIX + transactionServiceGroup, defaultGroup);
+        return RAFT_SERVER_MAP.containsKey(group) ? group : defaultGroup;
+    }
+
     public static RaftServer getRaftServer(String group) {
         return RAFT_SERVER_MAP.get(group);
     }
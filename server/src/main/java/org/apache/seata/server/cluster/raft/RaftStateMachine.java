@@ -23,7 +23,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import com.alipay.sofa.jraft.Closure;
 import com.alipay.sofa.jraft.Iterator;
@@ -32,6 +38,7 @@ import com.alipay.sofa.jraft.Status;
 import com.alipay.sofa.jraft.conf.Configuration;
 import com.alipay.sofa.jraft.core.StateMachineAdapter;
 import com.alipay.sofa.jraft.entity.LeaderChangeContext;
+import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
 import org.apache.seata.common.XID;
@@ -39,6 +46,7 @@ import org.apache.seata.common.holder.ObjectHolder;
 import org.apache.seata.common.metadata.ClusterRole;
 import org.apache.seata.common.metadata.Node;
 import org.apache.seata.common.store.StoreMode;
+import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.StringUtils;
 import org.apache.seata.server.cluster.raft.context.SeataClusterContext;
 import org.apache.seata.server.cluster.raft.snapshot.metadata.LeaderMetadataSnapshotFile;
@@ -56,6 +64,7 @@ import org.apache.seata.server.cluster.raft.execute.lock.GlobalReleaseLockExecut
 import org.apache.seata.server.cluster.listener.ClusterChangeEvent;
 import org.apache.seata.server.cluster.raft.sync.RaftSyncMessageSerializer;
 import org.apache.seata.server.cluster.raft.sync.msg.RaftBaseMsg;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftBatchSyncMsg;
 import org.apache.seata.server.cluster.raft.sync.msg.RaftClusterMetadataMsg;
 import org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType;
 import org.apache.seata.server.cluster.raft.sync.msg.dto.RaftClusterMetadata;
@@ -72,6 +81,7 @@ import static org.apache.seata.common.Constants.OBJECT_KEY_SPRING_CONFIGURABLE_E
 import static org.apache.seata.common.DefaultValues.SERVICE_OFFSET_SPRING_BOOT;
 import static org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType.ADD_BRANCH_SESSION;
 import static org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType.ADD_GLOBAL_SESSION;
+import static org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType.BATCH;
 import static org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType.REFRESH_CLUSTER_METADATA;
 import static org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType.RELEASE_BRANCH_SESSION_LOCK;
 import static org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType.RELEASE_GLOBAL_SESSION_LOCK;
@@ -92,7 +102,15 @@ public class RaftStateMachine extends StateMachineAdapter {
 
     private final List<StoreSnapshotFile> snapshotFiles = new ArrayList<>();
 
-    private static final Map<RaftSyncMsgType, RaftMsgExecute<?>> EXECUTES = new HashMap<>();
+    /**
+     * writes the snapshots off the apply thread, one at a time as raft never saves two at once
+     */
+    private final ExecutorService snapshotExecutor;
+
+    /**
+     * the executes of this group, some of them refresh the state of this state machine
+     */
+    private final Map<RaftSyncMsgType, RaftMsgExecute<?>> executes = new HashMap<>();
 
     private volatile RaftClusterMetadata raftClusterMetadata;
 
@@ -113,21 +131,28 @@ public class RaftStateMachine extends StateMachineAdapter {
     public RaftStateMachine(String group) {
         this.group = group;
         mode = StoreConfig.getSessionMode().getName();
-        EXECUTES.put(REFRESH_CLUSTER_METADATA, syncMsg -> {
+        this.snapshotExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            new NamedThreadFactory("raftSnapshot_" + group, 1));
+        executes.put(REFRESH_CLUSTER_METADATA, syncMsg -> {
             refreshClusterMetadata(syncMsg);
             return null;
         });
+        // the msgs proposed together are executed in their order
+        executes.put(BATCH, syncMsg -> {
+            ((RaftBatchSyncMsg)syncMsg).getMsgs().forEach(this::onExecuteRaft);
+            return null;
+        });
         registryStoreSnapshotFile(new LeaderMetadataSnapshotFile(group));
         if (StoreMode.RAFT.getName().equalsIgnoreCase(mode)) {
             registryStoreSnapshotFile(new SessionSnapshotFile(group));
-            EXECUTES.put(ADD_GLOBAL_SESSION, new AddGlobalSessionExecute());
-            EXECUTES.put(ADD_BRANCH_SESSION, new AddBranchSessionExecute());
-            EXECUTES.put(REMOVE_BRANCH_SESSION, new RemoveBranchSessionExecute());
-            EXECUTES.put(UPDATE_GLOBAL_SESSION_STATUS, new UpdateGlobalSessionExecute());
-            EXECUTES.put(RELEASE_GLOBAL_SESSION_LOCK, new GlobalReleaseLockExecute());
-            EXECUTES.put(REMOVE_GLOBAL_SESSION, new RemoveGlobalSessionExecute());
-            EXECUTES.put(UPDATE_BRANCH_SESSION_STATUS, new UpdateBranchSessionExecute());
-            EXECUTES.put(RELEASE_BRANCH_SESSION_LOCK, new BranchReleaseLockExecute());
+            executes.put(ADD_GLOBAL_SESSION, new AddGlobalSessionExecute());
+            executes.put(ADD_BRANCH_SESSION, new AddBranchSessionExecute());
+            executes.put(REMOVE_BRANCH_SESSION, new RemoveBranchSessionExecute());
+            executes.put(UPDATE_GLOBAL_SESSION_STATUS, new UpdateGlobalSessionExecute());
+            executes.put(RELEASE_GLOBAL_SESSION_LOCK, new GlobalReleaseLockExecute());
+            executes.put(REMOVE_GLOBAL_SESSION, new RemoveGlobalSessionExecute());
+            executes.put(UPDATE_BRANCH_SESSION_STATUS, new UpdateBranchSessionExecute());
+            executes.put(RELEASE_BRANCH_SESSION_LOCK, new BranchReleaseLockExecute());
         }
     }
 
@@ -161,15 +186,29 @@ public class RaftStateMachine extends StateMachineAdapter {
             return;
         }
         long current = System.currentTimeMillis();
+        // only the capture holds up the log apply, the files are written on the snapshot thread
+        List<Supplier<Status>> saves = new ArrayList<>(snapshotFiles.size());
         for (StoreSnapshotFile snapshotFile : snapshotFiles) {
-            Status status = snapshotFile.save(writer);
-            if (!status.isOk()) {
-                done.run(status);
-                return;
-            }
+            saves.add(snapshotFile.prepareSave(writer));
+        }
+        long captured = System.currentTimeMillis();
+        LOGGER.info("groupId: {}, onSnapshotSave paused apply for: {} ms.", group, captured - current);
+        try {
+            snapshotExecutor.execute(() -> {
+                for (Supplier<Status> save : saves) {
+                    Status status = save.get();
+                    if (!status.isOk()) {
+                        done.run(status);
+                        return;
+                    }
+                }
+                LOGGER.info("groupId: {}, onSnapshotSave cost: {} ms, written in: {} ms.", group,
+                    System.currentTimeMillis() - current, System.currentTimeMillis() - captured);
+                done.run(Status.OK());
+            });
+        } catch (RejectedExecutionException e) {
+            done.run(new Status(RaftError.ESHUTDOWN, "groupId: %s, the state machine is shut down", group));
         }
-        LOGGER.info("groupId: {}, onSnapshotSave cost: {} ms.", group, System.currentTimeMillis() - current);
-        done.run(Status.OK());
     }
 
     @Override
@@ -217,6 +256,12 @@ public class RaftStateMachine extends StateMachineAdapter {
         }
     }
 
+    @Override
+    public void onShutdown() {
+        snapshotExecutor.shutdown();
+        LOGGER.info("groupId: {}, onShutdown.", group);
+    }
+
     @Override
     public void onLeaderStop(final Status status) {
         this.leaderTerm.set(-1);
@@ -258,12 +303,14 @@ public class RaftStateMachine extends StateMachineAdapter {
     }
 
     private void onExecuteRaft(RaftBaseMsg msg) {
-        RaftMsgExecute<?> execute = EXECUTES.get(msg.getMsgType());
+        RaftMsgExecute<?> execute = executes.get(msg.getMsgType());
         if (execute == null) {
             throw new RuntimeException(
                 "the state machine does not allow events that cannot be executed, please feedback the information to the Seata community !!! msg: "
                     + msg);
         }
+        // the msg is applied to the sessions of this group
+        msg.setGroup(group);
         try {
             execute.execute(msg);
         } catch (Throwable e) {
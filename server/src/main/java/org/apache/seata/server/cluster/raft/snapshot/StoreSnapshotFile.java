@@ -18,6 +18,7 @@ package org.apache.seata.server.cluster.raft.snapshot;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.function.Supplier;
 import com.alipay.sofa.jraft.Status;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
@@ -43,6 +44,18 @@ public interface StoreSnapshotFile {
      */
     boolean load(final SnapshotReader reader);
 
+    /**
+     * Capture the data of a snapshot on the state machine thread. The returned task writes it, and may run on
+     * another thread while the state machine goes on applying the log.
+     *
+     * @param writer snapshot writer
+     * @return the task writing the snapshot
+     */
+    default Supplier<Status> prepareSave(final SnapshotWriter writer) {
+        Status status = save(writer);
+        return () -> status;
+    }
+
     default boolean save(final RaftSnapshot value, String path) throws IOException {
         FileUtils.writeByteArrayToFile(new File(path), RaftSnapshotSerializer.encode(value));
         return true;
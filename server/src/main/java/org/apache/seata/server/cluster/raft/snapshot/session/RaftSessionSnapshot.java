@@ -50,30 +50,42 @@ public class RaftSessionSnapshot implements java.io.Serializable  {
     public Map<String, GlobalSession> convert2GlobalSession() {
         Map<String, GlobalSession> sessionMap = new HashMap<>();
         globalsessions.forEach((globalSessionByte, branchSessionBytes) -> {
-            GlobalSession globalSession = new GlobalSession();
-            globalSession.decode(globalSessionByte);
-            branchSessionBytes.forEach(branch -> {
-                BranchSession branchSession = new BranchSession();
-                branchSession.decode(branch);
-                if (globalSession.isActive()) {
-                    try {
-                        branchSession.lock();
-                    } catch (TransactionException e) {
-                        LOGGER.error(e.getMessage());
-                    }
-                }
-                globalSession.add(branchSession);
-            });
-            if (GlobalStatus.Rollbacking.equals(globalSession.getStatus())
-                || GlobalStatus.TimeoutRollbacking.equals(globalSession.getStatus())) {
-                globalSession.getBranchSessions().parallelStream()
-                    .forEach(branchSession -> branchSession.setLockStatus(LockStatus.Rollbacking));
-            }
+            GlobalSession globalSession = convert2GlobalSession(globalSessionByte, branchSessionBytes);
             sessionMap.put(globalSession.getXid(), globalSession);
         });
         return sessionMap;
     }
 
+    /**
+     * Decode a global session and its branches, the locks of an active session are acquired again.
+     *
+     * @param globalSessionByte  the encoded global session
+     * @param branchSessionBytes the encoded branch sessions
+     * @return the global session
+     */
+    public static GlobalSession convert2GlobalSession(byte[] globalSessionByte, List<byte[]> branchSessionBytes) {
+        GlobalSession globalSession = new GlobalSession();
+        globalSession.decode(globalSessionByte);
+        branchSessionBytes.forEach(branch -> {
+            BranchSession branchSession = new BranchSession();
+            branchSession.decode(branch);
+            if (globalSession.isActive()) {
+                try {
+                    branchSession.lock();
+                } catch (TransactionException e) {
+                    LOGGER.error(e.getMessage());
+                }
+            }
+            globalSession.add(branchSession);
+        });
+        if (GlobalStatus.Rollbacking.equals(globalSession.getStatus())
+            || GlobalStatus.TimeoutRollbacking.equals(globalSession.getStatus())) {
+            globalSession.getBranchSessions().parallelStream()
+                .forEach(branchSession -> branchSession.setLockStatus(LockStatus.Rollbacking));
+        }
+        return globalSession;
+    }
+
     public void convert2GlobalSessionByte(GlobalSession globalSession) {
         byte[] globalSessionByte = globalSession.encode();
         if (CollectionUtils.isEmpty(globalSession.getBranchSessions())) {
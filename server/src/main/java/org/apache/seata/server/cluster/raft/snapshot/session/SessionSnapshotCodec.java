@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.cluster.raft.snapshot.session;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The streamed binary format of the session snapshot. The sessions are written one after the other as the bytes
+ * they encode to, so neither saving nor loading needs the whole snapshot in memory:
+ * <pre>
+ * int version
+ * (byte 1, int length, global session, int branch count, (int length, branch session)*)*
+ * byte 0
+ * </pre>
+ * The end mark tells a complete file from a truncated one.
+ */
+public final class SessionSnapshotCodec {
+
+    static final int VERSION = 1;
+
+    private static final int ENTRY = 1;
+
+    private static final int END = 0;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private SessionSnapshotCodec() {
+    }
+
+    /**
+     * Write the encoded sessions to a file and sync it to the disk.
+     *
+     * @param sessions the encoded global sessions, with their encoded branch sessions
+     * @param file     the file
+     * @throws IOException the io exception
+     */
+    public static void write(Map<byte[], List<byte[]>> sessions, File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Fail to create the directory " + parent);
+        }
+        try (FileOutputStream fos = new FileOutputStream(file);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos, BUFFER_SIZE))) {
+            out.writeInt(VERSION);
+            for (Map.Entry<byte[], List<byte[]>> entry : sessions.entrySet()) {
+                out.writeByte(ENTRY);
+                writeBytes(out, entry.getKey());
+                List<byte[]> branches = entry.getValue();
+                out.writeInt(branches.size());
+                for (byte[] branch : branches) {
+                    writeBytes(out, branch);
+                }
+            }
+            out.writeByte(END);
+            out.flush();
+            fos.getFD().sync();
+        }
+    }
+
+    /**
+     * Read the encoded sessions of a file one by one.
+     *
+     * @param file     the file
+     * @param consumer takes each encoded global session with its encoded branch sessions
+     * @return the number of global sessions read
+     * @throws IOException the io exception, also when the file is truncated
+     */
+    public static int read(File file, BiConsumer<byte[], List<byte[]>> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE))) {
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported session snapshot version " + version + " of " + file);
+            }
+            int count = 0;
+            byte mark;
+            while ((mark = in.readByte()) == ENTRY) {
+                byte[] globalSession = readBytes(in);
+                int branchCount = in.readInt();
+                List<byte[]> branches = new ArrayList<>(branchCount);
+                for (int i = 0; i < branchCount; i++) {
+                    branches.add(readBytes(in));
+                }
+                consumer.accept(globalSession, branches);
+                count++;
+            }
+            if (mark != END) {
+                throw new IOException("Corrupted session snapshot " + file + " after " + count + " sessions");
+            }
+            return count;
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+}
@@ -19,20 +19,30 @@ package org.apache.seata.server.cluster.raft.snapshot.session;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import com.alipay.sofa.jraft.Status;
 import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
+import org.apache.seata.config.ConfigurationFactory;
+import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.server.cluster.raft.snapshot.RaftSnapshot;
 import org.apache.seata.server.cluster.raft.snapshot.StoreSnapshotFile;
+import org.apache.seata.server.lock.LockManager;
 import org.apache.seata.server.lock.LockerManagerFactory;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionHolder;
+import org.apache.seata.server.storage.raft.lock.RaftLockManager;
 import org.apache.seata.server.storage.raft.session.RaftSessionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_SNAPSHOT_STREAM;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SERVER_RAFT_SNAPSHOT_STREAM;
+
 /**
  */
 public class SessionSnapshotFile implements Serializable,StoreSnapshotFile {
@@ -43,55 +53,92 @@ public class SessionSnapshotFile implements Serializable,StoreSnapshotFile {
 
     String group;
 
+    /**
+     * the file of the snapshots saved by older versions, a serialized {@link RaftSnapshot}
+     */
     String fileName = "session";
 
+    /**
+     * the file in the streamed format of {@link SessionSnapshotCodec}, written when server.raft.snapshotStream is on
+     */
+    String streamFileName = "session_stream";
+
     public SessionSnapshotFile(String group) {
         this.group = group;
     }
 
     @Override
     public Status save(SnapshotWriter writer) {
+        return prepareSave(writer).get();
+    }
+
+    @Override
+    public Supplier<Status> prepareSave(SnapshotWriter writer) {
         RaftSessionManager raftSessionManager = (RaftSessionManager)SessionHolder.getRootSessionManager(group);
         Map<String, GlobalSession> sessionMap = raftSessionManager.getSessionMap();
+        // the sessions change as the log is applied, so only their bytes are taken before the state machine goes on
         RaftSessionSnapshot sessionSnapshot = new RaftSessionSnapshot();
         sessionMap.forEach((xid, session) -> sessionSnapshot.convert2GlobalSessionByte(session));
-        RaftSnapshot raftSnapshot = new RaftSnapshot();
-        raftSnapshot.setBody(sessionSnapshot);
-        raftSnapshot.setType(RaftSnapshot.SnapshotType.session);
-        LOGGER.info("groupId: {}, global session size: {}", group, sessionSnapshot.getGlobalsessions().size());
-        String path = new StringBuilder(writer.getPath()).append(File.separator).append(fileName).toString();
-        try {
-            if (save(raftSnapshot, path)) {
-                if (writer.addFile(fileName)) {
+        // older versions only load the serialized snapshot, the streamed one is written once all nodes are upgraded
+        boolean stream = ConfigurationFactory.getInstance().getBoolean(SERVER_RAFT_SNAPSHOT_STREAM,
+            DEFAULT_SERVER_RAFT_SNAPSHOT_STREAM);
+        String saveFileName = stream ? streamFileName : fileName;
+        return () -> {
+            Map<byte[], List<byte[]>> sessions = sessionSnapshot.getGlobalsessions();
+            LOGGER.info("groupId: {}, global session size: {}", group, sessions.size());
+            String path = new StringBuilder(writer.getPath()).append(File.separator).append(saveFileName).toString();
+            try {
+                if (stream) {
+                    SessionSnapshotCodec.write(sessions, new File(path));
+                } else {
+                    RaftSnapshot raftSnapshot = new RaftSnapshot();
+                    raftSnapshot.setBody(sessionSnapshot);
+                    raftSnapshot.setType(RaftSnapshot.SnapshotType.session);
+                    save(raftSnapshot, path);
+                }
+                if (writer.addFile(saveFileName)) {
                     return Status.OK();
                 } else {
                     return new Status(RaftError.EIO, "Fail to add file to writer");
                 }
+            } catch (IOException e) {
+                LOGGER.error("Fail to save groupId: {} snapshot {}", group, path, e);
             }
-        } catch (IOException e) {
-            LOGGER.error("Fail to save groupId: {} snapshot {}", group, path, e);
-        }
-        return new Status(RaftError.EIO, "Fail to save groupId: " + group + " snapshot %s", path);
+            return new Status(RaftError.EIO, "Fail to save groupId: " + group + " snapshot %s", path);
+        };
     }
 
     @Override
     public boolean load(SnapshotReader reader) {
-        if (reader.getFileMeta(fileName) == null) {
+        boolean streamed = reader.getFileMeta(streamFileName) != null;
+        if (!streamed && reader.getFileMeta(fileName) == null) {
             LOGGER.error("Fail to find data file in {}", reader.getPath());
             return false;
         }
-        String path = new StringBuilder(reader.getPath()).append(File.separator).append(fileName).toString();
+        String path = new StringBuilder(reader.getPath()).append(File.separator)
+            .append(streamed ? streamFileName : fileName).toString();
         try {
             LOGGER.info("on snapshot load start index: {}", reader.load().getLastIncludedIndex());
-            RaftSessionSnapshot sessionSnapshot = (RaftSessionSnapshot)load(path);
+            RaftSessionSnapshot sessionSnapshot = streamed ? null : (RaftSessionSnapshot)load(path);
             RaftSessionManager raftSessionManager = (RaftSessionManager)SessionHolder.getRootSessionManager(group);
             Map<String, GlobalSession> rootSessionMap = raftSessionManager.getSessionMap();
-            // be sure to clear the data before loading it, because this is a full overwrite update
-            LockerManagerFactory.getLockManager().cleanAllLocks();
+            // be sure to clear the data before loading it, because this is a full overwrite update,
+            // the lock table is shared by the groups, so only the locks of the sessions replaced are released
+            releaseLocks(rootSessionMap.values());
             rootSessionMap.clear();
-            rootSessionMap.putAll(sessionSnapshot.convert2GlobalSession());
+            if (streamed) {
+                // the sessions are decoded as they are read, the file is never held in memory as a whole
+                SessionSnapshotCodec.read(new File(path), (globalSessionByte, branchSessionBytes) -> {
+                    GlobalSession globalSession =
+                        RaftSessionSnapshot.convert2GlobalSession(globalSessionByte, branchSessionBytes);
+                    rootSessionMap.put(globalSession.getXid(), globalSession);
+                });
+            } else {
+                rootSessionMap.putAll(sessionSnapshot.convert2GlobalSession());
+            }
             if (LOGGER.isInfoEnabled()) {
-                LOGGER.info("on snapshot load end index: {}", reader.load().getLastIncludedIndex());
+                LOGGER.info("on snapshot load end index: {}, global session size: {}",
+                    reader.load().getLastIncludedIndex(), rootSessionMap.size());
             }
             return true;
         } catch (final Exception e) {
@@ -100,4 +147,16 @@ public class SessionSnapshotFile implements Serializable,StoreSnapshotFile {
         }
     }
 
+    private void releaseLocks(Collection<GlobalSession> globalSessions) throws TransactionException {
+        LockManager lockManager = LockerManagerFactory.getLockManager();
+        for (GlobalSession globalSession : globalSessions) {
+            // the snapshot is applied by each node, the locks are released locally
+            if (lockManager instanceof RaftLockManager) {
+                ((RaftLockManager)lockManager).localReleaseGlobalSessionLock(globalSession);
+            } else {
+                lockManager.releaseGlobalSessionLock(globalSession);
+            }
+        }
+    }
+
 }
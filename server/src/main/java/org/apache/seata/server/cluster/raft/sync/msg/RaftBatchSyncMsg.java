@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.cluster.raft.sync.msg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import org.apache.seata.common.util.StringUtils;
+
+/**
+ * The msgs of several session mutations, proposed to the raft group as one task.
+ */
+public class RaftBatchSyncMsg extends RaftBaseMsg {
+
+    private static final long serialVersionUID = -2460929447935741264L;
+
+    /**
+     * the msgs are of different types, so their classes are written with them
+     */
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    private List<RaftBaseMsg> msgs = new ArrayList<>();
+
+    public RaftBatchSyncMsg(List<RaftBaseMsg> msgs) {
+        this.msgType = RaftSyncMsgType.BATCH;
+        this.msgs = msgs;
+    }
+
+    public RaftBatchSyncMsg() {
+        this.msgType = RaftSyncMsgType.BATCH;
+    }
+
+    public List<RaftBaseMsg> getMsgs() {
+        return msgs;
+    }
+
+    public void setMsgs(List<RaftBaseMsg> msgs) {
+        this.msgs = msgs;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.toString(this);
+    }
+
+}
@@ -55,5 +55,9 @@ public enum RaftSyncMsgType {
     /**
      * refresh cluster metadata
      */
-    REFRESH_CLUSTER_METADATA;
+    REFRESH_CLUSTER_METADATA,
+    /**
+     * several msgs proposed in one raft task
+     */
+    BATCH;
 }
@@ -25,9 +25,12 @@ import com.alipay.sofa.jraft.entity.Task;
 import org.apache.seata.core.exception.GlobalTransactionException;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.server.cluster.raft.RaftProposalBatcher;
+import org.apache.seata.server.cluster.raft.RaftServer;
 import org.apache.seata.server.cluster.raft.RaftServerManager;
 import org.apache.seata.server.cluster.raft.context.SeataClusterContext;
 import org.apache.seata.server.cluster.raft.sync.RaftSyncMessageSerializer;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftBaseMsg;
 import org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMessage;
 
 /**
@@ -36,6 +39,17 @@ public class RaftTaskUtil {
 
     public static boolean createTask(Closure done, Object data, CompletableFuture<Boolean> completableFuture)
         throws TransactionException {
+        RaftServer raftServer = RaftServerManager.getRaftServer(SeataClusterContext.getGroup());
+        RaftProposalBatcher proposalBatcher = raftServer.getProposalBatcher();
+        if (proposalBatcher != null && data instanceof RaftBaseMsg) {
+            // proposed together with the msgs of other threads
+            proposalBatcher.propose((RaftBaseMsg)data, done == null ? status -> {
+            } : done);
+            if (completableFuture != null) {
+                return futureGet(completableFuture);
+            }
+            return true;
+        }
         final Task task = new Task();
         if (data != null) {
             RaftSyncMessage raftSyncMessage = new RaftSyncMessage();
@@ -48,7 +62,7 @@ public class RaftTaskUtil {
         }
         task.setDone(done == null ? status -> {
         } : done);
-        RaftServerManager.getRaftServer(SeataClusterContext.getGroup()).getNode().apply(task);
+        raftServer.getNode().apply(task);
         if (completableFuture != null) {
             return futureGet(completableFuture);
         }
@@ -28,7 +28,6 @@ import javax.servlet.http.HttpServletRequest;
 import com.alipay.sofa.jraft.RouteTable;
 import com.alipay.sofa.jraft.conf.Configuration;
 import com.alipay.sofa.jraft.entity.PeerId;
-import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.metadata.MetadataResponse;
 import org.apache.seata.common.metadata.Node;
 import org.apache.seata.common.util.StringUtils;
@@ -50,7 +49,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import static org.apache.seata.common.ConfigurationKeys.STORE_MODE;
-import static org.apache.seata.common.DefaultValues.DEFAULT_SEATA_GROUP;
 
 /**
  */
@@ -90,11 +88,11 @@ public class ClusterController {
     }
 
     @GetMapping("/cluster")
-    public MetadataResponse cluster(String group) {
+    public MetadataResponse cluster(String group, String vgroup) {
         MetadataResponse metadataResponse = new MetadataResponse();
         if (StringUtils.isBlank(group)) {
-            group =
-                ConfigurationFactory.getInstance().getConfig(ConfigurationKeys.SERVER_RAFT_GROUP, DEFAULT_SEATA_GROUP);
+            // the group serving the transaction service group of the client, the default group without one
+            group = RaftServerManager.getGroup(vgroup);
         }
         RaftServer raftServer = RaftServerManager.getRaftServer(group);
         if (raftServer != null) {
@@ -17,6 +17,8 @@
 package org.apache.seata.server.coordinator;
 
 import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.lock.LockKeyCodec;
+import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.server.session.GlobalSession;
 
@@ -26,6 +28,26 @@ import org.apache.seata.server.session.GlobalSession;
  */
 public interface Core extends TransactionCoordinatorInbound, TransactionCoordinatorOutbound {
 
+    /**
+     * Branch register with the lock key of the binary format, used instead of the lock keys when set.
+     *
+     * @param branchType      the branch type
+     * @param resourceId      the resource id
+     * @param clientId        the client id
+     * @param xid             the xid
+     * @param applicationData the application data
+     * @param lockKeys        the lock keys
+     * @param binaryLockKey   the binary lock key
+     * @return the branch id
+     * @throws TransactionException the transaction exception
+     */
+    default Long branchRegister(BranchType branchType, String resourceId, String clientId, String xid,
+                                String applicationData, String lockKeys, byte[] binaryLockKey)
+        throws TransactionException {
+        return branchRegister(branchType, resourceId, clientId, xid, applicationData,
+            binaryLockKey != null ? LockKeyCodec.toText(binaryLockKey) : lockKeys);
+    }
+
     /**
      * Do global commit.
      *
@@ -16,7 +16,10 @@
  */
 package org.apache.seata.server.coordinator;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -63,9 +66,12 @@ import org.apache.seata.server.AbstractTCInboundHandler;
 import org.apache.seata.server.metrics.MetricsPublisher;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.GlobalSessionHandler;
+import org.apache.seata.server.session.GlobalSessionTimeoutWheel;
 import org.apache.seata.server.session.SessionCondition;
 import org.apache.seata.server.session.SessionHelper;
 import org.apache.seata.server.session.SessionHolder;
+import org.apache.seata.server.session.SessionManager;
 import org.apache.seata.server.store.StoreConfig;
 import org.apache.commons.lang.time.DateFormatUtils;
 import org.slf4j.Logger;
@@ -82,8 +88,13 @@ import static org.apache.seata.common.DefaultValues.DEFAULT_COMMITING_RETRY_PERI
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_BRANCH_ASYNC_REMOVE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_MAX_COMMIT_RETRY_TIMEOUT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_MAX_ROLLBACK_RETRY_TIMEOUT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_MAX_CONCURRENCY_PER_RESOURCE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_PAGE_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_WORKER_COUNT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_WORKER_QUEUE_SIZE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACKING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACK_RETRY_TIMEOUT_UNLOCK_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SESSION_TIMEOUT_FULL_SCAN_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TIMEOUT_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_UNDO_LOG_DELETE_PERIOD;
 
@@ -122,6 +133,12 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
     protected static final long TIMEOUT_RETRY_PERIOD = CONFIG.getLong(ConfigurationKeys.TIMEOUT_RETRY_PERIOD,
             DEFAULT_TIMEOUT_RETRY_PERIOD);
 
+    /**
+     * The period of the full scan for timeout sessions when the timeout wheel is enabled.
+     */
+    protected static final long TIMEOUT_FULL_SCAN_PERIOD = CONFIG.getLong(
+            ConfigurationKeys.SESSION_TIMEOUT_FULL_SCAN_PERIOD, DEFAULT_SESSION_TIMEOUT_FULL_SCAN_PERIOD);
+
     /**
      * The Transaction undo log delete period.
      */
@@ -176,10 +193,20 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
 
     private final ThreadPoolExecutor branchRemoveExecutor;
 
+    private final PhaseTwoScheduler retryRollbackingScheduler;
+
+    private final PhaseTwoScheduler retryCommittingScheduler;
+
+    private final PhaseTwoScheduler asyncCommittingScheduler;
+
+    private final int recoveryPageSize;
+
     private RemotingServer remotingServer;
 
     private final DefaultCore core;
 
+    private long nextTimeoutFullScanTime;
+
     private static volatile DefaultCoordinator instance;
 
     /**
@@ -206,6 +233,24 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         } else {
             branchRemoveExecutor = null;
         }
+        recoveryPageSize = CONFIG.getInt(ConfigurationKeys.RECOVERY_PAGE_SIZE, DEFAULT_RECOVERY_PAGE_SIZE);
+        // create the phase two schedulers, without them the sessions are handled by the retry threads
+        int recoveryWorkerCount = CONFIG.getInt(ConfigurationKeys.RECOVERY_WORKER_COUNT, DEFAULT_RECOVERY_WORKER_COUNT);
+        if (recoveryWorkerCount > 0) {
+            int queueSize = CONFIG.getInt(ConfigurationKeys.RECOVERY_WORKER_QUEUE_SIZE, DEFAULT_RECOVERY_WORKER_QUEUE_SIZE);
+            int maxConcurrencyPerResource = CONFIG.getInt(ConfigurationKeys.RECOVERY_MAX_CONCURRENCY_PER_RESOURCE,
+                DEFAULT_RECOVERY_MAX_CONCURRENCY_PER_RESOURCE);
+            retryRollbackingScheduler =
+                new PhaseTwoScheduler(RETRY_ROLLBACKING, recoveryWorkerCount, queueSize, maxConcurrencyPerResource);
+            retryCommittingScheduler =
+                new PhaseTwoScheduler(RETRY_COMMITTING, recoveryWorkerCount, queueSize, maxConcurrencyPerResource);
+            asyncCommittingScheduler =
+                new PhaseTwoScheduler(ASYNC_COMMITTING, recoveryWorkerCount, queueSize, maxConcurrencyPerResource);
+        } else {
+            retryRollbackingScheduler = null;
+            retryCommittingScheduler = null;
+            asyncCommittingScheduler = null;
+        }
     }
 
     public static DefaultCoordinator getInstance(RemotingServer remotingServer) {
@@ -298,7 +343,8 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         MDC.put(RootContext.MDC_KEY_XID, request.getXid());
         response.setBranchId(
                 core.branchRegister(request.getBranchType(), request.getResourceId(), rpcContext.getClientId(),
-                        request.getXid(), request.getApplicationData(), request.getLockKey()));
+                        request.getXid(), request.getApplicationData(), request.getLockKey(),
+                        request.getBinaryLockKey()));
     }
 
     @Override
@@ -322,10 +368,7 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
      * Timeout check.
      */
     protected void timeoutCheck() {
-        SessionCondition sessionCondition = new SessionCondition(GlobalStatus.Begin);
-        sessionCondition.setLazyLoadBranch(true);
-        Collection<GlobalSession> beginGlobalsessions =
-            SessionHolder.getRootSessionManager().findGlobalSessions(sessionCondition);
+        Collection<GlobalSession> beginGlobalsessions = findTimeoutCheckSessions();
         if (CollectionUtils.isEmpty(beginGlobalsessions)) {
             return;
         }
@@ -362,19 +405,58 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
     }
 
 
+    /**
+     * Find the begin sessions to be checked for timeout.
+     * Without the timeout wheel every begin session is returned. With it, only the expired sessions polled
+     * from the wheel are returned, and a full scan is still done every TIMEOUT_FULL_SCAN_PERIOD to seed the
+     * wheel with sessions it has not seen, e.g. begun on another TC node of the db or redis store.
+     *
+     * @return the sessions
+     */
+    private Collection<GlobalSession> findTimeoutCheckSessions() {
+        GlobalSessionTimeoutWheel timeoutWheel = SessionHolder.getTimeoutWheel();
+        long now = System.currentTimeMillis();
+        if (timeoutWheel != null && now < nextTimeoutFullScanTime) {
+            List<GlobalSession> expiredSessions = timeoutWheel.pollExpired(now);
+            if (expiredSessions.isEmpty()) {
+                return expiredSessions;
+            }
+            // the polled session may be a stale copy of an external store, check the current one
+            List<GlobalSession> currentSessions = new ArrayList<>(expiredSessions.size());
+            for (GlobalSession expiredSession : expiredSessions) {
+                GlobalSession currentSession =
+                    SessionHolder.getRootSessionManager().findGlobalSession(expiredSession.getXid(), false);
+                if (currentSession != null) {
+                    currentSessions.add(currentSession);
+                }
+            }
+            return currentSessions;
+        }
+        SessionCondition sessionCondition = new SessionCondition(GlobalStatus.Begin);
+        sessionCondition.setLazyLoadBranch(true);
+        Collection<GlobalSession> beginGlobalsessions =
+            SessionHolder.getRootSessionManager().findGlobalSessions(sessionCondition);
+        if (timeoutWheel != null) {
+            nextTimeoutFullScanTime = now + TIMEOUT_FULL_SCAN_PERIOD;
+            if (CollectionUtils.isNotEmpty(beginGlobalsessions)) {
+                for (GlobalSession globalSession : beginGlobalsessions) {
+                    if (!globalSession.isTimeout()) {
+                        timeoutWheel.add(globalSession);
+                    }
+                }
+            }
+        }
+        return beginGlobalsessions;
+    }
+
     /**
      * Handle retry rollbacking.
      */
     protected void handleRetryRollbacking() {
         SessionCondition sessionCondition = new SessionCondition(rollbackingStatuses);
         sessionCondition.setLazyLoadBranch(true);
-        Collection<GlobalSession> rollbackingSessions =
-            SessionHolder.getRootSessionManager().findGlobalSessions(sessionCondition);
-        if (CollectionUtils.isEmpty(rollbackingSessions)) {
-            return;
-        }
         long now = System.currentTimeMillis();
-        SessionHelper.forEach(rollbackingSessions, rollbackingSession -> {
+        forEach(retryRollbackingScheduler, sessionCondition, rollbackingSession -> {
             try {
                 // prevent repeated rollback
                 if (rollbackingSession.getStatus() == GlobalStatus.Rollbacking
@@ -405,13 +487,8 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
     protected void handleRetryCommitting() {
         SessionCondition retryCommittingSessionCondition = new SessionCondition(retryCommittingStatuses);
         retryCommittingSessionCondition.setLazyLoadBranch(true);
-        Collection<GlobalSession> committingSessions =
-            SessionHolder.getRootSessionManager().findGlobalSessions(retryCommittingSessionCondition);
-        if (CollectionUtils.isEmpty(committingSessions)) {
-            return;
-        }
         long now = System.currentTimeMillis();
-        SessionHelper.forEach(committingSessions, committingSession -> {
+        forEach(retryCommittingScheduler, retryCommittingSessionCondition, committingSession -> {
             try {
                 // prevent repeated commit
                 if ((GlobalStatus.Committing.equals(committingSession.getStatus())
@@ -444,12 +521,7 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
      */
     protected void handleAsyncCommitting() {
         SessionCondition sessionCondition = new SessionCondition(GlobalStatus.AsyncCommitting);
-        Collection<GlobalSession> asyncCommittingSessions =
-                SessionHolder.getRootSessionManager().findGlobalSessions(sessionCondition);
-        if (CollectionUtils.isEmpty(asyncCommittingSessions)) {
-            return;
-        }
-        SessionHelper.forEach(asyncCommittingSessions, asyncCommittingSession -> {
+        forEach(asyncCommittingScheduler, sessionCondition, asyncCommittingSession -> {
             try {
                 core.doGlobalCommit(asyncCommittingSession, true);
             } catch (TransactionException ex) {
@@ -484,6 +556,33 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         }
     }
 
+    /**
+     * Handle the sessions found by the condition. With a recovery page size they are found and handled page by
+     * page, so a backlog of sessions to retry is not held in memory at once.
+     */
+    private void forEach(PhaseTwoScheduler scheduler, SessionCondition sessionCondition, GlobalSessionHandler handler) {
+        SessionManager sessionManager = SessionHolder.getRootSessionManager();
+        if (recoveryPageSize <= 0) {
+            forEach(scheduler, sessionManager.findGlobalSessions(sessionCondition), handler);
+            return;
+        }
+        Iterator<List<GlobalSession>> pages = sessionManager.findGlobalSessionPages(sessionCondition, recoveryPageSize);
+        while (pages.hasNext()) {
+            forEach(scheduler, pages.next(), handler);
+        }
+    }
+
+    private void forEach(PhaseTwoScheduler scheduler, Collection<GlobalSession> sessions, GlobalSessionHandler handler) {
+        if (CollectionUtils.isEmpty(sessions)) {
+            return;
+        }
+        if (scheduler != null) {
+            scheduler.dispatch(sessions, handler);
+        } else {
+            SessionHelper.forEach(sessions, handler);
+        }
+    }
+
     private boolean isRetryTimeout(long now, long timeout, long beginTime) {
         return timeout >= ALWAYS_RETRY_BOUNDARY && now - beginTime > timeout;
     }
@@ -555,6 +654,12 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         } catch (InterruptedException ignore) {
 
         }
+        if (retryRollbackingScheduler != null) {
+            retryRollbackingScheduler.shutdown(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS);
+            retryCommittingScheduler.shutdown(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS);
+            asyncCommittingScheduler.shutdown(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS);
+        }
+        core.destroy();
         // 2. second close netty flow
         if (remotingServer instanceof NettyRemotingServer) {
             ((NettyRemotingServer) remotingServer).destroy();
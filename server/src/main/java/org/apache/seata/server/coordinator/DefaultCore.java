@@ -32,6 +32,7 @@ import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.core.rpc.RemotingServer;
+import org.apache.seata.server.metrics.MeterIdConstants;
 import org.apache.seata.server.metrics.MetricsPublisher;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
@@ -43,6 +44,8 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import static org.apache.seata.common.ConfigurationKeys.ENABLE_PARALLEL_HANDLE_BRANCH_KEY;
+import static org.apache.seata.common.ConfigurationKeys.PARALLEL_HANDLE_BRANCH_QUEUE_SIZE;
+import static org.apache.seata.common.ConfigurationKeys.PARALLEL_HANDLE_BRANCH_THREADS;
 import static org.apache.seata.common.ConfigurationKeys.XAER_NOTA_RETRY_TIMEOUT;
 import static org.apache.seata.server.session.BranchSessionHandler.CONTINUE;
 
@@ -62,6 +65,12 @@ public class DefaultCore implements Core {
     private static final boolean PARALLEL_HANDLE_BRANCH =
             ConfigurationFactory.getInstance().getBoolean(ENABLE_PARALLEL_HANDLE_BRANCH_KEY, false);
 
+    private final PhaseTwoDispatcher phaseTwoDispatcher = new PhaseTwoDispatcher(
+            ConfigurationFactory.getInstance().getInt(PARALLEL_HANDLE_BRANCH_THREADS,
+                DefaultValues.DEFAULT_PARALLEL_HANDLE_BRANCH_THREADS),
+            ConfigurationFactory.getInstance().getInt(PARALLEL_HANDLE_BRANCH_QUEUE_SIZE,
+                DefaultValues.DEFAULT_PARALLEL_HANDLE_BRANCH_QUEUE_SIZE));
+
     /**
      * get the Default core.
      *
@@ -91,6 +100,13 @@ public class DefaultCore implements Core {
         return core;
     }
 
+    /**
+     * Stop the threads handling the branches of different resources in parallel.
+     */
+    public void destroy() {
+        phaseTwoDispatcher.shutdown();
+    }
+
     /**
      * only for mock
      *
@@ -108,6 +124,14 @@ public class DefaultCore implements Core {
             applicationData, lockKeys);
     }
 
+    @Override
+    public Long branchRegister(BranchType branchType, String resourceId, String clientId, String xid,
+                               String applicationData, String lockKeys, byte[] binaryLockKey)
+        throws TransactionException {
+        return getCore(branchType).branchRegister(branchType, resourceId, clientId, xid,
+            applicationData, lockKeys, binaryLockKey);
+    }
+
     @Override
     public void branchReport(BranchType branchType, String xid, long branchId, BranchStatus status,
                              String applicationData) throws TransactionException {
@@ -201,7 +225,7 @@ public class DefaultCore implements Core {
             success = getCore(BranchType.SAGA).doGlobalCommit(globalSession, retrying);
         } else {
             List<BranchSession> branchSessions = globalSession.getSortedBranches();
-            Boolean result = SessionHelper.forEach(branchSessions, branchSession -> {
+            Boolean result = phaseTwoDispatcher.dispatch(branchSessions, branchSession -> {
                 // if not retrying, skip the canBeCommittedAsync branches
                 if (!retrying && branchSession.canBeCommittedAsync()) {
                     return CONTINUE;
@@ -254,7 +278,7 @@ public class DefaultCore implements Core {
                     }
                 }
                 return CONTINUE;
-            }, PARALLEL_HANDLE_BRANCH && branchSessions.size() >= 2);
+            }, PARALLEL_HANDLE_BRANCH, MeterIdConstants.TIMER_BRANCH_COMMIT);
             // Return if the result is not null
             if (result != null) {
                 return result;
@@ -308,7 +332,7 @@ public class DefaultCore implements Core {
             success = getCore(BranchType.SAGA).doGlobalRollback(globalSession, retrying);
         } else {
             List<BranchSession> branchSessions = globalSession.getReverseSortedBranches();
-            Boolean result = SessionHelper.forEach(branchSessions, branchSession -> {
+            Boolean result = phaseTwoDispatcher.dispatch(branchSessions, branchSession -> {
                 BranchStatus currentBranchStatus = branchSession.getStatus();
                 if (currentBranchStatus == BranchStatus.PhaseOne_Failed) {
                     SessionHelper.removeBranch(globalSession, branchSession, !retrying);
@@ -345,7 +369,7 @@ public class DefaultCore implements Core {
                     }
                     throw new TransactionException(ex);
                 }
-            }, PARALLEL_HANDLE_BRANCH && branchSessions.size() >= 2);
+            }, PARALLEL_HANDLE_BRANCH, MeterIdConstants.TIMER_BRANCH_ROLLBACK);
             // Return if the result is not null
             if (result != null) {
                 return result;
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.registry.Registry;
+import org.apache.seata.server.cluster.raft.context.SeataClusterContext;
+import org.apache.seata.server.metrics.MetricsManager;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.BranchSessionHandler;
+import org.apache.seata.server.session.SessionHelper;
+
+/**
+ * Sends the phase two requests of the branches of one global session.
+ * <p>
+ * In parallel mode the branches are grouped by resource. The branches of a resource are handled one after
+ * another in the given order, so a rollback still undoes the branches of a resource in reverse order, while
+ * the groups of different resources are handled at the same time on a bounded executor owned by the TC.
+ * The calling thread handles the first group itself, and also any group the full executor rejects.
+ * The time taken to handle each branch is recorded to the metrics registry if it is enabled.
+ *
+ */
+public class PhaseTwoDispatcher {
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Instantiates a new phase two dispatcher.
+     *
+     * @param threads   the executor threads
+     * @param queueSize the executor queue size
+     */
+    public PhaseTwoDispatcher(int threads, int queueSize) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        // unlike CallerRunsPolicy, also run the task after shutdown, dispatch waits for every group
+        RejectedExecutionHandler callerRuns = (task, executor) -> task.run();
+        this.executor = new ThreadPoolExecutor(threads, threads, Integer.MAX_VALUE, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(queueSize, 1)), new NamedThreadFactory("phaseTwoDispatch", threads),
+            callerRuns);
+    }
+
+    /**
+     * Handle the branches and wait until all of them are done.
+     *
+     * @param branchSessions the branches, in the order they are handled per resource
+     * @param handler        the handler
+     * @param parallel       whether the branches of different resources are handled at the same time
+     * @param timerId        the timer recording the time taken per branch
+     * @return the result of the first group that returned one, null if all of them continued
+     * @throws TransactionException the first exception thrown by a group
+     */
+    public Boolean dispatch(Collection<BranchSession> branchSessions, BranchSessionHandler handler, boolean parallel,
+                            Id timerId) throws TransactionException {
+        if (CollectionUtils.isEmpty(branchSessions)) {
+            return null;
+        }
+        BranchSessionHandler timedHandler = timed(handler, timerId);
+        if (!parallel || branchSessions.size() < 2) {
+            return SessionHelper.forEach(branchSessions, timedHandler, false);
+        }
+        Map<String, List<BranchSession>> groups = new LinkedHashMap<>();
+        for (BranchSession branchSession : branchSessions) {
+            groups.computeIfAbsent(branchSession.getResourceId(), k -> new ArrayList<>()).add(branchSession);
+        }
+        if (groups.size() == 1) {
+            return SessionHelper.forEach(branchSessions, timedHandler, false);
+        }
+        List<Future<Boolean>> futures = new ArrayList<>(groups.size());
+        // the branches are of the raft group bound by the caller
+        String raftGroup = SeataClusterContext.getGroup();
+        List<BranchSession> first = null;
+        for (List<BranchSession> group : groups.values()) {
+            if (first == null) {
+                first = group;
+                continue;
+            }
+            FutureTask<Boolean> future = new FutureTask<>(() -> {
+                String previousGroup = SessionHelper.bindGroup(raftGroup);
+                try {
+                    return SessionHelper.forEach(group, timedHandler, false);
+                } finally {
+                    SessionHelper.restoreGroup(previousGroup);
+                }
+            });
+            futures.add(future);
+            executor.execute(future);
+        }
+        Boolean result = null;
+        TransactionException exception = null;
+        try {
+            result = SessionHelper.forEach(first, timedHandler, false);
+        } catch (TransactionException e) {
+            exception = e;
+        }
+        // wait for every group, a branch must not be handled after the global session moved on
+        for (Future<Boolean> future : futures) {
+            try {
+                Boolean groupResult = getUninterruptibly(future);
+                if (result == null && exception == null) {
+                    result = groupResult;
+                }
+            } catch (ExecutionException e) {
+                if (result == null && exception == null) {
+                    Throwable cause = e.getCause();
+                    exception = cause instanceof TransactionException ? (TransactionException)cause
+                        : new TransactionException(cause);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+        return result;
+    }
+
+    /**
+     * Stop the executor, the groups dispatched later are handled by the calling thread.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Boolean getUninterruptibly(Future<Boolean> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static BranchSessionHandler timed(BranchSessionHandler handler, Id timerId) {
+        Registry registry = MetricsManager.get().getRegistry();
+        if (registry == null || timerId == null) {
+            return handler;
+        }
+        return branchSession -> {
+            long start = System.nanoTime();
+            try {
+                return handler.handle(branchSession);
+            } finally {
+                registry.getTimer(timerId).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.metrics.Counter;
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.IdConstants;
+import org.apache.seata.metrics.registry.Registry;
+import org.apache.seata.server.metrics.MetricsManager;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.GlobalSessionHandler;
+import org.apache.seata.server.session.SessionHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the phase two retry of a batch of global sessions on a group of single-thread workers.
+ * <p>
+ * A session is always handled by the worker its xid hashes to. When a worker queue is full the
+ * dispatching thread handles the session itself, so a large backlog slows down the scan instead of
+ * piling up in memory. Optionally the sessions being handled at the same time per resource are limited,
+ * a session over the limit is deferred to the next round.
+ * The pending, drained and deferred session counts are reported to the metrics registry if it is enabled.
+ *
+ */
+public class PhaseTwoScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhaseTwoScheduler.class);
+
+    private final String name;
+
+    private final ThreadPoolExecutor[] workers;
+
+    private final int maxConcurrencyPerResource;
+
+    private final ConcurrentHashMap<String, Semaphore> resourcePermits = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final AtomicLong drained = new AtomicLong();
+
+    private final AtomicLong deferred = new AtomicLong();
+
+    /**
+     * the counters of the metrics registry, null if it is not enabled
+     */
+    private final Counter drainedCounter;
+
+    private final Counter deferredCounter;
+
+    /**
+     * Instantiates a new phase two scheduler.
+     *
+     * @param name                      the scheduler name, e.g. RetryRollbacking
+     * @param workerCount               the worker count
+     * @param queueSize                 the queue size of each worker
+     * @param maxConcurrencyPerResource the max sessions handled at the same time per resource, 0 means no limit
+     */
+    public PhaseTwoScheduler(String name, int workerCount, int queueSize, int maxConcurrencyPerResource) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be positive: " + workerCount);
+        }
+        this.name = name;
+        this.maxConcurrencyPerResource = maxConcurrencyPerResource;
+        this.workers = new ThreadPoolExecutor[workerCount];
+        NamedThreadFactory threadFactory = new NamedThreadFactory(name + "Worker", workerCount);
+        // unlike CallerRunsPolicy, also run the task after shutdown, dispatch waits for every task
+        RejectedExecutionHandler callerRuns = (task, executor) -> task.run();
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new ThreadPoolExecutor(1, 1, Integer.MAX_VALUE, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueSize, 1)), threadFactory, callerRuns);
+        }
+        this.drainedCounter = counter(IdConstants.STATUS_VALUE_DRAINED);
+        this.deferredCounter = counter(IdConstants.STATUS_VALUE_DEFERRED);
+        registerMetrics();
+    }
+
+    /**
+     * Handle the sessions on the workers and wait until all of them are done.
+     *
+     * @param sessions the sessions
+     * @param handler  the handler
+     */
+    public void dispatch(Collection<GlobalSession> sessions, GlobalSessionHandler handler) {
+        if (CollectionUtils.isEmpty(sessions)) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(sessions.size());
+        // the sessions are of the raft group bound by the caller
+        String group = SessionHelper.currentGroup();
+        for (GlobalSession globalSession : sessions) {
+            pending.incrementAndGet();
+            workerOf(globalSession.getXid()).execute(() -> {
+                String previousGroup = SessionHelper.bindGroup(group);
+                try {
+                    handle(globalSession, handler);
+                } finally {
+                    SessionHelper.restoreGroup(previousGroup);
+                    pending.decrementAndGet();
+                    latch.countDown();
+                }
+            });
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("{} interrupted while waiting for {} sessions", name, latch.getCount());
+        }
+    }
+
+    private void handle(GlobalSession globalSession, GlobalSessionHandler handler) {
+        List<Semaphore> acquired = acquirePermits(globalSession);
+        if (acquired == null) {
+            deferred.incrementAndGet();
+            if (deferredCounter != null) {
+                deferredCounter.increase(1);
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("{} deferred {}, resource concurrency limit reached", name, globalSession.getXid());
+            }
+            return;
+        }
+        try {
+            SessionHelper.forEach(Collections.singletonList(globalSession), handler, false);
+            drained.incrementAndGet();
+            if (drainedCounter != null) {
+                drainedCounter.increase(1);
+            }
+        } finally {
+            acquired.forEach(Semaphore::release);
+        }
+    }
+
+    /**
+     * Acquire a permit of every resource the session has branches on.
+     *
+     * @param globalSession the global session
+     * @return the acquired permits, or null if one of the resources is at its limit
+     */
+    private List<Semaphore> acquirePermits(GlobalSession globalSession) {
+        if (maxConcurrencyPerResource <= 0) {
+            return Collections.emptyList();
+        }
+        Set<String> resourceIds = new TreeSet<>();
+        for (BranchSession branchSession : globalSession.getBranchSessions()) {
+            resourceIds.add(branchSession.getResourceId());
+        }
+        List<Semaphore> acquired = new ArrayList<>(resourceIds.size());
+        for (String resourceId : resourceIds) {
+            Semaphore semaphore = CollectionUtils.computeIfAbsent(resourcePermits, resourceId,
+                key -> new Semaphore(maxConcurrencyPerResource));
+            if (!semaphore.tryAcquire()) {
+                acquired.forEach(Semaphore::release);
+                return null;
+            }
+            acquired.add(semaphore);
+        }
+        return acquired;
+    }
+
+    private ThreadPoolExecutor workerOf(String xid) {
+        return workers[(xid.hashCode() & Integer.MAX_VALUE) % workers.length];
+    }
+
+    private void registerMetrics() {
+        Registry registry = MetricsManager.get().getRegistry();
+        if (registry == null) {
+            return;
+        }
+        registry.getGauge(meterId(IdConstants.METER_VALUE_GAUGE, IdConstants.STATUS_VALUE_PENDING), pending::get);
+    }
+
+    private Counter counter(String status) {
+        Registry registry = MetricsManager.get().getRegistry();
+        return registry != null ? registry.getCounter(meterId(IdConstants.METER_VALUE_COUNTER, status)) : null;
+    }
+
+    private Id meterId(String meter, String status) {
+        return new Id(IdConstants.SEATA_RECOVERY)
+            .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+            .withTag(IdConstants.METER_KEY, meter)
+            .withTag(IdConstants.NAME_KEY, name)
+            .withTag(IdConstants.STATUS_KEY, status);
+    }
+
+    /**
+     * Get the number of sessions dispatched but not handled yet.
+     *
+     * @return the pending count
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Get the number of sessions handled.
+     *
+     * @return the drained count
+     */
+    public long getDrainedCount() {
+        return drained.get();
+    }
+
+    /**
+     * Get the number of sessions deferred by the resource concurrency limit.
+     *
+     * @return the deferred count
+     */
+    public long getDeferredCount() {
+        return deferred.get();
+    }
+
+    /**
+     * Shutdown the workers.
+     *
+     * @param timeoutMillis the max millis to wait for each worker
+     */
+    public void shutdown(long timeoutMillis) {
+        for (ThreadPoolExecutor worker : workers) {
+            worker.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor worker : workers) {
+                worker.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException ignore) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -16,19 +16,42 @@
  */
 package org.apache.seata.server.coordinator;
 
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
+import com.alipay.sofa.jraft.util.BytesUtil;
+import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.core.protocol.AbstractMessage;
+import org.apache.seata.core.protocol.AbstractResultMessage;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionRequest;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionResponse;
+import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
+import org.apache.seata.core.protocol.transaction.GlobalStatusRequest;
 import org.apache.seata.core.rpc.RemotingServer;
+import org.apache.seata.core.rpc.RpcContext;
 import org.apache.seata.server.cluster.listener.ClusterChangeEvent;
+import org.apache.seata.server.cluster.raft.RaftServer;
+import org.apache.seata.server.cluster.raft.RaftServerManager;
 import org.apache.seata.server.cluster.raft.context.SeataClusterContext;
 import org.apache.seata.server.store.StoreConfig;
 import org.springframework.context.ApplicationListener;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.apache.seata.common.ConfigurationKeys.RPC_TC_REQUEST_TIMEOUT;
+import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_FOLLOWER_READ;
+import static org.apache.seata.common.ConfigurationKeys.SERVER_RAFT_FOLLOWER_READ_MAX_STALENESS_MS;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RPC_TC_REQUEST_TIMEOUT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SERVER_RAFT_FOLLOWER_READ;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SERVER_RAFT_FOLLOWER_READ_MAX_STALENESS_MS;
 
 /**
  * The type raft tx coordinator.
@@ -37,17 +60,55 @@ public class RaftCoordinator extends DefaultCoordinator implements ApplicationLi
 
     protected static final Map<String, Boolean> GROUP_PREVENT = new ConcurrentHashMap<>();
 
+    /**
+     * the start time of the last read index confirmed on each group, while this node is a follower
+     */
+    private final Map<String, Long> lastReadIndexTime = new ConcurrentHashMap<>();
+
+    private final boolean followerRead;
+
+    private final long followerReadMaxStalenessMs;
+
+    /**
+     * the max time a follower read waits for the read index, the request times out on the client after it anyway
+     */
+    private final long readIndexTimeoutMs;
+
     public RaftCoordinator(RemotingServer remotingServer) {
         super(remotingServer);
+        this.followerRead = ConfigurationFactory.getInstance().getBoolean(SERVER_RAFT_FOLLOWER_READ,
+            DEFAULT_SERVER_RAFT_FOLLOWER_READ);
+        this.followerReadMaxStalenessMs = ConfigurationFactory.getInstance()
+            .getLong(SERVER_RAFT_FOLLOWER_READ_MAX_STALENESS_MS, DEFAULT_SERVER_RAFT_FOLLOWER_READ_MAX_STALENESS_MS);
+        this.readIndexTimeoutMs = ConfigurationFactory.getInstance().getLong(RPC_TC_REQUEST_TIMEOUT,
+            DEFAULT_RPC_TC_REQUEST_TIMEOUT);
+    }
+
+    @Override
+    public AbstractResultMessage onRequest(AbstractMessage request, RpcContext context) {
+        // the request is handled by the raft group serving the transaction service group of the client
+        SeataClusterContext.bindGroup(
+            RaftServerManager.getGroup(context != null ? context.getTransactionServiceGroup() : null));
+        try {
+            return super.onRequest(request, context);
+        } finally {
+            SeataClusterContext.unbindGroup();
+        }
     }
 
     @Override
     public <T extends AbstractTransactionRequest, S extends AbstractTransactionResponse> void exceptionHandleTemplate(Callback<T, S> callback, T request, S response) {
-        String group = SeataClusterContext.bindGroup();
+        String group = SeataClusterContext.getGroup();
+        if (group == null) {
+            group = SeataClusterContext.bindGroup();
+        }
         try {
             if (!isPass(group)) {
-                throw new TransactionException(TransactionExceptionCode.NotRaftLeader,
-                        " The current TC is not a leader node, interrupt processing !");
+                if (!isFollowerRead(request)) {
+                    throw new TransactionException(TransactionExceptionCode.NotRaftLeader,
+                            " The current TC is not a leader node, interrupt processing !");
+                }
+                awaitReadIndex(group);
             }
             super.exceptionHandleTemplate(callback,request,response);
         } catch (TransactionException tex) {
@@ -58,6 +119,56 @@ public class RaftCoordinator extends DefaultCoordinator implements ApplicationLi
         }
     }
 
+    private boolean isFollowerRead(AbstractTransactionRequest request) {
+        return followerRead && (request instanceof GlobalStatusRequest || request instanceof GlobalLockQueryRequest);
+    }
+
+    /**
+     * Wait until this follower has applied the logs committed when the read came in, so the read sees
+     * every write the leader acknowledged before it. Within the max staleness of the last read index
+     * the follower answers from what it has applied, without asking the leader.
+     */
+    private void awaitReadIndex(String group) throws TransactionException {
+        long start = System.currentTimeMillis();
+        if (followerReadMaxStalenessMs > 0) {
+            Long last = lastReadIndexTime.get(group);
+            if (last != null && start - last < followerReadMaxStalenessMs) {
+                return;
+            }
+        }
+        RaftServer raftServer = RaftServerManager.getRaftServer(group);
+        Node node = raftServer != null ? raftServer.getNode() : null;
+        if (node == null) {
+            throw new TransactionException(TransactionExceptionCode.NotRaftLeader,
+                " The current TC has no raft node of group " + group + ", interrupt processing !");
+        }
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
+            @Override
+            public void run(Status status, long index, byte[] reqCtx) {
+                if (status.isOk()) {
+                    future.complete(true);
+                } else {
+                    future.completeExceptionally(new TransactionException(TransactionExceptionCode.NotRaftLeader,
+                        " The current TC failed to read index: " + status + ", interrupt processing !"));
+                }
+            }
+        });
+        try {
+            future.get(readIndexTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new TransactionException(TransactionExceptionCode.NotRaftLeader,
+                " The current TC timed out reading index after " + readIndexTimeoutMs + " ms, interrupt processing !");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(TransactionExceptionCode.NotRaftLeader,
+                " The current TC is interrupted while reading index, interrupt processing !");
+        } catch (ExecutionException e) {
+            throw (TransactionException)e.getCause();
+        }
+        lastReadIndexTime.merge(group, start, Math::max);
+    }
+
     private boolean isPass(String group) {
         // Non-raft mode always allows requests
         return Optional.ofNullable(GROUP_PREVENT.get(group)).orElse(false);
@@ -73,6 +184,7 @@ public class RaftCoordinator extends DefaultCoordinator implements ApplicationLi
     @Override
     public void onApplicationEvent(ClusterChangeEvent event) {
         setPrevent(event.getGroup(), event.isLeader());
+        lastReadIndexTime.remove(event.getGroup());
     }
 
 }
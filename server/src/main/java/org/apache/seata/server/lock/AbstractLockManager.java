@@ -22,7 +22,11 @@ import java.util.List;
 import org.apache.seata.common.XID;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.StringUtils;
+import org.apache.seata.config.Configuration;
+import org.apache.seata.config.ConfigurationFactory;
+import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.lock.Locker;
 import org.apache.seata.core.lock.RowLock;
 import org.apache.seata.core.model.LockStatus;
@@ -30,6 +34,10 @@ import org.apache.seata.server.session.BranchSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_CACHE_ENABLED;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_CACHE_EXPIRE_MILLIS;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_CACHE_MAX_SIZE;
+
 /**
  * The type Abstract lock manager.
  *
@@ -41,6 +49,11 @@ public abstract class AbstractLockManager implements LockManager {
      */
     protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractLockManager.class);
 
+    /**
+     * The near cache of the locks acquired by this server, null if disabled.
+     */
+    protected LockCache lockCache;
+
     @Override
     public boolean acquireLock(BranchSession branchSession) throws TransactionException {
         return acquireLock(branchSession, true, false);
@@ -51,8 +64,7 @@ public abstract class AbstractLockManager implements LockManager {
         if (branchSession == null) {
             throw new IllegalArgumentException("branchSession can't be null for memory/file locker.");
         }
-        String lockKey = branchSession.getLockKey();
-        if (StringUtils.isNullOrEmpty(lockKey)) {
+        if (branchSession.getBinaryLockKey() == null && StringUtils.isNullOrEmpty(branchSession.getLockKey())) {
             // no lock
             return true;
         }
@@ -62,7 +74,17 @@ public abstract class AbstractLockManager implements LockManager {
             // no lock
             return true;
         }
-        return getLocker(branchSession).acquireLock(locks, autoCommit, skipCheckLock);
+        if (lockCache != null && !skipCheckLock) {
+            Boolean cached = lockCache.check(locks);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        boolean acquired = getLocker(branchSession).acquireLock(locks, autoCommit, skipCheckLock);
+        if (acquired && lockCache != null) {
+            lockCache.put(locks);
+        }
+        return acquired;
     }
 
     @Override
@@ -86,6 +108,12 @@ public abstract class AbstractLockManager implements LockManager {
             return true;
         }
         List<RowLock> locks = collectRowLocks(lockKey, resourceId, xid);
+        if (lockCache != null) {
+            Boolean cached = lockCache.check(locks);
+            if (cached != null) {
+                return cached;
+            }
+        }
         try {
             return getLocker().isLockable(locks);
         } catch (Exception t) {
@@ -97,9 +125,45 @@ public abstract class AbstractLockManager implements LockManager {
 
     @Override
     public void cleanAllLocks() throws TransactionException {
+        if (lockCache != null) {
+            lockCache.clear();
+        }
         getLocker().cleanAllLocks();
     }
 
+    /**
+     * Create the lock cache if it is enabled, for the lock stores shared by the servers of a cluster.
+     */
+    protected void initLockCache() {
+        Configuration config = ConfigurationFactory.getInstance();
+        if (config.getBoolean(ConfigurationKeys.STORE_LOCK_CACHE_ENABLED, DEFAULT_LOCK_CACHE_ENABLED)) {
+            lockCache = new LockCache(config.getInt(ConfigurationKeys.STORE_LOCK_CACHE_MAX_SIZE, DEFAULT_LOCK_CACHE_MAX_SIZE),
+                config.getLong(ConfigurationKeys.STORE_LOCK_CACHE_EXPIRE_MILLIS, DEFAULT_LOCK_CACHE_EXPIRE_MILLIS));
+        }
+    }
+
+    /**
+     * Evict the cached locks of a branch.
+     *
+     * @param branchSession the branch session
+     */
+    protected void invalidateLockCache(BranchSession branchSession) {
+        if (lockCache != null) {
+            lockCache.invalidate(branchSession.getXid(), branchSession.getBranchId());
+        }
+    }
+
+    /**
+     * Evict the cached locks of a global transaction.
+     *
+     * @param xid the xid
+     */
+    protected void invalidateLockCache(String xid) {
+        if (lockCache != null) {
+            lockCache.invalidate(xid);
+        }
+    }
+
     /**
      * Gets locker.
      *
@@ -119,17 +183,41 @@ public abstract class AbstractLockManager implements LockManager {
 
     @Override
     public List<RowLock> collectRowLocks(BranchSession branchSession) {
-        if (branchSession == null || StringUtils.isBlank(branchSession.getLockKey())) {
+        if (branchSession == null) {
+            return Collections.emptyList();
+        }
+        byte[] binaryLockKey = branchSession.getBinaryLockKey();
+        if (binaryLockKey == null && StringUtils.isBlank(branchSession.getLockKey())) {
             return Collections.emptyList();
         }
 
-        String lockKey = branchSession.getLockKey();
         String resourceId = branchSession.getResourceId();
         String xid = branchSession.getXid();
         long transactionId = branchSession.getTransactionId();
         long branchId = branchSession.getBranchId();
 
-        return collectRowLocks(lockKey, resourceId, xid, transactionId, branchId);
+        if (binaryLockKey != null) {
+            return collectRowLocks(binaryLockKey, resourceId, xid, transactionId, branchId);
+        }
+        return collectRowLocks(branchSession.getLockKey(), resourceId, xid, transactionId, branchId);
+    }
+
+    /**
+     * Collect row locks list from a binary lock key, the rows are read without building the text of the lock key.
+     *
+     * @param binaryLockKey the binary lock key
+     * @param resourceId    the resource id
+     * @param xid           the xid
+     * @param transactionId the transaction id
+     * @param branchID      the branch id
+     * @return the list
+     */
+    protected List<RowLock> collectRowLocks(byte[] binaryLockKey, String resourceId, String xid, Long transactionId,
+        Long branchID) {
+        List<RowLock> locks = new ArrayList<>();
+        LockKeyCodec.decode(binaryLockKey,
+            (tableName, pk) -> locks.add(newRowLock(resourceId, xid, transactionId, branchID, tableName, pk)));
+        return locks;
     }
 
     /**
@@ -175,22 +263,31 @@ public abstract class AbstractLockManager implements LockManager {
             }
             for (String pk : pks) {
                 if (StringUtils.isNotBlank(pk)) {
-                    RowLock rowLock = new RowLock();
-                    rowLock.setXid(xid);
-                    rowLock.setTransactionId(transactionId);
-                    rowLock.setBranchId(branchID);
-                    rowLock.setTableName(tableName);
-                    rowLock.setPk(pk);
-                    rowLock.setResourceId(resourceId);
-                    locks.add(rowLock);
+                    locks.add(newRowLock(resourceId, xid, transactionId, branchID, tableName, pk));
                 }
             }
         }
         return locks;
     }
+
+    private RowLock newRowLock(String resourceId, String xid, Long transactionId, Long branchID, String tableName,
+        String pk) {
+        RowLock rowLock = new RowLock();
+        rowLock.setXid(xid);
+        rowLock.setTransactionId(transactionId);
+        rowLock.setBranchId(branchID);
+        rowLock.setTableName(tableName);
+        rowLock.setPk(pk);
+        rowLock.setResourceId(resourceId);
+        return rowLock;
+    }
     
     @Override
     public void updateLockStatus(String xid, LockStatus lockStatus) {
+        // a rollbacking holder makes the conflicting branches fail fast, which only the lock store tells
+        if (lockStatus == LockStatus.Rollbacking) {
+            invalidateLockCache(xid);
+        }
         this.getLocker().updateLockStatus(xid, lockStatus);
     }
 
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.metrics.Counter;
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.IdConstants;
+import org.apache.seata.metrics.registry.Registry;
+import org.apache.seata.server.metrics.MetricsManager;
+
+/**
+ * A near cache of the row locks this server acquired in the lock store.
+ * <p>
+ * The holder of each cached row is tracked per xid, so the cache answers a lock check on its own when every row
+ * is already held by the requesting transaction, or when a row is held by another one. Only the other checks
+ * reach the lock store. The rows of a transaction are evicted as soon as this server releases its locks; as they
+ * may also be released by another server of the cluster, every row also expires after {@code expireMillis}, which
+ * bounds how long a stale row is trusted. Once {@code maxSize} rows are cached, new rows are not cached anymore
+ * until older ones expire or are released.
+ *
+ */
+public class LockCache {
+
+    private static final String ROW_KEY_SPLIT = "^^^";
+
+    private final int maxSize;
+
+    private final long expireMillis;
+
+    private final ConcurrentMap<String, CachedLock> rowLocks = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Set<String>> xidRowKeys = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * the counters of the metrics registry, null if it is not enabled
+     */
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    /**
+     * Instantiates a new lock cache.
+     *
+     * @param maxSize      the max cached rows
+     * @param expireMillis the time a cached row is trusted
+     */
+    public LockCache(int maxSize, long expireMillis) {
+        this.maxSize = maxSize;
+        this.expireMillis = expireMillis;
+        Registry registry = MetricsManager.get().getRegistry();
+        this.hitCounter = registry != null ? registry.getCounter(meterId(IdConstants.STATUS_VALUE_CACHE_HIT)) : null;
+        this.missCounter = registry != null ? registry.getCounter(meterId(IdConstants.STATUS_VALUE_CACHE_MISS)) : null;
+    }
+
+    /**
+     * Check the rows against the cache.
+     *
+     * @param locks the row locks of one transaction
+     * @return true if the transaction holds all the rows, false if another transaction holds one of them, null
+     * if the lock store has to decide
+     */
+    public Boolean check(List<RowLock> locks) {
+        if (CollectionUtils.isEmpty(locks)) {
+            return null;
+        }
+        String xid = locks.get(0).getXid();
+        long now = System.currentTimeMillis();
+        boolean held = true;
+        for (RowLock lock : locks) {
+            String rowKey = getRowKey(lock);
+            CachedLock cached = rowLocks.get(rowKey);
+            if (cached != null && cached.expireAt < now) {
+                evict(rowKey, cached);
+                cached = null;
+            }
+            if (cached == null) {
+                held = false;
+            } else if (!cached.xid.equals(xid)) {
+                hit();
+                return Boolean.FALSE;
+            }
+        }
+        if (held) {
+            hit();
+            return Boolean.TRUE;
+        }
+        missCount.incrementAndGet();
+        if (missCounter != null) {
+            missCounter.increase(1);
+        }
+        return null;
+    }
+
+    private void hit() {
+        hitCount.incrementAndGet();
+        if (hitCounter != null) {
+            hitCounter.increase(1);
+        }
+    }
+
+    /**
+     * Cache the rows acquired in the lock store.
+     *
+     * @param locks the row locks of one branch
+     */
+    public void put(List<RowLock> locks) {
+        if (CollectionUtils.isEmpty(locks)) {
+            return;
+        }
+        if (rowLocks.size() + locks.size() > maxSize) {
+            purgeExpired();
+            if (rowLocks.size() + locks.size() > maxSize) {
+                return;
+            }
+        }
+        String xid = locks.get(0).getXid();
+        long expireAt = System.currentTimeMillis() + expireMillis;
+        List<String> rowKeys = new ArrayList<>(locks.size());
+        for (RowLock lock : locks) {
+            String rowKey = getRowKey(lock);
+            // a row the transaction held before still belongs to the branch that acquired it in the lock store
+            rowLocks.compute(rowKey, (k, cached) -> cached != null && cached.xid.equals(xid) ? cached
+                : new CachedLock(xid, lock.getBranchId(), expireAt));
+            rowKeys.add(rowKey);
+        }
+        xidRowKeys.compute(xid, (k, keys) -> {
+            if (keys == null) {
+                keys = ConcurrentHashMap.newKeySet();
+            }
+            keys.addAll(rowKeys);
+            return keys;
+        });
+    }
+
+    /**
+     * Evict the rows of a transaction.
+     *
+     * @param xid the xid
+     */
+    public void invalidate(String xid) {
+        Set<String> rowKeys = xidRowKeys.remove(xid);
+        if (rowKeys != null) {
+            for (String rowKey : rowKeys) {
+                rowLocks.computeIfPresent(rowKey, (k, cached) -> cached.xid.equals(xid) ? null : cached);
+            }
+        }
+    }
+
+    /**
+     * Evict the rows of a branch.
+     *
+     * @param xid      the xid
+     * @param branchId the branch id
+     */
+    public void invalidate(String xid, Long branchId) {
+        Set<String> rowKeys = xidRowKeys.get(xid);
+        if (rowKeys != null) {
+            for (String rowKey : rowKeys) {
+                CachedLock cached = rowLocks.get(rowKey);
+                if (cached != null && cached.xid.equals(xid) && Objects.equals(cached.branchId, branchId)) {
+                    evict(rowKey, cached);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evict all the rows.
+     */
+    public void clear() {
+        rowLocks.clear();
+        xidRowKeys.clear();
+    }
+
+    /**
+     * Gets the number of checks answered by the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of checks passed on to the lock store.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of cached rows.
+     *
+     * @return the size
+     */
+    public int size() {
+        return rowLocks.size();
+    }
+
+    private void evict(String rowKey, CachedLock cached) {
+        if (rowLocks.remove(rowKey, cached)) {
+            xidRowKeys.computeIfPresent(cached.xid, (k, keys) -> {
+                keys.remove(rowKey);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        rowLocks.forEach((rowKey, cached) -> {
+            if (cached.expireAt < now) {
+                evict(rowKey, cached);
+            }
+        });
+    }
+
+    private static String getRowKey(RowLock lock) {
+        return lock.getResourceId() + ROW_KEY_SPLIT + lock.getTableName() + ROW_KEY_SPLIT + lock.getPk();
+    }
+
+    private static Id meterId(String status) {
+        return new Id(IdConstants.SEATA_LOCK)
+            .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+            .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_COUNTER)
+            .withTag(IdConstants.STATUS_KEY, status);
+    }
+
+    private static class CachedLock {
+
+        private final String xid;
+
+        private final Long branchId;
+
+        private final long expireAt;
+
+        CachedLock(String xid, Long branchId, long expireAt) {
+            this.xid = xid;
+            this.branchId = branchId;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.seata.server.session;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Map;
@@ -26,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.seata.common.util.BufferUtils;
 import org.apache.seata.common.util.CompressUtil;
 import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.model.LockStatus;
@@ -64,6 +66,8 @@ public class BranchSession implements Lockable, Comparable<BranchSession>, Sessi
 
     private String lockKey;
 
+    private byte[] binaryLockKey;
+
     private BranchType branchType;
 
     private BranchStatus status = BranchStatus.Unknown;
@@ -165,6 +169,10 @@ public class BranchSession implements Lockable, Comparable<BranchSession>, Sessi
      * @return the lock key
      */
     public String getLockKey() {
+        if (lockKey == null && binaryLockKey != null) {
+            // the text is only built when it is needed, e.g. to store the branch
+            lockKey = LockKeyCodec.toText(binaryLockKey);
+        }
         return lockKey;
     }
 
@@ -177,6 +185,24 @@ public class BranchSession implements Lockable, Comparable<BranchSession>, Sessi
         this.lockKey = lockKey;
     }
 
+    /**
+     * Gets the lock key of the binary format, null if the branch was registered with the text one.
+     *
+     * @return the binary lock key
+     */
+    public byte[] getBinaryLockKey() {
+        return binaryLockKey;
+    }
+
+    /**
+     * Sets the lock key of the binary format.
+     *
+     * @param binaryLockKey the binary lock key
+     */
+    public void setBinaryLockKey(byte[] binaryLockKey) {
+        this.binaryLockKey = binaryLockKey;
+    }
+
     /**
      * Gets branch type.
      *
@@ -324,16 +350,28 @@ public class BranchSession implements Lockable, Comparable<BranchSession>, Sessi
 
     @Override
     public byte[] encode() {
+        ByteBuffer byteBuffer = byteBufferThreadLocal.get();
+        //recycle
+        byteBuffer.clear();
+        encode(byteBuffer);
+        BufferUtils.flip(byteBuffer);
+        byte[] result = new byte[byteBuffer.limit()];
+        byteBuffer.get(result);
+        return result;
+    }
+
+    @Override
+    public void encode(ByteBuffer byteBuffer) {
 
-        byte[] resourceIdBytes = resourceId != null ? resourceId.getBytes() : null;
+        byte[] resourceIdBytes = SessionCodecUtils.cachedBytes(resourceId);
 
-        byte[] lockKeyBytes = lockKey != null ? lockKey.getBytes() : null;
+        byte[] lockKeyBytes = SessionCodecUtils.bytes(getLockKey());
 
-        byte[] clientIdBytes = clientId != null ? clientId.getBytes() : null;
+        byte[] clientIdBytes = SessionCodecUtils.cachedBytes(clientId);
 
-        byte[] applicationDataBytes = applicationData != null ? applicationData.getBytes() : null;
+        byte[] applicationDataBytes = SessionCodecUtils.bytes(applicationData);
 
-        byte[] xidBytes = xid != null ? xid.getBytes() : null;
+        byte[] xidBytes = SessionCodecUtils.bytes(xid);
 
         byte branchTypeByte = branchType != null ? (byte) branchType.ordinal() : -1;
 
@@ -360,57 +398,22 @@ public class BranchSession implements Lockable, Comparable<BranchSession>, Sessi
                         + MAX_BRANCH_SESSION_SIZE);
             }
         }
-
-        ByteBuffer byteBuffer = byteBufferThreadLocal.get();
-        //recycle
-        byteBuffer.clear();
+        // the lock status is not counted by calBranchSessionSize
+        if (size + 1 > byteBuffer.remaining()) {
+            throw new BufferOverflowException();
+        }
 
         byteBuffer.putLong(transactionId);
         byteBuffer.putLong(branchId);
-
-        if (resourceIdBytes != null) {
-            byteBuffer.putInt(resourceIdBytes.length);
-            byteBuffer.put(resourceIdBytes);
-        } else {
-            byteBuffer.putInt(0);
-        }
-
-        if (lockKeyBytes != null) {
-            byteBuffer.putInt(lockKeyBytes.length);
-            byteBuffer.put(lockKeyBytes);
-        } else {
-            byteBuffer.putInt(0);
-        }
-
-        if (clientIdBytes != null) {
-            byteBuffer.putShort((short)clientIdBytes.length);
-            byteBuffer.put(clientIdBytes);
-        } else {
-            byteBuffer.putShort((short)0);
-        }
-
-        if (applicationDataBytes != null) {
-            byteBuffer.putInt(applicationDataBytes.length);
-            byteBuffer.put(applicationDataBytes);
-        } else {
-            byteBuffer.putInt(0);
-        }
-
-        if (xidBytes != null) {
-            byteBuffer.putInt(xidBytes.length);
-            byteBuffer.put(xidBytes);
-        } else {
-            byteBuffer.putInt(0);
-        }
-
+        SessionCodecUtils.putIntBytes(byteBuffer, resourceIdBytes);
+        SessionCodecUtils.putIntBytes(byteBuffer, lockKeyBytes);
+        SessionCodecUtils.putShortBytes(byteBuffer, clientIdBytes);
+        SessionCodecUtils.putIntBytes(byteBuffer, applicationDataBytes);
+        SessionCodecUtils.putIntBytes(byteBuffer, xidBytes);
         byteBuffer.put(branchTypeByte);
 
         byteBuffer.put((byte)status.getCode());
         byteBuffer.put((byte)lockStatus.getCode());
-        BufferUtils.flip(byteBuffer);
-        byte[] result = new byte[byteBuffer.limit()];
-        byteBuffer.get(result);
-        return result;
     }
 
     private int calBranchSessionSize(byte[] resourceIdBytes, byte[] lockKeyBytes, byte[] clientIdBytes,
@@ -423,59 +426,42 @@ public class BranchSession implements Lockable, Comparable<BranchSession>, Sessi
             + 4 // applicationDataBytes.length
             + 4 // xidBytes.size
             + 1 // statusCode
-            + (resourceIdBytes == null ? 0 : resourceIdBytes.length)
-            + (lockKeyBytes == null ? 0 : lockKeyBytes.length)
-            + (clientIdBytes == null ? 0 : clientIdBytes.length)
-            + (applicationDataBytes == null ? 0 : applicationDataBytes.length)
-            + (xidBytes == null ? 0 : xidBytes.length)
+            + SessionCodecUtils.length(resourceIdBytes)
+            + SessionCodecUtils.length(lockKeyBytes)
+            + SessionCodecUtils.length(clientIdBytes)
+            + SessionCodecUtils.length(applicationDataBytes)
+            + SessionCodecUtils.length(xidBytes)
             + 1; //branchType
         return size;
     }
 
     @Override
     public void decode(byte[] a) {
-        ByteBuffer byteBuffer = ByteBuffer.wrap(a);
+        decode(ByteBuffer.wrap(a));
+    }
+
+    @Override
+    public void decode(ByteBuffer byteBuffer) {
         this.transactionId = byteBuffer.getLong();
         this.branchId = byteBuffer.getLong();
-        int resourceLen = byteBuffer.getInt();
-        if (resourceLen > 0) {
-            byte[] byResource = new byte[resourceLen];
-            byteBuffer.get(byResource);
-            this.resourceId = new String(byResource);
-        }
+        this.resourceId = SessionCodecUtils.getString(byteBuffer, byteBuffer.getInt());
         int lockKeyLen = byteBuffer.getInt();
         if (lockKeyLen > 0) {
-            byte[] byLockKey = new byte[lockKeyLen];
-            byteBuffer.get(byLockKey);
+            byte[] byLockKey = SessionCodecUtils.getBytes(byteBuffer, lockKeyLen);
             if (CompressUtil.isCompressData(byLockKey)) {
                 try {
-                    this.lockKey = new String(CompressUtil.uncompress(byLockKey));
+                    this.lockKey = new String(CompressUtil.uncompress(byLockKey), SessionCodecUtils.CHARSET);
                 } catch (IOException e) {
                     throw new RuntimeException("decompress lockKey error", e);
                 }
             } else {
-                this.lockKey = new String(byLockKey);
+                this.lockKey = new String(byLockKey, SessionCodecUtils.CHARSET);
             }
 
         }
-        short clientIdLen = byteBuffer.getShort();
-        if (clientIdLen > 0) {
-            byte[] byClientId = new byte[clientIdLen];
-            byteBuffer.get(byClientId);
-            this.clientId = new String(byClientId);
-        }
-        int applicationDataLen = byteBuffer.getInt();
-        if (applicationDataLen > 0) {
-            byte[] byApplicationData = new byte[applicationDataLen];
-            byteBuffer.get(byApplicationData);
-            this.applicationData = new String(byApplicationData);
-        }
-        int xidLen = byteBuffer.getInt();
-        if (xidLen > 0) {
-            byte[] xidBytes = new byte[xidLen];
-            byteBuffer.get(xidBytes);
-            this.xid = new String(xidBytes);
-        }
+        this.clientId = SessionCodecUtils.getString(byteBuffer, byteBuffer.getShort());
+        this.applicationData = SessionCodecUtils.getString(byteBuffer, byteBuffer.getInt());
+        this.xid = SessionCodecUtils.getString(byteBuffer, byteBuffer.getInt());
         int branchTypeId = byteBuffer.get();
         if (branchTypeId >= 0) {
             this.branchType = BranchType.values()[branchTypeId];
@@ -16,6 +16,7 @@
  */
 package org.apache.seata.server.session;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -215,6 +216,10 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
         for (SessionLifecycleListener lifecycleListener : lifecycleListeners) {
             lifecycleListener.onBegin(this);
         }
+        GlobalSessionTimeoutWheel timeoutWheel = SessionHolder.getTimeoutWheel();
+        if (timeoutWheel != null) {
+            timeoutWheel.add(this);
+        }
     }
 
     @Override
@@ -223,6 +228,9 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
             LockerManagerFactory.getLockManager().updateLockStatus(xid, LockStatus.Rollbacking);
         }
         SessionHolder.getRootSessionManager().onStatusChange(this, status);
+        if (this.status == GlobalStatus.Begin && status != GlobalStatus.Begin) {
+            removeFromTimeoutWheel();
+        }
         // set session status after update successfully
         this.status = status;
         for (SessionLifecycleListener lifecycleListener : lifecycleListeners) {
@@ -255,6 +263,7 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
 
     @Override
     public void end() throws TransactionException {
+        removeFromTimeoutWheel();
         if (GlobalStatus.isTwoPhaseSuccess(status)) {
             // TODO: Non AT mode does not need to be unlocked
             // Clean locks first
@@ -271,6 +280,13 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
         }
     }
 
+    private void removeFromTimeoutWheel() {
+        GlobalSessionTimeoutWheel timeoutWheel = SessionHolder.getTimeoutWheel();
+        if (timeoutWheel != null) {
+            timeoutWheel.remove(this);
+        }
+    }
+
     public void clean() throws TransactionException {
         if (!LockerManagerFactory.getLockManager().releaseGlobalSessionLock(this)) {
             throw new TransactionException("UnLock globalSession error, xid = " + this.xid);
@@ -598,15 +614,27 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
 
     @Override
     public byte[] encode() {
-        byte[] byApplicationIdBytes = applicationId != null ? applicationId.getBytes() : null;
+        ByteBuffer byteBuffer = byteBufferThreadLocal.get();
+        //recycle
+        byteBuffer.clear();
+        encode(byteBuffer);
+        BufferUtils.flip(byteBuffer);
+        byte[] result = new byte[byteBuffer.limit()];
+        byteBuffer.get(result);
+        return result;
+    }
 
-        byte[] byServiceGroupBytes = transactionServiceGroup != null ? transactionServiceGroup.getBytes() : null;
+    @Override
+    public void encode(ByteBuffer byteBuffer) {
+        byte[] byApplicationIdBytes = SessionCodecUtils.cachedBytes(applicationId);
 
-        byte[] byTxNameBytes = transactionName != null ? transactionName.getBytes() : null;
+        byte[] byServiceGroupBytes = SessionCodecUtils.cachedBytes(transactionServiceGroup);
 
-        byte[] xidBytes = xid != null ? xid.getBytes() : null;
+        byte[] byTxNameBytes = SessionCodecUtils.cachedBytes(transactionName);
 
-        byte[] applicationDataBytes = applicationData != null ? applicationData.getBytes() : null;
+        byte[] xidBytes = SessionCodecUtils.bytes(xid);
+
+        byte[] applicationDataBytes = SessionCodecUtils.bytes(applicationData);
 
         int size = calGlobalSessionSize(byApplicationIdBytes, byServiceGroupBytes, byTxNameBytes, xidBytes,
             applicationDataBytes);
@@ -615,48 +643,19 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
             throw new RuntimeException("global session size exceeded, size : " + size + " byte, maxGlobalSessionSize : " +
                 MAX_GLOBAL_SESSION_SIZE + " byte");
         }
-        ByteBuffer byteBuffer = byteBufferThreadLocal.get();
-        //recycle
-        byteBuffer.clear();
+        if (size > byteBuffer.remaining()) {
+            throw new BufferOverflowException();
+        }
 
         byteBuffer.putLong(transactionId);
         byteBuffer.putInt(timeout);
-        if (byApplicationIdBytes != null) {
-            byteBuffer.putShort((short)byApplicationIdBytes.length);
-            byteBuffer.put(byApplicationIdBytes);
-        } else {
-            byteBuffer.putShort((short)0);
-        }
-        if (byServiceGroupBytes != null) {
-            byteBuffer.putShort((short)byServiceGroupBytes.length);
-            byteBuffer.put(byServiceGroupBytes);
-        } else {
-            byteBuffer.putShort((short)0);
-        }
-        if (byTxNameBytes != null) {
-            byteBuffer.putShort((short)byTxNameBytes.length);
-            byteBuffer.put(byTxNameBytes);
-        } else {
-            byteBuffer.putShort((short)0);
-        }
-        if (xidBytes != null) {
-            byteBuffer.putInt(xidBytes.length);
-            byteBuffer.put(xidBytes);
-        } else {
-            byteBuffer.putInt(0);
-        }
-        if (applicationDataBytes != null) {
-            byteBuffer.putInt(applicationDataBytes.length);
-            byteBuffer.put(applicationDataBytes);
-        } else {
-            byteBuffer.putInt(0);
-        }
+        SessionCodecUtils.putShortBytes(byteBuffer, byApplicationIdBytes);
+        SessionCodecUtils.putShortBytes(byteBuffer, byServiceGroupBytes);
+        SessionCodecUtils.putShortBytes(byteBuffer, byTxNameBytes);
+        SessionCodecUtils.putIntBytes(byteBuffer, xidBytes);
+        SessionCodecUtils.putIntBytes(byteBuffer, applicationDataBytes);
         byteBuffer.putLong(beginTime);
         byteBuffer.put((byte)status.getCode());
-        BufferUtils.flip(byteBuffer);
-        byte[] result = new byte[byteBuffer.limit()];
-        byteBuffer.get(result);
-        return result;
     }
 
     private int calGlobalSessionSize(byte[] byApplicationIdBytes, byte[] byServiceGroupBytes, byte[] byTxNameBytes,
@@ -670,50 +669,28 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
             + 4 // applicationDataBytes.length
             + 8 // beginTime
             + 1 // statusCode
-            + (byApplicationIdBytes == null ? 0 : byApplicationIdBytes.length)
-            + (byServiceGroupBytes == null ? 0 : byServiceGroupBytes.length)
-            + (byTxNameBytes == null ? 0 : byTxNameBytes.length)
-            + (xidBytes == null ? 0 : xidBytes.length)
-            + (applicationDataBytes == null ? 0 : applicationDataBytes.length);
+            + SessionCodecUtils.length(byApplicationIdBytes)
+            + SessionCodecUtils.length(byServiceGroupBytes)
+            + SessionCodecUtils.length(byTxNameBytes)
+            + SessionCodecUtils.length(xidBytes)
+            + SessionCodecUtils.length(applicationDataBytes);
     }
 
     @Override
     public void decode(byte[] a) {
+        decode(ByteBuffer.wrap(a));
+    }
+
+    @Override
+    public void decode(ByteBuffer byteBuffer) {
         this.branchSessions = new ArrayList<>();
-        ByteBuffer byteBuffer = ByteBuffer.wrap(a);
         this.transactionId = byteBuffer.getLong();
         this.timeout = byteBuffer.getInt();
-        short applicationIdLen = byteBuffer.getShort();
-        if (applicationIdLen > 0) {
-            byte[] byApplicationId = new byte[applicationIdLen];
-            byteBuffer.get(byApplicationId);
-            this.applicationId = new String(byApplicationId);
-        }
-        short serviceGroupLen = byteBuffer.getShort();
-        if (serviceGroupLen > 0) {
-            byte[] byServiceGroup = new byte[serviceGroupLen];
-            byteBuffer.get(byServiceGroup);
-            this.transactionServiceGroup = new String(byServiceGroup);
-        }
-        short txNameLen = byteBuffer.getShort();
-        if (txNameLen > 0) {
-            byte[] byTxName = new byte[txNameLen];
-            byteBuffer.get(byTxName);
-            this.transactionName = new String(byTxName);
-        }
-        int xidLen = byteBuffer.getInt();
-        if (xidLen > 0) {
-            byte[] xidBytes = new byte[xidLen];
-            byteBuffer.get(xidBytes);
-            this.xid = new String(xidBytes);
-        }
-        int applicationDataLen = byteBuffer.getInt();
-        if (applicationDataLen > 0) {
-            byte[] applicationDataLenBytes = new byte[applicationDataLen];
-            byteBuffer.get(applicationDataLenBytes);
-            this.applicationData = new String(applicationDataLenBytes);
-        }
-
+        this.applicationId = SessionCodecUtils.getString(byteBuffer, byteBuffer.getShort());
+        this.transactionServiceGroup = SessionCodecUtils.getString(byteBuffer, byteBuffer.getShort());
+        this.transactionName = SessionCodecUtils.getString(byteBuffer, byteBuffer.getShort());
+        this.xid = SessionCodecUtils.getString(byteBuffer, byteBuffer.getInt());
+        this.applicationData = SessionCodecUtils.getString(byteBuffer, byteBuffer.getInt());
         this.beginTime = byteBuffer.getLong();
         this.status = GlobalStatus.get(byteBuffer.get());
     }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.seata.core.model.GlobalStatus;
+
+/**
+ * A hashed timing wheel of the global sessions in {@link GlobalStatus#Begin}, bucketed by deadline
+ * (begin time + timeout). The timeout check polls the buckets whose tick has passed instead of
+ * scanning every live session.
+ * <p>
+ * Sessions whose deadline lies more than one revolution ahead stay in their bucket and are skipped
+ * until the wheel comes round again. {@link #add(GlobalSession)} and {@link #remove(GlobalSession)} are
+ * thread safe, {@link #pollExpired(long)} is meant to be called by the single timeout check thread.
+ *
+ */
+public class GlobalSessionTimeoutWheel {
+
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickMillis;
+
+    private final int mask;
+
+    private final ConcurrentHashMap<String, GlobalSession>[] buckets;
+
+    private long lastTick = -1;
+
+    /**
+     * Instantiates a new global session timeout wheel.
+     *
+     * @param tickMillis the tick duration, usually the timeout check period
+     */
+    public GlobalSessionTimeoutWheel(long tickMillis) {
+        this(tickMillis, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Instantiates a new global session timeout wheel.
+     *
+     * @param tickMillis the tick duration, usually the timeout check period
+     * @param wheelSize  the bucket count, rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public GlobalSessionTimeoutWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        int size = wheelSize <= 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Add the session, it will be returned by {@link #pollExpired(long)} once its deadline has passed.
+     *
+     * @param globalSession the global session
+     */
+    public void add(GlobalSession globalSession) {
+        bucketOf(globalSession).put(globalSession.getXid(), globalSession);
+    }
+
+    /**
+     * Remove the session, e.g. when it leaves the begin status.
+     *
+     * @param globalSession the global session
+     */
+    public void remove(GlobalSession globalSession) {
+        bucketOf(globalSession).remove(globalSession.getXid());
+    }
+
+    /**
+     * Remove and return the sessions still in begin status whose deadline is before now.
+     * Sessions that already left the begin status are dropped on the way.
+     *
+     * @param now the current time millis
+     * @return the expired sessions
+     */
+    public List<GlobalSession> pollExpired(long now) {
+        long currentTick = now / tickMillis;
+        long fromTick = lastTick < 0 || currentTick - lastTick > mask ? currentTick - mask : lastTick + 1;
+        List<GlobalSession> expired = new ArrayList<>();
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            Iterator<GlobalSession> iterator = buckets[(int) (tick & mask)].values().iterator();
+            while (iterator.hasNext()) {
+                GlobalSession globalSession = iterator.next();
+                if (globalSession.getStatus() != GlobalStatus.Begin) {
+                    iterator.remove();
+                } else if (deadline(globalSession) < now) {
+                    iterator.remove();
+                    expired.add(globalSession);
+                }
+            }
+        }
+        // the current bucket may still hold sessions expiring later in this tick
+        lastTick = currentTick - 1;
+        return expired;
+    }
+
+    /**
+     * Get the number of sessions in the wheel.
+     *
+     * @return the size
+     */
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, GlobalSession> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    /**
+     * Remove all sessions.
+     */
+    public void clear() {
+        for (ConcurrentHashMap<String, GlobalSession> bucket : buckets) {
+            bucket.clear();
+        }
+        lastTick = -1;
+    }
+
+    private ConcurrentHashMap<String, GlobalSession> bucketOf(GlobalSession globalSession) {
+        return buckets[(int) ((deadline(globalSession) / tickMillis) & mask)];
+    }
+
+    private static long deadline(GlobalSession globalSession) {
+        return globalSession.getBeginTime() + globalSession.getTimeout();
+    }
+}
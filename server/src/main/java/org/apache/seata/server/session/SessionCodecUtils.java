@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.seata.common.util.BufferUtils;
+
+/**
+ * Field level helpers of the global and branch session binary codec.
+ * <p>
+ * The encoded bytes of the fields shared by many sessions, like the application id, the transaction
+ * service group and the resource id, are cached so that they are not encoded again for every record.
+ * Strings are decoded straight from the backing array of the buffer when it has one.
+ *
+ */
+final class SessionCodecUtils {
+
+    /**
+     * The charset of the encoded strings. It stays the platform default charset used by the codec before the
+     * fields were cached, so that the session files and snapshots written by earlier versions still decode.
+     */
+    static final Charset CHARSET = Charset.defaultCharset();
+
+    /**
+     * The shared fields take few distinct values, the cache stops growing at this size.
+     */
+    private static final int MAX_CACHED_BYTES = 1024;
+
+    private static final Map<String, byte[]> BYTES_CACHE = new ConcurrentHashMap<>();
+
+    private SessionCodecUtils() {
+    }
+
+    /**
+     * Get the encoded bytes of a field shared by many sessions, the returned array must not be modified.
+     *
+     * @param value the value
+     * @return the bytes, null if the value is null
+     */
+    static byte[] cachedBytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = BYTES_CACHE.get(value);
+        if (bytes == null) {
+            bytes = value.getBytes(CHARSET);
+            if (BYTES_CACHE.size() < MAX_CACHED_BYTES) {
+                BYTES_CACHE.putIfAbsent(value, bytes);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the encoded bytes of a field.
+     *
+     * @param value the value
+     * @return the bytes, null if the value is null
+     */
+    static byte[] bytes(String value) {
+        return value != null ? value.getBytes(CHARSET) : null;
+    }
+
+    static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    static void putShortBytes(ByteBuffer dst, byte[] bytes) {
+        if (bytes != null) {
+            dst.putShort((short)bytes.length);
+            dst.put(bytes);
+        } else {
+            dst.putShort((short)0);
+        }
+    }
+
+    static void putIntBytes(ByteBuffer dst, byte[] bytes) {
+        if (bytes != null) {
+            dst.putInt(bytes.length);
+            dst.put(bytes);
+        } else {
+            dst.putInt(0);
+        }
+    }
+
+    /**
+     * Read a string of the given length.
+     *
+     * @param src    the src
+     * @param length the encoded length
+     * @return the string, null if the length is not positive
+     */
+    static String getString(ByteBuffer src, int length) {
+        if (length <= 0) {
+            return null;
+        }
+        if (src.hasArray()) {
+            String value = new String(src.array(), src.arrayOffset() + src.position(), length, CHARSET);
+            BufferUtils.position(src, src.position() + length);
+            return value;
+        }
+        return new String(getBytes(src, length), CHARSET);
+    }
+
+    static byte[] getBytes(ByteBuffer src, int length) {
+        byte[] bytes = new byte[length];
+        src.get(bytes);
+        return bytes;
+    }
+}
@@ -297,16 +297,18 @@ public class SessionHelper {
             return;
         }
 
+        // the sessions are of the group bound by the caller, the handlers may run on other threads
+        String group = currentGroup();
         Stream<GlobalSession> stream = StreamSupport.stream(sessions.spliterator(), parallel);
         stream.forEach(globalSession -> {
-            SeataClusterContext.bindGroup(GROUP);
+            String previousGroup = bindGroup(group);
             try {
                 MDC.put(RootContext.MDC_KEY_XID, globalSession.getXid());
                 handler.handle(globalSession);
             } catch (Throwable th) {
                 LOGGER.error("handle global session failed: {}", globalSession.getXid(), th);
             } finally {
-                SeataClusterContext.unbindGroup();
+                restoreGroup(previousGroup);
                 MDC.remove(RootContext.MDC_KEY_XID);
             }
         });
@@ -347,11 +349,15 @@ public class SessionHelper {
                     map.computeIfAbsent(session.getResourceId(), k -> new ArrayList<>()).add(session);
                 }
                 List<CompletableFuture<Boolean>> completableFutures = new ArrayList<>(map.size());
+                String group = SeataClusterContext.getGroup();
                 map.forEach((k, v) -> completableFutures.add(CompletableFuture.supplyAsync(() -> {
+                    String previousGroup = bindGroup(group);
                     try {
                         return SessionHelper.forEach(v, handler, false);
                     } catch (TransactionException e) {
                         throw new RuntimeException(e);
+                    } finally {
+                        restoreGroup(previousGroup);
                     }
                 })));
                 try {
@@ -454,6 +460,43 @@ public class SessionHelper {
         }
     }
 
+    /**
+     * Get the raft group bound to the current thread, or the default group.
+     *
+     * @return the group
+     */
+    public static String currentGroup() {
+        String group = SeataClusterContext.getGroup();
+        return group != null ? group : GROUP;
+    }
+
+    /**
+     * Bind a group to the current thread, when there is one.
+     *
+     * @param group the group, may be null
+     * @return the group bound before, to be restored
+     */
+    public static String bindGroup(String group) {
+        String previousGroup = SeataClusterContext.getGroup();
+        if (group != null) {
+            SeataClusterContext.bindGroup(group);
+        }
+        return previousGroup;
+    }
+
+    /**
+     * Restore the group bound to the current thread before.
+     *
+     * @param previousGroup the group bound before, may be null
+     */
+    public static void restoreGroup(String previousGroup) {
+        if (previousGroup != null) {
+            SeataClusterContext.bindGroup(previousGroup);
+        } else {
+            SeataClusterContext.unbindGroup();
+        }
+    }
+
     /**
      * if true, enable delete the branch asynchronously
      *
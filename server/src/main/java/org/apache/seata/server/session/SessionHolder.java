@@ -49,8 +49,10 @@ import org.slf4j.LoggerFactory;
 import static java.io.File.separator;
 import static org.apache.seata.common.ConfigurationKeys.SERVER_SERVICE_PORT_CAMEL;
 import static org.apache.seata.common.DefaultValues.DEFAULT_DISTRIBUTED_LOCK_EXPIRE_TIME;
+import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_SESSION_TIMEOUT_WHEEL;
 import static org.apache.seata.common.DefaultValues.DEFAULT_SEATA_GROUP;
 import static org.apache.seata.common.DefaultValues.DEFAULT_SESSION_STORE_FILE_DIR;
+import static org.apache.seata.common.DefaultValues.DEFAULT_TIMEOUT_RETRY_PERIOD;
 
 /**
  * The type Session holder.
@@ -80,6 +82,8 @@ public class SessionHolder {
 
     private static DistributedLocker DISTRIBUTED_LOCKER;
 
+    private static volatile GlobalSessionTimeoutWheel TIMEOUT_WHEEL;
+
     public static void init() {
         init(null);
     }
@@ -95,6 +99,10 @@ public class SessionHolder {
         }
         LOGGER.info("use session store mode: {}", sessionMode.getName());
         DISTRIBUTED_LOCKER = DistributedLockerFactory.getDistributedLocker(sessionMode.getName());
+        if (CONFIG.getBoolean(ConfigurationKeys.ENABLE_SESSION_TIMEOUT_WHEEL, DEFAULT_ENABLE_SESSION_TIMEOUT_WHEEL)) {
+            TIMEOUT_WHEEL = new GlobalSessionTimeoutWheel(
+                CONFIG.getLong(ConfigurationKeys.TIMEOUT_RETRY_PERIOD, DEFAULT_TIMEOUT_RETRY_PERIOD));
+        }
         if (SessionMode.DB.equals(sessionMode)) {
             ROOT_SESSION_MANAGER = EnhancedServiceLoader.load(SessionManager.class, SessionMode.DB.getName());
             reload(sessionMode);
@@ -107,8 +115,21 @@ public class SessionHolder {
                 String group = CONFIG.getConfig(ConfigurationKeys.SERVER_RAFT_GROUP, DEFAULT_SEATA_GROUP);
                 ROOT_SESSION_MANAGER = EnhancedServiceLoader.load(SessionManager.class, SessionMode.RAFT.getName(),
                     new Object[] {ROOT_SESSION_MANAGER_NAME});
-                SESSION_MANAGER_MAP = new HashMap<>();
-                SESSION_MANAGER_MAP.put(group, ROOT_SESSION_MANAGER);
+                Map<String, SessionManager> sessionManagerMap = new HashMap<>();
+                sessionManagerMap.put(group, ROOT_SESSION_MANAGER);
+                // the other groups keep their sessions apart, each group applies and snapshots only its own
+                for (String otherGroup : RaftServerManager.groups()) {
+                    if (!sessionManagerMap.containsKey(otherGroup)) {
+                        sessionManagerMap.put(otherGroup, EnhancedServiceLoader.load(SessionManager.class,
+                            SessionMode.RAFT.getName(), new Object[] {ROOT_SESSION_MANAGER_NAME + "." + otherGroup}));
+                    }
+                }
+                SESSION_MANAGER_MAP = sessionManagerMap;
+                if (sessionManagerMap.size() > 1 && TIMEOUT_WHEEL != null) {
+                    // the wheel does not know the group of a session, the groups are scanned for timeouts
+                    LOGGER.warn("the session timeout wheel is not used with multiple raft groups");
+                    TIMEOUT_WHEEL = null;
+                }
                 RaftServerManager.start();
             } else {
                 String sessionStorePath =
@@ -217,6 +238,9 @@ public class SessionHolder {
                                     }
                                 } else {
                                     globalSession.setActive(true);
+                                    if (TIMEOUT_WHEEL != null) {
+                                        TIMEOUT_WHEEL.add(globalSession);
+                                    }
                                 }
                                 break;
                             default:
@@ -299,6 +323,15 @@ public class SessionHolder {
 
     //endregion
 
+    /**
+     * Gets the timeout wheel of the sessions in begin status.
+     *
+     * @return the timeout wheel, or null if it is not enabled
+     */
+    public static GlobalSessionTimeoutWheel getTimeoutWheel() {
+        return TIMEOUT_WHEEL;
+    }
+
     /**
      * Find global session.
      *
@@ -359,6 +392,24 @@ public class SessionHolder {
      * @return whether the func be call
      */
     public static boolean distributedLockAndExecute(String key, NoArgsFunc func) {
+        Map<String, SessionManager> sessionManagerMap = SESSION_MANAGER_MAP;
+        if (sessionManagerMap == null || sessionManagerMap.size() <= 1) {
+            return doDistributedLockAndExecute(key, func);
+        }
+        // the function is called for each group this node leads, with the group bound
+        boolean called = false;
+        for (String group : sessionManagerMap.keySet()) {
+            SeataClusterContext.bindGroup(group);
+            try {
+                called |= doDistributedLockAndExecute(key, func);
+            } finally {
+                SeataClusterContext.unbindGroup();
+            }
+        }
+        return called;
+    }
+
+    private static boolean doDistributedLockAndExecute(String key, NoArgsFunc func) {
         boolean lock = false;
         try {
             if (lock = acquireDistributedLock(key)) {
@@ -380,10 +431,15 @@ public class SessionHolder {
 
     public static void destroy() {
         RaftServerManager.destroy();
+        if (SESSION_MANAGER_MAP != null) {
+            SESSION_MANAGER_MAP.values().stream().filter(sessionManager -> sessionManager != ROOT_SESSION_MANAGER)
+                .forEach(SessionManager::destroy);
+        }
         if (ROOT_SESSION_MANAGER != null) {
             ROOT_SESSION_MANAGER.destroy();
         }
         SESSION_MANAGER_MAP = null;
+        TIMEOUT_WHEEL = null;
     }
 
     @FunctionalInterface
@@ -17,6 +17,8 @@
 package org.apache.seata.server.session;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.BranchStatus;
@@ -113,6 +115,20 @@ public interface SessionManager extends Disposable {
      */
     List<GlobalSession> findGlobalSessions(SessionCondition condition);
 
+    /**
+     * Find global sessions page by page, a page is only read when the iterator gets to it.
+     * By default all the sessions are found at once, as one page.
+     *
+     * @param condition the condition
+     * @param pageSize  the max sessions of a page
+     * @return the iterator of the pages
+     */
+    default Iterator<List<GlobalSession>> findGlobalSessionPages(SessionCondition condition, int pageSize) {
+        List<GlobalSession> sessions = findGlobalSessions(condition);
+        return sessions == null || sessions.isEmpty() ? Collections.emptyIterator()
+            : Collections.singletonList(sessions).iterator();
+    }
+
     /**
      * lock and execute
      *
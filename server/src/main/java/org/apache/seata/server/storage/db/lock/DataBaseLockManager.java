@@ -47,10 +47,12 @@ public class DataBaseLockManager extends AbstractLockManager implements Initiali
         String datasourceType = ConfigurationFactory.getInstance().getConfig(ConfigurationKeys.STORE_DB_DATASOURCE_TYPE);
         DataSource lockStoreDataSource = EnhancedServiceLoader.load(DataSourceProvider.class, datasourceType).provide();
         locker = new DataBaseLocker(lockStoreDataSource);
+        initLockCache();
     }
 
     @Override
     public boolean releaseLock(BranchSession branchSession) throws TransactionException {
+        invalidateLockCache(branchSession);
         try {
             return getLocker().releaseLock(branchSession.getXid(), branchSession.getBranchId());
         } catch (Exception t) {
@@ -66,6 +68,7 @@ public class DataBaseLockManager extends AbstractLockManager implements Initiali
 
     @Override
     public boolean releaseGlobalSessionLock(GlobalSession globalSession) throws TransactionException {
+        invalidateLockCache(globalSession.getXid());
         try {
             return getLocker().releaseLock(globalSession.getXid());
         } catch (Exception t) {
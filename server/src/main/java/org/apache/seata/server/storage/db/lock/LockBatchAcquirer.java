@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.db.lock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.apache.seata.common.exception.StoreException;
+import org.apache.seata.core.store.LockDO;
+
+/**
+ * Combines the lock acquisitions of concurrent branch registers into batches.
+ * <p>
+ * A caller queues its request and, if one of the {@code concurrency} batch slots is free, handles the queue
+ * itself: it drains at most {@code maxBatchSize} requests and passes them to the batch handler, which acquires
+ * their locks in one transaction. Meanwhile the other callers wait until their request is completed, or take a
+ * slot released before. No caller waits for a batch to fill up, the requests queued while all the slots are busy
+ * form the next batch, so the batches only grow with the load.
+ *
+ */
+public class LockBatchAcquirer {
+
+    /**
+     * Max time a waiting caller sleeps before checking for a free slot again.
+     */
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int maxBatchSize;
+
+    private final Semaphore slots;
+
+    private final Consumer<List<LockRequest>> batchHandler;
+
+    private final Queue<LockRequest> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Instantiates a new lock batch acquirer.
+     *
+     * @param maxBatchSize the max requests handled in one batch
+     * @param concurrency  the max batches handled at the same time
+     * @param batchHandler completes every request of a batch
+     */
+    public LockBatchAcquirer(int maxBatchSize, int concurrency, Consumer<List<LockRequest>> batchHandler) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.slots = new Semaphore(Math.max(1, concurrency));
+        this.batchHandler = batchHandler;
+    }
+
+    /**
+     * Acquire the locks, in a batch with the requests of the other callers.
+     *
+     * @param lockDOs    the locks of one branch
+     * @param autoCommit whether the local transaction of the branch is in auto commit mode
+     * @return whether the locks were acquired
+     */
+    public boolean acquire(List<LockDO> lockDOs, boolean autoCommit) {
+        LockRequest request = new LockRequest(lockDOs, autoCommit, Thread.currentThread());
+        queue.offer(request);
+        while (!request.isDone()) {
+            // once in a batch, the request only waits for the batch to complete
+            if (!request.batched && slots.tryAcquire()) {
+                try {
+                    if (!request.isDone()) {
+                        handle(drain());
+                    }
+                } finally {
+                    slots.release();
+                }
+                // the caller of the oldest request takes the released slot
+                LockRequest next = queue.peek();
+                if (next != null) {
+                    LockSupport.unpark(next.thread);
+                }
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+        return request.getResult();
+    }
+
+    private List<LockRequest> drain() {
+        List<LockRequest> batch = new ArrayList<>();
+        LockRequest request;
+        while (batch.size() < maxBatchSize && (request = queue.poll()) != null) {
+            request.batched = true;
+            batch.add(request);
+        }
+        return batch;
+    }
+
+    private void handle(List<LockRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        RuntimeException exception = null;
+        try {
+            batchHandler.accept(batch);
+        } catch (RuntimeException e) {
+            exception = e;
+        }
+        for (LockRequest request : batch) {
+            if (!request.isDone()) {
+                request.fail(exception != null ? exception : new StoreException("lock request was not handled"));
+            }
+        }
+    }
+
+    /**
+     * The lock acquisition of one branch.
+     */
+    public static class LockRequest {
+
+        private final List<LockDO> lockDOs;
+
+        private final boolean autoCommit;
+
+        private final Thread thread;
+
+        private volatile boolean batched;
+
+        private volatile boolean done;
+
+        private boolean result;
+
+        private RuntimeException exception;
+
+        LockRequest(List<LockDO> lockDOs, boolean autoCommit, Thread thread) {
+            this.lockDOs = lockDOs;
+            this.autoCommit = autoCommit;
+            this.thread = thread;
+        }
+
+        /**
+         * Gets the locks of the branch.
+         *
+         * @return the lock do list
+         */
+        public List<LockDO> getLockDOs() {
+            return lockDOs;
+        }
+
+        /**
+         * Whether the local transaction of the branch is in auto commit mode.
+         *
+         * @return the boolean
+         */
+        public boolean isAutoCommit() {
+            return autoCommit;
+        }
+
+        /**
+         * Complete the request and wake up its caller.
+         *
+         * @param result whether the locks were acquired
+         */
+        public void complete(boolean result) {
+            this.result = result;
+            this.done = true;
+            LockSupport.unpark(thread);
+        }
+
+        /**
+         * Complete the request exceptionally and wake up its caller.
+         *
+         * @param exception the exception thrown to the caller
+         */
+        public void fail(RuntimeException exception) {
+            this.exception = exception;
+            this.done = true;
+            LockSupport.unpark(thread);
+        }
+
+        /**
+         * Whether the request was completed.
+         *
+         * @return the boolean
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        boolean getResult() {
+            if (exception != null) {
+                throw exception;
+            }
+            return result;
+        }
+    }
+}
@@ -21,9 +21,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
@@ -41,11 +46,16 @@ import org.apache.seata.core.exception.BranchTransactionException;
 import org.apache.seata.core.model.LockStatus;
 import org.apache.seata.core.store.LockDO;
 import org.apache.seata.core.store.LockStore;
+import org.apache.seata.core.store.db.sql.lock.LockStoreSql;
 import org.apache.seata.core.store.db.sql.lock.LockStoreSqlFactory;
+import org.apache.seata.server.storage.db.lock.LockBatchAcquirer.LockRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_DB_BATCH_CONCURRENCY;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_DB_BATCH_ENABLED;
+import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_DB_BATCH_MAX_SIZE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_LOCK_DB_TABLE;
 import static org.apache.seata.core.exception.TransactionExceptionCode.LockKeyConflictFailFast;
 
@@ -62,6 +72,11 @@ public class LockStoreDataBaseDAO implements LockStore {
      */
     protected static final Configuration CONFIG = ConfigurationFactory.getInstance();
 
+    /**
+     * The max locks inserted by one multi-row insert.
+     */
+    private static final int MAX_BATCH_INSERT_SIZE = 1000;
+
     /**
      * The Lock store data source.
      */
@@ -77,6 +92,11 @@ public class LockStoreDataBaseDAO implements LockStore {
      */
     protected String dbType;
 
+    /**
+     * The lock batch acquirer, null if the lock requests are not batched.
+     */
+    protected LockBatchAcquirer lockBatchAcquirer;
+
     /**
      * Instantiates a new Data base lock store dao.
      *
@@ -92,6 +112,10 @@ public class LockStoreDataBaseDAO implements LockStore {
         if (lockStoreDataSource == null) {
             throw new StoreException("there must be lockStoreDataSource.");
         }
+        if (CONFIG.getBoolean(ConfigurationKeys.LOCK_DB_BATCH_ENABLED, DEFAULT_LOCK_DB_BATCH_ENABLED)) {
+            enableLockBatch(CONFIG.getInt(ConfigurationKeys.LOCK_DB_BATCH_MAX_SIZE, DEFAULT_LOCK_DB_BATCH_MAX_SIZE),
+                CONFIG.getInt(ConfigurationKeys.LOCK_DB_BATCH_CONCURRENCY, DEFAULT_LOCK_DB_BATCH_CONCURRENCY));
+        }
     }
 
     @Override
@@ -106,6 +130,21 @@ public class LockStoreDataBaseDAO implements LockStore {
 
     @Override
     public boolean acquireLock(List<LockDO> lockDOs, boolean autoCommit, boolean skipCheckLock) {
+        if (lockBatchAcquirer != null && !skipCheckLock && CollectionUtils.isNotEmpty(lockDOs)) {
+            return lockBatchAcquirer.acquire(lockDOs, autoCommit);
+        }
+        return acquireLockDirectly(lockDOs, autoCommit, skipCheckLock);
+    }
+
+    /**
+     * Acquire the locks of one branch in its own transaction.
+     *
+     * @param lockDOs       the lock do list
+     * @param autoCommit    whether the local transaction of the branch is in auto commit mode
+     * @param skipCheckLock whether the locks are inserted without checking them first
+     * @return the boolean
+     */
+    protected boolean acquireLockDirectly(List<LockDO> lockDOs, boolean autoCommit, boolean skipCheckLock) {
         Connection conn = null;
         PreparedStatement ps = null;
         ResultSet rs = null;
@@ -211,6 +250,160 @@ public class LockStoreDataBaseDAO implements LockStore {
         }
     }
 
+    /**
+     * Acquire the locks of several branches in one transaction.
+     * <p>
+     * The rows of all the requests are checked by one query, the conflicts are resolved per request against the
+     * stored locks and the locks claimed by the requests before it in the batch, and the new locks of all the
+     * accepted requests are inserted by one multi-row insert. If the batch fails, e.g. because another server
+     * inserted one of its locks meanwhile, it is rolled back and each request acquires its locks on its own.
+     *
+     * @param requests the lock requests
+     */
+    protected void acquireLockBatch(List<LockRequest> requests) {
+        if (requests.size() == 1) {
+            acquireLockDirectly(requests.get(0));
+            return;
+        }
+        List<LockRequest> accepted = new ArrayList<>(requests.size());
+        Map<LockRequest, Boolean> rejected = new HashMap<>();
+        Connection conn = null;
+        boolean originalAutoCommit = true;
+        boolean batchDone = false;
+        try {
+            conn = lockStoreDataSource.getConnection();
+            if (originalAutoCommit = conn.getAutoCommit()) {
+                conn.setAutoCommit(false);
+            }
+            Set<String> rowKeys = new LinkedHashSet<>();
+            for (LockRequest request : requests) {
+                for (LockDO lockDO : request.getLockDOs()) {
+                    rowKeys.add(lockDO.getRowKey());
+                }
+            }
+            Map<String, LockDO> dbLocks = queryLocks(conn, rowKeys);
+            Map<String, String> batchLocks = new HashMap<>();
+            List<LockDO> newLockDOs = new ArrayList<>();
+            for (LockRequest request : requests) {
+                String currentXID = request.getLockDOs().get(0).getXid();
+                Map<String, LockDO> requestNewLocks = new LinkedHashMap<>();
+                boolean canLock = true;
+                boolean failFast = false;
+                for (LockDO lockDO : request.getLockDOs()) {
+                    LockDO dbLock = dbLocks.get(lockDO.getRowKey());
+                    if (dbLock != null) {
+                        if (!StringUtils.equals(dbLock.getXid(), currentXID)) {
+                            if (LOGGER.isInfoEnabled()) {
+                                LOGGER.info("Global lock on [{}:{}] is holding by xid {} branchId {}", dbLock.getTableName(),
+                                    dbLock.getPk(), dbLock.getXid(), dbLock.getBranchId());
+                            }
+                            // like a request acquired on its own, only the first conflict decides on a fail fast
+                            if (!request.isAutoCommit() && dbLock.getStatus() == LockStatus.Rollbacking.getCode()) {
+                                failFast = true;
+                            }
+                            canLock = false;
+                            break;
+                        }
+                        continue;
+                    }
+                    String batchXID = batchLocks.get(lockDO.getRowKey());
+                    if (batchXID != null) {
+                        if (!StringUtils.equals(batchXID, currentXID)) {
+                            if (LOGGER.isInfoEnabled()) {
+                                LOGGER.info("Global lock on [{}:{}] is acquiring by xid {}", lockDO.getTableName(),
+                                    lockDO.getPk(), batchXID);
+                            }
+                            canLock = false;
+                            break;
+                        }
+                        continue;
+                    }
+                    requestNewLocks.putIfAbsent(lockDO.getRowKey(), lockDO);
+                }
+                if (canLock) {
+                    for (String rowKey : requestNewLocks.keySet()) {
+                        batchLocks.put(rowKey, currentXID);
+                    }
+                    newLockDOs.addAll(requestNewLocks.values());
+                    accepted.add(request);
+                } else {
+                    rejected.put(request, failFast);
+                }
+            }
+            if (newLockDOs.isEmpty()) {
+                conn.rollback();
+                batchDone = true;
+            } else if (doBatchInsertLocks(conn, newLockDOs)) {
+                conn.commit();
+                batchDone = true;
+            } else {
+                conn.rollback();
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Global lock batch of {} requests failed, acquire them one by one: {}", requests.size(),
+                e.getMessage());
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ignored) {
+                }
+            }
+        } finally {
+            if (conn != null) {
+                try {
+                    if (originalAutoCommit) {
+                        conn.setAutoCommit(true);
+                    }
+                    conn.close();
+                } catch (SQLException e) {
+                }
+            }
+        }
+        if (!batchDone) {
+            requests.forEach(this::acquireLockDirectly);
+            return;
+        }
+        accepted.forEach(request -> request.complete(true));
+        rejected.forEach((request, failFast) -> {
+            if (failFast) {
+                request.fail(new StoreException(new BranchTransactionException(LockKeyConflictFailFast)));
+            } else {
+                request.complete(false);
+            }
+        });
+    }
+
+    private void acquireLockDirectly(LockRequest request) {
+        try {
+            request.complete(acquireLockDirectly(request.getLockDOs(), request.isAutoCommit(), false));
+        } catch (RuntimeException e) {
+            request.fail(e);
+        }
+    }
+
+    private Map<String, LockDO> queryLocks(Connection conn, Set<String> rowKeys) throws SQLException {
+        Map<String, LockDO> dbLocks = new HashMap<>();
+        String checkLockSQL = LockStoreSqlFactory.getLogStoreSql(dbType).getCheckLockableSql(lockTable, rowKeys.size());
+        try (PreparedStatement ps = conn.prepareStatement(checkLockSQL)) {
+            int index = 1;
+            for (String rowKey : rowKeys) {
+                ps.setString(index++, rowKey);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    LockDO lockDO = new LockDO();
+                    lockDO.setXid(rs.getString(ServerTableColumnsName.LOCK_TABLE_XID));
+                    lockDO.setBranchId(rs.getLong(ServerTableColumnsName.LOCK_TABLE_BRANCH_ID));
+                    lockDO.setTableName(rs.getString(ServerTableColumnsName.LOCK_TABLE_TABLE_NAME));
+                    lockDO.setPk(rs.getString(ServerTableColumnsName.LOCK_TABLE_PK));
+                    lockDO.setStatus(rs.getInt(ServerTableColumnsName.LOCK_TABLE_STATUS));
+                    dbLocks.put(rs.getString(ServerTableColumnsName.LOCK_TABLE_ROW_KEY), lockDO);
+                }
+            }
+        }
+        return dbLocks;
+    }
+
     @Override
     public boolean unLock(LockDO lockDO) {
         return unLock(Collections.singletonList(lockDO));
@@ -380,6 +573,42 @@ public class LockStoreDataBaseDAO implements LockStore {
         }
     }
 
+    /**
+     * Insert the locks by multi-row inserts, or by a jdbc batch if the database does not support them.
+     *
+     * @param conn    the conn
+     * @param lockDOs the lock do list
+     * @return the boolean
+     */
+    protected boolean doBatchInsertLocks(Connection conn, List<LockDO> lockDOs) throws SQLException {
+        LockStoreSql lockStoreSql = LockStoreSqlFactory.getLogStoreSql(dbType);
+        if (lockStoreSql.getBatchInsertLockSql(lockTable, 1) == null) {
+            return doAcquireLocks(conn, lockDOs);
+        }
+        for (int from = 0; from < lockDOs.size(); from += MAX_BATCH_INSERT_SIZE) {
+            List<LockDO> rows = lockDOs.subList(from, Math.min(from + MAX_BATCH_INSERT_SIZE, lockDOs.size()));
+            try (PreparedStatement ps = conn.prepareStatement(lockStoreSql.getBatchInsertLockSql(lockTable, rows.size()))) {
+                int index = 1;
+                for (LockDO lockDO : rows) {
+                    ps.setString(index++, lockDO.getXid());
+                    ps.setLong(index++, lockDO.getTransactionId());
+                    ps.setLong(index++, lockDO.getBranchId());
+                    ps.setString(index++, lockDO.getResourceId());
+                    ps.setString(index++, lockDO.getTableName());
+                    ps.setString(index++, lockDO.getPk());
+                    ps.setString(index++, lockDO.getRowKey());
+                    ps.setInt(index++, lockDO.getStatus());
+                }
+                if (ps.executeUpdate() != rows.size()) {
+                    return false;
+                }
+            } catch (SQLIntegrityConstraintViolationException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Check lock boolean.
      *
@@ -430,6 +659,16 @@ public class LockStoreDataBaseDAO implements LockStore {
         this.dbType = dbType;
     }
 
+    /**
+     * Batch the lock requests of concurrent branches.
+     *
+     * @param maxBatchSize the max requests acquired in one transaction
+     * @param concurrency  the max transactions acquiring locks for batches at the same time
+     */
+    public void enableLockBatch(int maxBatchSize, int concurrency) {
+        this.lockBatchAcquirer = new LockBatchAcquirer(maxBatchSize, concurrency, this::acquireLockBatch);
+    }
+
     /**
      * Sets log store data source.
      *
@@ -18,6 +18,8 @@ package org.apache.seata.server.storage.db.store;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +43,7 @@ import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
 import org.apache.seata.server.storage.SessionConverter;
 import org.apache.seata.server.store.AbstractTransactionStoreManager;
+import org.apache.seata.server.store.SessionPageIterator;
 import org.apache.seata.server.store.SessionStorable;
 import org.apache.seata.server.store.TransactionStoreManager;
 
@@ -191,6 +194,55 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
         }
         //global transaction
         List<GlobalTransactionDO> globalTransactionDOs = logStore.queryGlobalTransactionDO(states, logQueryLimit);
+        return getGlobalSessions(globalTransactionDOs, withBranchSessions);
+    }
+
+    /**
+     * Read the sessions of the statuses ordered by gmt modified then xid, page by page. The sessions modified after the
+     * first page is read, e.g. moved to another status of the condition meanwhile, are left to the next scan.
+     *
+     * @param sessionCondition the session condition
+     * @param pageSize         the max sessions of a page
+     * @return the iterator of the pages
+     */
+    @Override
+    public Iterator<List<GlobalSession>> readSessionPages(SessionCondition sessionCondition, int pageSize) {
+        if (CollectionUtils.isEmpty(sessionCondition.getStatuses())) {
+            return super.readSessionPages(sessionCondition, pageSize);
+        }
+        GlobalStatus[] statuses = sessionCondition.getStatuses();
+        int[] states = new int[statuses.length];
+        for (int i = 0; i < statuses.length; i++) {
+            states[i] = statuses[i].getCode();
+        }
+        boolean withBranchSessions = !sessionCondition.isLazyLoadBranch();
+        Date maxGmtModified = new Date();
+        return new SessionPageIterator<GlobalTransactionDO, Date>(pageSize) {
+            @Override
+            protected List<GlobalTransactionDO> readRows(Date fromValue, String fromId, int limit) {
+                return logStore.queryGlobalTransactionDO(states, fromValue != null ? fromValue : new Date(0),
+                    fromId != null ? fromId : "", maxGmtModified, limit);
+            }
+
+            @Override
+            protected String getId(GlobalTransactionDO row) {
+                return row.getXid();
+            }
+
+            @Override
+            protected Date getValue(GlobalTransactionDO row) {
+                return row.getGmtModified();
+            }
+
+            @Override
+            protected List<GlobalSession> toSessions(List<GlobalTransactionDO> rows) {
+                return getGlobalSessions(rows, withBranchSessions);
+            }
+        };
+    }
+
+    private List<GlobalSession> getGlobalSessions(List<GlobalTransactionDO> globalTransactionDOs,
+        boolean withBranchSessions) {
         Map<String, List<BranchTransactionDO>> branchTransactionDOsMap = Collections.emptyMap();
         if (CollectionUtils.isNotEmpty(globalTransactionDOs)) {
             List<String> xids =
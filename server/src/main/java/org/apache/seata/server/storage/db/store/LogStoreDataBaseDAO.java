@@ -21,7 +21,9 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import javax.sql.DataSource;
 
@@ -191,6 +193,55 @@ public class LogStoreDataBaseDAO implements LogStore {
         }
     }
 
+    @Override
+    public List<GlobalTransactionDO> queryGlobalTransactionDO(int[] statuses, Date fromGmtModified, String fromXid,
+        Date maxGmtModified, int limit) {
+        List<GlobalTransactionDO> ret = new ArrayList<>();
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            conn = logStoreDataSource.getConnection();
+            conn.setAutoCommit(true);
+
+            String paramsPlaceHolder = org.apache.commons.lang.StringUtils.repeat("?", ",", statuses.length);
+
+            String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType)
+                .getQueryGlobalTransactionSQLByStatusAndGmtModified(globalTable, paramsPlaceHolder);
+            ps = conn.prepareStatement(sql);
+            int index = 1;
+            // the limit comes first in sqlserver
+            boolean limitFirst = "sqlserver".equalsIgnoreCase(dbType);
+            if (limitFirst) {
+                ps.setInt(index++, limit);
+            }
+            for (int status : statuses) {
+                ps.setInt(index++, status);
+            }
+            ps.setTimestamp(index++, toTimestamp(fromGmtModified));
+            ps.setTimestamp(index++, toTimestamp(fromGmtModified));
+            ps.setString(index++, fromXid);
+            ps.setTimestamp(index++, toTimestamp(maxGmtModified));
+            if (!limitFirst) {
+                ps.setInt(index, limit);
+            }
+            rs = ps.executeQuery();
+            while (rs.next()) {
+                ret.add(convertGlobalTransactionDO(rs));
+            }
+            return ret;
+        } catch (SQLException e) {
+            throw new DataAccessException(e);
+        } finally {
+            IOUtil.close(rs, ps, conn);
+        }
+    }
+
+    private static Timestamp toTimestamp(Date date) {
+        // keep the sub millisecond part of a gmt modified read before
+        return date instanceof Timestamp ? (Timestamp)date : new Timestamp(date.getTime());
+    }
+
     @Override
     public boolean insertGlobalTransactionDO(GlobalTransactionDO globalTransactionDO) {
         String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getInsertGlobalTransactionSQL(globalTable);
@@ -19,6 +19,7 @@ package org.apache.seata.server.storage.file;
 import java.nio.ByteBuffer;
 
 import org.apache.seata.common.exception.ShouldNeverHappenException;
+import org.apache.seata.common.util.BufferUtils;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.store.SessionStorable;
@@ -96,16 +97,27 @@ public class TransactionWriteStore implements SessionStorable {
         return byResult;
     }
 
+    @Override
+    public void encode(ByteBuffer dst) {
+        this.sessionRequest.encode(dst);
+        dst.put(this.getOperate().getCode());
+    }
+
     @Override
     public void decode(byte[] src) {
-        ByteBuffer byteBuffer = ByteBuffer.wrap(src);
-        byte[] bySessionRequest = new byte[src.length - 1];
-        byteBuffer.get(bySessionRequest);
-        byte byOpCode = byteBuffer.get();
+        decode(ByteBuffer.wrap(src));
+    }
+
+    @Override
+    public void decode(ByteBuffer src) {
+        byte byOpCode = src.get(src.limit() - 1);
         this.operate = LogOperation.getLogOperationByCode(byOpCode);
         SessionStorable tmpSessionStorable = getSessionInstanceByOperation(this.operate);
+        ByteBuffer bySessionRequest = src.slice();
+        BufferUtils.limit(bySessionRequest, bySessionRequest.limit() - 1);
         tmpSessionStorable.decode(bySessionRequest);
         this.sessionRequest = tmpSessionStorable;
+        BufferUtils.position(src, src.limit());
     }
 
     private SessionStorable getSessionInstanceByOperation(LogOperation logOperation) {
@@ -25,6 +25,7 @@ import org.apache.seata.server.lock.AbstractLockManager;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.storage.raft.lock.RaftLockManager;
+import org.apache.seata.server.store.StoreConfig;
 import org.slf4j.MDC;
 
 import static org.apache.seata.core.context.RootContext.MDC_KEY_BRANCH_ID;
@@ -36,9 +37,14 @@ import static org.apache.seata.core.context.RootContext.MDC_KEY_BRANCH_ID;
 @LoadLevel(name = "file")
 public class FileLockManager extends AbstractLockManager {
 
+    private static final String STRIPED_LOCK_TABLE = "striped";
+
+    private static final boolean USE_STRIPED_LOCK_TABLE = STRIPED_LOCK_TABLE.equalsIgnoreCase(
+        StoreConfig.getFileLockTable());
+
     @Override
     public Locker getLocker(BranchSession branchSession) {
-        return new FileLocker(branchSession);
+        return USE_STRIPED_LOCK_TABLE ? new StripedFileLocker(branchSession) : new FileLocker(branchSession);
     }
 
     @Override
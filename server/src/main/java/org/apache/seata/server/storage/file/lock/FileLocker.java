@@ -85,7 +85,7 @@ public class FileLocker extends AbstractLocker {
             ConcurrentMap<Integer, BucketLockMap> tableLockMap = CollectionUtils.computeIfAbsent(dbLockMap, tableName,
                 key -> new ConcurrentHashMap<>(8));
 
-            int bucketId = pk.hashCode() % BUCKET_PER_TABLE;
+            int bucketId = pk.hashCode() & (BUCKET_PER_TABLE - 1);
             BucketLockMap bucketLockMap = CollectionUtils.computeIfAbsent(tableLockMap, bucketId,
                 key -> new BucketLockMap());
             BranchSession previousLockBranchSession = bucketLockMap.get().putIfAbsent(pk, branchSession);
@@ -162,7 +162,7 @@ public class FileLocker extends AbstractLocker {
             if (tableLockMap == null) {
                 continue;
             }
-            int bucketId = pk.hashCode() % BUCKET_PER_TABLE;
+            int bucketId = pk.hashCode() & (BUCKET_PER_TABLE - 1);
             BucketLockMap bucketLockMap = tableLockMap.get(bucketId);
             if (bucketLockMap == null) {
                 continue;
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.file.lock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.seata.common.exception.FrameworkException;
+import org.apache.seata.common.exception.StoreException;
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.core.exception.BranchTransactionException;
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.lock.AbstractLocker;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.model.LockStatus;
+import org.apache.seata.server.session.BranchSession;
+
+import static org.apache.seata.core.exception.TransactionExceptionCode.LockKeyConflictFailFast;
+
+/**
+ * The memory locker backed by the {@link StripedRowLockTable}, enabled by {@code store.file.lockTable=striped}.
+ * It keeps the semantics of {@link FileLocker}, but the rows held by a branch are not tracked one by one:
+ * they are released again from the lock key of the branch.
+ *
+ */
+public class StripedFileLocker extends AbstractLocker {
+
+    private static final StripedRowLockTable LOCK_TABLE = new StripedRowLockTable();
+
+    /**
+     * Marks in {@link BranchSession#getLockHolder()} that the branch holds rows in the lock table,
+     * so that console queries and the release short-cut behave as they do for {@link FileLocker}.
+     */
+    private static final FileLocker.BucketLockMap HOLDER_MARK = new FileLocker.BucketLockMap();
+
+    /**
+     * The Branch session.
+     */
+    protected BranchSession branchSession;
+
+    /**
+     * Instantiates a new striped file locker.
+     *
+     * @param branchSession the branch session
+     */
+    public StripedFileLocker(BranchSession branchSession) {
+        this.branchSession = branchSession;
+    }
+
+    @Override
+    public boolean acquireLock(List<RowLock> rowLocks) {
+        return acquireLock(rowLocks, true, false);
+    }
+
+    @Override
+    public boolean acquireLock(List<RowLock> rowLocks, boolean autoCommit, boolean skipCheckLock) {
+        if (CollectionUtils.isEmpty(rowLocks)) {
+            // no lock
+            return true;
+        }
+        String resourceId = branchSession.getResourceId();
+        long transactionId = branchSession.getTransactionId();
+        Map<FileLocker.BucketLockMap, Set<String>> lockHolder = branchSession.getLockHolder();
+
+        boolean failFast = false;
+        boolean canLock = true;
+        String lastTableName = null;
+        long tableKey = StripedRowLockTable.ABSENT_TABLE_KEY;
+        for (RowLock lock : rowLocks) {
+            String tableName = lock.getTableName();
+            String pk = lock.getPk();
+            if (!tableName.equals(lastTableName)) {
+                tableKey = LOCK_TABLE.tableKey(resourceId, tableName);
+                lastTableName = tableName;
+            }
+            BranchSession previousLockBranchSession = LOCK_TABLE.lock(tableKey, pk, branchSession);
+            if (previousLockBranchSession == null) {
+                // No existing lock, and now locked by myself
+                if (lockHolder.isEmpty()) {
+                    lockHolder.put(HOLDER_MARK, Collections.emptySet());
+                }
+            } else if (previousLockBranchSession.getTransactionId() == transactionId) {
+                // Locked by me before
+            } else {
+                LOGGER.info("Global lock on [" + tableName + ":" + pk + "] is holding by " + previousLockBranchSession.getBranchId());
+                try {
+                    // Release all acquired locks.
+                    branchSession.unlock();
+                } catch (TransactionException e) {
+                    throw new FrameworkException(e);
+                }
+                if (!autoCommit && previousLockBranchSession.getLockStatus() == LockStatus.Rollbacking) {
+                    failFast = true;
+                    break;
+                }
+                if (canLock) {
+                    canLock = false;
+                    if (autoCommit) {
+                        break;
+                    }
+                }
+            }
+        }
+        if (failFast) {
+            throw new StoreException(new BranchTransactionException(LockKeyConflictFailFast));
+        }
+        return canLock;
+    }
+
+    @Override
+    public boolean releaseLock(List<RowLock> rowLock) {
+        if (CollectionUtils.isEmpty(rowLock)) {
+            //no lock
+            return true;
+        }
+        Map<FileLocker.BucketLockMap, Set<String>> lockHolder = branchSession.getLockHolder();
+        if (CollectionUtils.isEmpty(lockHolder)) {
+            return true;
+        }
+        String resourceId = branchSession.getResourceId();
+        long transactionId = branchSession.getTransactionId();
+        long branchId = branchSession.getBranchId();
+        String lastTableName = null;
+        long tableKey = StripedRowLockTable.ABSENT_TABLE_KEY;
+        for (RowLock lock : rowLock) {
+            String tableName = lock.getTableName();
+            if (!tableName.equals(lastTableName)) {
+                tableKey = LOCK_TABLE.tableKeyIfPresent(resourceId, tableName);
+                lastTableName = tableName;
+            }
+            if (tableKey != StripedRowLockTable.ABSENT_TABLE_KEY) {
+                // remove lock only if it locked by myself
+                LOCK_TABLE.unlock(tableKey, lock.getPk(), transactionId, branchId);
+            }
+        }
+        lockHolder.clear();
+        return true;
+    }
+
+    @Override
+    public boolean isLockable(List<RowLock> rowLocks) {
+        if (CollectionUtils.isEmpty(rowLocks)) {
+            //no lock
+            return true;
+        }
+        long transactionId = rowLocks.get(0).getTransactionId();
+        String resourceId = rowLocks.get(0).getResourceId();
+        String lastTableName = null;
+        long tableKey = StripedRowLockTable.ABSENT_TABLE_KEY;
+        for (RowLock rowLock : rowLocks) {
+            String tableName = rowLock.getTableName();
+            String pk = rowLock.getPk();
+            if (!tableName.equals(lastTableName)) {
+                tableKey = LOCK_TABLE.tableKeyIfPresent(resourceId, tableName);
+                lastTableName = tableName;
+            }
+            if (tableKey == StripedRowLockTable.ABSENT_TABLE_KEY) {
+                continue;
+            }
+            BranchSession lockBranchSession = LOCK_TABLE.lockOwner(tableKey, pk);
+            if (lockBranchSession != null && lockBranchSession.getTransactionId() != transactionId) {
+                LOGGER.info("Global lock on [" + tableName + ":" + pk + "] is holding by " + lockBranchSession.getTransactionId());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void updateLockStatus(String xid, LockStatus lockStatus) {
+    }
+
+    @Override
+    public void cleanAllLocks() {
+        LOCK_TABLE.clear();
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.file.lock;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.seata.server.session.BranchSession;
+
+/**
+ * The global row lock table used by {@link StripedFileLocker}.
+ * <p>
+ * Resource ids and table names are interned to ints once, and every row is identified by the pair
+ * (table key, 64-bit pk fingerprint). Rows are spread over a fixed number of stripes, each of which is an
+ * open-addressing (linear probing) table backed by primitive arrays, so lock and unlock do not allocate
+ * unless a stripe has to grow.
+ * <p>
+ * Two different pks of the same table sharing a fingerprint are treated as the same row. That can only
+ * produce a false lock conflict, never grant a row to two transactions.
+ *
+ */
+public class StripedRowLockTable {
+
+    /**
+     * Returned by {@link #tableKeyIfPresent(String, String)} when the resource or the table was never locked.
+     */
+    public static final long ABSENT_TABLE_KEY = -1L;
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    private static final int DEFAULT_STRIPE_CAPACITY = 256;
+
+    private final ConcurrentHashMap<String, Integer> resourceIds = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Integer> tableNames = new ConcurrentHashMap<>();
+
+    private final AtomicInteger resourceIdSequence = new AtomicInteger();
+
+    private final AtomicInteger tableNameSequence = new AtomicInteger();
+
+    private final Stripe[] stripes;
+
+    private final int stripeMask;
+
+    public StripedRowLockTable() {
+        this(DEFAULT_STRIPES, DEFAULT_STRIPE_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new striped row lock table.
+     *
+     * @param stripeCount     the stripe count, rounded up to a power of two
+     * @param stripeCapacity  the initial slot count of each stripe, rounded up to a power of two
+     */
+    public StripedRowLockTable(int stripeCount, int stripeCapacity) {
+        int count = powerOfTwo(stripeCount);
+        this.stripes = new Stripe[count];
+        this.stripeMask = count - 1;
+        int capacity = powerOfTwo(Math.max(stripeCapacity, 4));
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * Get the table key of the resource and table, interning both names on first use.
+     *
+     * @param resourceId the resource id
+     * @param tableName  the table name
+     * @return the table key
+     */
+    public long tableKey(String resourceId, String tableName) {
+        int resource = intern(resourceIds, resourceIdSequence, resourceId);
+        int table = intern(tableNames, tableNameSequence, tableName);
+        return ((long) resource << 32) | (table & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the table key of the resource and table without interning.
+     *
+     * @param resourceId the resource id
+     * @param tableName  the table name
+     * @return the table key, or {@link #ABSENT_TABLE_KEY} if no row of the table was ever locked
+     */
+    public long tableKeyIfPresent(String resourceId, String tableName) {
+        Integer resource = resourceIds.get(resourceId);
+        if (resource == null) {
+            return ABSENT_TABLE_KEY;
+        }
+        Integer table = tableNames.get(tableName);
+        if (table == null) {
+            return ABSENT_TABLE_KEY;
+        }
+        return ((long) resource << 32) | (table & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Lock the row for the branch session if it is not locked yet.
+     *
+     * @param tableKey the table key
+     * @param pk       the pk
+     * @param owner    the branch session
+     * @return null if the row is now locked by the owner, otherwise the branch session holding it
+     */
+    public BranchSession lock(long tableKey, String pk, BranchSession owner) {
+        long rowKey = fingerprint(pk);
+        long hash = mix(tableKey, rowKey);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        synchronized (stripe) {
+            return stripe.putIfAbsent(tableKey, rowKey, (int) hash, owner);
+        }
+    }
+
+    /**
+     * Get the branch session holding the row.
+     *
+     * @param tableKey the table key
+     * @param pk       the pk
+     * @return the branch session, or null if the row is not locked
+     */
+    public BranchSession lockOwner(long tableKey, String pk) {
+        long rowKey = fingerprint(pk);
+        long hash = mix(tableKey, rowKey);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        synchronized (stripe) {
+            return stripe.get(tableKey, rowKey, (int) hash);
+        }
+    }
+
+    /**
+     * Unlock the row only if it is held by the given branch.
+     *
+     * @param tableKey      the table key
+     * @param pk            the pk
+     * @param transactionId the transaction id
+     * @param branchId      the branch id
+     * @return true if the row was held by the branch and has been unlocked
+     */
+    public boolean unlock(long tableKey, String pk, long transactionId, long branchId) {
+        long rowKey = fingerprint(pk);
+        long hash = mix(tableKey, rowKey);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        synchronized (stripe) {
+            return stripe.remove(tableKey, rowKey, (int) hash, transactionId, branchId);
+        }
+    }
+
+    /**
+     * Get the number of locked rows.
+     *
+     * @return the number of locked rows
+     */
+    public long size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove all locks. The interned names are kept, table keys handed out before stay valid.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    private static int intern(ConcurrentHashMap<String, Integer> names, AtomicInteger sequence, String name) {
+        Integer id = names.get(name);
+        if (id != null) {
+            return id;
+        }
+        return names.computeIfAbsent(name, key -> sequence.getAndIncrement());
+    }
+
+    private static int powerOfTwo(int value) {
+        int n = Math.max(value, 1);
+        return n == 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    /**
+     * 64-bit FNV-1a over the chars of the pk, walked with charAt so that no byte[] is created.
+     */
+    static long fingerprint(String pk) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0, len = pk.length(); i < len; i++) {
+            char c = pk.charAt(i);
+            h ^= c & 0xFF;
+            h *= 0x100000001b3L;
+            h ^= c >>> 8;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * The murmur3 finalizer over both keys, the high half selects the stripe and the low half the slot.
+     */
+    static long mix(long tableKey, long rowKey) {
+        long h = rowKey ^ (tableKey * 0x9E3779B97F4A7C15L);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * One open-addressing table. All access is guarded by the stripe monitor.
+     */
+    static final class Stripe {
+
+        private long[] tableKeys;
+
+        private long[] rowKeys;
+
+        private int[] hashes;
+
+        private BranchSession[] owners;
+
+        private int mask;
+
+        private int size;
+
+        private int threshold;
+
+        Stripe(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            tableKeys = new long[capacity];
+            rowKeys = new long[capacity];
+            hashes = new int[capacity];
+            owners = new BranchSession[capacity];
+            mask = capacity - 1;
+            threshold = capacity - (capacity >>> 2);
+        }
+
+        BranchSession get(long tableKey, long rowKey, int hash) {
+            for (int i = hash & mask; owners[i] != null; i = (i + 1) & mask) {
+                if (rowKeys[i] == rowKey && tableKeys[i] == tableKey) {
+                    return owners[i];
+                }
+            }
+            return null;
+        }
+
+        BranchSession putIfAbsent(long tableKey, long rowKey, int hash, BranchSession owner) {
+            int i = hash & mask;
+            for (; owners[i] != null; i = (i + 1) & mask) {
+                if (rowKeys[i] == rowKey && tableKeys[i] == tableKey) {
+                    return owners[i];
+                }
+            }
+            tableKeys[i] = tableKey;
+            rowKeys[i] = rowKey;
+            hashes[i] = hash;
+            owners[i] = owner;
+            if (++size > threshold) {
+                resize();
+            }
+            return null;
+        }
+
+        boolean remove(long tableKey, long rowKey, int hash, long transactionId, long branchId) {
+            for (int i = hash & mask; owners[i] != null; i = (i + 1) & mask) {
+                if (rowKeys[i] == rowKey && tableKeys[i] == tableKey) {
+                    BranchSession owner = owners[i];
+                    if (owner.getTransactionId() != transactionId || owner.getBranchId() != branchId) {
+                        return false;
+                    }
+                    delete(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Backward shift deletion, keeps every probe chain contiguous so no tombstones are needed.
+         */
+        private void delete(int slot) {
+            int hole = slot;
+            for (int i = (slot + 1) & mask; owners[i] != null; i = (i + 1) & mask) {
+                int home = hashes[i] & mask;
+                boolean reachable = hole <= i ? (home > hole && home <= i) : (home > hole || home <= i);
+                if (!reachable) {
+                    tableKeys[hole] = tableKeys[i];
+                    rowKeys[hole] = rowKeys[i];
+                    hashes[hole] = hashes[i];
+                    owners[hole] = owners[i];
+                    hole = i;
+                }
+            }
+            owners[hole] = null;
+            size--;
+        }
+
+        private void resize() {
+            long[] oldTableKeys = tableKeys;
+            long[] oldRowKeys = rowKeys;
+            int[] oldHashes = hashes;
+            BranchSession[] oldOwners = owners;
+            allocate(oldOwners.length << 1);
+            for (int j = 0; j < oldOwners.length; j++) {
+                if (oldOwners[j] == null) {
+                    continue;
+                }
+                int i = oldHashes[j] & mask;
+                while (owners[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                tableKeys[i] = oldTableKeys[j];
+                rowKeys[i] = oldRowKeys[j];
+                hashes[i] = oldHashes[j];
+                owners[i] = oldOwners[j];
+            }
+        }
+
+        void clear() {
+            Arrays.fill(owners, null);
+            size = 0;
+        }
+    }
+}
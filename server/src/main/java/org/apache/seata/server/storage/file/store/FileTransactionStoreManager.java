@@ -30,6 +30,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.seata.common.exception.StoreException;
@@ -128,6 +129,10 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
     private static final int INT_BYTE_SIZE = 4;
 
+    private static final int MAX_GROUP_COMMIT_SIZE = 1024;
+
+    private final boolean groupCommit;
+
     /**
      * Instantiates a new File transaction store manager.
      *
@@ -136,6 +141,20 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
      * @throws IOException the io exception
      */
     public FileTransactionStoreManager(String fullFileName, SessionManager sessionManager) throws IOException {
+        this(fullFileName, sessionManager, StoreConfig.isFileGroupCommit());
+    }
+
+    /**
+     * Instantiates a new File transaction store manager.
+     *
+     * @param fullFileName   the dir path
+     * @param sessionManager the session manager
+     * @param groupCommit    whether the concurrent writes are written and flushed together by the write thread
+     * @throws IOException the io exception
+     */
+    public FileTransactionStoreManager(String fullFileName, SessionManager sessionManager, boolean groupCommit)
+        throws IOException {
+        this.groupCommit = groupCommit;
         initFile(fullFileName);
         fileWriteExecutor = new ThreadPoolExecutor(MAX_THREAD_WRITE, MAX_THREAD_WRITE, Integer.MAX_VALUE,
             TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
@@ -172,6 +191,9 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
     @Override
     public boolean writeSession(LogOperation logOperation, SessionStorable session) {
+        if (groupCommit) {
+            return groupCommitWriteSession(logOperation, session);
+        }
         long curFileTrxNum;
         writeSessionLock.lock();
         try {
@@ -194,6 +216,26 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
         return true;
     }
 
+    /**
+     * Encode the session on the calling thread and hand it to the write thread, which writes all the pending
+     * sessions with one write, flushes them with one force in sync mode, and then wakes up their writers together.
+     */
+    private boolean groupCommitWriteSession(LogOperation logOperation, SessionStorable session) {
+        byte[] data;
+        try {
+            data = new TransactionWriteStore(session, logOperation).encode();
+        } catch (Exception exx) {
+            LOGGER.error("writeSession error, {}", exx.getMessage(), exx);
+            return false;
+        }
+        if (data == null || data.length >= Integer.MAX_VALUE - 3) {
+            return false;
+        }
+        GroupCommitRequest request = new GroupCommitRequest(data);
+        writeDataFileRunnable.putRequest(request);
+        return request.waitForCommit(MAX_WAIT_FOR_FLUSH_TIME_MILLS);
+    }
+
     private void flushDisk(long curFileNum, FileChannel currFileChannel) {
 
         if (FLUSH_DISK_MODE == FlushDiskMode.SYNC_MODEL) {
@@ -530,6 +572,73 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
     }
 
+    static class GroupCommitRequest implements StoreRequest {
+        private static final int STATE_WAITING = 0;
+
+        private static final int STATE_WRITING = 1;
+
+        private static final int STATE_CANCELLED = 2;
+
+        private final CountDownLatch countDownLatch = new CountDownLatch(1);
+
+        private final AtomicInteger state = new AtomicInteger(STATE_WAITING);
+
+        private final byte[] data;
+
+        private volatile boolean committed;
+
+        public GroupCommitRequest(byte[] data) {
+            this.data = data;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * Called by the write thread before writing the data.
+         *
+         * @return false if the writer has given up waiting, then the data must not be written
+         */
+        public boolean startWrite() {
+            return state.compareAndSet(STATE_WAITING, STATE_WRITING);
+        }
+
+        public void wakeup(boolean committed) {
+            this.committed = committed;
+            this.countDownLatch.countDown();
+        }
+
+        public boolean waitForCommit(long timeout) {
+            boolean interrupted = false;
+            try {
+                if (this.countDownLatch.await(timeout, TimeUnit.MILLISECONDS)) {
+                    return committed;
+                }
+                LOGGER.error("wait for group commit timeout after {} ms", timeout);
+            } catch (InterruptedException e) {
+                LOGGER.error("Interrupted", e);
+                interrupted = true;
+            }
+            if (state.compareAndSet(STATE_WAITING, STATE_CANCELLED)) {
+                return false;
+            }
+            // the data is being written, the caller has to know whether it is replayed on restart
+            while (true) {
+                try {
+                    this.countDownLatch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return committed;
+        }
+    }
+
     static class CloseFileRequest implements StoreRequest {
         private final CountDownLatch countDownLatch = new CountDownLatch(1);
         private FileChannel fileChannel;
@@ -569,6 +678,8 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
         private LinkedBlockingQueue<StoreRequest> storeRequests = new LinkedBlockingQueue<>();
 
+        private final List<GroupCommitRequest> groupCommitRequests = new ArrayList<>();
+
         public void putRequest(final StoreRequest request) {
             storeRequests.add(request);
         }
@@ -606,6 +717,90 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
                 async((AsyncFlushRequest)storeRequest);
             } else if (storeRequest instanceof CloseFileRequest) {
                 closeAndFlush((CloseFileRequest)storeRequest);
+            } else if (storeRequest instanceof GroupCommitRequest) {
+                groupCommit((GroupCommitRequest)storeRequest);
+            }
+        }
+
+        /**
+         * write the request together with the group commit requests queued behind it
+         */
+        private void groupCommit(GroupCommitRequest first) {
+            if (first.startWrite()) {
+                groupCommitRequests.add(first);
+            }
+            while (groupCommitRequests.size() < MAX_GROUP_COMMIT_SIZE
+                && storeRequests.peek() instanceof GroupCommitRequest) {
+                GroupCommitRequest request = (GroupCommitRequest)storeRequests.poll();
+                // the writers which gave up waiting were told the write failed, their data is dropped
+                if (request.startWrite()) {
+                    groupCommitRequests.add(request);
+                }
+            }
+            if (groupCommitRequests.isEmpty()) {
+                return;
+            }
+            long batchStartPosition = position(currFileChannel);
+            boolean committed = batchStartPosition >= 0;
+            for (GroupCommitRequest request : groupCommitRequests) {
+                if (!committed || !writeDataFrame(request.getData())) {
+                    committed = false;
+                    break;
+                }
+            }
+            committed = committed && flushWriteBuffer(writeBuffer);
+            long beforeTrxNum = FILE_TRX_NUM.get();
+            if (committed) {
+                lastModifiedTime = System.currentTimeMillis();
+                long diff = beforeTrxNum + groupCommitRequests.size() - FILE_FLUSH_NUM.get();
+                if (FLUSH_DISK_MODE == FlushDiskMode.SYNC_MODEL || diff >= MAX_FLUSH_NUM) {
+                    // the counters only move on once the data is on the disk
+                    committed = flush(currFileChannel);
+                    if (committed) {
+                        FILE_TRX_NUM.addAndGet(groupCommitRequests.size());
+                        FILE_FLUSH_NUM.addAndGet(diff);
+                    }
+                } else {
+                    FILE_TRX_NUM.addAndGet(groupCommitRequests.size());
+                }
+            }
+            if (!committed) {
+                BufferUtils.clear(writeBuffer);
+                // the frames written before the failure were not acknowledged, they must not be replayed on restart
+                if (batchStartPosition >= 0) {
+                    truncate(currFileChannel, batchStartPosition);
+                }
+            }
+            for (GroupCommitRequest request : groupCommitRequests) {
+                request.wakeup(committed);
+            }
+            groupCommitRequests.clear();
+            long afterTrxNum = FILE_TRX_NUM.get();
+            if (beforeTrxNum / PER_FILE_BLOCK_SIZE != afterTrxNum / PER_FILE_BLOCK_SIZE
+                && (System.currentTimeMillis() - trxStartTimeMills) > MAX_TRX_TIMEOUT_MILLS) {
+                saveHistoryOnWriteThread();
+            }
+        }
+
+        /**
+         * same as saveHistory, but the data file is closed right here since this is the write thread
+         */
+        private void saveHistoryOnWriteThread() {
+            try {
+                findTimeoutAndSave();
+                long diff = FILE_TRX_NUM.get() - FILE_FLUSH_NUM.get();
+                flush(currFileChannel);
+                FILE_FLUSH_NUM.addAndGet(diff);
+                closeFile(currRaf);
+                Files.move(currDataFile.toPath(), new File(hisFullFileName).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException exx) {
+                LOGGER.error("save history data file error, {}", exx.getMessage(), exx);
+            } finally {
+                try {
+                    initFile(currFullFileName);
+                } catch (IOException exx) {
+                    LOGGER.error("init data file error, {}", exx.getMessage(), exx);
+                }
             }
         }
 
@@ -645,11 +840,31 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
             }
         }
 
-        private void flush(FileChannel fileChannel) {
+        private long position(FileChannel fileChannel) {
+            try {
+                return fileChannel.position();
+            } catch (IOException exx) {
+                LOGGER.error("get data file position error: {}", exx.getMessage(), exx);
+                return -1;
+            }
+        }
+
+        private void truncate(FileChannel fileChannel, long position) {
+            try {
+                fileChannel.truncate(position);
+                fileChannel.position(position);
+            } catch (IOException exx) {
+                LOGGER.error("truncate data file to {} error: {}", position, exx.getMessage(), exx);
+            }
+        }
+
+        private boolean flush(FileChannel fileChannel) {
             try {
                 fileChannel.force(false);
+                return true;
             } catch (IOException exx) {
                 LOGGER.error("flush error: {}", exx.getMessage(), exx);
+                return false;
             }
         }
     }
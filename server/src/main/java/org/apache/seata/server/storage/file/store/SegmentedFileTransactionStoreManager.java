@@ -0,0 +1,638 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.file.store;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.apache.seata.common.exception.StoreException;
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.common.util.BufferUtils;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionCondition;
+import org.apache.seata.server.session.SessionManager;
+import org.apache.seata.server.storage.file.FlushDiskMode;
+import org.apache.seata.server.storage.file.ReloadableStore;
+import org.apache.seata.server.storage.file.TransactionWriteStore;
+import org.apache.seata.server.store.AbstractTransactionStoreManager;
+import org.apache.seata.server.store.SessionStorable;
+import org.apache.seata.server.store.StoreConfig;
+import org.apache.seata.server.store.TransactionStoreManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The file transaction store manager writing a segmented, memory-mapped log.
+ * <p>
+ * Records are appended to fixed-size segment files ({@code <file>-<segmentId>.seg}) as
+ * {@code [length][crc32][TransactionWriteStore]}; a zero length or a crc mismatch ends a segment.
+ * After every {@code checkpointSegments} new segments, the live sessions are written to a compacted checkpoint
+ * ({@code <file>.checkpoint}), which names the first segment to replay after it, and the older segments are
+ * deleted. A restart reads the checkpoint as the history and then the remaining segments, both memory-mapped.
+ *
+ */
+public class SegmentedFileTransactionStoreManager extends AbstractTransactionStoreManager
+    implements TransactionStoreManager, ReloadableStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentedFileTransactionStoreManager.class);
+
+    private static final String SEGMENT_FILE_SUFFIX = ".seg";
+
+    private static final String CHECKPOINT_FILE_POSTFIX = ".checkpoint";
+
+    private static final String TMP_FILE_POSTFIX = ".tmp";
+
+    private static final int CHECKPOINT_MAGIC = 0x53434B50;
+
+    private static final int CHECKPOINT_HEADER_SIZE = 4 + 8;
+
+    private static final int RECORD_HEADER_SIZE = 4 + 4;
+
+    private static final int MAX_FLUSH_TIME_MILLS = 1000;
+
+    private static final int MAX_WAIT_FOR_SHUTDOWN_MILLS = 5 * 1000;
+
+    private static final FlushDiskMode FLUSH_DISK_MODE = StoreConfig.getFlushDiskMode();
+
+    /**
+     * the records are encoded here first for the checksum, with room for the branch lock status and the operation
+     */
+    private static final ThreadLocal<ByteBuffer> ENCODE_BUFFER_THREAD_LOCAL = ThreadLocal.withInitial(
+        () -> ByteBuffer.allocate(Math.max(StoreConfig.getMaxGlobalSessionSize(), StoreConfig.getMaxBranchSessionSize())
+            + 2));
+
+    private static final Object UNSAFE;
+
+    private static final Method UNSAFE_INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            // java 9 and later, the cleaner of a java 8 buffer is used otherwise
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+        } catch (Throwable ignore) {
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        UNSAFE_INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final File dir;
+
+    private final String fileNamePrefix;
+
+    private final File checkpointFile;
+
+    private final int segmentSize;
+
+    private final int checkpointSegments;
+
+    private final SessionManager sessionManager;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final ExecutorService checkpointExecutor;
+
+    private final AtomicBoolean checkpointRunning = new AtomicBoolean();
+
+    private final Thread flushThread;
+
+    private volatile boolean stopping = false;
+
+    private volatile Segment activeSegment;
+
+    private volatile long lastCheckpointSegmentId;
+
+    /**
+     * set once the restart recovery has read all segments, no checkpoint is taken before it
+     */
+    private volatile boolean recovered = false;
+
+    private LogReader historyReader;
+
+    private LogReader segmentReader;
+
+    /**
+     * Instantiates a new segmented file transaction store manager.
+     *
+     * @param fullFileName   the file path prefix of the segments and checkpoint
+     * @param sessionManager the session manager
+     * @throws IOException the io exception
+     */
+    public SegmentedFileTransactionStoreManager(String fullFileName, SessionManager sessionManager)
+        throws IOException {
+        this(fullFileName, sessionManager, StoreConfig.getFileSegmentSize(), StoreConfig.getFileCheckpointSegments());
+    }
+
+    /**
+     * Instantiates a new segmented file transaction store manager.
+     *
+     * @param fullFileName       the file path prefix of the segments and checkpoint
+     * @param sessionManager     the session manager
+     * @param segmentSize        the segment size in bytes
+     * @param checkpointSegments the number of new segments after which a checkpoint is taken
+     * @throws IOException the io exception
+     */
+    public SegmentedFileTransactionStoreManager(String fullFileName, SessionManager sessionManager, int segmentSize,
+                                                int checkpointSegments) throws IOException {
+        File file = new File(fullFileName).getAbsoluteFile();
+        this.dir = file.getParentFile();
+        this.fileNamePrefix = file.getName() + "-";
+        this.checkpointFile = new File(dir, file.getName() + CHECKPOINT_FILE_POSTFIX);
+        this.segmentSize = segmentSize;
+        this.checkpointSegments = Math.max(checkpointSegments, 1);
+        this.sessionManager = sessionManager;
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("create session store dir failed: " + dir);
+        }
+        long checkpointSegmentId = readCheckpointSegmentId();
+        List<Long> segmentIds = listSegmentIds();
+        // segments before the checkpoint are left by a crash during the last checkpoint
+        deleteSegmentsBefore(checkpointSegmentId, segmentIds);
+        long lastSegmentId = Math.max(segmentIds.isEmpty() ? 0 : segmentIds.get(segmentIds.size() - 1),
+            checkpointSegmentId - 1);
+        List<File> recoverySegments = new ArrayList<>();
+        for (Long segmentId : segmentIds) {
+            if (segmentId >= checkpointSegmentId) {
+                recoverySegments.add(segmentFile(segmentId));
+            }
+        }
+        this.historyReader = new LogReader(checkpointFile.exists()
+            ? Collections.singletonList(checkpointFile) : Collections.emptyList(), CHECKPOINT_HEADER_SIZE);
+        this.segmentReader = new LogReader(recoverySegments, 0);
+        this.lastCheckpointSegmentId = Math.max(checkpointSegmentId, lastSegmentId + 1);
+        // always start a new segment, the last one may end with a torn record
+        this.activeSegment = new Segment(lastSegmentId + 1, segmentSize);
+        this.checkpointExecutor = new ThreadPoolExecutor(1, 1, Integer.MAX_VALUE, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new NamedThreadFactory("sessionLogCheckpoint", 1, true));
+        this.flushThread = new NamedThreadFactory("sessionLogFlush", 1, true).newThread(this::flushPeriodically);
+        this.flushThread.start();
+    }
+
+    @Override
+    public boolean writeSession(LogOperation logOperation, SessionStorable session) {
+        ByteBuffer data = ENCODE_BUFFER_THREAD_LOCAL.get();
+        BufferUtils.clear(data);
+        try {
+            new TransactionWriteStore(session, logOperation).encode(data);
+        } catch (Exception exx) {
+            LOGGER.error("writeSession error, {}", exx.getMessage(), exx);
+            return false;
+        }
+        BufferUtils.flip(data);
+        CRC32 crc32 = new CRC32();
+        crc32.update(data);
+        BufferUtils.rewind(data);
+        int checksum = (int)crc32.getValue();
+        Segment segment;
+        int endPosition;
+        boolean rolled = false;
+        writeLock.lock();
+        try {
+            segment = activeSegment;
+            if (!segment.hasRoom(data.remaining())) {
+                segment = rollSegment(data.remaining());
+                rolled = true;
+            }
+            endPosition = segment.append(data, checksum);
+        } catch (IOException exx) {
+            LOGGER.error("writeSession error, {}", exx.getMessage(), exx);
+            return false;
+        } finally {
+            writeLock.unlock();
+        }
+        if (FLUSH_DISK_MODE == FlushDiskMode.SYNC_MODEL) {
+            segment.flush(endPosition);
+        }
+        if (rolled) {
+            triggerCheckpoint(segment.getSegmentId());
+        }
+        return true;
+    }
+
+    private Segment rollSegment(int dataLength) throws IOException {
+        Segment previous = activeSegment;
+        // a record bigger than the segment size gets a segment of its own
+        Segment segment = new Segment(previous.getSegmentId() + 1,
+            Math.max(segmentSize, dataLength + RECORD_HEADER_SIZE + 4));
+        activeSegment = segment;
+        previous.flush(Integer.MAX_VALUE);
+        previous.close();
+        return segment;
+    }
+
+    private void triggerCheckpoint(long segmentId) {
+        if (!recovered || sessionManager == null || segmentId - lastCheckpointSegmentId < checkpointSegments
+            || !checkpointRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            checkpointExecutor.execute(() -> {
+                try {
+                    checkpoint();
+                } finally {
+                    checkpointRunning.set(false);
+                }
+            });
+        } catch (Exception exx) {
+            checkpointRunning.set(false);
+            LOGGER.warn("submit checkpoint failed: {}", exx.getMessage());
+        }
+    }
+
+    /**
+     * Write the live sessions to a new checkpoint and delete the segments it covers.
+     * A change is logged before it is made in memory, so a record appended just before the roll may not be seen
+     * by the sessions read after it. The checkpoint starts replay at the segment active before the roll, which
+     * holds those records, and the replay of a change already in the checkpoint leaves it as it is.
+     */
+    void checkpoint() {
+        long startSegmentId;
+        writeLock.lock();
+        try {
+            startSegmentId = activeSegment.getSegmentId();
+            rollSegment(0);
+        } catch (IOException exx) {
+            LOGGER.error("roll segment for checkpoint failed: {}", exx.getMessage(), exx);
+            return;
+        } finally {
+            writeLock.unlock();
+        }
+        long start = System.currentTimeMillis();
+        File tmpFile = new File(dir, checkpointFile.getName() + TMP_FILE_POSTFIX);
+        int records = 0;
+        try (FileOutputStream fileOutputStream = new FileOutputStream(tmpFile);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOutputStream, 1 << 20))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeLong(startSegmentId);
+            CRC32 crc32 = new CRC32();
+            for (GlobalSession globalSession : sessionManager.allSessions()) {
+                writeRecord(out, crc32, new TransactionWriteStore(globalSession, LogOperation.GLOBAL_ADD));
+                records++;
+                for (BranchSession branchSession : globalSession.getSortedBranches()) {
+                    writeRecord(out, crc32, new TransactionWriteStore(branchSession, LogOperation.BRANCH_ADD));
+                    records++;
+                }
+            }
+            out.flush();
+            fileOutputStream.getChannel().force(true);
+        } catch (Exception exx) {
+            LOGGER.error("write checkpoint failed, the segments are kept: {}", exx.getMessage(), exx);
+            tmpFile.delete();
+            return;
+        }
+        try {
+            Files.move(tmpFile.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exx) {
+            LOGGER.error("rename checkpoint failed, the segments are kept: {}", exx.getMessage(), exx);
+            return;
+        }
+        lastCheckpointSegmentId = startSegmentId;
+        deleteSegmentsBefore(startSegmentId, listSegmentIds());
+        LOGGER.info("session log checkpoint finished, {} records, replay from segment {}, cost {} ms", records,
+            startSegmentId, System.currentTimeMillis() - start);
+    }
+
+    private static void writeRecord(DataOutputStream out, CRC32 crc32, TransactionWriteStore writeStore)
+        throws IOException {
+        byte[] data = writeStore.encode();
+        crc32.reset();
+        crc32.update(data, 0, data.length);
+        out.writeInt(data.length);
+        out.writeInt((int)crc32.getValue());
+        out.write(data);
+    }
+
+    private void flushPeriodically() {
+        while (!stopping) {
+            try {
+                Thread.sleep(MAX_FLUSH_TIME_MILLS);
+            } catch (InterruptedException ignore) {
+                break;
+            }
+            if (FLUSH_DISK_MODE != FlushDiskMode.SYNC_MODEL) {
+                activeSegment.flush(Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    @Override
+    public List<TransactionWriteStore> readWriteStore(int readSize, boolean isHistory) {
+        LogReader reader = isHistory ? historyReader : segmentReader;
+        List<TransactionWriteStore> stores = reader.read(readSize);
+        if (!isHistory && !reader.hasRemaining()) {
+            recovered = true;
+        }
+        return stores;
+    }
+
+    @Override
+    public boolean hasRemaining(boolean isHistory) {
+        LogReader reader = isHistory ? historyReader : segmentReader;
+        boolean remaining = reader.hasRemaining();
+        if (!isHistory && !remaining) {
+            recovered = true;
+        }
+        return remaining;
+    }
+
+    @Override
+    public GlobalSession readSession(String xid) {
+        throw new StoreException("unsupport for read from file, xid:" + xid);
+    }
+
+    @Override
+    public List<GlobalSession> readSession(SessionCondition sessionCondition) {
+        throw new StoreException("unsupport for read from file");
+    }
+
+    @Override
+    public void shutdown() {
+        stopping = true;
+        flushThread.interrupt();
+        checkpointExecutor.shutdown();
+        try {
+            checkpointExecutor.awaitTermination(MAX_WAIT_FOR_SHUTDOWN_MILLS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ignore) {
+        }
+        writeLock.lock();
+        try {
+            activeSegment.flush(Integer.MAX_VALUE);
+            activeSegment.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private long readCheckpointSegmentId() throws IOException {
+        if (!checkpointFile.exists()) {
+            return 0;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(checkpointFile, "r")) {
+            if (raf.length() < CHECKPOINT_HEADER_SIZE || raf.readInt() != CHECKPOINT_MAGIC) {
+                throw new StoreException("invalid session log checkpoint: " + checkpointFile);
+            }
+            return raf.readLong();
+        }
+    }
+
+    private List<Long> listSegmentIds() {
+        List<Long> segmentIds = new ArrayList<>();
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return segmentIds;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (name.startsWith(fileNamePrefix) && name.endsWith(SEGMENT_FILE_SUFFIX)) {
+                try {
+                    segmentIds.add(Long.parseLong(
+                        name.substring(fileNamePrefix.length(), name.length() - SEGMENT_FILE_SUFFIX.length())));
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        }
+        Collections.sort(segmentIds);
+        return segmentIds;
+    }
+
+    private void deleteSegmentsBefore(long segmentId, List<Long> segmentIds) {
+        for (Long id : segmentIds) {
+            if (id < segmentId && !segmentFile(id).delete()) {
+                LOGGER.warn("delete session log segment failed: {}", segmentFile(id));
+            }
+        }
+    }
+
+    /**
+     * Release the mapping of a buffer now instead of at its garbage collection, so the segments deleted free their
+     * disk space and the address space is not held by closed segments. The buffer must not be read after.
+     */
+    static void unmap(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            if (UNSAFE_INVOKE_CLEANER != null) {
+                UNSAFE_INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (Throwable t) {
+            // left to the garbage collection
+            LOGGER.debug("unmap session log buffer failed: {}", t.getMessage());
+        }
+    }
+
+    private File segmentFile(long segmentId) {
+        return new File(dir, fileNamePrefix + String.format("%020d", segmentId) + SEGMENT_FILE_SUFFIX);
+    }
+
+    /**
+     * A memory-mapped segment file, appended under the write lock.
+     */
+    class Segment {
+
+        private final long segmentId;
+
+        private final RandomAccessFile raf;
+
+        private final MappedByteBuffer mappedBuffer;
+
+        private final ByteBuffer writeBuffer;
+
+        private final Object flushLock = new Object();
+
+        private volatile int writePosition;
+
+        private int flushedPosition;
+
+        private boolean closed;
+
+        Segment(long segmentId, int size) throws IOException {
+            this.segmentId = segmentId;
+            this.raf = new RandomAccessFile(segmentFile(segmentId), "rw");
+            this.mappedBuffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+            this.writeBuffer = mappedBuffer.duplicate();
+        }
+
+        long getSegmentId() {
+            return segmentId;
+        }
+
+        boolean hasRoom(int dataLength) {
+            // keep room for the zero length that ends the segment
+            return writePosition + RECORD_HEADER_SIZE + dataLength + 4 <= mappedBuffer.capacity();
+        }
+
+        int append(ByteBuffer data, int checksum) {
+            int position = writePosition;
+            int length = data.remaining();
+            BufferUtils.position(writeBuffer, position + RECORD_HEADER_SIZE);
+            writeBuffer.put(data);
+            writeBuffer.putInt(position + 4, checksum);
+            // the length goes last, a reader stops at a zero length
+            writeBuffer.putInt(position, length);
+            writePosition = position + RECORD_HEADER_SIZE + length;
+            return writePosition;
+        }
+
+        /**
+         * Force the segment to disk unless another writer already flushed past the position.
+         */
+        void flush(int position) {
+            synchronized (flushLock) {
+                if (closed || flushedPosition >= Math.min(position, writePosition)) {
+                    return;
+                }
+                int flushing = writePosition;
+                mappedBuffer.force();
+                flushedPosition = flushing;
+            }
+        }
+
+        void close() {
+            // a writer or the flush thread may still flush the segment it read before the roll
+            synchronized (flushLock) {
+                closed = true;
+                unmap(mappedBuffer);
+            }
+            try {
+                raf.close();
+            } catch (IOException exx) {
+                LOGGER.error("close segment error, {}", exx.getMessage(), exx);
+            }
+        }
+    }
+
+    /**
+     * Reads the records of a list of files, one memory-mapped file at a time.
+     */
+    static class LogReader {
+
+        private final List<File> files;
+
+        private final int headerSize;
+
+        private int fileIndex = -1;
+
+        private ByteBuffer buffer;
+
+        private final CRC32 crc32 = new CRC32();
+
+        LogReader(List<File> files, int headerSize) {
+            this.files = files;
+            this.headerSize = headerSize;
+        }
+
+        boolean hasRemaining() {
+            while (buffer == null || !hasRecord()) {
+                // the records read were decoded into sessions, the file is not read again
+                if (buffer != null) {
+                    unmap(buffer);
+                    buffer = null;
+                }
+                if (fileIndex + 1 >= files.size()) {
+                    return false;
+                }
+                fileIndex++;
+                buffer = map(files.get(fileIndex));
+            }
+            return true;
+        }
+
+        List<TransactionWriteStore> read(int readSize) {
+            List<TransactionWriteStore> stores = new ArrayList<>(readSize);
+            while (stores.size() < readSize && hasRemaining()) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                ByteBuffer data = buffer.slice();
+                BufferUtils.limit(data, length);
+                crc32.reset();
+                crc32.update(data);
+                if ((int)crc32.getValue() != checksum) {
+                    LOGGER.error("checksum mismatch in {} at {}, skip the rest of the file", files.get(fileIndex),
+                        buffer.position() - RECORD_HEADER_SIZE);
+                    BufferUtils.position(buffer, buffer.limit());
+                    continue;
+                }
+                BufferUtils.position(buffer, buffer.position() + length);
+                // decode straight from the mapped segment
+                BufferUtils.rewind(data);
+                TransactionWriteStore writeStore = new TransactionWriteStore();
+                writeStore.decode(data);
+                stores.add(writeStore);
+            }
+            return stores;
+        }
+
+        private boolean hasRecord() {
+            if (buffer.remaining() < RECORD_HEADER_SIZE) {
+                return false;
+            }
+            int length = buffer.getInt(buffer.position());
+            return length > 0 && length <= buffer.remaining() - RECORD_HEADER_SIZE;
+        }
+
+        private ByteBuffer map(File file) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                long size = raf.length();
+                if (size > Integer.MAX_VALUE) {
+                    throw new StoreException("session log file too large to map: " + file);
+                }
+                ByteBuffer mapped = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size);
+                BufferUtils.position(mapped, Math.min(headerSize, (int)size));
+                return mapped;
+            } catch (IOException exx) {
+                throw new StoreException(exx, "map session log file failed: " + file);
+            }
+        }
+    }
+}
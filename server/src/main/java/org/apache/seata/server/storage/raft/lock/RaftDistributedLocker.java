@@ -20,6 +20,7 @@ import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.server.cluster.raft.RaftServerManager;
+import org.apache.seata.server.cluster.raft.context.SeataClusterContext;
 import org.apache.seata.core.store.DistributedLockDO;
 import org.apache.seata.core.store.DistributedLocker;
 import org.apache.seata.server.storage.redis.lock.RedisDistributedLocker;
@@ -40,14 +41,15 @@ public class RaftDistributedLocker implements DistributedLocker {
     private final String group = ConfigurationFactory.getInstance().getConfig(ConfigurationKeys.SERVER_RAFT_GROUP, DEFAULT_SEATA_GROUP);
 
     /**
-     * Acquire the distributed lock
+     * Acquire the distributed lock, held by the leader of the bound group or of the default group
      *
      * @param distributedLockDO distributedLockDO
      * @return boolean
      */
     @Override
     public boolean acquireLock(DistributedLockDO distributedLockDO) {
-        return RaftServerManager.isLeader(group);
+        String boundGroup = SeataClusterContext.getGroup();
+        return RaftServerManager.isLeader(boundGroup != null ? boundGroup : group);
     }
 
     /**
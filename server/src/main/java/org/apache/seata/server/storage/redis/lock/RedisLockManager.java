@@ -37,6 +37,7 @@ public class RedisLockManager extends AbstractLockManager implements Initialize
     @Override
     public void init() {
         locker = RedisLockerFactory.getLocker();
+        initLockCache();
     }
 
     @Override
@@ -46,6 +47,7 @@ public class RedisLockManager extends AbstractLockManager implements Initialize
 
     @Override
     public boolean releaseLock(BranchSession branchSession) throws TransactionException {
+        invalidateLockCache(branchSession);
         try {
             return getLocker().releaseLock(branchSession.getXid(), branchSession.getBranchId());
         } catch (Exception t) {
@@ -56,6 +58,7 @@ public class RedisLockManager extends AbstractLockManager implements Initialize
 
     @Override
     public boolean releaseGlobalSessionLock(GlobalSession globalSession) throws TransactionException {
+        invalidateLockCache(globalSession.getXid());
         try {
             return getLocker().releaseLock(globalSession.getXid());
         } catch (Exception t) {
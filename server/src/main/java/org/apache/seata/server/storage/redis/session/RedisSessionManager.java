@@ -17,6 +17,7 @@
 package org.apache.seata.server.storage.redis.session;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.seata.common.exception.StoreException;
@@ -140,6 +141,11 @@ public class RedisSessionManager extends AbstractSessionManager
         return transactionStoreManager.readSession(condition);
     }
 
+    @Override
+    public Iterator<List<GlobalSession>> findGlobalSessionPages(SessionCondition condition, int pageSize) {
+        return transactionStoreManager.readSessionPages(condition, pageSize);
+    }
+
     @Override
     public <T> T lockAndExecute(GlobalSession globalSession, GlobalSession.LockCallable<T> lockCallable)
         throws TransactionException {
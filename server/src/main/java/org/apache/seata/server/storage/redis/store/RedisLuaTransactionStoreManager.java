@@ -152,6 +152,7 @@ public class RedisLuaTransactionStoreManager extends RedisTransactionStoreManage
                 keys.add(entry.getKey());
                 args.add(entry.getValue());
             }
+            args.add(String.valueOf(now.getTime()));
             LuaParser.jedisEvalSha(jedis, luaSHA, INSERT_TRANSACTION_DO_LUA_FILE_NAME, keys, args);
             return true;
         } catch (Exception ex) {
@@ -258,6 +259,7 @@ public class RedisLuaTransactionStoreManager extends RedisTransactionStoreManage
             keys.add(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY);
             args.add(xid);
             args.add(String.valueOf(globalTransactionDO.getBeginTime() + globalTransactionDO.getTimeout()));
+            args.add(String.valueOf(now.getTime()));
             LuaParser.jedisEvalSha(jedis, luaSHA, INSERT_TRANSACTION_DO_LUA_FILE_NAME, keys, args);
             return true;
         } catch (Exception ex) {
@@ -321,6 +323,7 @@ public class RedisLuaTransactionStoreManager extends RedisTransactionStoreManage
                     add(String.valueOf(status));
                     add(String.valueOf((new Date()).getTime()));
                     add(xid);
+                    add(REDIS_SEATA_STATUS_SET_PREFIX);
                 }
             };
             String result = (String)LuaParser.jedisEvalSha(jedis, luaSHA, UPDATE_GLOBAL_TRANSACTION_DO_LUA_FILE_NAME, keys, args);
@@ -32,6 +32,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
 import org.apache.seata.common.XID;
 import org.apache.seata.common.exception.RedisException;
 import org.apache.seata.common.exception.StoreException;
@@ -50,6 +51,7 @@ import org.apache.seata.server.session.SessionStatusValidator;
 import org.apache.seata.server.storage.SessionConverter;
 import org.apache.seata.server.storage.redis.JedisPooledFactory;
 import org.apache.seata.server.store.AbstractTransactionStoreManager;
+import org.apache.seata.server.store.SessionPageIterator;
 import org.apache.seata.server.store.SessionStorable;
 import org.apache.seata.server.store.TransactionStoreManager;
 
@@ -58,6 +60,7 @@ import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Transaction;
+import redis.clients.jedis.Tuple;
 
 import static org.apache.seata.common.ConfigurationKeys.STORE_REDIS_QUERY_LIMIT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_QUERY_LIMIT;
@@ -78,10 +81,15 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisTransactionStoreManager.class);
 
     /**
-     * the prefix of the branch transactions
+     * the prefix of the branch transaction lists of older versions, migrated to the branch sets on startup
      */
     private static final String REDIS_SEATA_BRANCHES_PREFIX = "SEATA_BRANCHES_";
 
+    /**
+     * the prefix of the branch transactions, a sorted set of the branch keys scored by creation time
+     */
+    private static final String REDIS_SEATA_BRANCH_SET_PREFIX = "SEATA_BRANCH_SET_";
+
     /**
      * the prefix of the branch transaction
      */
@@ -93,10 +101,16 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
     private static final String REDIS_SEATA_GLOBAL_PREFIX = "SEATA_GLOBAL_";
 
     /**
-     * the prefix of the global transaction status
+     * the prefix of the global transaction status lists of older versions, migrated to the status sets on startup
      */
     private static final String REDIS_SEATA_STATUS_PREFIX = "SEATA_STATUS_";
 
+    /**
+     * the prefix of the global transaction status, a sorted set of the xids scored by the time they got the status,
+     * so a session is removed from it in O(log(N)) instead of the O(N) of a list
+     */
+    protected static final String REDIS_SEATA_STATUS_SET_PREFIX = "SEATA_STATUS_SET_";
+
     /**the key of global transaction status for begin*/
     protected static final String REDIS_SEATA_BEGIN_TRANSACTIONS_KEY = "SEATA_BEGIN_TRANSACTIONS";
 
@@ -136,12 +150,48 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         initGlobalMap();
         initBranchMap();
         initLogQueryLimit();
+        migrateLegacyIndexes();
     }
 
     protected void initLogQueryLimit() {
         logQueryLimit = CONFIG.getInt(STORE_REDIS_QUERY_LIMIT, DEFAULT_QUERY_LIMIT);
     }
 
+    /**
+     * Move the status and branch lists written by older versions to the sorted sets.
+     * Every live branch belongs to a global session of a status list, so the branch lists are found from the xids.
+     * The migrated xids are scored by their position in the list, before any xid added since.
+     */
+    protected void migrateLegacyIndexes() {
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            for (GlobalStatus status : GlobalStatus.values()) {
+                String legacyKey = REDIS_SEATA_STATUS_PREFIX + status.getCode();
+                if (!jedis.exists(legacyKey)) {
+                    continue;
+                }
+                List<String> xids = lRange(jedis, legacyKey);
+                String statusKey = buildGlobalStatus(status.getCode());
+                for (int i = 0; i < xids.size(); i++) {
+                    String xid = xids.get(i);
+                    String legacyBranchListKey = REDIS_SEATA_BRANCHES_PREFIX + xid;
+                    List<String> branchKeys = lRange(jedis, legacyBranchListKey);
+                    try (Pipeline pipelined = jedis.pipelined()) {
+                        for (int j = 0; j < branchKeys.size(); j++) {
+                            pipelined.zadd(buildBranchListKeyByXid(xid), j, branchKeys.get(j));
+                        }
+                        pipelined.zadd(statusKey, i, xid);
+                        pipelined.del(legacyBranchListKey);
+                        pipelined.sync();
+                    }
+                }
+                jedis.del(legacyKey);
+                LOGGER.info("migrated {} global sessions of the status list: {}", xids.size(), legacyKey);
+            }
+        } catch (Exception ex) {
+            throw new RedisException(ex);
+        }
+    }
+
     /**
      * Map for LogOperation Global Operation
      */
@@ -203,7 +253,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             branchTransactionDO.setGmtCreate(now);
             branchTransactionDO.setGmtModified(now);
             pipelined.hmset(branchKey, BeanUtils.objectToMap(branchTransactionDO));
-            pipelined.rpush(branchListKey, branchKey);
+            pipelined.zadd(branchListKey, now.getTime(), branchKey);
             pipelined.sync();
             return true;
         } catch (Exception ex) {
@@ -226,7 +276,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
                 return true;
             }
             try (Pipeline pipelined = jedis.pipelined()) {
-                pipelined.lrem(branchListKey, 0, branchKey);
+                pipelined.zrem(branchListKey, branchKey);
                 pipelined.del(branchKey);
                 pipelined.sync();
             }
@@ -278,7 +328,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             globalTransactionDO.setGmtModified(now);
             pipelined.hmset(globalKey, BeanUtils.objectToMap(globalTransactionDO));
             String xid = globalTransactionDO.getXid();
-            pipelined.rpush(buildGlobalStatus(globalTransactionDO.getStatus()), xid);
+            pipelined.zadd(buildGlobalStatus(globalTransactionDO.getStatus()), now.getTime(), xid);
             pipelined.zadd(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY,
                 globalTransactionDO.getBeginTime() + globalTransactionDO.getTimeout(), globalKey);
             pipelined.sync();
@@ -292,7 +342,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      * Delete the global transaction.
      * It will operate two parts:
      * 1.delete the global session map
-     * 2.remove the xid from the global status list
+     * 2.remove the xid from the global status set
      * If the operate failed,the succeed operates will rollback
      *
      * @param globalTransactionDO
@@ -310,7 +360,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
                 return true;
             }
             try (Pipeline pipelined = jedis.pipelined()) {
-                pipelined.lrem(globalStatus, 0, globalTransactionDO.getXid());
+                pipelined.zrem(globalStatus, globalTransactionDO.getXid());
                 pipelined.del(globalKey);
                 if (GlobalStatus.Begin.getCode() == globalTransactionDO.getStatus()
                     || GlobalStatus.UnKnown.getCode() == globalTransactionDO.getStatus()) {
@@ -328,7 +378,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      * Update the global transaction.
      * It will update two parts:
      * 1.the global session map
-     * 2.the global status list
+     * 2.the global status set
      * If the update failed,the succeed operates will rollback
      *
      * @param globalTransactionDO
@@ -359,13 +409,14 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             }
 
             String previousGmtModified = statusAndGmtModified.get(1);
+            long now = System.currentTimeMillis();
             Transaction multi = jedis.multi();
             Map<String,String> map = new HashMap<>(2);
             map.put(REDIS_KEY_GLOBAL_STATUS,String.valueOf(globalTransactionDO.getStatus()));
-            map.put(REDIS_KEY_GLOBAL_GMT_MODIFIED,String.valueOf((new Date()).getTime()));
+            map.put(REDIS_KEY_GLOBAL_GMT_MODIFIED,String.valueOf(now));
             multi.hmset(globalKey, map);
-            multi.lrem(buildGlobalStatus(Integer.valueOf(previousStatus)), 0, xid);
-            multi.rpush(buildGlobalStatus(globalTransactionDO.getStatus()), xid);
+            multi.zrem(buildGlobalStatus(Integer.valueOf(previousStatus)), xid);
+            multi.zadd(buildGlobalStatus(globalTransactionDO.getStatus()), now, xid);
             multi.zrem(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, globalKey);
             List<Object> exec = multi.exec();
             if (CollectionUtils.isEmpty(exec)) {
@@ -374,9 +425,9 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
                 return true;
             }
             String hmset = exec.get(0).toString();
-            long lrem = (long) exec.get(1);
-            long rpush = (long) exec.get(2);
-            if (OK.equalsIgnoreCase(hmset) && lrem > 0 && rpush > 0) {
+            long zrem = (long) exec.get(1);
+            long zadd = (long) exec.get(2);
+            if (OK.equalsIgnoreCase(hmset) && zrem > 0 && zadd > 0) {
                 return true;
             } else {
                 // pipeline mode
@@ -393,11 +444,12 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
                         multi2.exec();
                     }
                 }
-                if (lrem > 0) {
-                    jedis.rpush(buildGlobalStatus(Integer.valueOf(previousStatus)), xid);
+                if (zrem > 0) {
+                    jedis.zadd(buildGlobalStatus(Integer.valueOf(previousStatus)),
+                        StringUtils.isNotEmpty(previousGmtModified) ? Long.parseLong(previousGmtModified) : now, xid);
                 }
-                if (rpush > 0) {
-                    jedis.lrem(buildGlobalStatus(status), 0, xid);
+                if (zadd > 0) {
+                    jedis.zrem(buildGlobalStatus(status), xid);
                 }
                 return false;
             }
@@ -561,6 +613,127 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         return null;
     }
 
+    /**
+     * Read the sessions of the statuses page by page, status after status, each in the order the sessions got it.
+     * The sessions getting one of the statuses after the pages were asked for are left to the next scan.
+     *
+     * @param sessionCondition the session condition
+     * @param pageSize         the max sessions of a page
+     * @return the iterator of the pages
+     */
+    @Override
+    public Iterator<List<GlobalSession>> readSessionPages(SessionCondition sessionCondition, int pageSize) {
+        if (CollectionUtils.isEmpty(sessionCondition.getStatuses())) {
+            return super.readSessionPages(sessionCondition, pageSize);
+        }
+        boolean withBranchSessions = !sessionCondition.isLazyLoadBranch();
+        double maxScore = System.currentTimeMillis();
+        List<String> statusKeys = convertStatusKeys(sessionCondition.getStatuses());
+        return Iterators.concat(Iterators.transform(statusKeys.iterator(),
+            statusKey -> new SessionPageIterator<Tuple, Double>(pageSize) {
+                @Override
+                protected List<Tuple> readRows(Double fromValue, String fromId, int limit) {
+                    try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+                        if (fromValue == null) {
+                            return new ArrayList<>(jedis.zrangeByScoreWithScores(statusKey, 0D, maxScore, 0, limit));
+                        }
+                        return readStatusMembersAfter(jedis, statusKey, fromValue, fromId, maxScore, limit);
+                    }
+                }
+
+                @Override
+                protected String getId(Tuple row) {
+                    return row.getElement();
+                }
+
+                @Override
+                protected Double getValue(Tuple row) {
+                    return row.getScore();
+                }
+
+                @Override
+                protected List<GlobalSession> toSessions(List<Tuple> rows) {
+                    return readSessions(rows.stream().map(Tuple::getElement).collect(Collectors.toList()),
+                        withBranchSessions);
+                }
+            }));
+    }
+
+    /**
+     * Read the members of a status set after a member, in the order of the set: by score, then by member.
+     *
+     * @param jedis      the jedis
+     * @param statusKey  the key of the status set
+     * @param fromScore  the score of the member to read after
+     * @param fromMember the member to read after
+     * @param maxScore   the max score, inclusive
+     * @param limit      the max members
+     * @return the members with their scores
+     */
+    private List<Tuple> readStatusMembersAfter(Jedis jedis, String statusKey, double fromScore, String fromMember,
+        double maxScore, int limit) {
+        List<Tuple> members = new ArrayList<>(limit);
+        Long rank = jedis.zrank(statusKey, fromMember);
+        if (rank != null) {
+            // the member is still in the set, the members after it follow its rank
+            for (Tuple member : jedis.zrangeWithScores(statusKey, rank + 1, rank + limit)) {
+                if (member.getScore() > maxScore) {
+                    break;
+                }
+                members.add(member);
+            }
+            return members;
+        }
+        // the member left the set, e.g. handled, read the members left with its score, then the greater scores
+        for (int offset = 0; members.size() < limit; offset += limit) {
+            Set<Tuple> ties = jedis.zrangeByScoreWithScores(statusKey, fromScore, fromScore, offset, limit);
+            for (Tuple member : ties) {
+                if (member.getElement().compareTo(fromMember) > 0 && members.size() < limit) {
+                    members.add(member);
+                }
+            }
+            if (ties.size() < limit) {
+                break;
+            }
+        }
+        if (members.size() < limit) {
+            members.addAll(jedis.zrangeByScoreWithScores(statusKey, "(" + fromScore, String.valueOf(maxScore), 0,
+                limit - members.size()));
+        }
+        return members;
+    }
+
+    /**
+     * Read the global sessions of the xids, in one round trip plus one per session for its branch sessions.
+     *
+     * @param xids               the xids
+     * @param withBranchSessions if read branch sessions
+     * @return the global sessions still existing
+     */
+    private List<GlobalSession> readSessions(List<String> xids, boolean withBranchSessions) {
+        List<GlobalSession> globalSessions = new ArrayList<>(xids.size());
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            List<Object> globalInfos;
+            try (Pipeline pipeline = jedis.pipelined()) {
+                for (String xid : xids) {
+                    pipeline.hgetAll(buildGlobalKeyByTransactionId(XID.getTransactionId(xid)));
+                }
+                globalInfos = pipeline.syncAndReturnAll();
+            }
+            for (Object globalInfo : globalInfos) {
+                if (CollectionUtils.isEmpty((Map<String, String>)globalInfo)) {
+                    continue;
+                }
+                GlobalTransactionDO globalTransactionDO =
+                    (GlobalTransactionDO)BeanUtils.mapToObject((Map<String, String>)globalInfo, GlobalTransactionDO.class);
+                List<BranchTransactionDO> branchTransactionDOs = withBranchSessions
+                    ? readBranchSessionByXid(jedis, globalTransactionDO.getXid()) : Collections.emptyList();
+                globalSessions.add(getGlobalSession(globalTransactionDO, branchTransactionDOs, withBranchSessions));
+            }
+        }
+        return globalSessions;
+    }
+
     /**
      * query GlobalSession by status with page
      *
@@ -578,7 +751,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         if (param.getStatus() != null) {
             String statusKey = buildGlobalStatus(GlobalStatus.get(param.getStatus()).getCode());
             try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
-                final List<String> xids = jedis.lrange(statusKey, start, end);
+                final Set<String> xids = jedis.zrange(statusKey, start, end);
                 xids.forEach(xid -> {
                     GlobalSession globalSession = this.readSession(xid, param.isWithBranch());
                     if (globalSession != null) {
@@ -646,7 +819,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
     private List<BranchTransactionDO> readBranchSessionByXid(Jedis jedis, String xid) {
         List<BranchTransactionDO> branchTransactionDOs = new ArrayList<>();
         String branchListKey = buildBranchListKeyByXid(xid);
-        List<String> branchKeys = lRange(jedis, branchListKey);
+        Set<String> branchKeys = jedis.zrange(branchListKey, 0, -1);
         if (CollectionUtils.isNotEmpty(branchKeys)) {
             try (Pipeline pipeline = jedis.pipelined()) {
                 branchKeys.stream().forEach(branchKey -> pipeline.hgetAll(branchKey));
@@ -733,7 +906,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         Map<String, Integer> resultMap = new LinkedHashMap<>();
         Map<String, Integer> keysMap = new HashMap<>(statusKeys.size());
         try (Jedis jedis = JedisPooledFactory.getJedisInstance(); Pipeline pipelined = jedis.pipelined()) {
-            statusKeys.forEach(key -> pipelined.llen(key));
+            statusKeys.forEach(key -> pipelined.zcard(key));
             List<Long> counts = (List) pipelined.syncAndReturnAll();
             for (int i = 0; i < counts.size(); i++) {
                 if (counts.get(i) > 0) {
@@ -763,7 +936,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             statusKeys.add(buildGlobalStatus(status.getCode()));
         }
         try (Jedis jedis = JedisPooledFactory.getJedisInstance(); Pipeline pipelined = jedis.pipelined()) {
-            statusKeys.stream().forEach(statusKey -> pipelined.llen(statusKey));
+            statusKeys.stream().forEach(statusKey -> pipelined.zcard(statusKey));
             List<Long> list = (List<Long>) (List) pipelined.syncAndReturnAll();
             if (list.size() > 0) {
                 total = list.stream().mapToLong(value -> value).sum();
@@ -809,9 +982,9 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
                 List<String> list;
                 if (end - start >= diffCount) {
                     long endNew = start + diffCount - 1;
-                    list = jedis.lrange(key, start, endNew);
+                    list = new ArrayList<>(jedis.zrange(key, start, endNew));
                 } else {
-                    list = jedis.lrange(key, start, end);
+                    list = new ArrayList<>(jedis.zrange(key, start, end));
                 }
 
                 if (list.size() > 0) {
@@ -831,7 +1004,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         List<List<String>> listList = new ArrayList<>();
         try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
             for (String key : targetMap.keySet()) {
-                final List<String> list = jedis.lrange(key, start, end);
+                final List<String> list = new ArrayList<>(jedis.zrange(key, start, end));
                 final long sum = listList.stream().mapToLong(List::size).sum();
                 if (list.size() > 0 && sum < totalCount) {
                     listList.add(list);
@@ -845,7 +1018,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
     }
 
     protected String buildBranchListKeyByXid(String xid) {
-        return REDIS_SEATA_BRANCHES_PREFIX + xid;
+        return REDIS_SEATA_BRANCH_SET_PREFIX + xid;
     }
 
     protected String buildGlobalKeyByTransactionId(Object transactionId) {
@@ -857,7 +1030,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
     }
 
     protected String buildGlobalStatus(Integer status) {
-        return REDIS_SEATA_STATUS_PREFIX + status;
+        return REDIS_SEATA_STATUS_SET_PREFIX + status;
     }
 
     /**
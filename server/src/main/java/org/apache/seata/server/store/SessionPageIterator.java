@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.store;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.seata.server.session.GlobalSession;
+
+/**
+ * Reads the global sessions of a store page by page, in the order of a sort value, e.g. the gmt modified, then of
+ * the xid.
+ * <p>
+ * Each page is read after the sort value and the xid of the last session returned. Unlike an offset, this cursor
+ * stays right when the sessions returned before leave the store or change status while the pages are handled, and
+ * the sessions sharing a sort value, e.g. the gmt modified of a second, are neither missed nor read twice. A page is
+ * only read when the iterator gets to it.
+ *
+ * @param <R> the type of the rows read from the store
+ * @param <V> the type of the sort value
+ */
+public abstract class SessionPageIterator<R, V> implements Iterator<List<GlobalSession>> {
+
+    private final int pageSize;
+
+    private V lastValue;
+
+    private String lastId;
+
+    private boolean exhausted;
+
+    private List<GlobalSession> nextPage;
+
+    /**
+     * Instantiates a new session page iterator.
+     *
+     * @param pageSize the max sessions of a page
+     */
+    protected SessionPageIterator(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Read the rows after a row, ordered by the sort value then the id.
+     *
+     * @param fromValue the sort value of the row, null to read from the first row
+     * @param fromId    the id of the row, exclusive, null to read from the first row
+     * @param limit     the max rows
+     * @return the rows
+     */
+    protected abstract List<R> readRows(V fromValue, String fromId, int limit);
+
+    /**
+     * Get the unique id of a row.
+     *
+     * @param row the row
+     * @return the id
+     */
+    protected abstract String getId(R row);
+
+    /**
+     * Get the sort value of a row.
+     *
+     * @param row the row
+     * @return the sort value
+     */
+    protected abstract V getValue(R row);
+
+    /**
+     * Convert the rows of a page to sessions, the rows removed meanwhile are left out.
+     *
+     * @param rows the rows
+     * @return the sessions
+     */
+    protected abstract List<GlobalSession> toSessions(List<R> rows);
+
+    @Override
+    public boolean hasNext() {
+        if (nextPage == null) {
+            nextPage = readNextPage();
+        }
+        return nextPage != null;
+    }
+
+    @Override
+    public List<GlobalSession> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<GlobalSession> page = nextPage;
+        nextPage = null;
+        return page;
+    }
+
+    private List<GlobalSession> readNextPage() {
+        while (!exhausted) {
+            List<R> rows = readRows(lastValue, lastId, pageSize);
+            // every row left was read
+            exhausted = rows.size() < pageSize;
+            if (rows.isEmpty()) {
+                break;
+            }
+            R lastRow = rows.get(rows.size() - 1);
+            lastValue = getValue(lastRow);
+            lastId = getId(lastRow);
+            List<GlobalSession> sessions = toSessions(rows);
+            if (!sessions.isEmpty()) {
+                return sessions;
+            }
+        }
+        return null;
+    }
+}
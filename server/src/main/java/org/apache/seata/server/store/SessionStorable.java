@@ -16,6 +16,8 @@
  */
 package org.apache.seata.server.store;
 
+import java.nio.ByteBuffer;
+
 /**
  * The interface Session storable.
  *
@@ -35,4 +37,24 @@ public interface SessionStorable {
      * @param src the src
      */
     void decode(byte[] src);
+
+    /**
+     * Encode into the buffer, starting at its position.
+     *
+     * @param dst the dst
+     */
+    default void encode(ByteBuffer dst) {
+        dst.put(encode());
+    }
+
+    /**
+     * Decode from the remaining bytes of the buffer.
+     *
+     * @param src the src
+     */
+    default void decode(ByteBuffer src) {
+        byte[] bytes = new byte[src.remaining()];
+        src.get(bytes);
+        decode(bytes);
+    }
 }
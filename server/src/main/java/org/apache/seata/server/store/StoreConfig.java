@@ -69,6 +69,31 @@ public class StoreConfig {
      */
     private static final int DEFAULT_WRITE_BUFFER_SIZE = 1024 * 16;
 
+    /**
+     * Default lock table of file/raft lock mode, "map" or "striped".
+     */
+    private static final String DEFAULT_FILE_LOCK_TABLE = "map";
+
+    /**
+     * Default group commit of the file store, off.
+     */
+    private static final boolean DEFAULT_FILE_GROUP_COMMIT = false;
+
+    /**
+     * Default segmented log of the file store, off.
+     */
+    private static final boolean DEFAULT_FILE_SEGMENTED_LOG = false;
+
+    /**
+     * Default 64mb.
+     */
+    private static final int DEFAULT_FILE_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Default checkpoint after every 4 new segments.
+     */
+    private static final int DEFAULT_FILE_CHECKPOINT_SEGMENTS = 4;
+
     public static int getMaxBranchSessionSize() {
         return CONFIGURATION.getInt(STORE_FILE_PREFIX + "maxBranchSessionSize", DEFAULT_MAX_BRANCH_SESSION_SIZE);
     }
@@ -81,6 +106,26 @@ public class StoreConfig {
         return CONFIGURATION.getInt(STORE_FILE_PREFIX + "fileWriteBufferCacheSize", DEFAULT_WRITE_BUFFER_SIZE);
     }
 
+    public static String getFileLockTable() {
+        return CONFIGURATION.getConfig(STORE_FILE_PREFIX + "lockTable", DEFAULT_FILE_LOCK_TABLE);
+    }
+
+    public static boolean isFileGroupCommit() {
+        return CONFIGURATION.getBoolean(STORE_FILE_PREFIX + "groupCommit", DEFAULT_FILE_GROUP_COMMIT);
+    }
+
+    public static boolean isFileSegmentedLog() {
+        return CONFIGURATION.getBoolean(STORE_FILE_PREFIX + "segmentedLog", DEFAULT_FILE_SEGMENTED_LOG);
+    }
+
+    public static int getFileSegmentSize() {
+        return CONFIGURATION.getInt(STORE_FILE_PREFIX + "segmentSize", DEFAULT_FILE_SEGMENT_SIZE);
+    }
+
+    public static int getFileCheckpointSegments() {
+        return CONFIGURATION.getInt(STORE_FILE_PREFIX + "checkpointSegments", DEFAULT_FILE_CHECKPOINT_SEGMENTS);
+    }
+
     public static FlushDiskMode getFlushDiskMode() {
         return FlushDiskMode.findDiskMode(CONFIGURATION.getConfig(STORE_FILE_PREFIX + "flushDiskMode"));
     }
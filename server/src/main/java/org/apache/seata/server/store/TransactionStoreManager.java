@@ -20,6 +20,8 @@ import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -79,6 +81,21 @@ public interface TransactionStoreManager {
      */
     List<GlobalSession> readSession(SessionCondition sessionCondition);
 
+    /**
+     * Read session by status list page by page. A page is only read when the iterator gets to it, so the memory
+     * used does not depend on how many sessions have the statuses.
+     * By default all the sessions are read at once, as one page.
+     *
+     * @param sessionCondition the session condition
+     * @param pageSize         the max sessions of a page
+     * @return the iterator of the pages
+     */
+    default Iterator<List<GlobalSession>> readSessionPages(SessionCondition sessionCondition, int pageSize) {
+        List<GlobalSession> sessions = readSession(sessionCondition);
+        return sessions == null || sessions.isEmpty() ? Collections.emptyIterator()
+            : Collections.singletonList(sessions).iterator();
+    }
+
     /**
      * Shutdown.
      */
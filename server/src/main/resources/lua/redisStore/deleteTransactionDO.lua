@@ -20,7 +20,7 @@
 
 -- param description
 -- KEYS[1] branchOrGlobalKey
--- KEYS[2] listKey
+-- KEYS[2] setKey: the branch set of the xid or the global status set
 -- KEYS[3] REDIS_KEY_BRANCH_XID/REDIS_KEY_GLOBAL_XID
 -- KEYS[4] REDIS_SEATA_BEGIN_TRANSACTIONS_KEY (only type is global)
 -- ARGV[1] type: global or branch
@@ -29,7 +29,7 @@
 
 -- init data
 local branchOrGlobalKey = KEYS[1];
-local listKey = KEYS[2];
+local setKey = KEYS[2];
 local redisKeyXID = KEYS[3];
 
 local type = ARGV[1];
@@ -42,13 +42,13 @@ then
 end
 
 if (type == 'branch') then
-    redis.call('LREM', listKey, 0, branchOrGlobalKey);
+    redis.call('ZREM', setKey, branchOrGlobalKey);
     redis.call('DEL', branchOrGlobalKey);
 elseif (type == 'global') then
     local xid = ARGV[2];
     local status = tonumber(ARGV[3]);
     local REDIS_SEATA_BEGIN_TRANSACTIONS_KEY = KEYS[4];
-    redis.call('LREM', listKey, 0, xid);
+    redis.call('ZREM', setKey, xid);
     redis.call('DEL', branchOrGlobalKey);
     -- GlobalStatus.Begin or GlobalStatus.UnKnown
     if (status == 1 or status == 0) then
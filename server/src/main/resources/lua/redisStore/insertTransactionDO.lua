@@ -20,18 +20,19 @@
 
 -- param description
 -- KEYS[1] branchOrGlobalKey
--- KEYS[2] listKey
+-- KEYS[2] setKey: the branch set of the xid or the global status set
 -- KEYS[3~-2] transactionDOMap.keys
 -- KEYS[-1] REDIS_SEATA_BEGIN_TRANSACTIONS_KEY (only type is global)
 -- ARGV[1] type: global or branch
 -- ARGV[2] transactionDOMap.size()
 -- ARGV[3~-2] transactionDOMap.values
--- ARGV[-2] xid (only type is global)
--- ARGV[-1] beginTime+timeout (only type is global)
+-- ARGV[-3] xid (only type is global)
+-- ARGV[-2] beginTime+timeout (only type is global)
+-- ARGV[-1] gmtCreate: the score in the set
 
 -- init data
 local branchOrGlobalKey = KEYS[1];
-local listKey = KEYS[2];
+local setKey = KEYS[2];
 
 local type = ARGV[1];
 local keySize = tonumber(ARGV[2]);
@@ -41,10 +42,10 @@ for i = 1, keySize do
 end
 
 if type == 'branch' then
-    redis.call('RPUSH', listKey, branchOrGlobalKey);
+    redis.call('ZADD', setKey, ARGV[keySize + 3], branchOrGlobalKey);
 elseif type == 'global' then
     local REDIS_SEATA_BEGIN_TRANSACTIONS_KEY = KEYS[keySize + 3];
-    redis.call('RPUSH', listKey, ARGV[keySize + 3]);
+    redis.call('ZADD', setKey, ARGV[keySize + 5], ARGV[keySize + 3]);
     redis.call('ZADD', REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, ARGV[keySize + 4], branchOrGlobalKey)
 end
 
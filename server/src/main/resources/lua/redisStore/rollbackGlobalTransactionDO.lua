@@ -28,8 +28,9 @@
 -- ARGV[2] previousGmtModified
 -- ARGV[3] xid
 -- ARGV[4] hmset
--- ARGV[5] lrem
--- ARGV[6] rpush
+-- ARGV[5] zrem
+-- ARGV[6] zadd
+-- ARGV[7] status set key prefix
 
 -- init data
 local globalKey = KEYS[1];
@@ -41,8 +42,9 @@ local previousStatus = ARGV[1];
 local previousGmtModified = ARGV[2];
 local xid = ARGV[3];
 local hmset = ARGV[4];
-local lrem = ARGV[5];
-local rpush = ARGV[6];
+local zrem = ARGV[5];
+local zadd = ARGV[6];
+local statusKeyPrefix = ARGV[7];
 
 if string.upper(hmset) == "OK" then
     local xid2 = redis.call('HGET', globalKey, REDIS_KEY_GLOBAL_XID);
@@ -51,10 +53,10 @@ if string.upper(hmset) == "OK" then
     end
 end
 
-if tonumber(lrem) > 0 then
-    redis.call('RPUSH', 'SEATA_STATUS_' .. previousStatus, xid);
+if tonumber(zrem) > 0 then
+    redis.call('ZADD', statusKeyPrefix .. previousStatus, previousGmtModified, xid);
 end
 
-if tonumber(rpush) then
-    redis.call('LREM', 'SEATA_STATUS_' .. status, 0, xid);
+if tonumber(zadd) > 0 then
+    redis.call('ZREM', statusKeyPrefix .. status, xid);
 end
\ No newline at end of file
@@ -26,6 +26,7 @@
 -- ARGV[1] status
 -- ARGV[2] nowTime
 -- ARGV[3] xid
+-- ARGV[4] status set key prefix
 
 -- init data
 local globalKey = KEYS[1];
@@ -36,6 +37,7 @@ local REDIS_SEATA_BEGIN_TRANSACTIONS_KEY = KEYS[4];
 local status = ARGV[1];
 local nowTime = ARGV[2];
 local xid = ARGV[3];
+local statusKeyPrefix = ARGV[4];
 
 local result = {};
 
@@ -100,8 +102,8 @@ end
 
 local data = {};
 data[1] = redis.call('HMSET', globalKey, REDIS_KEY_GLOBAL_STATUS, status, REDIS_KEY_GLOBAL_GMT_MODIFIED, nowTime)['ok'];
-data[2] = tostring(redis.call('LREM', 'SEATA_STATUS_' .. previousStatus, 0, xid));
-data[3] = tostring(redis.call('RPUSH', 'SEATA_STATUS_' .. status, xid));
+data[2] = tostring(redis.call('ZREM', statusKeyPrefix .. previousStatus, xid));
+data[3] = tostring(redis.call('ZADD', statusKeyPrefix .. status, nowTime, xid));
 data[4] = tostring(redis.call('ZREM', REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, globalKey));
 data[5] = previousStatus;
 data[6] = previousGmtModified;
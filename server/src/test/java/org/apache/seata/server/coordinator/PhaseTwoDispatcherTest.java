@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.BranchSessionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * The type Phase two dispatcher test.
+ */
+@SpringBootTest
+public class PhaseTwoDispatcherTest {
+
+    private static final int RESOURCES = 4;
+
+    private static final int BRANCHES_PER_RESOURCE = 5;
+
+    private PhaseTwoDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        dispatcher = new PhaseTwoDispatcher(RESOURCES, 16);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void parallelByResourceTest() throws TransactionException {
+        List<BranchSession> branches = newBranches();
+        Map<String, List<Long>> handled = new ConcurrentHashMap<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        // every resource group waits until all of them started, so they must run at the same time
+        CountDownLatch started = new CountDownLatch(RESOURCES);
+        Boolean result = dispatcher.dispatch(branches, branchSession -> {
+            List<Long> ids = handled.computeIfAbsent(branchSession.getResourceId(),
+                k -> Collections.synchronizedList(new ArrayList<>()));
+            if (ids.isEmpty()) {
+                started.countDown();
+                await(started);
+            }
+            ids.add(branchSession.getBranchId());
+            threads.add(Thread.currentThread().getName());
+            return BranchSessionHandler.CONTINUE;
+        }, true, null);
+        Assertions.assertNull(result);
+        Assertions.assertEquals(RESOURCES, handled.size());
+        Assertions.assertEquals(RESOURCES, threads.size());
+        // the given order is kept per resource
+        for (List<Long> ids : handled.values()) {
+            for (int i = 1; i < ids.size(); i++) {
+                Assertions.assertTrue(ids.get(i - 1) > ids.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void serialTest() throws TransactionException {
+        List<BranchSession> branches = newBranches();
+        List<Long> handled = new ArrayList<>();
+        Boolean result = dispatcher.dispatch(branches, branchSession -> {
+            handled.add(branchSession.getBranchId());
+            return handled.size() == 3 ? Boolean.FALSE : BranchSessionHandler.CONTINUE;
+        }, false, null);
+        Assertions.assertEquals(Boolean.FALSE, result);
+        Assertions.assertEquals(3, handled.size());
+    }
+
+    @Test
+    public void waitForAllGroupsTest() throws TransactionException {
+        List<BranchSession> branches = newBranches();
+        Set<Long> handled = ConcurrentHashMap.newKeySet();
+        String firstResource = branches.get(0).getResourceId();
+        Boolean result = dispatcher.dispatch(branches, branchSession -> {
+            if (!branchSession.getResourceId().equals(firstResource)) {
+                sleep();
+            }
+            handled.add(branchSession.getBranchId());
+            return branchSession.getResourceId().equals(firstResource) ? Boolean.FALSE : BranchSessionHandler.CONTINUE;
+        }, true, null);
+        Assertions.assertEquals(Boolean.FALSE, result);
+        // the first group stopped after its first branch, the others were all handled before returning
+        Assertions.assertEquals(1 + (RESOURCES - 1) * BRANCHES_PER_RESOURCE, handled.size());
+    }
+
+    @Test
+    public void exceptionTest() {
+        List<BranchSession> branches = newBranches();
+        String lastResource = branches.get(branches.size() - 1).getResourceId();
+        Assertions.assertThrows(TransactionException.class, () -> dispatcher.dispatch(branches, branchSession -> {
+            if (branchSession.getResourceId().equals(lastResource)) {
+                throw new TransactionException("rm unreachable");
+            }
+            return BranchSessionHandler.CONTINUE;
+        }, true, null));
+    }
+
+    private static List<BranchSession> newBranches() {
+        List<BranchSession> branches = new ArrayList<>();
+        long branchId = RESOURCES * BRANCHES_PER_RESOURCE;
+        // reverse sorted, as for a rollback
+        for (int i = 0; i < BRANCHES_PER_RESOURCE; i++) {
+            for (int r = 0; r < RESOURCES; r++) {
+                BranchSession branchSession = new BranchSession(BranchType.AT);
+                branchSession.setBranchId(branchId--);
+                branchSession.setResourceId("jdbc:mysql://127.0.0.1:3306/db" + r);
+                branches.add(branchSession);
+            }
+        }
+        return branches;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.apache.seata.common.DefaultValues.DEFAULT_TX_GROUP;
+
+/**
+ * The type Phase two scheduler test.
+ */
+@SpringBootTest
+public class PhaseTwoSchedulerTest {
+
+    private static final String RESOURCE_ID = "jdbc:mysql://127.0.0.1:3306/seata";
+
+    @Test
+    public void dispatchTest() {
+        PhaseTwoScheduler scheduler = new PhaseTwoScheduler("DispatchTest", 4, 2, 0);
+        try {
+            List<GlobalSession> sessions = newSessions(100);
+            Map<String, String> handledBy = new ConcurrentHashMap<>();
+            scheduler.dispatch(sessions, globalSession ->
+                handledBy.put(globalSession.getXid(), Thread.currentThread().getName()));
+            Assertions.assertEquals(sessions.size(), handledBy.size());
+            Assertions.assertEquals(sessions.size(), scheduler.getDrainedCount());
+            Assertions.assertEquals(0, scheduler.getPendingCount());
+
+            // the same session goes to the same worker unless its queue is full
+            GlobalSession globalSession = sessions.get(0);
+            List<GlobalSession> single = new ArrayList<>();
+            single.add(globalSession);
+            Map<String, String> again = new ConcurrentHashMap<>();
+            scheduler.dispatch(single, session -> again.put(session.getXid(), Thread.currentThread().getName()));
+            Assertions.assertEquals(handledBy.get(globalSession.getXid()), again.get(globalSession.getXid()));
+        } finally {
+            scheduler.shutdown(1000);
+        }
+    }
+
+    @Test
+    public void resourceConcurrencyLimitTest() throws InterruptedException {
+        PhaseTwoScheduler scheduler = new PhaseTwoScheduler("LimitTest", 4, 100, 1);
+        try {
+            List<GlobalSession> sessions = newSessions(32);
+            GlobalSession holder = sessions.get(0);
+            // keep the others off the worker blocked by the holder
+            List<GlobalSession> others = new ArrayList<>();
+            for (GlobalSession globalSession : sessions) {
+                if (workerIndex(globalSession) != workerIndex(holder)) {
+                    others.add(globalSession);
+                }
+            }
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread dispatcher = new Thread(() -> scheduler.dispatch(sessions.subList(0, 1), globalSession -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ignore) {
+                }
+            }));
+            dispatcher.start();
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // the only permit of the resource is held, the others are deferred
+            scheduler.dispatch(others, globalSession -> Assertions.fail());
+            Assertions.assertEquals(others.size(), scheduler.getDeferredCount());
+
+            release.countDown();
+            dispatcher.join(5000);
+            scheduler.dispatch(others, globalSession -> { });
+            Assertions.assertEquals(others.size() + 1, scheduler.getDrainedCount());
+        } finally {
+            scheduler.shutdown(1000);
+        }
+    }
+
+    private static int workerIndex(GlobalSession globalSession) {
+        return (globalSession.getXid().hashCode() & Integer.MAX_VALUE) % 4;
+    }
+
+    private static List<GlobalSession> newSessions(int size) {
+        List<GlobalSession> sessions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            GlobalSession globalSession = new GlobalSession("demo-app", DEFAULT_TX_GROUP, "test", 60000);
+            BranchSession branchSession = SessionHelper.newBranchByGlobal(globalSession, BranchType.AT, RESOURCE_ID,
+                null, "t_order:" + i, "c1");
+            globalSession.getBranchSessions().add(branchSession);
+            sessions.add(globalSession);
+        }
+        return sessions;
+    }
+}
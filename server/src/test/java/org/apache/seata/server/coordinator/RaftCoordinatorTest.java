@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
+import org.apache.seata.common.ConfigurationKeys;
+import org.apache.seata.config.ConfigurationCache;
+import org.apache.seata.core.exception.AbstractExceptionHandler.AbstractCallback;
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.AbstractTransactionRequest;
+import org.apache.seata.core.protocol.transaction.AbstractTransactionResponse;
+import org.apache.seata.core.protocol.transaction.GlobalCommitRequest;
+import org.apache.seata.core.protocol.transaction.GlobalCommitResponse;
+import org.apache.seata.core.protocol.transaction.GlobalStatusRequest;
+import org.apache.seata.core.protocol.transaction.GlobalStatusResponse;
+import org.apache.seata.server.cluster.raft.RaftServer;
+import org.apache.seata.server.cluster.raft.RaftServerManager;
+import org.apache.seata.server.cluster.raft.context.SeataClusterContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * The follower read of the raft coordinator.
+ */
+@SpringBootTest
+public class RaftCoordinatorTest {
+
+    private static final String GROUP = "followerReadGroup";
+
+    private static RaftCoordinator coordinator;
+
+    @BeforeAll
+    public static void setUp(ApplicationContext context) {
+        System.setProperty(ConfigurationKeys.SERVER_RAFT_FOLLOWER_READ, "true");
+        System.setProperty(ConfigurationKeys.RPC_TC_REQUEST_TIMEOUT, "200");
+        ConfigurationCache.clear();
+        coordinator = new RaftCoordinator(new DefaultCoordinatorTest.MockServerMessageSender());
+    }
+
+    @AfterAll
+    public static void destroy() {
+        System.clearProperty(ConfigurationKeys.SERVER_RAFT_FOLLOWER_READ);
+        System.clearProperty(ConfigurationKeys.RPC_TC_REQUEST_TIMEOUT);
+        ConfigurationCache.clear();
+    }
+
+    @Test
+    public void testFollowerReadAfterReadIndex() {
+        Node node = Mockito.mock(Node.class);
+        Mockito.doAnswer(invocation -> {
+            invocation.<ReadIndexClosure>getArgument(1).run(Status.OK(), 1, null);
+            return null;
+        }).when(node).readIndex(Mockito.any(), Mockito.any());
+        GlobalStatusResponse response = new GlobalStatusResponse();
+        AtomicBoolean executed = new AtomicBoolean();
+        handle(node, new GlobalStatusRequest(), response, executed);
+        Assertions.assertTrue(executed.get());
+        Assertions.assertEquals(ResultCode.Success, response.getResultCode());
+    }
+
+    @Test
+    public void testFollowerReadTimesOutWithoutReadIndex() {
+        // the leader never answers the read index
+        Node node = Mockito.mock(Node.class);
+        GlobalStatusResponse response = new GlobalStatusResponse();
+        AtomicBoolean executed = new AtomicBoolean();
+        long start = System.currentTimeMillis();
+        handle(node, new GlobalStatusRequest(), response, executed);
+        Assertions.assertTrue(System.currentTimeMillis() - start < 10000);
+        Assertions.assertFalse(executed.get());
+        Assertions.assertEquals(ResultCode.Failed, response.getResultCode());
+        Assertions.assertEquals(TransactionExceptionCode.NotRaftLeader, response.getTransactionExceptionCode());
+    }
+
+    @Test
+    public void testFollowerRejectsWrite() {
+        Node node = Mockito.mock(Node.class);
+        GlobalCommitResponse response = new GlobalCommitResponse();
+        AtomicBoolean executed = new AtomicBoolean();
+        handle(node, new GlobalCommitRequest(), response, executed);
+        Assertions.assertFalse(executed.get());
+        Assertions.assertEquals(TransactionExceptionCode.NotRaftLeader, response.getTransactionExceptionCode());
+        Mockito.verify(node, Mockito.never()).readIndex(Mockito.any(), Mockito.any());
+    }
+
+    private static <T extends AbstractTransactionRequest, S extends AbstractTransactionResponse> void handle(Node node,
+        T request, S response, AtomicBoolean executed) {
+        RaftServer raftServer = Mockito.mock(RaftServer.class);
+        Mockito.when(raftServer.getNode()).thenReturn(node);
+        try (MockedStatic<RaftServerManager> raftServerManager = Mockito.mockStatic(RaftServerManager.class)) {
+            raftServerManager.when(() -> RaftServerManager.getRaftServer(GROUP)).thenReturn(raftServer);
+            SeataClusterContext.bindGroup(GROUP);
+            coordinator.exceptionHandleTemplate(new AbstractCallback<T, S>() {
+                @Override
+                public void execute(T request, S response) throws TransactionException {
+                    executed.set(true);
+                }
+            }, request, response);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.seata.core.lock.RowLock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Lock cache test.
+ */
+public class LockCacheTest {
+
+    private static final String XID_1 = "127.0.0.1:8091:1";
+
+    private static final String XID_2 = "127.0.0.1:8091:2";
+
+    @Test
+    public void testReentrantAndConflict() {
+        LockCache lockCache = new LockCache(100, 60_000);
+        Assertions.assertNull(lockCache.check(newLocks(XID_1, 10L, "1", "2")));
+        lockCache.put(newLocks(XID_1, 10L, "1", "2"));
+
+        // held by the same transaction
+        Assertions.assertEquals(Boolean.TRUE, lockCache.check(newLocks(XID_1, 11L, "1")));
+        // held by another transaction
+        Assertions.assertEquals(Boolean.FALSE, lockCache.check(newLocks(XID_2, 20L, "3", "2")));
+        // partly cached, the lock store decides
+        Assertions.assertNull(lockCache.check(newLocks(XID_1, 11L, "1", "3")));
+        Assertions.assertEquals(2, lockCache.getHitCount());
+        Assertions.assertEquals(2, lockCache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        LockCache lockCache = new LockCache(100, 60_000);
+        lockCache.put(newLocks(XID_1, 10L, "1"));
+        lockCache.put(newLocks(XID_1, 11L, "1", "2"));
+        lockCache.put(newLocks(XID_2, 20L, "3"));
+
+        // the first branch keeps the row it acquired first
+        lockCache.invalidate(XID_1, 11L);
+        Assertions.assertEquals(Boolean.FALSE, lockCache.check(newLocks(XID_2, 21L, "1")));
+        Assertions.assertNull(lockCache.check(newLocks(XID_2, 21L, "2")));
+
+        lockCache.invalidate(XID_1);
+        Assertions.assertNull(lockCache.check(newLocks(XID_2, 21L, "1")));
+        Assertions.assertEquals(1, lockCache.size());
+
+        lockCache.clear();
+        Assertions.assertEquals(0, lockCache.size());
+    }
+
+    @Test
+    public void testExpireAndMaxSize() throws InterruptedException {
+        LockCache lockCache = new LockCache(2, 50);
+        lockCache.put(newLocks(XID_1, 10L, "1", "2"));
+        // full
+        lockCache.put(newLocks(XID_2, 20L, "3"));
+        Assertions.assertEquals(2, lockCache.size());
+        Assertions.assertNull(lockCache.check(newLocks(XID_1, 11L, "3")));
+
+        Thread.sleep(100);
+        Assertions.assertNull(lockCache.check(newLocks(XID_2, 21L, "1")));
+        // the expired rows are purged to make room
+        lockCache.put(newLocks(XID_2, 20L, "3", "4"));
+        Assertions.assertEquals(2, lockCache.size());
+        Assertions.assertEquals(Boolean.FALSE, lockCache.check(newLocks(XID_1, 11L, "3")));
+    }
+
+    private static List<RowLock> newLocks(String xid, Long branchId, String... pks) {
+        List<RowLock> locks = new ArrayList<>();
+        for (String pk : Arrays.asList(pks)) {
+            RowLock rowLock = new RowLock();
+            rowLock.setXid(xid);
+            rowLock.setBranchId(branchId);
+            rowLock.setResourceId("jdbc:mysql://127.0.0.1:3306/seata");
+            rowLock.setTableName("t");
+            rowLock.setPk(pk);
+            locks.add(rowLock);
+        }
+        return locks;
+    }
+}
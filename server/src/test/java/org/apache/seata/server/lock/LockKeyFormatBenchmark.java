@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.seata.common.holder.ObjectHolder;
+import org.apache.seata.core.compressor.CompressorType;
+import org.apache.seata.core.lock.LockKeyCodec;
+import org.apache.seata.core.lock.Locker;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.protocol.ProtocolConstants;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
+import org.apache.seata.core.rpc.netty.v1.ProtocolV1Decoder;
+import org.apache.seata.core.rpc.netty.v1.ProtocolV1Encoder;
+import org.apache.seata.core.serializer.SerializerType;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.apache.seata.common.Constants.OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT;
+
+/**
+ * The lock keys of a branch from the text the RM builds to the row locks of the TC, in the text or the binary
+ * format: the RM encodes the text to binary, the request is written to a frame and read back, and the TC collects
+ * the row locks. Run it with {@code -prof gc} to compare the bytes allocated per branch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LockKeyFormatBenchmark {
+
+    private static final String XID = "192.168.0.1:8091:2000042948";
+
+    private static final String RESOURCE_ID = "jdbc:mysql://127.0.0.1:3306/seata_order";
+
+    static {
+        // the configuration is read through the spring environment, which is not started here
+        ObjectHolder.INSTANCE.setObject(OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT, new StandardEnvironment());
+    }
+
+    /**
+     * the rows locked by the branch
+     */
+    @Param({"10", "1000"})
+    private int rows;
+
+    @Param({"text", "binary"})
+    private String format;
+
+    private final ProtocolV1Encoder encoder = new ProtocolV1Encoder();
+
+    private ProtocolV1Decoder decoder;
+
+    private final AbstractLockManager lockManager = new AbstractLockManager() {
+        @Override
+        protected Locker getLocker(BranchSession branchSession) {
+            return null;
+        }
+
+        @Override
+        public boolean releaseGlobalSessionLock(GlobalSession globalSession) {
+            return true;
+        }
+    };
+
+    private String lockKeys;
+
+    private ByteBuf frame;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        decoder = new ProtocolV1Decoder();
+        // as the AT executors build it, the rows of a table after the table name
+        StringBuilder sb = new StringBuilder("t_order:");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(100000000L + i);
+        }
+        lockKeys = sb.toString();
+        frame = PooledByteBufAllocator.DEFAULT.buffer(64 * 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        frame.release();
+    }
+
+    @Benchmark
+    public int registerBranch() {
+        BranchRegisterRequest request = new BranchRegisterRequest();
+        request.setXid(XID);
+        request.setBranchType(BranchType.AT);
+        request.setResourceId(RESOURCE_ID);
+        request.setLockKey(lockKeys);
+        if ("binary".equals(format)) {
+            request.setBinaryLockKey(LockKeyCodec.encode(lockKeys));
+        }
+        RpcMessage rpcMessage = new RpcMessage();
+        rpcMessage.setId(1);
+        rpcMessage.setMessageType(ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
+        rpcMessage.setCodec(SerializerType.SEATA.getCode());
+        rpcMessage.setCompressor(CompressorType.NONE.getCode());
+        rpcMessage.setBody(request);
+        frame.clear();
+        encoder.encode(null, rpcMessage, frame);
+
+        BranchRegisterRequest received = (BranchRegisterRequest)((RpcMessage)decoder.decodeFrame(frame)).getBody();
+        List<RowLock> rowLocks = received.getBinaryLockKey() != null
+            ? lockManager.collectRowLocks(received.getBinaryLockKey(), RESOURCE_ID, XID, 2000042948L, 1L)
+            : lockManager.collectRowLocks(received.getLockKey(), RESOURCE_ID, XID, 2000042948L, 1L);
+        return rowLocks.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(LockKeyFormatBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
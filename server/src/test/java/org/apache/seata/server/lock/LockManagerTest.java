@@ -18,10 +18,13 @@ package org.apache.seata.server.lock;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Resource;
@@ -29,6 +32,8 @@ import javax.annotation.Resource;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.console.result.PageResult;
 import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.lock.LockKeyCodec;
+import org.apache.seata.core.lock.RowLock;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.server.UUIDGenerator;
 import org.apache.seata.server.console.param.GlobalLockParam;
@@ -42,6 +47,7 @@ import org.apache.seata.server.session.SessionManager;
 import org.apache.seata.server.store.StoreConfig.SessionMode;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -95,6 +101,32 @@ public class LockManagerTest {
         Assertions.assertFalse(lockManager.acquireLock(branchSession2));
     }
 
+    /**
+     * A branch registered with the binary lock key locks the rows of its text.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void acquireLock_binaryLockKey() throws Exception {
+        BranchSession[] branchSessions = baseBranchSession("tb_binary", null, "t:2_a,3");
+        BranchSession binaryBranchSession = branchSessions[0];
+        binaryBranchSession.setBinaryLockKey(LockKeyCodec.encode("t:1,2_a;t1:1"));
+        LockManager lockManager = new FileLockManagerForTest();
+        try {
+            List<RowLock> rowLocks = lockManager.collectRowLocks(binaryBranchSession);
+            Assertions.assertEquals(Arrays.asList("t:1", "t:2_a", "t1:1"),
+                rowLocks.stream().map(rowLock -> rowLock.getTableName() + ":" + rowLock.getPk()).collect(Collectors.toList()));
+            Assertions.assertTrue(lockManager.acquireLock(binaryBranchSession));
+            Assertions.assertFalse(lockManager.acquireLock(branchSessions[1]));
+            // the text is built from the binary lock key when asked
+            Assertions.assertEquals("t:1,2_a;t1:1", binaryBranchSession.getLockKey());
+        } finally {
+            lockManager.releaseLock(binaryBranchSession);
+        }
+        Assertions.assertTrue(lockManager.acquireLock(branchSessions[1]));
+        lockManager.releaseLock(branchSessions[1]);
+    }
+
     /**
      * deadlock test.
      *
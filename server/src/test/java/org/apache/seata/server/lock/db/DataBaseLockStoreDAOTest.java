@@ -21,7 +21,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.seata.common.util.IOUtil;
 import org.apache.seata.core.store.LockDO;
@@ -278,6 +283,72 @@ public class DataBaseLockStoreDAOTest {
 
     }
 
+    @Test
+    public void test_batchAcquireLocks() throws Exception {
+        LockStoreDataBaseDAO batchLockStoreDAO = new LockStoreDataBaseDAO(dataSource);
+        batchLockStoreDAO.setDbType("h2");
+        batchLockStoreDAO.setLockTable("lock_table");
+        batchLockStoreDAO.enableLockBatch(16, 1);
+
+        int threads = 16;
+        int sharedRows = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        List<List<LockDO>> requests = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                // every request locks a row of its own and a row shared with three other requests
+                List<LockDO> lockDOs = Arrays.asList(newLock("batch-" + i, i, "batch-own-" + i),
+                    newLock("batch-" + i, i, "batch-shared-" + (i % sharedRows)));
+                requests.add(lockDOs);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return batchLockStoreDAO.acquireLock(lockDOs);
+                }));
+            }
+            start.countDown();
+            int acquired = 0;
+            for (int i = 0; i < threads; i++) {
+                boolean ret = results.get(i).get();
+                Assertions.assertEquals(ret, isLocked("batch-own-" + i, "batch-" + i));
+                if (ret) {
+                    acquired++;
+                    Assertions.assertTrue(isLocked("batch-shared-" + (i % sharedRows), "batch-" + i));
+                    // reentrant for the holder
+                    Assertions.assertTrue(batchLockStoreDAO.acquireLock(requests.get(i)));
+                }
+            }
+            Assertions.assertEquals(sharedRows, acquired);
+        } finally {
+            executor.shutdownNow();
+            for (List<LockDO> lockDOs : requests) {
+                dataBaseLockStoreDAO.unLock(lockDOs);
+            }
+        }
+    }
+
+    private static LockDO newLock(String xid, long branchId, String rowKey) {
+        LockDO lock = new LockDO();
+        lock.setResourceId("abc");
+        lock.setXid(xid);
+        lock.setTransactionId(branchId);
+        lock.setBranchId(branchId);
+        lock.setRowKey(rowKey);
+        lock.setPk(rowKey);
+        lock.setTableName("t");
+        return lock;
+    }
+
+    private static boolean isLocked(String rowKey, String xid) throws SQLException {
+        String sql = "select * from lock_table where row_key = '" + rowKey + "' and xid = '" + xid + "'";
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next();
+        }
+    }
+
     @AfterAll
     public static void clearStoreDB(){
         FileUtils.deleteRecursive("db_store", true);
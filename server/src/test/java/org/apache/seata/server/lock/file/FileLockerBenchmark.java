@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock.file;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.seata.common.XID;
+import org.apache.seata.common.holder.ObjectHolder;
+import org.apache.seata.core.lock.Locker;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.storage.file.lock.FileLocker;
+import org.apache.seata.server.storage.file.lock.StripedFileLocker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.apache.seata.common.Constants.OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT;
+
+/**
+ * Compares {@link FileLocker} with {@link StripedFileLocker}: every invocation locks and releases the rows of
+ * one branch, while the table already holds {@code heldRows} rows of other branches.
+ * Run with {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class FileLockerBenchmark {
+
+    private static final String RESOURCE_ID = "jdbc:mysql://127.0.0.1:3306/seata";
+
+    private static final AtomicLong TRANSACTION_ID = new AtomicLong(1);
+
+    static {
+        // the configuration is read through the spring environment, which is not started here
+        ObjectHolder.INSTANCE.setObject(OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT, new StandardEnvironment());
+    }
+
+    @Param({"map", "striped"})
+    private String lockTable;
+
+    @Param({"16"})
+    private int rowsPerBranch;
+
+    @Param({"100000"})
+    private int heldRows;
+
+    private Locker locker;
+
+    private List<RowLock> rowLocks;
+
+    private Locker backgroundLocker;
+
+    private List<RowLock> backgroundRowLocks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BranchSession background = newBranchSession();
+        backgroundLocker = newLocker(background);
+        backgroundRowLocks = newRowLocks(background, "t_background", heldRows / 4);
+        backgroundLocker.acquireLock(backgroundRowLocks);
+
+        BranchSession branchSession = newBranchSession();
+        locker = newLocker(branchSession);
+        rowLocks = newRowLocks(branchSession, "t_order", rowsPerBranch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        backgroundLocker.releaseLock(backgroundRowLocks);
+    }
+
+    @Benchmark
+    public boolean acquireAndRelease() {
+        boolean locked = locker.acquireLock(rowLocks);
+        locker.releaseLock(rowLocks);
+        return locked;
+    }
+
+    private Locker newLocker(BranchSession branchSession) {
+        return "striped".equals(lockTable) ? new StripedFileLocker(branchSession) : new FileLocker(branchSession);
+    }
+
+    private static BranchSession newBranchSession() {
+        long transactionId = TRANSACTION_ID.getAndIncrement();
+        BranchSession branchSession = new BranchSession(BranchType.AT);
+        branchSession.setXid(XID.generateXID(transactionId));
+        branchSession.setTransactionId(transactionId);
+        branchSession.setBranchId(transactionId);
+        branchSession.setResourceId(RESOURCE_ID);
+        return branchSession;
+    }
+
+    private static List<RowLock> newRowLocks(BranchSession branchSession, String tableName, int rows) {
+        List<RowLock> rowLocks = new ArrayList<>(rows);
+        long base = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE >> 1);
+        for (int i = 0; i < rows; i++) {
+            RowLock rowLock = new RowLock();
+            rowLock.setXid(branchSession.getXid());
+            rowLock.setTransactionId(branchSession.getTransactionId());
+            rowLock.setBranchId(branchSession.getBranchId());
+            rowLock.setResourceId(RESOURCE_ID);
+            rowLock.setTableName(tableName);
+            rowLock.setPk(String.valueOf(base + i));
+            rowLocks.add(rowLock);
+        }
+        return rowLocks;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(FileLockerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
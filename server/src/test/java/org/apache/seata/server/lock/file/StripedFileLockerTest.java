@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock.file;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.seata.common.XID;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.UUIDGenerator;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.storage.file.lock.StripedFileLocker;
+import org.apache.seata.server.storage.file.lock.StripedRowLockTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.apache.seata.common.DefaultValues.DEFAULT_TX_GROUP;
+
+/**
+ * The type Striped file locker test.
+ */
+@SpringBootTest
+public class StripedFileLockerTest {
+
+    private static final String RESOURCE_ID = "jdbc:mysql://127.0.0.1:3306/seata";
+
+    @AfterEach
+    public void cleanUp() {
+        new StripedFileLocker(null).cleanAllLocks();
+    }
+
+    @Test
+    public void acquireAndReleaseTest() {
+        BranchSession branchSession = newBranchSession(UUIDGenerator.generateUUID(), 1L, "t_order:1,2,3");
+        StripedFileLocker locker = new StripedFileLocker(branchSession);
+        List<RowLock> rowLocks = rowLocks(branchSession);
+
+        Assertions.assertTrue(locker.acquireLock(rowLocks));
+        Assertions.assertFalse(branchSession.getLockHolder().isEmpty());
+        // re-entrant
+        Assertions.assertTrue(locker.acquireLock(rowLocks));
+
+        BranchSession other = newBranchSession(UUIDGenerator.generateUUID(), 2L, "t_order:3");
+        Assertions.assertFalse(new StripedFileLocker(other).isLockable(rowLocks(other)));
+
+        Assertions.assertTrue(locker.releaseLock(rowLocks));
+        Assertions.assertTrue(branchSession.getLockHolder().isEmpty());
+        Assertions.assertTrue(new StripedFileLocker(other).isLockable(rowLocks(other)));
+    }
+
+    @Test
+    public void conflictTest() {
+        BranchSession holder = newBranchSession(UUIDGenerator.generateUUID(), 1L, "t_order:1");
+        Assertions.assertTrue(new StripedFileLocker(holder).acquireLock(rowLocks(holder)));
+
+        BranchSession other = newBranchSession(UUIDGenerator.generateUUID(), 2L, "t_order:1");
+        Assertions.assertFalse(new StripedFileLocker(other).acquireLock(rowLocks(other)));
+
+        // same global transaction, another branch
+        BranchSession sibling = newBranchSession(holder.getTransactionId(), 3L, "t_order:1");
+        Assertions.assertTrue(new StripedFileLocker(sibling).acquireLock(rowLocks(sibling)));
+
+        // rows are only released by the branch holding them
+        new StripedFileLocker(sibling).releaseLock(rowLocks(sibling));
+        Assertions.assertFalse(new StripedFileLocker(other).isLockable(rowLocks(other)));
+    }
+
+    @Test
+    public void lockTableGrowAndDeleteTest() {
+        StripedRowLockTable table = new StripedRowLockTable(1, 4);
+        BranchSession owner = newBranchSession(UUIDGenerator.generateUUID(), 1L, null);
+        long tableKey = table.tableKey(RESOURCE_ID, "t_order");
+        int rows = 10000;
+        for (int i = 0; i < rows; i++) {
+            Assertions.assertNull(table.lock(tableKey, String.valueOf(i), owner));
+        }
+        Assertions.assertEquals(rows, table.size());
+        for (int i = 0; i < rows; i += 2) {
+            Assertions.assertTrue(table.unlock(tableKey, String.valueOf(i), owner.getTransactionId(), owner.getBranchId()));
+        }
+        Assertions.assertEquals(rows / 2, table.size());
+        for (int i = 0; i < rows; i++) {
+            BranchSession lockOwner = table.lockOwner(tableKey, String.valueOf(i));
+            if (i % 2 == 0) {
+                Assertions.assertNull(lockOwner);
+            } else {
+                Assertions.assertSame(owner, lockOwner);
+            }
+        }
+        Assertions.assertFalse(table.unlock(tableKey, "1", owner.getTransactionId(), owner.getBranchId() + 1));
+        Assertions.assertEquals(StripedRowLockTable.ABSENT_TABLE_KEY, table.tableKeyIfPresent(RESOURCE_ID, "t_none"));
+        table.clear();
+        Assertions.assertEquals(0, table.size());
+    }
+
+    private static BranchSession newBranchSession(long transactionId, long branchId, String lockKey) {
+        BranchSession branchSession = new BranchSession(BranchType.AT);
+        branchSession.setXid(XID.generateXID(transactionId));
+        branchSession.setTransactionId(transactionId);
+        branchSession.setBranchId(branchId);
+        branchSession.setClientId("c1");
+        branchSession.setResourceGroupId(DEFAULT_TX_GROUP);
+        branchSession.setResourceId(RESOURCE_ID);
+        branchSession.setLockKey(lockKey);
+        return branchSession;
+    }
+
+    private static List<RowLock> rowLocks(BranchSession branchSession) {
+        List<RowLock> rowLocks = new ArrayList<>();
+        String lockKey = branchSession.getLockKey();
+        String tableName = lockKey.substring(0, lockKey.indexOf(':'));
+        for (String pk : lockKey.substring(lockKey.indexOf(':') + 1).split(",")) {
+            RowLock rowLock = new RowLock();
+            rowLock.setXid(branchSession.getXid());
+            rowLock.setTransactionId(branchSession.getTransactionId());
+            rowLock.setBranchId(branchSession.getBranchId());
+            rowLock.setResourceId(RESOURCE_ID);
+            rowLock.setTableName(tableName);
+            rowLock.setPk(pk);
+            rowLocks.add(rowLock);
+        }
+        return rowLocks;
+    }
+}
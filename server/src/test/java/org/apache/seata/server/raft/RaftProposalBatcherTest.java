@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.raft;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.entity.Task;
+import org.apache.seata.server.cluster.raft.RaftProposalBatcher;
+import org.apache.seata.server.cluster.raft.sync.RaftSyncMessageSerializer;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftBatchSyncMsg;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftGlobalSessionSyncMsg;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType;
+import org.apache.seata.server.cluster.raft.sync.msg.dto.GlobalTransactionDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ */
+public class RaftProposalBatcherTest {
+
+    @Test
+    public void testBatchProposals() throws InterruptedException {
+        List<Task> tasks = new CopyOnWriteArrayList<>();
+        CountDownLatch firstApplied = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Node node = Mockito.mock(Node.class);
+        Mockito.doAnswer(invocation -> {
+            tasks.add(invocation.getArgument(0));
+            if (tasks.size() == 1) {
+                // hold the first task, so the next proposals queue up behind it
+                firstApplied.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(node).apply(Mockito.any(Task.class));
+        RaftProposalBatcher batcher = new RaftProposalBatcher("default", node, 3);
+        AtomicInteger completed = new AtomicInteger();
+        try {
+            batcher.propose(newMsg("xid-0"), status -> completed.incrementAndGet());
+            Assertions.assertTrue(firstApplied.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i <= 4; i++) {
+                batcher.propose(newMsg("xid-" + i), status -> completed.incrementAndGet());
+            }
+            release.countDown();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (tasks.size() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            batcher.destroy();
+        }
+        Assertions.assertEquals(3, tasks.size());
+        // the lone first msg is proposed as is, the others go at most 3 in a task
+        Assertions.assertTrue(decode(tasks.get(0)) instanceof RaftGlobalSessionSyncMsg);
+        RaftBatchSyncMsg batch = (RaftBatchSyncMsg)decode(tasks.get(1));
+        Assertions.assertEquals(3, batch.getMsgs().size());
+        Assertions.assertEquals("xid-1",
+            ((RaftGlobalSessionSyncMsg)batch.getMsgs().get(0)).getGlobalSession().getXid());
+        Assertions.assertTrue(decode(tasks.get(2)) instanceof RaftGlobalSessionSyncMsg);
+
+        for (Task task : tasks) {
+            task.getDone().run(Status.OK());
+        }
+        Assertions.assertEquals(5, completed.get());
+    }
+
+    @Test
+    public void testProposeAfterDestroy() {
+        RaftProposalBatcher batcher = new RaftProposalBatcher("default", Mockito.mock(Node.class), 3);
+        batcher.destroy();
+        AtomicInteger failed = new AtomicInteger();
+        batcher.propose(newMsg("xid"), status -> {
+            if (!status.isOk()) {
+                failed.incrementAndGet();
+            }
+        });
+        Assertions.assertEquals(1, failed.get());
+    }
+
+    private static RaftGlobalSessionSyncMsg newMsg(String xid) {
+        return new RaftGlobalSessionSyncMsg(RaftSyncMsgType.UPDATE_GLOBAL_SESSION_STATUS, new GlobalTransactionDTO(xid));
+    }
+
+    private static Object decode(Task task) {
+        return RaftSyncMessageSerializer.decode(task.getData().array()).getBody();
+    }
+}
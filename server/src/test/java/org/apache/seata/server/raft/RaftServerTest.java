@@ -16,6 +16,9 @@
  */
 package org.apache.seata.server.raft;
 
+import com.alipay.sofa.jraft.conf.Configuration;
+import com.alipay.sofa.jraft.core.ElectionPriority;
+import com.alipay.sofa.jraft.entity.PeerId;
 import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.XID;
 import org.apache.seata.config.ConfigurationCache;
@@ -43,6 +46,9 @@ public class RaftServerTest {
     public void destroy() {
         System.setProperty("server.raftPort", "0");
         System.setProperty(ConfigurationKeys.SERVER_RAFT_SERVER_ADDR, "");
+        System.clearProperty(ConfigurationKeys.SERVER_RAFT_GROUPS);
+        System.clearProperty(ConfigurationKeys.SERVER_RAFT_GROUP_MAPPING_PREFIX + "tx_a");
+        System.clearProperty(ConfigurationKeys.SERVER_RAFT_GROUP_MAPPING_PREFIX + "tx_b");
         ConfigurationCache.clear();
         StoreConfig.setStartupParameter("file", "file", "file");
         LockerManagerFactory.destroy();
@@ -78,4 +84,49 @@ public class RaftServerTest {
         Assertions.assertThrows(IllegalArgumentException.class, RaftServerManager::init);
     }
 
+    @Test
+    public void initMultiGroupRaftServer() {
+        System.setProperty("server.raftPort", "9091");
+        System.setProperty(ConfigurationKeys.SERVER_RAFT_SERVER_ADDR,
+            XID.getIpAddress() + ":9091" + "," + XID.getIpAddress() + ":9092" + "," + XID.getIpAddress() + ":9093");
+        System.setProperty(ConfigurationKeys.SERVER_RAFT_GROUPS, "group1, group2,default");
+        System.setProperty(ConfigurationKeys.SERVER_RAFT_GROUP_MAPPING_PREFIX + "tx_a", "group1");
+        System.setProperty(ConfigurationKeys.SERVER_RAFT_GROUP_MAPPING_PREFIX + "tx_b", "group3");
+        StoreConfig.setStartupParameter("raft", "raft", "raft");
+        Assertions.assertDoesNotThrow(RaftServerManager::init);
+        Assertions.assertEquals(3, RaftServerManager.groups().size());
+        Assertions.assertNotNull(RaftServerManager.getRaftServer("default"));
+        Assertions.assertNotNull(RaftServerManager.getRaftServer("group1"));
+        Assertions.assertNotNull(RaftServerManager.getRaftServer("group2"));
+        Assertions.assertNotSame(RaftServerManager.getRaftServer("group1").getRaftStateMachine(),
+            RaftServerManager.getRaftServer("group2").getRaftStateMachine());
+        Assertions.assertEquals("group1", RaftServerManager.getGroup("tx_a"));
+        // a group the cluster does not have falls back to the default group
+        Assertions.assertEquals("default", RaftServerManager.getGroup("tx_b"));
+        Assertions.assertEquals("default", RaftServerManager.getGroup("tx_c"));
+        Assertions.assertEquals("default", RaftServerManager.getGroup(null));
+        RaftServerManager.start();
+    }
+
+    @Test
+    public void spreadLeader() {
+        Configuration initConf = new Configuration();
+        Assertions.assertTrue(initConf.parse("127.0.0.1:9091,127.0.0.1:9092,127.0.0.1:9093"));
+        for (int group = 0; group < 4; group++) {
+            Configuration conf = RaftServerManager.spreadLeader(initConf, group);
+            Assertions.assertEquals(3, conf.size());
+            int preferred = group % 3;
+            for (int i = 0; i < 3; i++) {
+                PeerId peer = conf.listPeers().get(i);
+                Assertions.assertEquals(initConf.listPeers().get(i).getEndpoint(), peer.getEndpoint());
+                Assertions.assertEquals(i == preferred, peer.getPriority() > ElectionPriority.MinValue);
+                Assertions.assertFalse(peer.isPriorityNotElected());
+            }
+        }
+        // the priorities configured are kept
+        Configuration priorityConf = new Configuration();
+        Assertions.assertTrue(priorityConf.parse("127.0.0.1:9091::100,127.0.0.1:9092::10"));
+        Assertions.assertSame(priorityConf, RaftServerManager.spreadLeader(priorityConf, 1));
+    }
+
 }
@@ -16,8 +16,11 @@
  */
 package org.apache.seata.server.raft;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,14 +29,18 @@ import org.apache.seata.common.metadata.ClusterRole;
 import org.apache.seata.common.metadata.Node;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftBaseMsg;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftBatchSyncMsg;
 import org.apache.seata.server.cluster.raft.sync.msg.RaftBranchSessionSyncMsg;
 import org.apache.seata.server.cluster.raft.sync.msg.RaftClusterMetadataMsg;
 import org.apache.seata.server.cluster.raft.sync.msg.RaftGlobalSessionSyncMsg;
 import org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMessage;
+import org.apache.seata.server.cluster.raft.sync.msg.RaftSyncMsgType;
 import org.apache.seata.server.cluster.raft.sync.RaftSyncMessageSerializer;
 import org.apache.seata.server.cluster.raft.snapshot.RaftSnapshot;
 import org.apache.seata.server.cluster.raft.snapshot.RaftSnapshotSerializer;
 import org.apache.seata.server.cluster.raft.snapshot.session.RaftSessionSnapshot;
+import org.apache.seata.server.cluster.raft.snapshot.session.SessionSnapshotCodec;
 import org.apache.seata.server.cluster.raft.sync.msg.dto.BranchTransactionDTO;
 import org.apache.seata.server.cluster.raft.sync.msg.dto.GlobalTransactionDTO;
 import org.apache.seata.server.cluster.raft.sync.msg.dto.RaftClusterMetadata;
@@ -81,6 +88,25 @@ public class RaftSyncMessageTest {
         Assertions.assertEquals(1234, ((RaftBranchSessionSyncMsg) raftSyncMessageByBranch.getBody()).getBranchSession().getBranchId());
     }
 
+    @Test
+    public void testBatchMsgSerialize() throws IOException {
+        List<RaftBaseMsg> msgs = new ArrayList<>();
+        msgs.add(new RaftGlobalSessionSyncMsg(RaftSyncMsgType.ADD_GLOBAL_SESSION, new GlobalTransactionDTO("123:123")));
+        msgs.add(new RaftBranchSessionSyncMsg(RaftSyncMsgType.ADD_BRANCH_SESSION, new BranchTransactionDTO("123:123", 1234)));
+        RaftSyncMessage raftSyncMessage = new RaftSyncMessage();
+        raftSyncMessage.setBody(new RaftBatchSyncMsg(msgs));
+        RaftSyncMessage decoded = RaftSyncMessageSerializer.decode(RaftSyncMessageSerializer.encode(raftSyncMessage));
+        RaftBatchSyncMsg batchSyncMsg = (RaftBatchSyncMsg)decoded.getBody();
+        Assertions.assertEquals(RaftSyncMsgType.BATCH, batchSyncMsg.getMsgType());
+        Assertions.assertEquals(2, batchSyncMsg.getMsgs().size());
+        RaftGlobalSessionSyncMsg globalSessionSyncMsg = (RaftGlobalSessionSyncMsg)batchSyncMsg.getMsgs().get(0);
+        Assertions.assertEquals(RaftSyncMsgType.ADD_GLOBAL_SESSION, globalSessionSyncMsg.getMsgType());
+        Assertions.assertEquals("123:123", globalSessionSyncMsg.getGlobalSession().getXid());
+        RaftBranchSessionSyncMsg branchSessionSyncMsg = (RaftBranchSessionSyncMsg)batchSyncMsg.getMsgs().get(1);
+        Assertions.assertEquals(RaftSyncMsgType.ADD_BRANCH_SESSION, branchSessionSyncMsg.getMsgType());
+        Assertions.assertEquals(1234, branchSessionSyncMsg.getBranchSession().getBranchId());
+    }
+
     @Test
     public void testSnapshotSerialize() throws IOException, TransactionException {
         Map<String, GlobalSession> sessionMap = new HashMap<>();
@@ -101,6 +127,36 @@ public class RaftSyncMessageTest {
         Assertions.assertEquals(1, map.get(globalSession.getXid()).getBranchSessions().size());
     }
 
+    @Test
+    public void testStreamedSnapshot() throws IOException, TransactionException {
+        GlobalSession globalSession = GlobalSession.createGlobalSession("123", "123", "123", 11111);
+        globalSession
+            .addBranch(SessionHelper.newBranchByGlobal(globalSession, BranchType.AT, "!23", null, "123", "123"));
+        GlobalSession emptySession = GlobalSession.createGlobalSession("456", "456", "456", 11111);
+        RaftSessionSnapshot sessionSnapshot = new RaftSessionSnapshot();
+        sessionSnapshot.convert2GlobalSessionByte(globalSession);
+        sessionSnapshot.convert2GlobalSessionByte(emptySession);
+        File file = File.createTempFile("session_stream", null);
+        try {
+            SessionSnapshotCodec.write(sessionSnapshot.getGlobalsessions(), file);
+            Map<String, GlobalSession> map = new HashMap<>();
+            int count = SessionSnapshotCodec.read(file, (globalSessionByte, branchSessionBytes) -> {
+                GlobalSession session = RaftSessionSnapshot.convert2GlobalSession(globalSessionByte, branchSessionBytes);
+                map.put(session.getXid(), session);
+            });
+            Assertions.assertEquals(2, count);
+            Assertions.assertEquals(1, map.get(globalSession.getXid()).getBranchSessions().size());
+            Assertions.assertEquals(0, map.get(emptySession.getXid()).getBranchSessions().size());
+
+            // a file cut short is not taken for a complete snapshot
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 1));
+            Assertions.assertThrows(IOException.class, () -> SessionSnapshotCodec.read(file, (g, b) -> { }));
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
     @Test
     public void testRaftClusterMetadataSerialize() throws IOException {
         RaftSyncMessage raftSyncMessage = new RaftSyncMessage();
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.raft;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.alipay.sofa.jraft.entity.LocalFileMetaOutter;
+import com.alipay.sofa.jraft.entity.RaftOutter;
+import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
+import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
+import org.apache.seata.common.ConfigurationKeys;
+import org.apache.seata.common.util.NetUtil;
+import org.apache.seata.config.ConfigurationCache;
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.cluster.raft.snapshot.session.SessionSnapshotFile;
+import org.apache.seata.server.lock.LockManager;
+import org.apache.seata.server.lock.LockerManagerFactory;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionHolder;
+import org.apache.seata.server.storage.raft.session.RaftSessionManager;
+import org.apache.seata.server.store.StoreConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static org.apache.seata.common.DefaultValues.DEFAULT_TX_GROUP;
+
+/**
+ * The session snapshot file of a raft group.
+ */
+@SpringBootTest
+class SessionSnapshotFileTest {
+
+    private static final String GROUP = "group1";
+
+    @BeforeAll
+    public static void setUp(ApplicationContext context) {
+        System.setProperty("server.raft.serverAddr", NetUtil.getLocalIp() + ":9091");
+        System.setProperty(ConfigurationKeys.SERVER_RAFT_GROUPS, GROUP);
+        ConfigurationCache.clear();
+        SessionHolder.destroy();
+        SessionHolder.init(StoreConfig.SessionMode.RAFT);
+        LockerManagerFactory.destroy();
+        LockerManagerFactory.init(StoreConfig.LockMode.RAFT);
+    }
+
+    @AfterAll
+    public static void destroy() {
+        System.clearProperty("server.raft.serverAddr");
+        System.clearProperty(ConfigurationKeys.SERVER_RAFT_GROUPS);
+        ConfigurationCache.clear();
+        SessionHolder.destroy();
+        SessionHolder.init(null);
+        LockerManagerFactory.destroy();
+    }
+
+    @Test
+    public void testLoadKeepsLocksOfOtherGroups(@TempDir Path snapshotDir) throws Exception {
+        LockManager lockManager = LockerManagerFactory.getLockManager();
+        RaftSessionManager defaultSessionManager = (RaftSessionManager)SessionHolder.getRootSessionManager("default");
+        RaftSessionManager groupSessionManager = (RaftSessionManager)SessionHolder.getRootSessionManager(GROUP);
+        Assertions.assertNotSame(defaultSessionManager, groupSessionManager);
+
+        GlobalSession defaultSession = globalSession("1.1.1.1:8091:1", 1, "snapshot_table:1");
+        defaultSessionManager.getSessionMap().put(defaultSession.getXid(), defaultSession);
+        GlobalSession groupSession = globalSession("1.1.1.1:8091:2", 2, "snapshot_table:2");
+        groupSessionManager.getSessionMap().put(groupSession.getXid(), groupSession);
+        Assertions.assertFalse(lockManager.isLockable("1.1.1.1:8091:9", "db", "snapshot_table:1"));
+        Assertions.assertFalse(lockManager.isLockable("1.1.1.1:8091:9", "db", "snapshot_table:2"));
+
+        try {
+            Assertions.assertTrue(new SessionSnapshotFile(GROUP).save(newWriter(snapshotDir)).isOk());
+            Assertions.assertTrue(new SessionSnapshotFile(GROUP).load(newReader(snapshotDir)));
+
+            // the session of the group is replaced by the one of the snapshot, which holds the lock again
+            GlobalSession loaded = groupSessionManager.getSessionMap().get(groupSession.getXid());
+            Assertions.assertNotSame(groupSession, loaded);
+            Assertions.assertTrue(groupSession.getBranchSessions().get(0).getLockHolder().isEmpty());
+            Assertions.assertFalse(loaded.getBranchSessions().get(0).getLockHolder().isEmpty());
+            Assertions.assertFalse(lockManager.isLockable("1.1.1.1:8091:9", "db", "snapshot_table:2"));
+            // the other group keeps its session and its lock
+            Assertions.assertSame(defaultSession, defaultSessionManager.getSessionMap().get(defaultSession.getXid()));
+            Assertions.assertFalse(lockManager.isLockable("1.1.1.1:8091:9", "db", "snapshot_table:1"));
+        } finally {
+            defaultSessionManager.getSessionMap().clear();
+            groupSessionManager.getSessionMap().clear();
+            lockManager.cleanAllLocks();
+        }
+    }
+
+    @Test
+    public void testSaveFormatFollowsTheSwitch(@TempDir Path legacyDir, @TempDir Path streamDir) throws Exception {
+        RaftSessionManager groupSessionManager = (RaftSessionManager)SessionHolder.getRootSessionManager(GROUP);
+        GlobalSession groupSession = globalSession("1.1.1.1:8091:3", 3, "snapshot_table:3");
+        groupSessionManager.getSessionMap().put(groupSession.getXid(), groupSession);
+        try {
+            // older versions only load the serialized snapshot, which is written unless the switch is on
+            Assertions.assertTrue(new SessionSnapshotFile(GROUP).save(newWriter(legacyDir)).isOk());
+            Assertions.assertTrue(Files.exists(legacyDir.resolve("session")));
+            Assertions.assertFalse(Files.exists(legacyDir.resolve("session_stream")));
+
+            System.setProperty(ConfigurationKeys.SERVER_RAFT_SNAPSHOT_STREAM, "true");
+            ConfigurationCache.clear();
+            Assertions.assertTrue(new SessionSnapshotFile(GROUP).save(newWriter(streamDir)).isOk());
+            Assertions.assertTrue(Files.exists(streamDir.resolve("session_stream")));
+            Assertions.assertFalse(Files.exists(streamDir.resolve("session")));
+
+            for (Path snapshotDir : new Path[] {legacyDir, streamDir}) {
+                groupSessionManager.getSessionMap().clear();
+                Assertions.assertTrue(new SessionSnapshotFile(GROUP).load(newReader(snapshotDir)));
+                Assertions.assertTrue(groupSessionManager.getSessionMap().containsKey(groupSession.getXid()));
+            }
+        } finally {
+            System.clearProperty(ConfigurationKeys.SERVER_RAFT_SNAPSHOT_STREAM);
+            ConfigurationCache.clear();
+            groupSessionManager.getSessionMap().clear();
+            LockerManagerFactory.getLockManager().cleanAllLocks();
+        }
+    }
+
+    private static SnapshotWriter newWriter(Path snapshotDir) {
+        SnapshotWriter writer = Mockito.mock(SnapshotWriter.class);
+        Mockito.when(writer.getPath()).thenReturn(snapshotDir.toString());
+        Mockito.when(writer.addFile(Mockito.anyString())).thenReturn(true);
+        return writer;
+    }
+
+    private static SnapshotReader newReader(Path snapshotDir) {
+        SnapshotReader reader = Mockito.mock(SnapshotReader.class);
+        Mockito.when(reader.getPath()).thenReturn(snapshotDir.toString());
+        Mockito.when(reader.getFileMeta(Mockito.anyString())).thenAnswer(invocation ->
+            Files.exists(snapshotDir.resolve((String)invocation.getArgument(0)))
+                ? LocalFileMetaOutter.LocalFileMeta.getDefaultInstance() : null);
+        Mockito.when(reader.load()).thenReturn(
+            RaftOutter.SnapshotMeta.newBuilder().setLastIncludedIndex(1).setLastIncludedTerm(1).build());
+        return reader;
+    }
+
+    private static GlobalSession globalSession(String xid, long transactionId, String lockKey)
+        throws TransactionException {
+        GlobalSession globalSession = new GlobalSession("test", "test", "test", 60000);
+        globalSession.setXid(xid);
+        globalSession.setTransactionId(transactionId);
+        globalSession.setBeginTime(System.currentTimeMillis());
+        BranchSession branchSession = new BranchSession();
+        branchSession.setXid(xid);
+        branchSession.setTransactionId(transactionId);
+        branchSession.setBranchId(transactionId * 10);
+        branchSession.setClientId("client");
+        branchSession.setResourceGroupId(DEFAULT_TX_GROUP);
+        branchSession.setResourceId("db");
+        branchSession.setLockKey(lockKey);
+        branchSession.setBranchType(BranchType.AT);
+        globalSession.add(branchSession);
+        Assertions.assertTrue(LockerManagerFactory.getLockManager().acquireLock(branchSession));
+        return globalSession;
+    }
+}
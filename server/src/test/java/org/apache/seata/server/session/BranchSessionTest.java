@@ -16,6 +16,8 @@
  */
 package org.apache.seata.server.session;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 import org.apache.seata.core.model.BranchType;
@@ -64,6 +66,34 @@ public class BranchSessionTest {
 
     }
 
+    /**
+     * Codec test with a caller supplied buffer.
+     *
+     * @param branchSession the branch session
+     */
+    @ParameterizedTest
+    @MethodSource("branchSessionProvider")
+    public void bufferCodecTest(BranchSession branchSession) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        buffer.putInt(-1);
+        branchSession.encode(buffer);
+        buffer.flip();
+        Assertions.assertEquals(-1, buffer.getInt());
+        byte[] result = branchSession.encode();
+        Assertions.assertEquals(ByteBuffer.wrap(result), buffer);
+        BranchSession expected = new BranchSession();
+        expected.decode(buffer);
+        // the lock status is not decoded
+        Assertions.assertEquals(1, buffer.remaining());
+        Assertions.assertEquals(branchSession.getXid(), expected.getXid());
+        Assertions.assertEquals(branchSession.getBranchId(), expected.getBranchId());
+        Assertions.assertEquals(branchSession.getResourceId(), expected.getResourceId());
+        Assertions.assertEquals(branchSession.getLockKey(), expected.getLockKey());
+        Assertions.assertEquals(branchSession.getClientId(), expected.getClientId());
+        Assertions.assertEquals(branchSession.getBranchType(), expected.getBranchType());
+        Assertions.assertThrows(BufferOverflowException.class, () -> branchSession.encode(ByteBuffer.allocate(8)));
+    }
+
     /**
      * Branch session provider object [ ] [ ].
      *
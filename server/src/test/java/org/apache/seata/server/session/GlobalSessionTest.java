@@ -17,6 +17,8 @@
 package org.apache.seata.server.session;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 import org.apache.seata.core.model.BranchStatus;
@@ -173,6 +175,31 @@ public class GlobalSessionTest {
         Assertions.assertTrue(expected.isActive());
     }
 
+    /**
+     * Codec test with a caller supplied buffer.
+     *
+     * @param globalSession the global session
+     */
+    @ParameterizedTest
+    @MethodSource("globalSessionProvider")
+    public void bufferCodecTest(GlobalSession globalSession) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        buffer.putInt(-1);
+        globalSession.encode(buffer);
+        buffer.flip();
+        Assertions.assertEquals(-1, buffer.getInt());
+        Assertions.assertEquals(ByteBuffer.wrap(globalSession.encode()), buffer);
+        GlobalSession expected = new GlobalSession();
+        expected.decode(buffer);
+        Assertions.assertFalse(buffer.hasRemaining());
+        Assertions.assertEquals(globalSession.getXid(), expected.getXid());
+        Assertions.assertEquals(globalSession.getApplicationId(), expected.getApplicationId());
+        Assertions.assertEquals(globalSession.getTransactionServiceGroup(), expected.getTransactionServiceGroup());
+        Assertions.assertEquals(globalSession.getBeginTime(), expected.getBeginTime());
+        Assertions.assertEquals(globalSession.getStatus(), expected.getStatus());
+        Assertions.assertThrows(BufferOverflowException.class, () -> globalSession.encode(ByteBuffer.allocate(8)));
+    }
+
     /**
      * Global session provider object [ ] [ ].
      *
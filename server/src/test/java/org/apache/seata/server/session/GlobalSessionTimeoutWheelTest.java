@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session;
+
+import java.util.List;
+
+import org.apache.seata.core.model.GlobalStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.apache.seata.common.DefaultValues.DEFAULT_TX_GROUP;
+
+/**
+ * The type Global session timeout wheel test.
+ */
+@SpringBootTest
+public class GlobalSessionTimeoutWheelTest {
+
+    private static final long TICK = 1000L;
+
+    @Test
+    public void pollExpiredTest() {
+        GlobalSessionTimeoutWheel wheel = new GlobalSessionTimeoutWheel(TICK, 8);
+        long now = 100_000L;
+        GlobalSession expired = newBeginSession(now - 5000, 3000);
+        GlobalSession alive = newBeginSession(now, 3000);
+        // more than one revolution ahead, lands in an already passed bucket
+        GlobalSession longRunning = newBeginSession(now - 5000, 3000 + 8 * (int) TICK);
+        wheel.add(expired);
+        wheel.add(alive);
+        wheel.add(longRunning);
+
+        List<GlobalSession> polled = wheel.pollExpired(now);
+        Assertions.assertEquals(1, polled.size());
+        Assertions.assertSame(expired, polled.get(0));
+        Assertions.assertEquals(2, wheel.size());
+
+        Assertions.assertTrue(wheel.pollExpired(now + 2000).isEmpty());
+        polled = wheel.pollExpired(now + 3001);
+        Assertions.assertEquals(1, polled.size());
+        Assertions.assertSame(alive, polled.get(0));
+
+        polled = wheel.pollExpired(now - 2000 + 8 * TICK + 1);
+        Assertions.assertEquals(1, polled.size());
+        Assertions.assertSame(longRunning, polled.get(0));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void removeAndStatusChangeTest() {
+        GlobalSessionTimeoutWheel wheel = new GlobalSessionTimeoutWheel(TICK);
+        long now = 100_000L;
+        GlobalSession removed = newBeginSession(now - 5000, 3000);
+        GlobalSession committing = newBeginSession(now - 5000, 3000);
+        wheel.add(removed);
+        wheel.add(committing);
+        wheel.remove(removed);
+        committing.setStatus(GlobalStatus.Committing);
+
+        Assertions.assertTrue(wheel.pollExpired(now).isEmpty());
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void pollAfterLongPauseTest() {
+        GlobalSessionTimeoutWheel wheel = new GlobalSessionTimeoutWheel(TICK, 4);
+        long now = 100_000L;
+        Assertions.assertTrue(wheel.pollExpired(now).isEmpty());
+        GlobalSession globalSession = newBeginSession(now, 1000);
+        wheel.add(globalSession);
+        // the timeout check did not run for several revolutions
+        List<GlobalSession> polled = wheel.pollExpired(now + 20 * TICK);
+        Assertions.assertEquals(1, polled.size());
+        wheel.clear();
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    private static GlobalSession newBeginSession(long beginTime, int timeout) {
+        GlobalSession globalSession = new GlobalSession("demo-app", DEFAULT_TX_GROUP, "test", timeout);
+        globalSession.setStatus(GlobalStatus.Begin);
+        globalSession.setBeginTime(beginTime);
+        return globalSession;
+    }
+}
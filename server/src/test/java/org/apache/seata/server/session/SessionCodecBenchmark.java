@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.holder.ObjectHolder;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.storage.file.TransactionWriteStore;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.apache.seata.common.Constants.OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT;
+
+/**
+ * Encode and decode of the session records written by the file and raft stores, for a typical global session
+ * and AT branch session. The byte array methods are what the stores did before the buffer codec.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionCodecBenchmark {
+
+    static {
+        // the configuration is read through the spring environment, which is not started here
+        ObjectHolder.INSTANCE.setObject(OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT, new StandardEnvironment());
+    }
+
+    private GlobalSession globalSession;
+
+    private BranchSession branchSession;
+
+    private ByteBuffer buffer;
+
+    private byte[] globalBytes;
+
+    private byte[] branchBytes;
+
+    private ByteBuffer globalBuffer;
+
+    private ByteBuffer branchBuffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        globalSession = new GlobalSession("order-service", "default_tx_group", "createOrder(java.lang.String)", 60000);
+        branchSession = new BranchSession(BranchType.AT);
+        branchSession.setXid(globalSession.getXid());
+        branchSession.setTransactionId(globalSession.getTransactionId());
+        branchSession.setBranchId(globalSession.getTransactionId() + 1);
+        branchSession.setResourceId("jdbc:mysql://127.0.0.1:3306/seata_order");
+        branchSession.setLockKey("t_order:1001,1002;t_order_item:2001,2002,2003");
+        branchSession.setClientId("order-service:127.0.0.1:52310");
+        branchSession.setApplicationData("{\"autoCommit\":false}");
+        buffer = ByteBuffer.allocateDirect(64 * 1024);
+        globalBytes = new TransactionWriteStore(globalSession, LogOperation.GLOBAL_ADD).encode();
+        branchBytes = new TransactionWriteStore(branchSession, LogOperation.BRANCH_ADD).encode();
+        globalBuffer = ByteBuffer.allocateDirect(globalBytes.length);
+        globalBuffer.put(globalBytes);
+        branchBuffer = ByteBuffer.allocateDirect(branchBytes.length);
+        branchBuffer.put(branchBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeGlobalToArray() {
+        return globalSession.encode();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeGlobalToBuffer() {
+        buffer.clear();
+        globalSession.encode(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] encodeBranchToArray() {
+        return branchSession.encode();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBranchToBuffer() {
+        buffer.clear();
+        branchSession.encode(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] encodeWriteStore() {
+        return new TransactionWriteStore(branchSession, LogOperation.BRANCH_ADD).encode();
+    }
+
+    @Benchmark
+    public TransactionWriteStore decodeGlobalFromArray() {
+        TransactionWriteStore writeStore = new TransactionWriteStore();
+        writeStore.decode(globalBytes);
+        return writeStore;
+    }
+
+    @Benchmark
+    public TransactionWriteStore decodeBranchFromArray() {
+        TransactionWriteStore writeStore = new TransactionWriteStore();
+        writeStore.decode(branchBytes);
+        return writeStore;
+    }
+
+    @Benchmark
+    public TransactionWriteStore decodeBranchFromDirectBuffer() {
+        branchBuffer.clear();
+        TransactionWriteStore writeStore = new TransactionWriteStore();
+        writeStore.decode(branchBuffer);
+        return writeStore;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(SessionCodecBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.holder.ObjectHolder;
+import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.storage.redis.JedisPooledFactory;
+import org.apache.seata.server.storage.redis.store.RedisLuaTransactionStoreManager;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.env.StandardEnvironment;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+
+import static org.apache.seata.common.Constants.OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT;
+
+/**
+ * Status changes of a global session in the redis store while {@code sessions} other sessions have the same status.
+ * The list methods are what the store did before the status sets: LREM scans the list, ZREM does not.
+ * Needs a real redis-server, {@code -Dredis.host} and {@code -Dredis.port} default to 127.0.0.1:6379,
+ * and the database is flushed, so do not point it to a redis in use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisSessionStoreBenchmark {
+
+    static {
+        // the configuration is read through the spring environment, which is not started here
+        ObjectHolder.INSTANCE.setObject(OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT, new StandardEnvironment());
+    }
+
+    private static final String LIST_KEY = "SEATA_BENCHMARK_LIST";
+
+    private static final String SORTED_SET_KEY = "SEATA_BENCHMARK_SORTED_SET";
+
+    private static final int PRELOAD_BATCH = 10000;
+
+    @Param({"10000", "1000000"})
+    private int sessions;
+
+    private JedisPool jedisPool;
+
+    private RedisLuaTransactionStoreManager storeManager;
+
+    private GlobalSession globalSession;
+
+    private String xid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String host = System.getProperty("redis.host", "127.0.0.1");
+        int port = Integer.getInteger("redis.port", 6379);
+        jedisPool = new JedisPool(new JedisPoolConfig(), host, port, 2000);
+        JedisPooledFactory.getJedisPoolInstance(jedisPool);
+        storeManager = new RedisLuaTransactionStoreManager();
+        globalSession = new GlobalSession("order-service", "default_tx_group", "createOrder(java.lang.String)", 60000);
+        globalSession.setStatus(GlobalStatus.AsyncCommitting);
+        xid = globalSession.getXid();
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.flushDB();
+            storeManager.writeSession(LogOperation.GLOBAL_ADD, globalSession);
+            // the session sits in the middle of the backlog
+            preload(jedis, sessions / 2);
+            try (Pipeline pipelined = jedis.pipelined()) {
+                pipelined.rpush(LIST_KEY, xid);
+                pipelined.zadd(SORTED_SET_KEY, System.currentTimeMillis(), xid);
+                pipelined.sync();
+            }
+            preload(jedis, sessions - sessions / 2);
+        }
+    }
+
+    private void preload(Jedis jedis, int count) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i += PRELOAD_BATCH) {
+            try (Pipeline pipelined = jedis.pipelined()) {
+                for (int j = i; j < Math.min(count, i + PRELOAD_BATCH); j++) {
+                    String other = "127.0.0.1:8091:" + now + j;
+                    pipelined.rpush(LIST_KEY, other);
+                    pipelined.zadd(SORTED_SET_KEY, now, other);
+                    pipelined.zadd("SEATA_STATUS_SET_" + GlobalStatus.AsyncCommitting.getCode(), now, other);
+                }
+                pipelined.sync();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.flushDB();
+        }
+        jedisPool.close();
+    }
+
+    @Benchmark
+    public long removeFromList() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.lrem(LIST_KEY, 0, xid);
+            return jedis.rpush(LIST_KEY, xid);
+        }
+    }
+
+    @Benchmark
+    public long removeFromSortedSet() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.zrem(SORTED_SET_KEY, xid);
+            return jedis.zadd(SORTED_SET_KEY, System.currentTimeMillis(), xid);
+        }
+    }
+
+    /**
+     * One lua call per status change, as the TC moves a session between the commit statuses.
+     */
+    @Benchmark
+    public boolean updateGlobalStatus() {
+        globalSession.setStatus(globalSession.getStatus() == GlobalStatus.AsyncCommitting
+            ? GlobalStatus.Committing : GlobalStatus.AsyncCommitting);
+        return storeManager.writeSession(LogOperation.GLOBAL_UPDATE, globalSession);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(RedisSessionStoreBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -19,8 +19,11 @@ package org.apache.seata.server.session.redis;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.seata.common.XID;
 import org.apache.seata.common.exception.RedisException;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
@@ -113,6 +116,78 @@ public class RedisTransactionStoreManagerTest {
         }
     }
 
+    @Test
+    public synchronized void testMigrateLegacyIndexes() throws TransactionException {
+        GlobalSession session = GlobalSession.createGlobalSession("test", "test", "test123", 60000);
+        String xid = XID.generateXID(session.getTransactionId());
+        session.setXid(xid);
+        session.setBeginTime(System.currentTimeMillis());
+        session.setStatus(GlobalStatus.Begin);
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            jedis.flushAll();
+        }
+        sessionManager.addGlobalSession(session);
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            // the status and branch lists of older versions
+            jedis.zrem("SEATA_STATUS_SET_" + GlobalStatus.Begin.getCode(), xid);
+            jedis.rpush("SEATA_STATUS_" + GlobalStatus.Begin.getCode(), xid);
+            jedis.rpush("SEATA_BRANCHES_" + xid, "SEATA_BRANCH_1", "SEATA_BRANCH_2");
+            Assertions.assertEquals(0L, redisTransactionStoreManager.countByGlobalSessions(GlobalStatus.values()));
+
+            new RedisTransactionStoreManager();
+            Assertions.assertFalse(jedis.exists("SEATA_STATUS_" + GlobalStatus.Begin.getCode()));
+            Assertions.assertFalse(jedis.exists("SEATA_BRANCHES_" + xid));
+            Assertions.assertEquals(2L, jedis.zcard("SEATA_BRANCH_SET_" + xid));
+            Assertions.assertEquals(1L, redisTransactionStoreManager.countByGlobalSessions(GlobalStatus.values()));
+        }
+        // the page is read outside of the connection above, it borrows its own ones
+        GlobalSessionParam param = new GlobalSessionParam();
+        param.setPageNum(1);
+        param.setPageSize(5);
+        param.setStatus(GlobalStatus.Begin.getCode());
+        Assertions.assertEquals(xid, redisTransactionStoreManager.readSessionStatusByPage(param).get(0).getXid());
+        sessionManager.removeGlobalSession(session);
+        Assertions.assertEquals(0L, redisTransactionStoreManager.countByGlobalSessions(GlobalStatus.values()));
+    }
+
+    @Test
+    public synchronized void testFindGlobalSessionPages() throws TransactionException {
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            jedis.flushAll();
+        }
+        for (int i = 0; i < 5; i++) {
+            GlobalSession session = GlobalSession.createGlobalSession("test", "test", "test123", 100);
+            session.setXid(XID.generateXID(session.getTransactionId()));
+            session.setBeginTime(System.currentTimeMillis());
+            session.setStatus(i < 3 ? GlobalStatus.AsyncCommitting : GlobalStatus.Committing);
+            sessionManager.addGlobalSession(session);
+        }
+        SessionCondition sessionCondition =
+            new SessionCondition(GlobalStatus.AsyncCommitting, GlobalStatus.Committing);
+        // the sessions left in the status sets are read after each other
+        Iterator<List<GlobalSession>> pages = sessionManager.findGlobalSessionPages(sessionCondition, 2);
+        Set<String> xids = new HashSet<>();
+        while (pages.hasNext()) {
+            for (GlobalSession session : pages.next()) {
+                Assertions.assertTrue(xids.add(session.getXid()));
+            }
+        }
+        Assertions.assertEquals(5, xids.size());
+        pages = sessionManager.findGlobalSessionPages(sessionCondition, 2);
+        xids.clear();
+        while (pages.hasNext()) {
+            List<GlobalSession> page = pages.next();
+            Assertions.assertTrue(page.size() <= 2);
+            for (GlobalSession session : page) {
+                Assertions.assertTrue(xids.add(session.getXid()));
+                // the handled sessions leave the status sets while the pages are read
+                sessionManager.removeGlobalSession(session);
+            }
+        }
+        Assertions.assertEquals(5, xids.size());
+        Assertions.assertEquals(0L, redisTransactionStoreManager.countByGlobalSessions(GlobalStatus.values()));
+    }
+
     @Test
     public void testInsertGlobalLockData() {
         String GLOBAL_LOCK_KEY = "SEATA_GLOBAL_LOCK_192.168.158.80:8091:37621364385185792";
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.apache.seata.server.session.GlobalSession;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The rows of these tests are pairs of an xid and a sort value, kept sorted like a store index.
+ */
+public class SessionPageIteratorTest {
+
+    @Test
+    public void testReadPages() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(new Object[] {"xid-" + i, (long)i});
+        }
+        List<List<String>> pages = readAll(new TestIterator(rows, 2));
+        Assertions.assertEquals(3, pages.size());
+        Assertions.assertEquals(2, pages.get(0).size());
+        Assertions.assertEquals(1, pages.get(2).size());
+        Assertions.assertEquals(5, pages.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    public void testTiesAcrossPages() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            rows.add(new Object[] {"xid-" + i, 1L});
+        }
+        rows.add(new Object[] {"xid-7", 2L});
+        List<String> xids = readAll(new TestIterator(rows, 3)).stream().flatMap(List::stream)
+            .collect(Collectors.toList());
+        Assertions.assertEquals(8, xids.size());
+        Assertions.assertEquals(8, xids.stream().distinct().count());
+    }
+
+    @Test
+    public void testManyTiesReadOnce() {
+        List<Object[]> rows = new ArrayList<>();
+        // more sessions than a page sharing one gmt modified, as the sessions modified in the same second
+        for (int i = 0; i < 100; i++) {
+            rows.add(new Object[] {String.format("xid-%03d", i), 1L});
+        }
+        TestIterator iterator = new TestIterator(rows, 7);
+        List<String> xids = readAll(iterator).stream().flatMap(List::stream).collect(Collectors.toList());
+        Assertions.assertEquals(100, xids.size());
+        Assertions.assertEquals(100, xids.stream().distinct().count());
+        // no row is read twice, and no read asks for more than a page
+        Assertions.assertEquals(100, iterator.readCount);
+        Assertions.assertEquals(7, iterator.maxLimit);
+    }
+
+    @Test
+    public void testRemovedWhileIterating() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            rows.add(new Object[] {"xid-" + i, (long)i});
+        }
+        TestIterator iterator = new TestIterator(rows, 2);
+        List<String> xids = new ArrayList<>();
+        while (iterator.hasNext()) {
+            for (GlobalSession session : iterator.next()) {
+                xids.add(session.getXid());
+                // the session is handled and leaves the store, as a committed one does
+                rows.removeIf(row -> row[0].equals(session.getXid()));
+            }
+        }
+        Assertions.assertEquals(6, xids.size());
+        Assertions.assertTrue(rows.isEmpty());
+    }
+
+    @Test
+    public void testEmpty() {
+        TestIterator iterator = new TestIterator(new ArrayList<>(), 2);
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TestIterator(new ArrayList<>(), 0));
+    }
+
+    private static List<List<String>> readAll(TestIterator iterator) {
+        List<List<String>> pages = new ArrayList<>();
+        while (iterator.hasNext()) {
+            pages.add(iterator.next().stream().map(GlobalSession::getXid).collect(Collectors.toList()));
+        }
+        return pages;
+    }
+
+    private static class TestIterator extends SessionPageIterator<Object[], Long> {
+
+        private final List<Object[]> rows;
+
+        private int readCount;
+
+        private int maxLimit;
+
+        TestIterator(List<Object[]> rows, int pageSize) {
+            super(pageSize);
+            this.rows = rows;
+        }
+
+        @Override
+        protected List<Object[]> readRows(Long fromValue, String fromId, int limit) {
+            Comparator<Object[]> order =
+                Comparator.<Object[], Long>comparing(row -> (Long)row[1]).thenComparing(row -> (String)row[0]);
+            Object[] from = new Object[] {fromId, fromValue};
+            List<Object[]> read = rows.stream().filter(row -> fromValue == null || order.compare(row, from) > 0)
+                .sorted(order).limit(limit).collect(Collectors.toList());
+            readCount += read.size();
+            maxLimit = Math.max(maxLimit, limit);
+            return read;
+        }
+
+        @Override
+        protected String getId(Object[] row) {
+            return (String)row[0];
+        }
+
+        @Override
+        protected Long getValue(Object[] row) {
+            return (Long)row[1];
+        }
+
+        @Override
+        protected List<GlobalSession> toSessions(List<Object[]> pageRows) {
+            List<GlobalSession> sessions = new ArrayList<>(pageRows.size());
+            for (Object[] row : pageRows) {
+                GlobalSession session = new GlobalSession("test", "test", "test", 6000);
+                session.setXid((String)row[0]);
+                sessions.add(session);
+            }
+            return sessions;
+        }
+    }
+}
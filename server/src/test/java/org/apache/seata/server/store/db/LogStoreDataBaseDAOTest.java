@@ -20,6 +20,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Date;
 import java.util.List;
 
 import org.apache.seata.common.util.CollectionUtils;
@@ -321,6 +323,59 @@ public class LogStoreDataBaseDAOTest {
 
     }
 
+    @Test
+    public void queryGlobalTransactionDO_by_statuses_gmt_modified() throws SQLException {
+        String[] xids = new String[] {"abc-123:7001", "abc-123:7002", "abc-123:7003"};
+        for (int i = 0; i < xids.length; i++) {
+            GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
+            globalTransactionDO.setXid(xids[i]);
+            globalTransactionDO.setApplicationData("abc=7001");
+            globalTransactionDO.setTransactionServiceGroup("abc");
+            globalTransactionDO.setTransactionName("test");
+            globalTransactionDO.setTransactionId(7001 + i);
+            globalTransactionDO.setTimeout(20);
+            globalTransactionDO.setBeginTime(System.currentTimeMillis());
+            globalTransactionDO.setApplicationId("test");
+            globalTransactionDO.setStatus(i < 2 ? 11 : 12);
+            Assertions.assertTrue(logStoreDataBaseDAO.insertGlobalTransactionDO(globalTransactionDO));
+        }
+
+        Date max = new Date(System.currentTimeMillis() + 60000);
+        List<GlobalTransactionDO> globalTransactionDOs =
+            logStoreDataBaseDAO.queryGlobalTransactionDO(new int[] {11, 12}, new Date(0), "", max, 2);
+        Assertions.assertEquals(2, globalTransactionDOs.size());
+        globalTransactionDOs = logStoreDataBaseDAO.queryGlobalTransactionDO(new int[] {11}, new Date(0), "", max, 10);
+        Assertions.assertEquals(2, globalTransactionDOs.size());
+        for (GlobalTransactionDO globalTransactionDO : globalTransactionDOs) {
+            Assertions.assertEquals(11, globalTransactionDO.getStatus());
+        }
+        // nothing modified after the max, or before the min
+        Assertions.assertTrue(logStoreDataBaseDAO.queryGlobalTransactionDO(new int[] {11, 12}, max, "",
+            new Date(max.getTime() + 60000), 10).isEmpty());
+        Assertions.assertTrue(logStoreDataBaseDAO.queryGlobalTransactionDO(new int[] {11, 12}, new Date(0), "",
+            new Date(1000), 10).isEmpty());
+
+        Connection conn = null;
+        Statement stmt = null;
+        try {
+            conn = dataSource.getConnection();
+            stmt = conn.createStatement();
+            // the sessions modified in the same second are read after each other by xid
+            stmt.execute("update global_table set gmt_modified = '2024-01-01 00:00:00'"
+                + " where xid in ('abc-123:7001', 'abc-123:7002', 'abc-123:7003')");
+            Date gmtModified = Timestamp.valueOf("2024-01-01 00:00:00");
+            globalTransactionDOs = logStoreDataBaseDAO.queryGlobalTransactionDO(new int[] {11, 12}, gmtModified,
+                "abc-123:7001", max, 10);
+            Assertions.assertEquals(2, globalTransactionDOs.size());
+            Assertions.assertEquals("abc-123:7002", globalTransactionDOs.get(0).getXid());
+            Assertions.assertEquals("abc-123:7003", globalTransactionDOs.get(1).getXid());
+
+            stmt.execute("delete from global_table where xid in ('abc-123:7001', 'abc-123:7002', 'abc-123:7003')");
+        } finally {
+            IOUtil.close(stmt, conn);
+        }
+    }
+
     @Test
     public void insertGlobalTransactionDO() throws SQLException {
         GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
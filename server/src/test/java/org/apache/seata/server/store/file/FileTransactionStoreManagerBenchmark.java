@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.store.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.holder.ObjectHolder;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.storage.file.store.FileTransactionStoreManager;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.apache.seata.common.Constants.OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT;
+
+/**
+ * Compares the sync flushed session writes of {@link FileTransactionStoreManager} with and without group commit:
+ * every invocation writes a global begin and a branch register, like a new transaction does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class FileTransactionStoreManagerBenchmark {
+
+    static {
+        // the configuration is read through the spring environment, which is not started here
+        System.setProperty("seata.store.file.flush-disk-mode", "sync");
+        ObjectHolder.INSTANCE.setObject(OBJECT_KEY_SPRING_CONFIGURABLE_ENVIRONMENT, new StandardEnvironment());
+    }
+
+    @Param({"false", "true"})
+    private boolean groupCommit;
+
+    private File dataFile;
+
+    private FileTransactionStoreManager storeManager;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dataFile = File.createTempFile("seata-store", ".data");
+        storeManager = new FileTransactionStoreManager(dataFile.getAbsolutePath(), null, groupCommit);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        storeManager.shutdown();
+        dataFile.delete();
+    }
+
+    @Benchmark
+    public boolean beginAndRegister() {
+        GlobalSession globalSession = new GlobalSession("demo-app", "default_tx_group", "test", 60000);
+        BranchSession branchSession = new BranchSession(BranchType.AT);
+        branchSession.setXid(globalSession.getXid());
+        branchSession.setTransactionId(globalSession.getTransactionId());
+        branchSession.setBranchId(globalSession.getTransactionId() + 1);
+        branchSession.setResourceId("jdbc:mysql://127.0.0.1:3306/seata");
+        branchSession.setLockKey("t_order:1");
+        branchSession.setClientId("c1");
+        return storeManager.writeSession(LogOperation.GLOBAL_ADD, globalSession)
+            && storeManager.writeSession(LogOperation.BRANCH_ADD, branchSession);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(FileTransactionStoreManagerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
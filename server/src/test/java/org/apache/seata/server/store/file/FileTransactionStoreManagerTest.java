@@ -17,11 +17,20 @@
 package org.apache.seata.server.store.file;
 
 import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.seata.server.session.SessionHolder;
 import org.assertj.core.util.Files;
@@ -29,6 +38,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -92,6 +102,147 @@ public class FileTransactionStoreManagerTest {
         }
     }
 
+    @Test
+    public void testGroupCommitWrite() throws Exception {
+        File seataFile = Files.newTemporaryFile();
+        FileTransactionStoreManager fileTransactionStoreManager = null;
+        try {
+            fileTransactionStoreManager = new FileTransactionStoreManager(seataFile.getAbsolutePath(), null, true);
+            FileTransactionStoreManager storeManager = fileTransactionStoreManager;
+            int threads = 8;
+            int writesPerThread = 200;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    boolean written = true;
+                    for (int j = 0; j < writesPerThread; j++) {
+                        GlobalSession globalSession = new GlobalSession("demo-app", "default_tx_group", "test", 60000);
+                        written &= storeManager.writeSession(TransactionStoreManager.LogOperation.GLOBAL_ADD, globalSession);
+                    }
+                    return written;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                Assertions.assertTrue(future.get());
+            }
+            executor.shutdown();
+
+            // a frame bigger than the write buffer
+            BranchSession branchSession = Mockito.mock(BranchSession.class);
+            Mockito.when(branchSession.encode()).thenReturn(createBigBranchSessionData(new GlobalSession(), (byte) 'A'));
+            Assertions.assertTrue(storeManager.writeSession(TransactionStoreManager.LogOperation.BRANCH_ADD, branchSession));
+
+            List<TransactionWriteStore> list = storeManager.readWriteStore(threads * writesPerThread + 1, false);
+            Assertions.assertNotNull(list);
+            Assertions.assertEquals(threads * writesPerThread + 1, list.size());
+            Assertions.assertEquals(new String(createBigApplicationData((byte) 'A')),
+                ((BranchSession) list.get(list.size() - 1).getSessionRequest()).getApplicationData());
+        } finally {
+            if (fileTransactionStoreManager != null) {
+                fileTransactionStoreManager.shutdown();
+            }
+            Assertions.assertTrue(seataFile.delete());
+        }
+    }
+
+    @Test
+    public void testGroupCommitTruncatesFailedWrite() throws Exception {
+        File seataFile = Files.newTemporaryFile();
+        FileTransactionStoreManager fileTransactionStoreManager = null;
+        Field channelField = FileTransactionStoreManager.class.getDeclaredField("currFileChannel");
+        channelField.setAccessible(true);
+        try {
+            fileTransactionStoreManager = new FileTransactionStoreManager(seataFile.getAbsolutePath(), null, true);
+            GlobalSession globalSession = new GlobalSession("demo-app", "default_tx_group", "test", 60000);
+            Assertions.assertTrue(fileTransactionStoreManager.writeSession(
+                TransactionStoreManager.LogOperation.GLOBAL_ADD, globalSession));
+            FileChannel fileChannel = (FileChannel)channelField.get(fileTransactionStoreManager);
+            long committedSize = fileChannel.size();
+
+            // a frame bigger than the write buffer, of which only the first part gets written
+            FileChannel failingChannel = Mockito.mock(FileChannel.class, AdditionalAnswers.delegatesTo(fileChannel));
+            AtomicInteger writes = new AtomicInteger();
+            Mockito.doAnswer(invocation -> {
+                if (writes.incrementAndGet() > 1) {
+                    throw new IOException("disk full");
+                }
+                return fileChannel.write(invocation.<ByteBuffer>getArgument(0));
+            }).when(failingChannel).write(Mockito.any(ByteBuffer.class));
+            channelField.set(fileTransactionStoreManager, failingChannel);
+            BranchSession branchSession = Mockito.mock(BranchSession.class);
+            Mockito.when(branchSession.encode()).thenReturn(createBigBranchSessionData(globalSession, (byte) 'A'));
+            Assertions.assertFalse(fileTransactionStoreManager.writeSession(
+                TransactionStoreManager.LogOperation.BRANCH_ADD, branchSession));
+            Assertions.assertTrue(writes.get() > 1);
+            Assertions.assertEquals(committedSize, fileChannel.size());
+            Assertions.assertEquals(committedSize, fileChannel.position());
+
+            // the next write goes on from the end of the last committed one
+            channelField.set(fileTransactionStoreManager, fileChannel);
+            Assertions.assertTrue(fileTransactionStoreManager.writeSession(
+                TransactionStoreManager.LogOperation.GLOBAL_UPDATE, globalSession));
+            List<TransactionWriteStore> list = fileTransactionStoreManager.readWriteStore(10, false);
+            Assertions.assertEquals(2, list.size());
+            Assertions.assertEquals(TransactionStoreManager.LogOperation.GLOBAL_UPDATE, list.get(1).getOperate());
+        } finally {
+            if (fileTransactionStoreManager != null) {
+                fileTransactionStoreManager.shutdown();
+            }
+            Assertions.assertTrue(seataFile.delete());
+        }
+    }
+
+    @Test
+    public void testGroupCommitDropsTimedOutWrite() throws Exception {
+        File seataFile = Files.newTemporaryFile();
+        FileTransactionStoreManager fileTransactionStoreManager = null;
+        Field channelField = FileTransactionStoreManager.class.getDeclaredField("currFileChannel");
+        channelField.setAccessible(true);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            fileTransactionStoreManager = new FileTransactionStoreManager(seataFile.getAbsolutePath(), null, true);
+            FileTransactionStoreManager storeManager = fileTransactionStoreManager;
+            FileChannel fileChannel = (FileChannel)channelField.get(fileTransactionStoreManager);
+
+            // the write thread hangs on the first write, until the second writer has given up
+            FileChannel slowChannel = Mockito.mock(FileChannel.class, AdditionalAnswers.delegatesTo(fileChannel));
+            CountDownLatch writing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Mockito.doAnswer(invocation -> {
+                writing.countDown();
+                release.await();
+                return fileChannel.write(invocation.<ByteBuffer>getArgument(0));
+            }).when(slowChannel).write(Mockito.any(ByteBuffer.class));
+            channelField.set(fileTransactionStoreManager, slowChannel);
+            GlobalSession globalSession = new GlobalSession("demo-app", "default_tx_group", "test", 60000);
+            Future<Boolean> first = executor.submit(() -> storeManager.writeSession(
+                TransactionStoreManager.LogOperation.GLOBAL_ADD, globalSession));
+            Assertions.assertTrue(writing.await(10, TimeUnit.SECONDS));
+            Future<Boolean> second = executor.submit(() -> storeManager.writeSession(
+                TransactionStoreManager.LogOperation.GLOBAL_UPDATE, globalSession));
+            Assertions.assertFalse(second.get(10, TimeUnit.SECONDS));
+
+            // the first writer waits for its write past the timeout, the second write is never done
+            Assertions.assertFalse(first.isDone());
+            release.countDown();
+            Assertions.assertTrue(first.get(10, TimeUnit.SECONDS));
+            channelField.set(fileTransactionStoreManager, fileChannel);
+            Assertions.assertTrue(storeManager.writeSession(TransactionStoreManager.LogOperation.GLOBAL_REMOVE,
+                globalSession));
+            List<TransactionWriteStore> list = storeManager.readWriteStore(10, false);
+            Assertions.assertEquals(2, list.size());
+            Assertions.assertEquals(TransactionStoreManager.LogOperation.GLOBAL_ADD, list.get(0).getOperate());
+            Assertions.assertEquals(TransactionStoreManager.LogOperation.GLOBAL_REMOVE, list.get(1).getOperate());
+        } finally {
+            executor.shutdownNow();
+            if (fileTransactionStoreManager != null) {
+                fileTransactionStoreManager.shutdown();
+            }
+            Assertions.assertTrue(seataFile.delete());
+        }
+    }
+
     @Test
     public void testFindTimeoutAndSave() throws Exception {
         File seataFile = Files.newTemporaryFile();
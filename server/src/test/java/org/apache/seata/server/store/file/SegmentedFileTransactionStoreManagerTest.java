@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.store.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionHelper;
+import org.apache.seata.server.session.SessionManager;
+import org.apache.seata.server.storage.file.TransactionWriteStore;
+import org.apache.seata.server.storage.file.store.SegmentedFileTransactionStoreManager;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * The type Segmented file transaction store manager test.
+ */
+@SpringBootTest
+public class SegmentedFileTransactionStoreManagerTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private File dir;
+
+    private String fullFileName;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("seata-segments").toFile();
+        fullFileName = new File(dir, "root.data").getAbsolutePath();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void writeAndRecoverTest() throws IOException {
+        SegmentedFileTransactionStoreManager storeManager =
+            new SegmentedFileTransactionStoreManager(fullFileName, null, SEGMENT_SIZE, 1000);
+        List<String> xids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            GlobalSession globalSession = newGlobalSession();
+            xids.add(globalSession.getXid());
+            Assertions.assertTrue(storeManager.writeSession(LogOperation.GLOBAL_ADD, globalSession));
+        }
+        storeManager.shutdown();
+        Assertions.assertTrue(segmentFiles().length > 1);
+
+        storeManager = new SegmentedFileTransactionStoreManager(fullFileName, null, SEGMENT_SIZE, 1000);
+        try {
+            Assertions.assertFalse(storeManager.hasRemaining(true));
+            List<TransactionWriteStore> stores = readAll(storeManager, false);
+            Assertions.assertEquals(xids.size(), stores.size());
+            for (int i = 0; i < xids.size(); i++) {
+                Assertions.assertEquals(xids.get(i), ((GlobalSession) stores.get(i).getSessionRequest()).getXid());
+            }
+        } finally {
+            storeManager.shutdown();
+        }
+    }
+
+    @Test
+    public void checkpointTest() throws Exception {
+        List<GlobalSession> liveSessions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            GlobalSession globalSession = newGlobalSession();
+            BranchSession branchSession = SessionHelper.newBranchByGlobal(globalSession, BranchType.AT,
+                "jdbc:mysql://127.0.0.1:3306/seata", "t_order:" + i, "c1");
+            globalSession.add(branchSession);
+            liveSessions.add(globalSession);
+        }
+        SessionManager sessionManager = Mockito.mock(SessionManager.class);
+        Mockito.when(sessionManager.allSessions()).thenReturn(liveSessions);
+
+        SegmentedFileTransactionStoreManager storeManager =
+            new SegmentedFileTransactionStoreManager(fullFileName, sessionManager, SEGMENT_SIZE, 1);
+        // no checkpoint is taken before the recovery is done
+        Assertions.assertFalse(storeManager.hasRemaining(false));
+        int written = 200;
+        for (int i = 0; i < written; i++) {
+            Assertions.assertTrue(storeManager.writeSession(LogOperation.GLOBAL_ADD, newGlobalSession()));
+        }
+        storeManager.shutdown();
+        Assertions.assertTrue(new File(fullFileName + ".checkpoint").exists());
+
+        storeManager = new SegmentedFileTransactionStoreManager(fullFileName, sessionManager, SEGMENT_SIZE, 1);
+        try {
+            List<TransactionWriteStore> checkpoint = readAll(storeManager, true);
+            Assertions.assertEquals(liveSessions.size() * 2, checkpoint.size());
+            Assertions.assertEquals(liveSessions.get(0).getXid(),
+                ((GlobalSession) checkpoint.get(0).getSessionRequest()).getXid());
+            Assertions.assertEquals(LogOperation.BRANCH_ADD, checkpoint.get(1).getOperate());
+            // the segments covered by the checkpoint are deleted
+            Assertions.assertTrue(readAll(storeManager, false).size() < written);
+        } finally {
+            storeManager.shutdown();
+        }
+    }
+
+    @Test
+    public void checkpointKeepsRecordsNotInMemoryTest() throws Exception {
+        // the session is logged, but not yet in memory when the checkpoint reads the sessions
+        SessionManager sessionManager = Mockito.mock(SessionManager.class);
+        Mockito.when(sessionManager.allSessions()).thenReturn(new ArrayList<>());
+        SegmentedFileTransactionStoreManager storeManager =
+            new SegmentedFileTransactionStoreManager(fullFileName, sessionManager, SEGMENT_SIZE, 1000);
+        Assertions.assertFalse(storeManager.hasRemaining(false));
+        GlobalSession globalSession = newGlobalSession();
+        Assertions.assertTrue(storeManager.writeSession(LogOperation.GLOBAL_ADD, globalSession));
+        Method checkpoint = SegmentedFileTransactionStoreManager.class.getDeclaredMethod("checkpoint");
+        checkpoint.setAccessible(true);
+        checkpoint.invoke(storeManager);
+        storeManager.shutdown();
+        Assertions.assertTrue(new File(fullFileName + ".checkpoint").exists());
+
+        storeManager = new SegmentedFileTransactionStoreManager(fullFileName, sessionManager, SEGMENT_SIZE, 1000);
+        try {
+            Assertions.assertTrue(readAll(storeManager, true).isEmpty());
+            List<TransactionWriteStore> stores = readAll(storeManager, false);
+            Assertions.assertEquals(1, stores.size());
+            Assertions.assertEquals(globalSession.getXid(), ((GlobalSession) stores.get(0).getSessionRequest()).getXid());
+        } finally {
+            storeManager.shutdown();
+        }
+    }
+
+    @Test
+    public void corruptedRecordTest() throws IOException {
+        SegmentedFileTransactionStoreManager storeManager =
+            new SegmentedFileTransactionStoreManager(fullFileName, null, SEGMENT_SIZE, 1000);
+        Assertions.assertTrue(storeManager.writeSession(LogOperation.GLOBAL_ADD, newGlobalSession()));
+        Assertions.assertTrue(storeManager.writeSession(LogOperation.GLOBAL_ADD, newGlobalSession()));
+        storeManager.shutdown();
+        File[] segments = segmentFiles();
+        Assertions.assertEquals(1, segments.length);
+        try (RandomAccessFile raf = new RandomAccessFile(segments[0], "rw")) {
+            // flip a byte of the first record body
+            raf.seek(10);
+            int b = raf.read();
+            raf.seek(10);
+            raf.write(b ^ 0xFF);
+        }
+
+        storeManager = new SegmentedFileTransactionStoreManager(fullFileName, null, SEGMENT_SIZE, 1000);
+        try {
+            Assertions.assertTrue(readAll(storeManager, false).isEmpty());
+        } finally {
+            storeManager.shutdown();
+        }
+    }
+
+    private File[] segmentFiles() {
+        return dir.listFiles((d, name) -> name.endsWith(".seg"));
+    }
+
+    private static List<TransactionWriteStore> readAll(SegmentedFileTransactionStoreManager storeManager,
+                                                       boolean isHistory) {
+        List<TransactionWriteStore> stores = new ArrayList<>();
+        while (storeManager.hasRemaining(isHistory)) {
+            stores.addAll(storeManager.readWriteStore(50, isHistory));
+        }
+        return stores;
+    }
+
+    private static GlobalSession newGlobalSession() {
+        return new GlobalSession("demo-app", "default_tx_group", "test", 60000);
+    }
+}
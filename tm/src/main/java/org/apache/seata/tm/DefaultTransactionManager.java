@@ -16,12 +16,14 @@
  */
 package org.apache.seata.tm;
 
+import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.core.exception.TmTransactionException;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.exception.TransactionExceptionCode;
 import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.core.model.TransactionManager;
 import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.AbstractGlobalEndResponse;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionRequest;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionResponse;
 import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
@@ -36,6 +38,11 @@ import org.apache.seata.core.protocol.transaction.GlobalStatusRequest;
 import org.apache.seata.core.protocol.transaction.GlobalStatusResponse;
 import org.apache.seata.core.rpc.netty.TmNettyRemotingClient;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -44,6 +51,33 @@ import java.util.concurrent.TimeoutException;
  */
 public class DefaultTransactionManager implements TransactionManager {
 
+    private static final int CALLBACK_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private static final long CALLBACK_KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * The futures of the async calls complete on these threads, never on the netty thread reading the response,
+     * which the callbacks could otherwise block.
+     */
+    private static final Executor CALLBACK_EXECUTOR = newCallbackExecutor();
+
+    private static Executor newCallbackExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(CALLBACK_THREADS, CALLBACK_THREADS,
+            CALLBACK_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new NamedThreadFactory("tmAsyncCallback", CALLBACK_THREADS, true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Gets the executor completing the futures of the async calls.
+     *
+     * @return the callback executor
+     */
+    public static Executor getCallbackExecutor() {
+        return CALLBACK_EXECUTOR;
+    }
+
     @Override
     public String begin(String applicationId, String transactionServiceGroup, String name, int timeout)
         throws TransactionException {
@@ -90,6 +124,84 @@ public class DefaultTransactionManager implements TransactionManager {
         return response.getGlobalStatus();
     }
 
+    @Override
+    public CompletableFuture<String> beginAsync(String applicationId, String transactionServiceGroup, String name,
+                                                int timeout) {
+        GlobalBeginRequest request = new GlobalBeginRequest();
+        request.setTransactionName(name);
+        request.setTimeout(timeout);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        asyncCall(request).whenComplete((response, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+            } else if (response.getResultCode() == ResultCode.Failed) {
+                result.completeExceptionally(
+                    new TmTransactionException(TransactionExceptionCode.BeginFailed, response.getMsg()));
+            } else {
+                result.complete(((GlobalBeginResponse) response).getXid());
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> commitAsync(String xid) {
+        GlobalCommitRequest globalCommit = new GlobalCommitRequest();
+        globalCommit.setXid(xid);
+        return asyncGlobalStatus(globalCommit);
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> rollbackAsync(String xid) {
+        GlobalRollbackRequest globalRollback = new GlobalRollbackRequest();
+        globalRollback.setXid(xid);
+        return asyncGlobalStatus(globalRollback);
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> getStatusAsync(String xid) {
+        GlobalStatusRequest queryGlobalStatus = new GlobalStatusRequest();
+        queryGlobalStatus.setXid(xid);
+        return asyncGlobalStatus(queryGlobalStatus);
+    }
+
+    private CompletableFuture<GlobalStatus> asyncGlobalStatus(AbstractTransactionRequest request) {
+        CompletableFuture<GlobalStatus> result = new CompletableFuture<>();
+        asyncCall(request).whenComplete((response, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+            } else {
+                result.complete(((AbstractGlobalEndResponse) response).getGlobalStatus());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Send the request without waiting for the response, the future completes exceptionally like
+     * {@link #syncCall} throws, on the {@link #getCallbackExecutor() callback executor}.
+     */
+    private CompletableFuture<AbstractTransactionResponse> asyncCall(AbstractTransactionRequest request) {
+        CompletableFuture<AbstractTransactionResponse> result = new CompletableFuture<>();
+        CompletableFuture<Object> response;
+        try {
+            response = TmNettyRemotingClient.getInstance().sendAsyncRequestWithResponse(request);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        response.whenCompleteAsync((message, ex) -> {
+            if (ex instanceof TimeoutException) {
+                result.completeExceptionally(new TmTransactionException(TransactionExceptionCode.IO, "RPC timeout", ex));
+            } else if (ex != null) {
+                result.completeExceptionally(ex);
+            } else {
+                result.complete((AbstractTransactionResponse) message);
+            }
+        }, CALLBACK_EXECUTOR);
+        return result;
+    }
+
     private AbstractTransactionResponse syncCall(AbstractTransactionRequest request) throws TransactionException {
         try {
             return (AbstractTransactionResponse) TmNettyRemotingClient.getInstance().sendSyncRequest(request);
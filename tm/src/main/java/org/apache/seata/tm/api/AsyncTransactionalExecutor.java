@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.tm.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.seata.tm.api.transaction.TransactionInfo;
+
+/**
+ * Callback for executing asynchronous business logic in a global transaction.
+ *
+ * @see AsyncTransactionalTemplate
+ */
+public interface AsyncTransactionalExecutor {
+
+    /**
+     * Execute the business logic here, without blocking.
+     *
+     * @param xid the xid of the global transaction, to be bound wherever the business runs, null without transaction
+     * @return the future of the business result
+     * @throws Throwable any exception starting the business, handled like a failed future
+     */
+    CompletableFuture<?> execute(String xid) throws Throwable;
+
+    /**
+     * transaction conf or other attr
+     *
+     * @return transaction info
+     */
+    TransactionInfo getTransactionInfo();
+}
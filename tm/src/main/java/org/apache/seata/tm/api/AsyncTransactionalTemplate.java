@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.tm.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.apache.seata.common.exception.ShouldNeverHappenException;
+import org.apache.seata.core.context.RootContext;
+import org.apache.seata.core.exception.TmTransactionException;
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.tm.DefaultTransactionManager;
+import org.apache.seata.tm.api.transaction.Propagation;
+import org.apache.seata.tm.api.transaction.TransactionHook;
+import org.apache.seata.tm.api.transaction.TransactionHookManager;
+import org.apache.seata.tm.api.transaction.TransactionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Template of executing asynchronous business logic with a global transaction, without blocking the calling thread.
+ * <p>
+ * Unlike {@link TransactionalTemplate}, nothing is bound to the threads: the business gets the xid and binds it
+ * wherever it runs, together with the global lock config of the transaction info. The hooks registered on the
+ * calling thread are taken at the start and triggered on the threads completing the transaction. The returned
+ * future completes like {@link TransactionalTemplate#execute} returns or throws.
+ * <p>
+ * The business, the hooks and the commit or rollback run on the given executor, not on the threads completing the
+ * futures, which may be netty threads.
+ */
+public class AsyncTransactionalTemplate {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncTransactionalTemplate.class);
+
+    private final Executor executor;
+
+    /**
+     * Instantiates a new template running on the callback executor of the default transaction manager.
+     */
+    public AsyncTransactionalTemplate() {
+        this(DefaultTransactionManager.getCallbackExecutor());
+    }
+
+    /**
+     * Instantiates a new template.
+     *
+     * @param executor the executor running the business, the hooks and the commit or rollback
+     */
+    public AsyncTransactionalTemplate(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Execute the business.
+     *
+     * @param business the business
+     * @return the future of the business result
+     */
+    public CompletableFuture<Object> execute(AsyncTransactionalExecutor business) {
+        TransactionInfo txInfo = business.getTransactionInfo();
+        if (txInfo == null) {
+            throw new ShouldNeverHappenException("transactionInfo does not exist");
+        }
+        // the transaction of the calling thread, if any, is joined as a participant
+        String currentXid = RootContext.getXID();
+        Propagation propagation = txInfo.getPropagation();
+        switch (propagation) {
+            case NOT_SUPPORTED:
+                return executeBusiness(business, null);
+            case REQUIRES_NEW:
+                break;
+            case SUPPORTS:
+                return executeBusiness(business, currentXid);
+            case REQUIRED:
+                if (currentXid != null) {
+                    return executeBusiness(business, currentXid);
+                }
+                break;
+            case NEVER:
+                if (currentXid != null) {
+                    return failed(new TransactionException(String.format(
+                        "Existing transaction found for transaction marked with propagation 'never', xid = %s",
+                        currentXid)));
+                }
+                return executeBusiness(business, null);
+            case MANDATORY:
+                if (currentXid == null) {
+                    return failed(new TransactionException(
+                        "No existing transaction found for transaction marked with propagation 'mandatory'"));
+                }
+                return executeBusiness(business, currentXid);
+            default:
+                return failed(new TransactionException("Not Supported Propagation:" + propagation));
+        }
+
+        List<TransactionHook> hooks = new ArrayList<>(TransactionHookManager.getHooks());
+        TransactionHookManager.clear();
+        GlobalTransaction tx = GlobalTransactionContext.createNew();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        triggerHooks(hooks, TransactionHook::beforeBegin, "beforeBegin");
+        CompletableFuture<String> begun;
+        try {
+            begun = tx.beginAsync(txInfo.getTimeOut(), txInfo.getName());
+        } catch (RuntimeException e) {
+            begun = failed(e);
+        }
+        begun.whenCompleteAsync((xid, beginEx) -> {
+            if (beginEx != null) {
+                complete(result, hooks, null, new TransactionalExecutor.ExecutionException(tx, unwrap(beginEx),
+                    TransactionalExecutor.Code.BeginFailure));
+                return;
+            }
+            triggerHooks(hooks, TransactionHook::afterBegin, "afterBegin");
+            executeBusiness(business, xid).whenCompleteAsync((rs, businessEx) -> {
+                if (businessEx == null) {
+                    commitTransaction(tx, txInfo, hooks).whenComplete(
+                        (ignored, commitEx) -> complete(result, hooks, rs, commitEx));
+                    return;
+                }
+                Throwable originalException = unwrap(businessEx);
+                if (txInfo.rollbackOn(originalException)) {
+                    rollbackTransaction(tx, hooks, originalException).whenComplete(
+                        (ignored, rollbackEx) -> complete(result, hooks, null, rollbackEx));
+                } else {
+                    // not roll back on this exception, so commit, and the business still fails
+                    commitTransaction(tx, txInfo, hooks).whenComplete((ignored, commitEx) -> complete(result, hooks,
+                        null, commitEx != null ? commitEx : originalException));
+                }
+            }, executor);
+        }, executor);
+        return result;
+    }
+
+    private CompletableFuture<Object> executeBusiness(AsyncTransactionalExecutor business, String xid) {
+        try {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            business.execute(xid).whenComplete((rs, ex) -> {
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                } else {
+                    result.complete(rs);
+                }
+            });
+            return result;
+        } catch (Throwable ex) {
+            return failed(ex);
+        }
+    }
+
+    private CompletableFuture<Void> commitTransaction(GlobalTransaction tx, TransactionInfo txInfo,
+                                                      List<TransactionHook> hooks) {
+        if (System.currentTimeMillis() - tx.getCreateTime() > txInfo.getTimeOut()) {
+            // business execution timeout
+            Exception exx = new TmTransactionException(TransactionExceptionCode.TransactionTimeout,
+                String.format("client detected transaction timeout before commit, so change to rollback, xid = %s",
+                    tx.getXid()));
+            return rollbackTransaction(tx, hooks, exx);
+        }
+        triggerHooks(hooks, TransactionHook::beforeCommit, "beforeCommit");
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        tx.commitAsync().whenCompleteAsync((status, ex) -> {
+            if (ex != null) {
+                // Failed to commit
+                result.completeExceptionally(new TransactionalExecutor.ExecutionException(tx, unwrap(ex),
+                    TransactionalExecutor.Code.CommitFailure));
+                return;
+            }
+            TransactionalExecutor.ExecutionException statusException = TransactionalTemplate.checkCommitStatus(tx);
+            if (statusException != null) {
+                result.completeExceptionally(statusException);
+                return;
+            }
+            triggerHooks(hooks, TransactionHook::afterCommit, "afterCommit");
+            result.complete(null);
+        }, executor);
+        return result;
+    }
+
+    /**
+     * Rollback the global transaction, the future always completes exceptionally like the template rollback throws.
+     */
+    private CompletableFuture<Void> rollbackTransaction(GlobalTransaction tx, List<TransactionHook> hooks,
+                                                        Throwable originalException) {
+        triggerHooks(hooks, TransactionHook::beforeRollback, "beforeRollback");
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        tx.rollbackAsync().whenCompleteAsync((status, ex) -> {
+            if (ex != null) {
+                // Failed to rollback
+                result.completeExceptionally(new TransactionalExecutor.ExecutionException(tx, unwrap(ex),
+                    TransactionalExecutor.Code.RollbackFailure, originalException));
+                return;
+            }
+            triggerHooks(hooks, TransactionHook::afterRollback, "afterRollback");
+            result.completeExceptionally(new TransactionalExecutor.ExecutionException(tx,
+                TransactionalTemplate.rollbackCode(tx), originalException));
+        }, executor);
+        return result;
+    }
+
+    private void complete(CompletableFuture<Object> result, List<TransactionHook> hooks, Object rs, Throwable ex) {
+        triggerHooks(hooks, TransactionHook::afterCompletion, "afterCompletion");
+        if (ex != null) {
+            result.completeExceptionally(unwrap(ex));
+        } else {
+            result.complete(rs);
+        }
+    }
+
+    private void triggerHooks(List<TransactionHook> hooks, Consumer<TransactionHook> trigger, String name) {
+        for (TransactionHook hook : hooks) {
+            try {
+                trigger.accept(hook);
+            } catch (Exception e) {
+                LOGGER.error("Failed execute {} in hook {}", name, e.getMessage(), e);
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable ex) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(ex);
+        return future;
+    }
+}
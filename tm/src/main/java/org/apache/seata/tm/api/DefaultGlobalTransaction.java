@@ -16,6 +16,9 @@
  */
 package org.apache.seata.tm.api;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.context.RootContext;
@@ -195,6 +198,124 @@ public class DefaultGlobalTransaction implements GlobalTransaction {
         }
     }
 
+    @Override
+    public CompletableFuture<String> beginAsync(int timeout, String name) {
+        this.createTime = System.currentTimeMillis();
+        if (role != GlobalTransactionRole.Launcher) {
+            assertXIDNotNull();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Ignore BeginAsync(): just involved in global transaction [{}]", xid);
+            }
+            return CompletableFuture.completedFuture(xid);
+        }
+        assertXIDNull();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        transactionManager.beginAsync(null, null, name, timeout).whenComplete((beginXid, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+                return;
+            }
+            xid = beginXid;
+            status = GlobalStatus.Begin;
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Begin new global transaction [{}]", xid);
+            }
+            result.complete(beginXid);
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> commitAsync() {
+        if (role == GlobalTransactionRole.Participant) {
+            // Participant has no responsibility of committing
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Ignore CommitAsync(): just involved in global transaction [{}]", xid);
+            }
+            return CompletableFuture.completedFuture(status);
+        }
+        assertXIDNotNull();
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("transaction {} will be commit", xid);
+        }
+        int retry = COMMIT_RETRY_COUNT <= 0 ? DEFAULT_TM_COMMIT_RETRY_COUNT : COMMIT_RETRY_COUNT;
+        return reportAsync(() -> transactionManager.commitAsync(xid), retry, "commit");
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> rollbackAsync() {
+        if (role == GlobalTransactionRole.Participant) {
+            // Participant has no responsibility of rollback
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Ignore RollbackAsync(): just involved in global transaction [{}]", xid);
+            }
+            return CompletableFuture.completedFuture(status);
+        }
+        assertXIDNotNull();
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("transaction {} will be rollback", xid);
+        }
+        int retry = ROLLBACK_RETRY_COUNT <= 0 ? DEFAULT_TM_ROLLBACK_RETRY_COUNT : ROLLBACK_RETRY_COUNT;
+        return reportAsync(() -> transactionManager.rollbackAsync(xid), retry, "rollback");
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> getStatusAsync() {
+        if (xid == null) {
+            return CompletableFuture.completedFuture(GlobalStatus.UnKnown);
+        }
+        CompletableFuture<GlobalStatus> result = new CompletableFuture<>();
+        transactionManager.getStatusAsync(xid).whenComplete((globalStatus, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+            } else {
+                status = globalStatus;
+                result.complete(globalStatus);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Report the end of the global transaction, the retries are chained on the completion of the previous report.
+     */
+    private CompletableFuture<GlobalStatus> reportAsync(Supplier<CompletableFuture<GlobalStatus>> report, int retry,
+                                                        String action) {
+        CompletableFuture<GlobalStatus> result = new CompletableFuture<>();
+        CompletableFuture<GlobalStatus> reported;
+        try {
+            reported = report.get();
+        } catch (RuntimeException e) {
+            reported = new CompletableFuture<>();
+            reported.completeExceptionally(e);
+        }
+        reported.whenComplete((globalStatus, ex) -> {
+            if (ex == null) {
+                status = globalStatus;
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.info("[{}] {} status: {}", xid, action, status);
+                }
+                result.complete(globalStatus);
+                return;
+            }
+            int retryLeft = retry - 1;
+            LOGGER.error("Failed to report global {} [{}],Retry Countdown: {}, reason: {}", action, xid, retryLeft,
+                ex.getMessage());
+            if (retryLeft <= 0) {
+                result.completeExceptionally(new TransactionException("Failed to report global " + action, ex));
+                return;
+            }
+            reportAsync(report, retryLeft, action).whenComplete((retried, retryEx) -> {
+                if (retryEx != null) {
+                    result.completeExceptionally(retryEx);
+                } else {
+                    result.complete(retried);
+                }
+            });
+        });
+        return result;
+    }
+
     @Override
     public SuspendedResourcesHolder suspend() throws TransactionException {
         return suspend(false);
@@ -16,6 +16,8 @@
  */
 package org.apache.seata.tm.api;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.tm.api.transaction.SuspendedResourcesHolder;
@@ -147,4 +149,75 @@ public interface GlobalTransaction {
      * @return create time
      */
     long getCreateTime();
+
+    /**
+     * Begin a new global transaction with given timeout and given name, without blocking.
+     * Unlike {@link #begin(int, String)}, the xid is not bound to any thread, the caller passes it on.
+     * The default implementation calls {@link #begin(int, String)}.
+     *
+     * @param timeout Given timeout in MILLISECONDS.
+     * @param name    Given name.
+     * @return the future of the xid, completed exceptionally like {@link #begin(int, String)} throws.
+     */
+    default CompletableFuture<String> beginAsync(int timeout, String name) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        try {
+            begin(timeout, name);
+            future.complete(getXid());
+        } catch (TransactionException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Commit the global transaction without blocking, the xid bound to the thread is left as is.
+     * The default implementation calls {@link #commit()}.
+     *
+     * @return the future of the local status after committing, completed exceptionally like {@link #commit()} throws.
+     */
+    default CompletableFuture<GlobalStatus> commitAsync() {
+        CompletableFuture<GlobalStatus> future = new CompletableFuture<>();
+        try {
+            commit();
+            future.complete(getLocalStatus());
+        } catch (TransactionException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Rollback the global transaction without blocking, the xid bound to the thread is left as is.
+     * The default implementation calls {@link #rollback()}.
+     *
+     * @return the future of the local status after rollbacking, completed exceptionally like {@link #rollback()}
+     * throws.
+     */
+    default CompletableFuture<GlobalStatus> rollbackAsync() {
+        CompletableFuture<GlobalStatus> future = new CompletableFuture<>();
+        try {
+            rollback();
+            future.complete(getLocalStatus());
+        } catch (TransactionException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Ask TC for current status of the corresponding global transaction without blocking.
+     * The default implementation calls {@link #getStatus()}.
+     *
+     * @return the future of the status, completed exceptionally like {@link #getStatus()} throws.
+     */
+    default CompletableFuture<GlobalStatus> getStatusAsync() {
+        CompletableFuture<GlobalStatus> future = new CompletableFuture<>();
+        try {
+            future.complete(getStatus());
+        } catch (TransactionException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
@@ -217,30 +217,9 @@ public class TransactionalTemplate {
         try {
             triggerBeforeCommit();
             tx.commit();
-            GlobalStatus afterCommitStatus = tx.getLocalStatus();
-            TransactionalExecutor.Code code = TransactionalExecutor.Code.Unknown;
-            switch (afterCommitStatus) {
-                case TimeoutRollbacking:
-                    code = TransactionalExecutor.Code.Rollbacking;
-                    break;
-                case TimeoutRollbacked:
-                    code = TransactionalExecutor.Code.RollbackDone;
-                    break;
-                case Finished:
-                    code = TransactionalExecutor.Code.CommitFailure;
-                    break;
-                default:
-            }
-            Exception statusException = null;
-            if (GlobalStatus.isTwoPhaseHeuristic(afterCommitStatus)) {
-                statusException = new TmTransactionException(TransactionExceptionCode.CommitHeuristic,
-                    String.format("Global transaction[%s] not found, may be rollbacked.", tx.getXid()));
-            } else if (GlobalStatus.isOnePhaseTimeout(afterCommitStatus)) {
-                statusException = new TmTransactionException(TransactionExceptionCode.TransactionTimeout,
-                    String.format("Global transaction[%s] is timeout and will be rollback[TC].", tx.getXid()));
-            }
+            TransactionalExecutor.ExecutionException statusException = checkCommitStatus(tx);
             if (null != statusException) {
-                throw new TransactionalExecutor.ExecutionException(tx, statusException, code);
+                throw statusException;
             }
             triggerAfterCommit();
         } catch (TransactionException txe) {
@@ -267,6 +246,49 @@ public class TransactionalTemplate {
                     TransactionalExecutor.Code.RollbackFailure, originalException);
         }
 
+        throw new TransactionalExecutor.ExecutionException(tx, rollbackCode(tx), originalException);
+
+    }
+
+    /**
+     * Check the local status of a global transaction after committing.
+     *
+     * @param tx the global transaction
+     * @return the exception of a global transaction which is not committed, null if it is
+     */
+    static TransactionalExecutor.ExecutionException checkCommitStatus(GlobalTransaction tx) {
+        GlobalStatus afterCommitStatus = tx.getLocalStatus();
+        TransactionalExecutor.Code code = TransactionalExecutor.Code.Unknown;
+        switch (afterCommitStatus) {
+            case TimeoutRollbacking:
+                code = TransactionalExecutor.Code.Rollbacking;
+                break;
+            case TimeoutRollbacked:
+                code = TransactionalExecutor.Code.RollbackDone;
+                break;
+            case Finished:
+                code = TransactionalExecutor.Code.CommitFailure;
+                break;
+            default:
+        }
+        Exception statusException = null;
+        if (GlobalStatus.isTwoPhaseHeuristic(afterCommitStatus)) {
+            statusException = new TmTransactionException(TransactionExceptionCode.CommitHeuristic,
+                String.format("Global transaction[%s] not found, may be rollbacked.", tx.getXid()));
+        } else if (GlobalStatus.isOnePhaseTimeout(afterCommitStatus)) {
+            statusException = new TmTransactionException(TransactionExceptionCode.TransactionTimeout,
+                String.format("Global transaction[%s] is timeout and will be rollback[TC].", tx.getXid()));
+        }
+        return statusException == null ? null : new TransactionalExecutor.ExecutionException(tx, statusException, code);
+    }
+
+    /**
+     * Get the code of a global transaction after rollbacking.
+     *
+     * @param tx the global transaction
+     * @return the code
+     */
+    static TransactionalExecutor.Code rollbackCode(GlobalTransaction tx) {
         //# fix #5231
         TransactionalExecutor.Code code;
         switch (tx.getLocalStatus()) {
@@ -291,8 +313,7 @@ public class TransactionalTemplate {
                 code = TransactionalExecutor.Code.Unknown;
                 LOGGER.warn("{} rollback in the state {}", tx.getXid(), tx.getLocalStatus());
         }
-        throw new TransactionalExecutor.ExecutionException(tx, code, originalException);
-
+        return code;
     }
 
     private void beginTransaction(TransactionInfo txInfo, GlobalTransaction tx) throws TransactionalExecutor.ExecutionException {
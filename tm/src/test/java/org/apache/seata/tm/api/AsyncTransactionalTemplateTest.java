@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.tm.api;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+
+import org.apache.seata.core.context.RootContext;
+import org.apache.seata.core.exception.TmTransactionException;
+import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.core.model.TransactionManager;
+import org.apache.seata.tm.TransactionManagerHolder;
+import org.apache.seata.tm.api.transaction.Propagation;
+import org.apache.seata.tm.api.transaction.TransactionHook;
+import org.apache.seata.tm.api.transaction.TransactionHookManager;
+import org.apache.seata.tm.api.transaction.TransactionInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * test {@link AsyncTransactionalTemplate}
+ */
+public class AsyncTransactionalTemplateTest {
+
+    private static final String DEFAULT_XID = "123456789";
+    private static final String DEFAULT_NAME = "test";
+    private static final int DEFAULT_TIME_OUT = 30000;
+
+    private TransactionManager transactionManager;
+
+    // completed by the test, like the response of the TC
+    private CompletableFuture<String> begun;
+
+    private TransactionInfo txInfo;
+
+    @BeforeEach
+    public void init() {
+        transactionManager = mock(TransactionManager.class);
+        begun = new CompletableFuture<>();
+        when(transactionManager.beginAsync(null, null, DEFAULT_NAME, DEFAULT_TIME_OUT)).thenReturn(begun);
+        when(transactionManager.commitAsync(DEFAULT_XID))
+            .thenReturn(CompletableFuture.completedFuture(GlobalStatus.Committed));
+        when(transactionManager.rollbackAsync(DEFAULT_XID))
+            .thenReturn(CompletableFuture.completedFuture(GlobalStatus.Rollbacked));
+        TransactionManagerHolder.set(transactionManager);
+
+        txInfo = new TransactionInfo();
+        txInfo.setTimeOut(DEFAULT_TIME_OUT);
+        txInfo.setName(DEFAULT_NAME);
+        RootContext.unbind();
+    }
+
+    @AfterEach
+    public void assertHooks() {
+        assertThat(TransactionHookManager.getHooks()).isEmpty();
+        Assertions.assertNull(RootContext.getXID());
+    }
+
+    @Test
+    public void testCommit() throws Exception {
+        TransactionHook transactionHook = Mockito.mock(TransactionHook.class);
+        TransactionHookManager.registerHook(transactionHook);
+        CompletableFuture<Object> result = new AsyncTransactionalTemplate().execute(
+            executor(xid -> CompletableFuture.completedFuture("rs:" + xid)));
+        // nothing waits for the TC
+        Assertions.assertFalse(result.isDone());
+        assertThat(TransactionHookManager.getHooks()).isEmpty();
+
+        begun.complete(DEFAULT_XID);
+        Assertions.assertEquals("rs:" + DEFAULT_XID, result.get());
+        verify(transactionManager).commitAsync(DEFAULT_XID);
+        verify(transactionHook).beforeBegin();
+        verify(transactionHook).afterBegin();
+        verify(transactionHook).beforeCommit();
+        verify(transactionHook).afterCommit();
+        verify(transactionHook).afterCompletion();
+        verify(transactionHook, never()).beforeRollback();
+    }
+
+    @Test
+    public void testRollback() {
+        TransactionHook transactionHook = Mockito.mock(TransactionHook.class);
+        TransactionHookManager.registerHook(transactionHook);
+        RuntimeException businessException = new RuntimeException("business");
+        CompletableFuture<Object> result = new AsyncTransactionalTemplate().execute(executor(xid -> {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            future.completeExceptionally(businessException);
+            return future;
+        }));
+        begun.complete(DEFAULT_XID);
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, result::get);
+        TransactionalExecutor.ExecutionException executionException =
+            (TransactionalExecutor.ExecutionException)e.getCause();
+        Assertions.assertEquals(TransactionalExecutor.Code.RollbackDone, executionException.getCode());
+        Assertions.assertSame(businessException, executionException.getOriginalException());
+        verify(transactionManager).rollbackAsync(DEFAULT_XID);
+        verify(transactionManager, never()).commitAsync(anyString());
+        verify(transactionHook).beforeRollback();
+        verify(transactionHook).afterRollback();
+        verify(transactionHook).afterCompletion();
+    }
+
+    @Test
+    public void testBeginFailure() {
+        CompletableFuture<Object> result = new AsyncTransactionalTemplate().execute(
+            executor(xid -> CompletableFuture.completedFuture(xid)));
+        begun.completeExceptionally(new TmTransactionException(TransactionExceptionCode.IO, "RPC timeout"));
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, result::get);
+        Assertions.assertEquals(TransactionalExecutor.Code.BeginFailure,
+            ((TransactionalExecutor.ExecutionException)e.getCause()).getCode());
+    }
+
+    @Test
+    public void testNotRunOnNettyThread() throws Exception {
+        EventLoop eventLoop = new DefaultEventLoop();
+        try {
+            // the responses of the TC complete the futures on a netty thread
+            CompletableFuture<GlobalStatus> committed = new CompletableFuture<>();
+            when(transactionManager.commitAsync(DEFAULT_XID)).thenAnswer(invocation -> {
+                eventLoop.execute(() -> committed.complete(GlobalStatus.Committed));
+                return committed;
+            });
+            Collection<String> nettyThreadCalls = new ConcurrentLinkedQueue<>();
+            TransactionHook transactionHook = Mockito.mock(TransactionHook.class, invocation -> {
+                if (eventLoop.inEventLoop()) {
+                    nettyThreadCalls.add(invocation.getMethod().getName());
+                }
+                return null;
+            });
+            TransactionHookManager.registerHook(transactionHook);
+            CompletableFuture<Object> result = new AsyncTransactionalTemplate().execute(executor(xid -> {
+                if (eventLoop.inEventLoop()) {
+                    nettyThreadCalls.add("business");
+                }
+                return CompletableFuture.completedFuture(xid);
+            }));
+            eventLoop.execute(() -> begun.complete(DEFAULT_XID));
+
+            Assertions.assertEquals(DEFAULT_XID, result.get());
+            verify(transactionHook).afterCommit();
+            assertThat(nettyThreadCalls).isEmpty();
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void testJoinCurrentTransaction() throws Exception {
+        RootContext.bind(DEFAULT_XID);
+        try {
+            txInfo.setPropagation(Propagation.REQUIRED);
+            CompletableFuture<Object> result = new AsyncTransactionalTemplate().execute(
+                executor(xid -> CompletableFuture.completedFuture(xid)));
+            Assertions.assertEquals(DEFAULT_XID, result.get());
+
+            txInfo.setPropagation(Propagation.NEVER);
+            Assertions.assertThrows(ExecutionException.class,
+                () -> new AsyncTransactionalTemplate().execute(executor(CompletableFuture::completedFuture)).get());
+        } finally {
+            RootContext.unbind();
+        }
+        verify(transactionManager, never()).beginAsync(null, null, DEFAULT_NAME, DEFAULT_TIME_OUT);
+    }
+
+    private AsyncTransactionalExecutor executor(Business business) {
+        return new AsyncTransactionalExecutor() {
+            @Override
+            public CompletableFuture<?> execute(String xid) {
+                return business.execute(xid);
+            }
+
+            @Override
+            public TransactionInfo getTransactionInfo() {
+                return txInfo;
+            }
+        };
+    }
+
+    private interface Business {
+        CompletableFuture<?> execute(String xid);
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.seata.tm.api;
 
+import java.util.concurrent.ExecutionException;
 
 import org.apache.seata.core.context.RootContext;
 import org.apache.seata.core.exception.TransactionException;
@@ -73,6 +74,19 @@ class DefaultGlobalTransactionTest {
         Assertions.assertThrows(TransactionException.class, tx::commit);
     }
 
+    @Test
+    public void asyncCommitRetryExceptionTest() throws Exception {
+        RootContext.unbind();
+        GlobalTransaction tx = GlobalTransactionContext.createNew();
+        Assertions.assertEquals(DEFAULT_XID, tx.beginAsync(60000, "test").get());
+        // the xid is not bound to the thread
+        Assertions.assertNull(RootContext.getXID());
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> tx.commitAsync().get());
+        Assertions.assertTrue(e.getCause() instanceof TransactionException);
+        e = Assertions.assertThrows(ExecutionException.class, () -> tx.rollbackAsync().get());
+        Assertions.assertTrue(e.getCause() instanceof TransactionException);
+    }
+
     @Test
     public void commitNoXIDExceptionTest() throws TransactionException {
         RootContext.unbind();